@@ -0,0 +1,121 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.loading.ClassInjector;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * A benchmark for injecting a group of types into a new class loader where the group forms a type hierarchy. The benchmark
+ * compares injecting each type by an individual call to a {@link ClassInjector} with injecting all types by a single call.
+ * The types are injected into a class loader that is not parallel capable such that a single call acquires the class loader's
+ * lock only once for all types.
+ * </p>
+ * <p>
+ * Note that this class defines all values that are accessed by benchmark methods as instance fields. This way, the JIT
+ * compiler's capability of constant folding is limited in order to produce more comparable test results.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ClassInjectionBenchmark {
+
+    /**
+     * The prefix of the name of each generated type.
+     */
+    private static final String NAME_PREFIX = "net.bytebuddy.benchmark.generated.Injected";
+
+    /**
+     * The number of types to inject.
+     */
+    private int count = 100;
+
+    /**
+     * The types to inject mapped to their binary representation where each type is listed after its super class.
+     */
+    private Map<TypeDescription, byte[]> types;
+
+    /**
+     * The class loader that is used by the current invocation of a benchmark.
+     */
+    private ClassLoader classLoader;
+
+    /**
+     * Creates the synthetic type hierarchy.
+     */
+    @Setup
+    public void setUp() {
+        ByteBuddy byteBuddy = new ByteBuddy();
+        types = new LinkedHashMap<TypeDescription, byte[]>();
+        TypeDescription superClass = TypeDescription.OBJECT;
+        for (int index = 0; index < count; index++) {
+            DynamicType.Unloaded<?> dynamicType = byteBuddy.subclass(superClass).name(NAME_PREFIX + index).make();
+            types.put(dynamicType.getTypeDescription(), dynamicType.getBytes());
+            superClass = dynamicType.getTypeDescription();
+        }
+    }
+
+    /**
+     * Creates a new class loader for each invocation of a benchmark such that all types are injected anew.
+     */
+    @Setup(Level.Invocation)
+    public void setUpClassLoader() {
+        classLoader = new NonParallelClassLoader();
+    }
+
+    /**
+     * Returns the types that are injected by this benchmark.
+     *
+     * @return The types that are injected by this benchmark.
+     */
+    public Map<TypeDescription, byte[]> getTypes() {
+        return types;
+    }
+
+    /**
+     * Performs a benchmark for injecting each type by an individual call to the class injector.
+     *
+     * @return The injected types, in order to avoid JIT removal.
+     */
+    @Benchmark
+    public Map<TypeDescription, Class<?>> benchmarkInjectionPerType() {
+        ClassInjector classInjector = new ClassInjector.UsingReflection(classLoader);
+        Map<TypeDescription, Class<?>> loaded = new HashMap<TypeDescription, Class<?>>();
+        for (Map.Entry<TypeDescription, byte[]> entry : types.entrySet()) {
+            loaded.putAll(classInjector.inject(Collections.singletonMap(entry.getKey(), entry.getValue())));
+        }
+        return loaded;
+    }
+
+    /**
+     * Performs a benchmark for injecting all types by a single call to the class injector.
+     *
+     * @return The injected types, in order to avoid JIT removal.
+     */
+    @Benchmark
+    public Map<TypeDescription, Class<?>> benchmarkInjectionBatch() {
+        return new ClassInjector.UsingReflection(classLoader).inject(types, ClassInjector.Listener.NoOp.INSTANCE);
+    }
+
+    /**
+     * A class loader that is not registered as parallel capable such that its class loading lock is the class loader itself.
+     */
+    protected static class NonParallelClassLoader extends ClassLoader {
+
+        /**
+         * Creates a new class loader without a parent.
+         */
+        protected NonParallelClassLoader() {
+            super(null);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.asm.AsmVisitorWrapper;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.TypeResolutionStrategy;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.pool.TypePool;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.Stack;
+import java.util.Vector;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static net.bytebuddy.matcher.ElementMatchers.named;
+
+/**
+ * <p>
+ * A benchmark for computing the stack map frames of a method with a large number of branches where each branch assigns an
+ * instance of a different type to the same local variable. This way, the frame computation needs to determine the common
+ * super class of the merged types at each of the branches' merge points.
+ * </p>
+ * <p>
+ * Note that this class defines all values that are accessed by benchmark methods as instance fields. This way, the JIT
+ * compiler's capability of constant folding is limited in order to produce more comparable test results.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FrameComputationBenchmark {
+
+    /**
+     * The name of the generated type.
+     */
+    private static final String NAME = "net.bytebuddy.benchmark.generated.Branching";
+
+    /**
+     * The name of the method with many branches.
+     */
+    private static final String METHOD_NAME = "branching";
+
+    /**
+     * The types that are assigned within the branches of the generated method.
+     */
+    private static final Class<?>[] TYPES = {ArrayList.class, LinkedList.class, Vector.class, Stack.class, CopyOnWriteArrayList.class};
+
+    /**
+     * The number of branches of the generated method.
+     */
+    private int branches = 250;
+
+    /**
+     * The class file locator that locates the generated type and all types of the class path.
+     */
+    private ClassFileLocator classFileLocator;
+
+    /**
+     * The type pool to use for the frame computation.
+     */
+    private TypePool typePool;
+
+    /**
+     * A description of the generated type.
+     */
+    private TypeDescription typeDescription;
+
+    /**
+     * Creates the class file of a type with a method with many branches.
+     */
+    @Setup
+    public void setUp() {
+        ClassWriter classWriter = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        classWriter.visit(Opcodes.V1_6, Opcodes.ACC_PUBLIC, NAME.replace('.', '/'), null, "java/lang/Object", null);
+        MethodVisitor methodVisitor = classWriter.visitMethod(Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC, METHOD_NAME, "(I)Ljava/util/List;", null, null);
+        methodVisitor.visitCode();
+        methodVisitor.visitInsn(Opcodes.ACONST_NULL);
+        methodVisitor.visitVarInsn(Opcodes.ASTORE, 1);
+        for (int index = 0; index < branches; index++) {
+            Label otherwise = new Label(), merge = new Label();
+            methodVisitor.visitVarInsn(Opcodes.ILOAD, 0);
+            methodVisitor.visitLdcInsn(index);
+            methodVisitor.visitJumpInsn(Opcodes.IF_ICMPNE, otherwise);
+            assign(methodVisitor, TYPES[index % TYPES.length]);
+            methodVisitor.visitJumpInsn(Opcodes.GOTO, merge);
+            methodVisitor.visitLabel(otherwise);
+            assign(methodVisitor, TYPES[(index + 1) % TYPES.length]);
+            methodVisitor.visitLabel(merge);
+        }
+        methodVisitor.visitVarInsn(Opcodes.ALOAD, 1);
+        methodVisitor.visitInsn(Opcodes.ARETURN);
+        methodVisitor.visitMaxs(0, 0);
+        methodVisitor.visitEnd();
+        classWriter.visitEnd();
+        classFileLocator = new ClassFileLocator.Compound(ClassFileLocator.Simple.of(NAME, classWriter.toByteArray()),
+                ClassFileLocator.ForClassLoader.of(FrameComputationBenchmark.class.getClassLoader()));
+        typePool = TypePool.Default.of(classFileLocator);
+        typeDescription = typePool.describe(NAME).resolve();
+    }
+
+    /**
+     * Assigns a new instance of the given type to the local variable with index 1.
+     *
+     * @param methodVisitor The method visitor to write to.
+     * @param type          The type of the instance to assign.
+     */
+    private static void assign(MethodVisitor methodVisitor, Class<?> type) {
+        String internalName = type.getName().replace('.', '/');
+        methodVisitor.visitTypeInsn(Opcodes.NEW, internalName);
+        methodVisitor.visitInsn(Opcodes.DUP);
+        methodVisitor.visitMethodInsn(Opcodes.INVOKESPECIAL, internalName, "<init>", "()V", false);
+        methodVisitor.visitVarInsn(Opcodes.ASTORE, 1);
+    }
+
+    /**
+     * Returns the number of branches of the generated method.
+     *
+     * @return The number of branches of the generated method.
+     */
+    public int getBranches() {
+        return branches;
+    }
+
+    /**
+     * Performs a benchmark for redefining the generated type while computing the stack map frames of its method with many branches.
+     *
+     * @return The redefined type, in order to avoid JIT removal.
+     */
+    @Benchmark
+    public DynamicType.Unloaded<?> benchmarkFrameComputation() {
+        return new ByteBuddy()
+                .redefine(typeDescription, classFileLocator)
+                .visit(new AsmVisitorWrapper.ForDeclaredMethods()
+                        .method(named(METHOD_NAME), PassThroughWrapper.INSTANCE)
+                        .writerFlags(ClassWriter.COMPUTE_FRAMES))
+                .make(TypeResolutionStrategy.Passive.INSTANCE, typePool);
+    }
+
+    /**
+     * A method visitor wrapper that passes all instructions on to the underlying visitor. This prevents that the class writer
+     * copies the original method without recomputing its stack map frames.
+     */
+    protected enum PassThroughWrapper implements AsmVisitorWrapper.ForDeclaredMethods.MethodVisitorWrapper {
+
+        /**
+         * The singleton instance.
+         */
+        INSTANCE;
+
+        @Override
+        public MethodVisitor wrap(TypeDescription instrumentedType,
+                                  MethodDescription instrumentedMethod,
+                                  MethodVisitor methodVisitor,
+                                  Implementation.Context implementationContext,
+                                  TypePool typePool,
+                                  int writerFlags,
+                                  int readerFlags) {
+            return new MethodVisitor(Opcodes.ASM5, methodVisitor) {
+                /* empty */
+            };
+        }
+    }
+}
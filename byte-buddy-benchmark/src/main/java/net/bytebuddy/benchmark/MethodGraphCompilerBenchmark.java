@@ -0,0 +1,105 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.scaffold.MethodGraph;
+import net.bytebuddy.implementation.StubMethod;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * A benchmark for compiling the method graph of a type with a deep type hierarchy where each type declares a large number of
+ * methods and implements an interface that declares further methods. Each type of the hierarchy overrides all methods that are
+ * declared by its super types' interfaces such that the compiler needs to merge methods on each level of the hierarchy.
+ * </p>
+ * <p>
+ * Note that this class defines all values that are accessed by benchmark methods as instance fields. This way, the JIT
+ * compiler's capability of constant folding is limited in order to produce more comparable test results.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MethodGraphCompilerBenchmark {
+
+    /**
+     * The prefix of the name of each generated type.
+     */
+    private static final String NAME_PREFIX = "net.bytebuddy.benchmark.generated.Level";
+
+    /**
+     * The prefix of the name of each method that is declared by an interface.
+     */
+    private static final String SHARED_METHOD_PREFIX = "shared";
+
+    /**
+     * The prefix of the name of each method that is only declared by a class.
+     */
+    private static final String DECLARED_METHOD_PREFIX = "declared";
+
+    /**
+     * The number of classes within the generated hierarchy.
+     */
+    private int depth = 20;
+
+    /**
+     * The number of methods that are declared by each generated class and interface.
+     */
+    private int methods = 50;
+
+    /**
+     * The method graph compiler to use.
+     */
+    private MethodGraph.Compiler compiler = MethodGraph.Compiler.DEFAULT;
+
+    /**
+     * The most specific type of the generated hierarchy.
+     */
+    private TypeDescription typeDescription;
+
+    /**
+     * Creates the synthetic type hierarchy.
+     */
+    @Setup
+    public void setUp() {
+        ByteBuddy byteBuddy = new ByteBuddy();
+        TypeDescription superClass = TypeDescription.OBJECT;
+        for (int level = 0; level < depth; level++) {
+            DynamicType.Builder<?> interfaceBuilder = byteBuddy.makeInterface().name(NAME_PREFIX + level + "Interface");
+            for (int index = 0; index < methods; index++) {
+                interfaceBuilder = interfaceBuilder.defineMethod(SHARED_METHOD_PREFIX + index, void.class, Visibility.PUBLIC).withoutCode();
+            }
+            TypeDescription interfaceType = interfaceBuilder.make().getTypeDescription();
+            DynamicType.Builder<?> builder = byteBuddy.subclass(superClass).implement(interfaceType).name(NAME_PREFIX + level);
+            for (int index = 0; index < methods; index++) {
+                builder = builder.defineMethod(SHARED_METHOD_PREFIX + index, void.class, Visibility.PUBLIC).intercept(StubMethod.INSTANCE)
+                        .defineMethod(DECLARED_METHOD_PREFIX + level + "_" + index, void.class, Visibility.PUBLIC).intercept(StubMethod.INSTANCE);
+            }
+            superClass = builder.make().getTypeDescription();
+        }
+        typeDescription = superClass;
+    }
+
+    /**
+     * Returns the most specific type of the generated hierarchy.
+     *
+     * @return The most specific type of the generated hierarchy.
+     */
+    public TypeDescription getTypeDescription() {
+        return typeDescription;
+    }
+
+    /**
+     * Performs a benchmark for compiling the method graph of the most specific type of the generated hierarchy.
+     *
+     * @return The compiled method graph, in order to avoid JIT removal.
+     */
+    @Benchmark
+    public MethodGraph.Linked benchmarkMethodGraph() {
+        return compiler.compile(typeDescription);
+    }
+}
@@ -0,0 +1,51 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.description.type.TypeDescription;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ClassInjectionBenchmarkTest {
+
+    private ClassInjectionBenchmark classInjectionBenchmark;
+
+    @Before
+    public void setUp() throws Exception {
+        classInjectionBenchmark = new ClassInjectionBenchmark();
+        classInjectionBenchmark.setUp();
+    }
+
+    @Test
+    public void testInjectionPerType() throws Exception {
+        classInjectionBenchmark.setUpClassLoader();
+        assertInjection(classInjectionBenchmark.benchmarkInjectionPerType());
+    }
+
+    @Test
+    public void testInjectionBatch() throws Exception {
+        classInjectionBenchmark.setUpClassLoader();
+        assertInjection(classInjectionBenchmark.benchmarkInjectionBatch());
+    }
+
+    @Test
+    public void testClassLoaderIsNotParallelCapable() throws Exception {
+        classInjectionBenchmark.setUpClassLoader();
+        ClassLoader classLoader = classInjectionBenchmark.benchmarkInjectionBatch().values().iterator().next().getClassLoader();
+        Method getClassLoadingLock = ClassLoader.class.getDeclaredMethod("getClassLoadingLock", String.class);
+        getClassLoadingLock.setAccessible(true);
+        assertThat(getClassLoadingLock.invoke(classLoader, Object.class.getName()), is((Object) classLoader));
+    }
+
+    private void assertInjection(Map<TypeDescription, Class<?>> loaded) throws Exception {
+        assertThat(loaded.size(), is(classInjectionBenchmark.getTypes().size()));
+        for (TypeDescription typeDescription : classInjectionBenchmark.getTypes().keySet()) {
+            assertThat(loaded.get(typeDescription).getName(), is(typeDescription.getName()));
+            assertThat(loaded.get(typeDescription).getSuperclass().getName(), is(typeDescription.getSuperClass().asErasure().getName()));
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class FrameComputationBenchmarkTest {
+
+    private FrameComputationBenchmark frameComputationBenchmark;
+
+    @Before
+    public void setUp() throws Exception {
+        frameComputationBenchmark = new FrameComputationBenchmark();
+        frameComputationBenchmark.setUp();
+    }
+
+    @Test
+    public void testFrameComputation() throws Exception {
+        Class<?> type = frameComputationBenchmark.benchmarkFrameComputation()
+                .load(ClassLoadingStrategy.BOOTSTRAP_LOADER, ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded();
+        Method method = type.getMethod("branching", int.class);
+        assertThat(method.invoke(null, frameComputationBenchmark.getBranches() - 1), instanceOf(CopyOnWriteArrayList.class));
+        assertThat(method.invoke(null, frameComputationBenchmark.getBranches()), instanceOf(ArrayList.class));
+    }
+}
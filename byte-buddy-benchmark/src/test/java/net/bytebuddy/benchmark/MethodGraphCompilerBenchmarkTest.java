@@ -0,0 +1,31 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.dynamic.scaffold.MethodGraph;
+import org.junit.Before;
+import org.junit.Test;
+
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class MethodGraphCompilerBenchmarkTest {
+
+    private MethodGraphCompilerBenchmark methodGraphCompilerBenchmark;
+
+    @Before
+    public void setUp() throws Exception {
+        methodGraphCompilerBenchmark = new MethodGraphCompilerBenchmark();
+        methodGraphCompilerBenchmark.setUp();
+    }
+
+    @Test
+    public void testMethodGraph() throws Exception {
+        MethodGraph.Linked methodGraph = methodGraphCompilerBenchmark.benchmarkMethodGraph();
+        MethodDescription methodDescription = methodGraphCompilerBenchmark.getTypeDescription().getDeclaredMethods().filter(named("shared0")).getOnly();
+        MethodGraph.Node node = methodGraph.locate(methodDescription.asSignatureToken());
+        assertThat(node.getSort(), is(MethodGraph.Node.Sort.RESOLVED));
+        assertThat(node.getRepresentative(), is(methodDescription));
+        assertThat(methodGraph.getSuperClassGraph().locate(methodDescription.asSignatureToken()).getSort(), is(MethodGraph.Node.Sort.RESOLVED));
+    }
+}
@@ -12,6 +12,10 @@ import java.util.*;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * <p>
@@ -20,7 +24,16 @@ import java.util.concurrent.ConcurrentMap;
  * <p>
  * <b>Note</b>: In order to clean obsolete class loader references from the map, {@link TypeCache#expungeStaleEntries()} must be called
  * regularly. This can happen in a different thread, in custom intervals or on every use of the cache by creating an instance of
- * {@link WithInlineExpunction}. This cache is fully thread-safe.
+ * {@link WithInlineExpunction}. Alternatively, {@link WithAmortizedExpunction} expunges stale entries after a given number of operations.
+ * This cache is fully thread-safe.
+ * </p>
+ * <p>
+ * A cache can optionally be bounded to a maximum number of types per class loader. If this capacity is exceeded, the least recently
+ * accessed type of a class loader's storage is discarded when another type is inserted. Accesses are recorded without locking by stamping
+ * a type's reference such that the order of accesses is only approximated when types are accessed concurrently. A discarded type is created
+ * anew when it is requested again while the class loader might still define the discarded type. A bounded cache must therefore only be used
+ * if a created type is loaded by a new class loader or if its name is unique for every creation. If a type with a fixed name is injected
+ * into an existing class loader, recreating an evicted type fails with a {@link LinkageError}.
  * </p>
  * <p>
  * <b>Important</b>: The behavior of a type cache might not be as expected. A class is only eligible for garbage collection once its class
@@ -30,6 +43,13 @@ import java.util.concurrent.ConcurrentMap;
  * the type is not eligible for garbage collection. With soft references, the type is typically retained until the next full garbage collection
  * where all instances of the type are eligible for garbage collection.
  * </p>
+ * <p>
+ * When a type is created lazily by {@link TypeCache#findOrInsert(ClassLoader, Object, Callable)} or by
+ * {@link TypeCache#findOrInsert(ClassLoader, Object, Callable, Object)}, concurrent requests for the same class loader and key wait for a
+ * single creation while types for different keys are created concurrently. A thread that is itself creating a type or that holds the
+ * supplied monitor never waits for another thread's creation but creates the requested type redundantly as both threads might otherwise
+ * wait for one another.
+ * </p>
  *
  * @param <T> The type of the key that is used for identifying stored classes per class loader. Such keys must not strongly reference any
  *            types or class loaders without potentially corrupting the garbage eligibility of stored classes. As the storage is segmented
@@ -44,6 +64,11 @@ public class TypeCache<T> extends ReferenceQueue<ClassLoader> {
      */
     private static final Class<?> NOT_FOUND = null;
 
+    /**
+     * Indicates that a cache does not limit the number of types per class loader.
+     */
+    public static final int UNBOUNDED = -1;
+
     /**
      * The reference type to use for stored types.
      */
@@ -54,14 +79,69 @@ public class TypeCache<T> extends ReferenceQueue<ClassLoader> {
      */
     protected final ConcurrentMap<StorageKey, ConcurrentMap<T, Reference<Class<?>>>> cache;
 
+    /**
+     * The statistics to notify of any lazy type creation.
+     */
+    protected final Statistics statistics;
+
+    /**
+     * A map of types that are currently created by any thread.
+     */
+    protected final ConcurrentMap<PendingKey, Creation> pending;
+
+    /**
+     * The maximum number of types that are stored per class loader or {@link TypeCache#UNBOUNDED}.
+     */
+    protected final int capacity;
+
+    /**
+     * A clock that issues the access stamps of stored types if this cache is bounded.
+     */
+    protected final AtomicLong clock;
+
+    /**
+     * Indicates if the current thread is creating a type for this cache.
+     */
+    protected final ThreadLocal<Boolean> creating;
+
     /**
      * Creates a new type cache.
      *
      * @param sort The reference type to use for stored types.
      */
     public TypeCache(Sort sort) {
+        this(sort, Statistics.NoOp.INSTANCE);
+    }
+
+    /**
+     * Creates a new type cache.
+     *
+     * @param sort       The reference type to use for stored types.
+     * @param statistics The statistics to notify of any lazy type creation.
+     */
+    public TypeCache(Sort sort, Statistics statistics) {
+        this(sort, statistics, UNBOUNDED);
+    }
+
+    /**
+     * Creates a new type cache.
+     *
+     * @param sort       The reference type to use for stored types.
+     * @param statistics The statistics to notify of any lazy type creation.
+     * @param capacity   The maximum number of types that are stored per class loader or {@link TypeCache#UNBOUNDED}. A bounded cache must
+     *                   not be used for types with a fixed name that are injected into an existing class loader.
+     */
+    public TypeCache(Sort sort, Statistics statistics, int capacity) {
+        if (capacity < 1 && capacity != UNBOUNDED) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
         this.sort = sort;
+        this.statistics = statistics;
+        this.capacity = capacity;
         cache = new ConcurrentHashMap<StorageKey, ConcurrentMap<T, Reference<Class<?>>>>();
+        pending = new ConcurrentHashMap<PendingKey, Creation>();
+        clock = new AtomicLong();
+        creating = new ThreadLocal<Boolean>();
     }
 
     /**
@@ -81,6 +161,12 @@ public class TypeCache<T> extends ReferenceQueue<ClassLoader> {
             if (reference == null) {
                 return NOT_FOUND;
             } else {
+                if (capacity != UNBOUNDED) {
+                    Stamped stamped = (Stamped) reference;
+                    if (stamped.getStamp() != clock.get()) {
+                        stamped.setStamp(clock.incrementAndGet());
+                    }
+                }
                 return reference.get();
             }
         }
@@ -104,7 +190,11 @@ public class TypeCache<T> extends ReferenceQueue<ClassLoader> {
                 storage = previous;
             }
         }
-        Reference<Class<?>> reference = sort.wrap(type), previous = storage.putIfAbsent(key, reference);
+        Reference<Class<?>> reference = sort.wrap(type);
+        if (capacity != UNBOUNDED) {
+            ((Stamped) reference).setStamp(clock.incrementAndGet());
+        }
+        Reference<Class<?>> previous = storage.putIfAbsent(key, reference);
         while (previous != null) {
             Class<?> previousType = previous.get();
             if (previousType != null) {
@@ -118,11 +208,43 @@ public class TypeCache<T> extends ReferenceQueue<ClassLoader> {
                 }
             }
         }
+        if (capacity != UNBOUNDED) {
+            evict(storage, key);
+        }
         return type;
     }
 
     /**
-     * Finds an existing type or inserts a new one if the previous type was not found.
+     * Discards the types of a class loader's storage with the oldest access stamps until the storage does not exceed this cache's
+     * capacity. Types that were already collected are discarded first. The type that was just inserted is never discarded.
+     *
+     * @param storage The storage of the class loader.
+     * @param key     The key of the inserted type.
+     */
+    protected void evict(ConcurrentMap<T, Reference<Class<?>>> storage, T key) {
+        while (storage.size() > capacity) {
+            Map.Entry<T, Reference<Class<?>>> eldest = null;
+            for (Map.Entry<T, Reference<Class<?>>> entry : storage.entrySet()) {
+                if (entry.getKey().equals(key)) {
+                    continue;
+                } else if (entry.getValue().get() == null) {
+                    eldest = entry;
+                    break;
+                } else if (eldest == null || ((Stamped) entry.getValue()).getStamp() < ((Stamped) eldest.getValue()).getStamp()) {
+                    eldest = entry;
+                }
+            }
+            if (eldest == null) {
+                return;
+            }
+            storage.remove(eldest.getKey(), eldest.getValue());
+        }
+    }
+
+    /**
+     * Finds an existing type or inserts a new one if the previous type was not found. If another thread is currently creating a type
+     * for the same class loader and key, this thread waits for the other thread's result instead of creating the type redundantly
+     * unless this thread is itself creating a type for this cache.
      *
      * @param classLoader The class loader for which this type is stored.
      * @param key         The key for the type in question.
@@ -130,21 +252,15 @@ public class TypeCache<T> extends ReferenceQueue<ClassLoader> {
      * @return The lazily created type or a previously submitted type for the same class loader and key combination.
      */
     public Class<?> findOrInsert(ClassLoader classLoader, T key, Callable<Class<?>> lazy) {
-        Class<?> type = find(classLoader, key);
-        if (type != null) {
-            return type;
-        } else {
-            try {
-                return insert(classLoader, key, lazy.call());
-            } catch (Throwable throwable) {
-                throw new IllegalArgumentException("Could not create type", throwable);
-            }
-        }
+        return doFindOrInsert(classLoader, key, lazy, false);
     }
 
-
     /**
-     * Finds an existing type or inserts a new one if the previous type was not found.
+     * Finds an existing type or inserts a new one if the previous type was not found. The type is created while holding the monitor
+     * such that any concurrent creation that is guarded by the same monitor is applied sequentially. As with
+     * {@link TypeCache#findOrInsert(ClassLoader, Object, Callable)}, concurrent requests for the same class loader and key wait for a
+     * single creation without holding the monitor. A thread that already holds the monitor never waits for another thread's creation
+     * as this thread might itself wait for the monitor.
      *
      * @param classLoader The class loader for which this type is stored.
      * @param key         The key for the type in question.
@@ -153,13 +269,38 @@ public class TypeCache<T> extends ReferenceQueue<ClassLoader> {
      * @return The lazily created type or a previously submitted type for the same class loader and key combination.
      */
     public Class<?> findOrInsert(ClassLoader classLoader, T key, Callable<Class<?>> lazy, Object monitor) {
+        return doFindOrInsert(classLoader, key, new SynchronizedCreation(classLoader, key, lazy, monitor), Thread.holdsLock(monitor));
+    }
+
+    /**
+     * Finds an existing type or inserts a new one if the previous type was not found.
+     *
+     * @param classLoader The class loader for which this type is stored.
+     * @param key         The key for the type in question.
+     * @param lazy        A lazy creator for the type to insert of no previous type was stored in the cache.
+     * @param exclusive   {@code true} if this thread must not wait for another thread's creation of the same type.
+     * @return The lazily created type or a previously submitted type for the same class loader and key combination.
+     */
+    private Class<?> doFindOrInsert(ClassLoader classLoader, T key, Callable<Class<?>> lazy, boolean exclusive) {
         Class<?> type = find(classLoader, key);
         if (type != null) {
+            statistics.onHit();
             return type;
-        } else {
-            synchronized (monitor) {
-                return findOrInsert(classLoader, key, lazy);
+        }
+        statistics.onMiss();
+        PendingKey pendingKey = new PendingKey(classLoader, key);
+        Creation creation = new Creation(new Insertion(classLoader, key, lazy)), previous = pending.putIfAbsent(pendingKey, creation);
+        if (previous == null) {
+            try {
+                creation.run();
+            } finally {
+                pending.remove(pendingKey, creation);
             }
+            return creation.resolve();
+        } else if (exclusive || creating.get() != null) {
+            return new Insertion(classLoader, key, lazy).call();
+        } else {
+            return previous.resolve();
         }
     }
 
@@ -191,7 +332,7 @@ public class TypeCache<T> extends ReferenceQueue<ClassLoader> {
         WEAK {
             @Override
             protected Reference<Class<?>> wrap(Class<?> type) {
-                return new WeakReference<Class<?>>(type);
+                return new StampedWeakReference(type);
             }
         },
 
@@ -201,7 +342,7 @@ public class TypeCache<T> extends ReferenceQueue<ClassLoader> {
         SOFT {
             @Override
             protected Reference<Class<?>> wrap(Class<?> type) {
-                return new SoftReference<Class<?>>(type);
+                return new StampedSoftReference(type);
             }
         };
 
@@ -214,6 +355,86 @@ public class TypeCache<T> extends ReferenceQueue<ClassLoader> {
         protected abstract Reference<Class<?>> wrap(Class<?> type);
     }
 
+    /**
+     * A reference to a stored type that records the type's last access within a bounded cache.
+     */
+    protected interface Stamped {
+
+        /**
+         * Returns the stamp of the type's last access.
+         *
+         * @return The stamp of the type's last access.
+         */
+        long getStamp();
+
+        /**
+         * Records an access of the type.
+         *
+         * @param stamp The stamp of the type's access.
+         */
+        void setStamp(long stamp);
+    }
+
+    /**
+     * A weak reference to a stored type that records the type's last access.
+     */
+    protected static class StampedWeakReference extends WeakReference<Class<?>> implements Stamped {
+
+        /**
+         * The stamp of the type's last access.
+         */
+        private volatile long stamp;
+
+        /**
+         * Creates a new stamped weak reference.
+         *
+         * @param type The referenced type.
+         */
+        protected StampedWeakReference(Class<?> type) {
+            super(type);
+        }
+
+        @Override
+        public long getStamp() {
+            return stamp;
+        }
+
+        @Override
+        public void setStamp(long stamp) {
+            this.stamp = stamp;
+        }
+    }
+
+    /**
+     * A soft reference to a stored type that records the type's last access.
+     */
+    protected static class StampedSoftReference extends SoftReference<Class<?>> implements Stamped {
+
+        /**
+         * The stamp of the type's last access.
+         */
+        private volatile long stamp;
+
+        /**
+         * Creates a new stamped soft reference.
+         *
+         * @param type The referenced type.
+         */
+        protected StampedSoftReference(Class<?> type) {
+            super(type);
+        }
+
+        @Override
+        public long getStamp() {
+            return stamp;
+        }
+
+        @Override
+        public void setStamp(long stamp) {
+            this.stamp = stamp;
+        }
+    }
+
     /**
      * A key used for looking up a previously inserted class loader cache.
      */
@@ -303,6 +524,332 @@ public class TypeCache<T> extends ReferenceQueue<ClassLoader> {
         }
     }
 
+    /**
+     * A key that identifies a type that is currently created.
+     */
+    @EqualsAndHashCode
+    protected static class PendingKey {
+
+        /**
+         * A lookup key for the class loader for which the type is created.
+         */
+        private final LookupKey lookupKey;
+
+        /**
+         * The key for the type that is created.
+         */
+        private final Object key;
+
+        /**
+         * Creates a new pending key.
+         *
+         * @param classLoader The class loader for which the type is created.
+         * @param key         The key for the type that is created.
+         */
+        protected PendingKey(ClassLoader classLoader, Object key) {
+            lookupKey = new LookupKey(classLoader);
+            this.key = key;
+        }
+    }
+
+    /**
+     * A creation of a type that other threads can wait for.
+     */
+    protected static class Creation extends FutureTask<Class<?>> {
+
+        /**
+         * Creates a new creation.
+         *
+         * @param callable The callable that creates and inserts the type.
+         */
+        protected Creation(Callable<Class<?>> callable) {
+            super(callable);
+        }
+
+        /**
+         * Awaits the created type.
+         *
+         * @return The created type or a previously inserted type for the same class loader and key combination.
+         */
+        protected Class<?> resolve() {
+            boolean interrupted = false;
+            try {
+                while (true) {
+                    try {
+                        return get();
+                    } catch (InterruptedException ignored) {
+                        interrupted = true;
+                    } catch (ExecutionException exception) {
+                        throw exception.getCause() instanceof IllegalArgumentException
+                                ? (IllegalArgumentException) exception.getCause()
+                                : new IllegalArgumentException("Could not create type", exception.getCause());
+                    }
+                }
+            } finally {
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    /**
+     * A callable that creates a type and inserts it into the cache unless another type was inserted previously.
+     */
+    protected class Insertion implements Callable<Class<?>> {
+
+        /**
+         * The class loader for which the type is stored.
+         */
+        private final ClassLoader classLoader;
+
+        /**
+         * The key for the type in question.
+         */
+        private final T key;
+
+        /**
+         * A lazy creator for the type to insert.
+         */
+        private final Callable<Class<?>> lazy;
+
+        /**
+         * Creates a new insertion.
+         *
+         * @param classLoader The class loader for which the type is stored.
+         * @param key         The key for the type in question.
+         * @param lazy        A lazy creator for the type to insert.
+         */
+        protected Insertion(ClassLoader classLoader, T key, Callable<Class<?>> lazy) {
+            this.classLoader = classLoader;
+            this.key = key;
+            this.lazy = lazy;
+        }
+
+        @Override
+        public Class<?> call() {
+            if (creating.get() != null) {
+                return doCall();
+            }
+            creating.set(Boolean.TRUE);
+            try {
+                return doCall();
+            } finally {
+                creating.remove();
+            }
+        }
+
+        /**
+         * Creates and inserts the type unless a type was inserted previously.
+         *
+         * @return The created type or a previously inserted type for the same class loader and key combination.
+         */
+        private Class<?> doCall() {
+            Class<?> type = find(classLoader, key);
+            if (type != null) {
+                return type;
+            }
+            long start = System.nanoTime();
+            try {
+                type = lazy.call();
+            } catch (Throwable throwable) {
+                throw new IllegalArgumentException("Could not create type", throwable);
+            }
+            statistics.onCreation(System.nanoTime() - start);
+            return insert(classLoader, key, type);
+        }
+    }
+
+    /**
+     * A lazy creator that holds a monitor while creating a type. A type that was inserted while waiting for the monitor is
+     * returned without creating the type redundantly.
+     */
+    protected class SynchronizedCreation implements Callable<Class<?>> {
+
+        /**
+         * The class loader for which the type is stored.
+         */
+        private final ClassLoader classLoader;
+
+        /**
+         * The key for the type in question.
+         */
+        private final T key;
+
+        /**
+         * A lazy creator for the type to insert.
+         */
+        private final Callable<Class<?>> lazy;
+
+        /**
+         * The monitor to lock while creating the type.
+         */
+        private final Object monitor;
+
+        /**
+         * Creates a new synchronized creation.
+         *
+         * @param classLoader The class loader for which the type is stored.
+         * @param key         The key for the type in question.
+         * @param lazy        A lazy creator for the type to insert.
+         * @param monitor     The monitor to lock while creating the type.
+         */
+        protected SynchronizedCreation(ClassLoader classLoader, T key, Callable<Class<?>> lazy, Object monitor) {
+            this.classLoader = classLoader;
+            this.key = key;
+            this.lazy = lazy;
+            this.monitor = monitor;
+        }
+
+        @Override
+        public Class<?> call() throws Exception {
+            synchronized (monitor) {
+                Class<?> type = find(classLoader, key);
+                return type == null
+                        ? lazy.call()
+                        : type;
+            }
+        }
+    }
+
+    /**
+     * Statistics on the lazy creation of types by a {@link TypeCache}.
+     */
+    public interface Statistics {
+
+        /**
+         * Invoked when a lazily requested type was found in the cache.
+         */
+        void onHit();
+
+        /**
+         * Invoked when a lazily requested type was not found in the cache.
+         */
+        void onMiss();
+
+        /**
+         * Invoked when a type was created successfully.
+         *
+         * @param nanos The time in nanoseconds that the creation of the type took.
+         */
+        void onCreation(long nanos);
+
+        /**
+         * A non-operational statistics.
+         */
+        enum NoOp implements Statistics {
+
+            /**
+             * The singleton instance.
+             */
+            INSTANCE;
+
+            @Override
+            public void onHit() {
+                /* do nothing */
+            }
+
+            @Override
+            public void onMiss() {
+                /* do nothing */
+            }
+
+            @Override
+            public void onCreation(long nanos) {
+                /* do nothing */
+            }
+        }
+
+        /**
+         * A statistics that counts hits, misses and creations and that sums up the creation time.
+         */
+        class Recording implements Statistics {
+
+            /**
+             * The number of hits.
+             */
+            private final AtomicLong hits;
+
+            /**
+             * The number of misses.
+             */
+            private final AtomicLong misses;
+
+            /**
+             * The number of created types.
+             */
+            private final AtomicLong creations;
+
+            /**
+             * The total creation time in nanoseconds.
+             */
+            private final AtomicLong creationTime;
+
+            /**
+             * Creates a new recording statistics.
+             */
+            public Recording() {
+                hits = new AtomicLong();
+                misses = new AtomicLong();
+                creations = new AtomicLong();
+                creationTime = new AtomicLong();
+            }
+
+            @Override
+            public void onHit() {
+                hits.incrementAndGet();
+            }
+
+            @Override
+            public void onMiss() {
+                misses.incrementAndGet();
+            }
+
+            @Override
+            public void onCreation(long nanos) {
+                creations.incrementAndGet();
+                creationTime.addAndGet(nanos);
+            }
+
+            /**
+             * Returns the number of lazily requested types that were found in the cache.
+             *
+             * @return The number of hits.
+             */
+            public long getHits() {
+                return hits.get();
+            }
+
+            /**
+             * Returns the number of lazily requested types that were not found in the cache.
+             *
+             * @return The number of misses.
+             */
+            public long getMisses() {
+                return misses.get();
+            }
+
+            /**
+             * Returns the number of types that were created. This number is lower than the number of misses if concurrent
+             * requests for the same type waited for a single creation.
+             *
+             * @return The number of created types.
+             */
+            public long getCreations() {
+                return creations.get();
+            }
+
+            /**
+             * Returns the total time that was spent on creating types.
+             *
+             * @return The total creation time in nanoseconds.
+             */
+            public long getCreationTime() {
+                return creationTime.get();
+            }
+        }
+    }
+
     /**
      * An implementation of a {@link TypeCache} where obsolete references are cleared upon any call.
      *
@@ -322,6 +869,27 @@ public class TypeCache<T> extends ReferenceQueue<ClassLoader> {
             super(sort);
         }
 
+        /**
+         * Creates a new type cache with inlined expunction.
+         *
+         * @param sort       The reference type to use for stored types.
+         * @param statistics The statistics to notify of any lazy type creation.
+         */
+        public WithInlineExpunction(Sort sort, Statistics statistics) {
+            super(sort, statistics);
+        }
+
+        /**
+         * Creates a new type cache with inlined expunction.
+         *
+         * @param sort       The reference type to use for stored types.
+         * @param statistics The statistics to notify of any lazy type creation.
+         * @param capacity   The maximum number of types that are stored per class loader or {@link TypeCache#UNBOUNDED}.
+         */
+        public WithInlineExpunction(Sort sort, Statistics statistics, int capacity) {
+            super(sort, statistics, capacity);
+        }
+
         @Override
         public Class<?> find(ClassLoader classLoader, S key) {
             try {
@@ -359,6 +927,83 @@ public class TypeCache<T> extends ReferenceQueue<ClassLoader> {
         }
     }
 
+    /**
+     * An implementation of a {@link TypeCache} where obsolete references are cleared after a given number of calls. Other than
+     * {@link WithInlineExpunction}, this cache does not poll its reference queue on every access.
+     *
+     * @param <S> The type of the key that is used for identifying stored classes per class loader. Such keys must not strongly reference any
+     *            types or class loaders without potentially corrupting the garbage eligibility of stored classes. As the storage is segmented
+     *            by class loader, it is normally sufficient to store types by their name.
+     * @see TypeCache
+     */
+    public static class WithAmortizedExpunction<S> extends TypeCache<S> {
+
+        /**
+         * The number of operations after which stale entries are expunged.
+         */
+        private final int interval;
+
+        /**
+         * The number of operations since the last expunction.
+         */
+        private final AtomicInteger operations;
+
+        /**
+         * Creates a new type cache with amortized expunction.
+         *
+         * @param sort     The reference type to use for stored types.
+         * @param interval The number of operations after which stale entries are expunged.
+         */
+        public WithAmortizedExpunction(Sort sort, int interval) {
+            this(sort, Statistics.NoOp.INSTANCE, UNBOUNDED, interval);
+        }
+
+        /**
+         * Creates a new type cache with amortized expunction.
+         *
+         * @param sort       The reference type to use for stored types.
+         * @param statistics The statistics to notify of any lazy type creation.
+         * @param capacity   The maximum number of types that are stored per class loader or {@link TypeCache#UNBOUNDED}.
+         * @param interval   The number of operations after which stale entries are expunged.
+         */
+        public WithAmortizedExpunction(Sort sort, Statistics statistics, int capacity, int interval) {
+            super(sort, statistics, capacity);
+            if (interval < 1) {
+                throw new IllegalArgumentException("Interval must be positive: " + interval);
+            }
+            this.interval = interval;
+            operations = new AtomicInteger();
+        }
+
+        @Override
+        public Class<?> find(ClassLoader classLoader, S key) {
+            try {
+                return super.find(classLoader, key);
+            } finally {
+                onOperation();
+            }
+        }
+
+        @Override
+        public Class<?> insert(ClassLoader classLoader, S key, Class<?> type) {
+            try {
+                return super.insert(classLoader, key, type);
+            } finally {
+                onOperation();
+            }
+        }
+
+        /**
+         * Counts an operation and expunges stale entries if the interval is reached.
+         */
+        protected void onOperation() {
+            int count = operations.incrementAndGet();
+            if (count >= interval && operations.compareAndSet(count, 0)) {
+                expungeStaleEntries();
+            }
+        }
+    }
+
     /**
      * A simple key based on a collection of types where no type is strongly referenced.
      */
@@ -56,6 +56,8 @@ import java.lang.instrument.ClassDefinition;
 import java.lang.instrument.ClassFileTransformer;
 import java.lang.instrument.Instrumentation;
 import java.lang.instrument.UnmodifiableClassException;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
@@ -777,6 +779,17 @@ public interface AgentBuilder {
          */
         RedefinitionListenable with(RedefinitionStrategy.Listener redefinitionListener);
 
+        /**
+         * Specifies a matching strategy that is responsible for resolving and matching all loaded types that are considered for redefinition
+         * when this agent is installed. By using a {@link RedefinitionStrategy.MatchingStrategy.ForExecutor}, loaded types can be described
+         * and matched in parallel while redefinitions are still applied sequentially in the batches of the specified
+         * {@link RedefinitionStrategy.BatchAllocator}. Any listener is still notified on the installing thread.
+         *
+         * @param redefinitionMatchingStrategy The matching strategy to use.
+         * @return A new instance of this agent builder which makes use of the specified matching strategy.
+         */
+        RedefinitionListenable with(RedefinitionStrategy.MatchingStrategy redefinitionMatchingStrategy);
+
         /**
          * Enables resubmission of failed transformations by applying a retransformation of the loaded type. This can be meaningful if
          * class files cannot be located from the class loader as a resource where the loaded type becomes available.
@@ -796,6 +809,21 @@ public interface AgentBuilder {
          */
         AgentBuilder withResubmission(RedefinitionStrategy.ResubmissionScheduler resubmissionScheduler, ElementMatcher<? super Throwable> matcher);
 
+        /**
+         * Enables resubmission of failed transformations by applying a retransformation of the loaded type. This can be meaningful if
+         * class files cannot be located from the class loader as a resource where the loaded type becomes available. The supplied
+         * policy bounds the number of types that are retained for resubmission and determines how often and when a failed
+         * resubmission is retried.
+         *
+         * @param resubmissionScheduler A scheduler which is responsible for scheduling the resubmission job.
+         * @param matcher               A matcher that filters throwable instances where non-matched throwables are not triggering a resubmission.
+         * @param resubmissionPolicy    The resubmission policy to apply.
+         * @return A new instance of this agent builder that applies resubmission.
+         */
+        AgentBuilder withResubmission(RedefinitionStrategy.ResubmissionScheduler resubmissionScheduler,
+                                      ElementMatcher<? super Throwable> matcher,
+                                      RedefinitionStrategy.ResubmissionPolicy resubmissionPolicy);
+
         /**
          * An agent builder configuration that allows the configuration of a batching strategy.
          */
@@ -2129,6 +2157,26 @@ public interface AgentBuilder {
          */
         TypePool typePool(ClassFileLocator classFileLocator, ClassLoader classLoader);
 
+        /**
+         * A pool strategy that is aware of the type being transformed. If a pool strategy implements this interface, an agent builder
+         * requests a type pool for a transformation by passing the name of the transformed type.
+         */
+        interface ForTransformedType extends PoolStrategy {
+
+            /**
+             * Creates a type pool for a given class file locator when a specific type is described. Other than for the
+             * type being described, the class file locator might not represent the class files that are visible to the
+             * supplied class loader such that a pool strategy must not share the described type's resolution beyond
+             * the returned type pool.
+             *
+             * @param classFileLocator The class file locator to use.
+             * @param classLoader      The class loader for which the class file locator was created.
+             * @param name             The name of the type being described.
+             * @return A type pool for the supplied class file locator.
+             */
+            TypePool typePool(ClassFileLocator classFileLocator, ClassLoader classLoader, String name);
+        }
+
         /**
          * <p>
          * A default type locator that resolves types only if any property that is not the type's name is requested.
@@ -2223,6 +2271,57 @@ public interface AgentBuilder {
             }
         }
 
+        /**
+         * <p>
+         * A type locator that resolves types lazily and that retains the class reader of every parsed class file such that a
+         * redefinition or rebasing of the transformed type does not parse its class file a second time.
+         * </p>
+         * <p>
+         * The returned type pool uses a {@link net.bytebuddy.pool.TypePool.CacheProvider.Simple} and the
+         * {@link ClassFileLocator} that is provided by the builder's {@link LocationStrategy}. A new type pool is
+         * created for every transformation such that retained readers do not outlive it.
+         * </p>
+         *
+         * @see net.bytebuddy.pool.TypePool.Default.WithReaderRetention
+         */
+        enum WithReaderRetention implements PoolStrategy {
+
+            /**
+             * A type locator that parses the code segment of each method for extracting information about parameter
+             * names even if they are not explicitly included in a class file.
+             *
+             * @see net.bytebuddy.pool.TypePool.Default.ReaderMode#EXTENDED
+             */
+            EXTENDED(TypePool.Default.ReaderMode.EXTENDED),
+
+            /**
+             * A type locator that skips the code segment of each method and does therefore not extract information
+             * about parameter names. Parameter names are still included if they are explicitly included in a class file.
+             *
+             * @see net.bytebuddy.pool.TypePool.Default.ReaderMode#FAST
+             */
+            FAST(TypePool.Default.ReaderMode.FAST);
+
+            /**
+             * The reader mode to apply by this type locator.
+             */
+            private final TypePool.Default.ReaderMode readerMode;
+
+            /**
+             * Creates a new type locator.
+             *
+             * @param readerMode The reader mode to apply by this type locator.
+             */
+            WithReaderRetention(TypePool.Default.ReaderMode readerMode) {
+                this.readerMode = readerMode;
+            }
+
+            @Override
+            public TypePool typePool(ClassFileLocator classFileLocator, ClassLoader classLoader) {
+                return new TypePool.Default.WithReaderRetention(TypePool.CacheProvider.Simple.withObjectType(), classFileLocator, readerMode);
+            }
+        }
+
         /**
          * <p>
          * A type locator that attempts loading a type if it cannot be located by the underlying lazy type pool.
@@ -2350,7 +2449,7 @@ public interface AgentBuilder {
                     classLoader = classLoader == null ? getBootstrapMarkerLoader() : classLoader;
                     TypePool.CacheProvider cacheProvider = cacheProviders.get(classLoader);
                     while (cacheProvider == null) {
-                        cacheProvider = TypePool.CacheProvider.Simple.withObjectType();
+                        cacheProvider = makeCacheProvider();
                         TypePool.CacheProvider previous = cacheProviders.putIfAbsent(classLoader, cacheProvider);
                         if (previous != null) {
                             cacheProvider = previous;
@@ -2359,6 +2458,15 @@ public interface AgentBuilder {
                     return cacheProvider;
                 }
 
+                /**
+                 * Creates a new cache provider for a class loader for which no cache provider was registered yet.
+                 *
+                 * @return A new cache provider.
+                 */
+                protected TypePool.CacheProvider makeCacheProvider() {
+                    return TypePool.CacheProvider.Simple.withObjectType();
+                }
+
                 /**
                  * <p>
                  * Returns the class loader to serve as a cache key if a cache provider for the bootstrap class loader is requested.
@@ -2377,6 +2485,306 @@ public interface AgentBuilder {
                     return ClassLoader.getSystemClassLoader();
                 }
             }
+
+            /**
+             * An implementation of a type locator {@link WithTypePoolCache} (note documentation of the linked class) that is based on a
+             * {@link ConcurrentMap} where each class loader's cache retains a bounded number of type descriptions. Once a cache exceeds
+             * its capacity, the least recently used type description is evicted. It is still the responsibility of the type locator's
+             * user to avoid the type locator from leaking memory via the class loaders that are used as keys.
+             */
+            @EqualsAndHashCode(callSuper = true)
+            public static class Bounded extends Simple {
+
+                /**
+                 * The maximum number of type descriptions that are retained per class loader.
+                 */
+                private final int capacity;
+
+                /**
+                 * Creates a new type locator that caches a bounded cache provider per class loader in a concurrent map. The type
+                 * locator uses a fast {@link net.bytebuddy.pool.TypePool.Default.ReaderMode}.
+                 *
+                 * @param capacity       The maximum number of type descriptions that are retained per class loader.
+                 * @param cacheProviders The concurrent map that is used for storing a cache provider per class loader.
+                 */
+                public Bounded(int capacity, ConcurrentMap<? super ClassLoader, TypePool.CacheProvider> cacheProviders) {
+                    this(TypePool.Default.ReaderMode.FAST, capacity, cacheProviders);
+                }
+
+                /**
+                 * Creates a new type locator that caches a bounded cache provider per class loader in a concurrent map.
+                 *
+                 * @param readerMode     The reader mode to use for parsing a class file.
+                 * @param capacity       The maximum number of type descriptions that are retained per class loader.
+                 * @param cacheProviders The concurrent map that is used for storing a cache provider per class loader.
+                 */
+                public Bounded(TypePool.Default.ReaderMode readerMode,
+                               int capacity,
+                               ConcurrentMap<? super ClassLoader, TypePool.CacheProvider> cacheProviders) {
+                    super(readerMode, cacheProviders);
+                    if (capacity < 1) {
+                        throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+                    }
+                    this.capacity = capacity;
+                }
+
+                @Override
+                protected TypePool.CacheProvider makeCacheProvider() {
+                    return TypePool.CacheProvider.Bounded.withObjectType(capacity);
+                }
+            }
+        }
+
+        /**
+         * <p>
+         * A pool strategy that shares a lazily resolving type pool per class loader across all transformations. Similarly to class loading,
+         * a class loader's type pool first queries the type pool of its parent class loader such that any type description is only parsed once
+         * per class loader hierarchy. Type pools are only weakly referenced by their class loader and are discarded once a class loader is
+         * garbage collected. Any class loader is only queried via a weakly referenced {@link ClassFileLocator.ForClassLoader}.
+         * </p>
+         * <p>
+         * When a type pool is requested for describing a specific type, this type is described from the supplied class file locator and never
+         * added to the shared type pools such that any transformation considers the currently transformed class file. Any other type is first
+         * looked up from the shared type pools before the supplied class file locator is queried.
+         * </p>
+         * <p>
+         * <b>Important</b>: Types that are referenced by a living class loader are never removed from the shared type pools. Shared type pools
+         * can be cleared by calling {@link Hierarchical#clear()}.
+         * </p>
+         */
+        @EqualsAndHashCode(exclude = {"typePools", "referenceQueue"})
+        class Hierarchical implements PoolStrategy.ForTransformedType {
+
+            /**
+             * The reader mode to use for parsing a class file.
+             */
+            private final TypePool.Default.ReaderMode readerMode;
+
+            /**
+             * The shared type pools by weak references to their class loader.
+             */
+            private final ConcurrentMap<Object, TypePool> typePools;
+
+            /**
+             * The reference queue that is notified when a class loader of a shared type pool is garbage collected.
+             */
+            private final ReferenceQueue<ClassLoader> referenceQueue;
+
+            /**
+             * Creates a new hierarchical pool strategy that uses a fast {@link net.bytebuddy.pool.TypePool.Default.ReaderMode}.
+             */
+            public Hierarchical() {
+                this(TypePool.Default.ReaderMode.FAST);
+            }
+
+            /**
+             * Creates a new hierarchical pool strategy.
+             *
+             * @param readerMode The reader mode to use for parsing a class file.
+             */
+            public Hierarchical(TypePool.Default.ReaderMode readerMode) {
+                this.readerMode = readerMode;
+                typePools = new ConcurrentHashMap<Object, TypePool>();
+                referenceQueue = new ReferenceQueue<ClassLoader>();
+            }
+
+            @Override
+            public TypePool typePool(ClassFileLocator classFileLocator, ClassLoader classLoader) {
+                return new TypePool.Default.WithLazyResolution(new TypePool.CacheProvider.Simple(), classFileLocator, readerMode, locate(classLoader));
+            }
+
+            @Override
+            public TypePool typePool(ClassFileLocator classFileLocator, ClassLoader classLoader, String name) {
+                return new Overlay(classFileLocator, readerMode, locate(classLoader), name);
+            }
+
+            /**
+             * Locates the shared type pool of a class loader and creates it, including the type pools of its parent class loaders, if it does not yet exist.
+             * If two threads create a type pool concurrently, only one of the created type pools is retained.
+             *
+             * @param classLoader The class loader for which to locate a type pool or {@code null} for the bootstrap class loader.
+             * @return The shared type pool of the supplied class loader.
+             */
+            protected TypePool locate(ClassLoader classLoader) {
+                expungeStaleEntries();
+                classLoader = classLoader == null ? getBootstrapMarkerLoader() : classLoader;
+                TypePool typePool = typePools.get(new LookupKey(classLoader));
+                if (typePool == null) {
+                    ClassLoader parent = classLoader.getParent();
+                    typePool = new TypePool.Default.WithLazyResolution(TypePool.CacheProvider.Simple.withObjectType(),
+                            ClassFileLocator.ForClassLoader.WeaklyReferenced.of(classLoader),
+                            readerMode,
+                            parent == null || classLoader == getBootstrapMarkerLoader()
+                                    ? TypePool.Empty.INSTANCE
+                                    : locate(parent));
+                    TypePool previous = typePools.putIfAbsent(new StorageKey(classLoader, referenceQueue), typePool);
+                    if (previous != null) {
+                        typePool = previous;
+                    }
+                }
+                return typePool;
+            }
+
+            /**
+             * Removes all shared type pools of class loaders that were garbage collected.
+             */
+            private void expungeStaleEntries() {
+                Reference<?> reference;
+                while ((reference = referenceQueue.poll()) != null) {
+                    typePools.remove(reference);
+                }
+            }
+
+            /**
+             * Returns the class loader that represents the root of any class loader hierarchy. By default, the system class loader's parent
+             * is used as it is the closest class loader to the bootstrap class loader that can be queried for resources.
+             *
+             * @return A class loader to represent the bootstrap class loader.
+             */
+            protected ClassLoader getBootstrapMarkerLoader() {
+                ClassLoader classLoader = ClassLoader.getSystemClassLoader();
+                return classLoader.getParent() == null
+                        ? classLoader
+                        : classLoader.getParent();
+            }
+
+            /**
+             * Clears all shared type pools.
+             */
+            public void clear() {
+                typePools.clear();
+            }
+
+            /**
+             * A key used for looking up the shared type pool of a class loader.
+             */
+            protected static class LookupKey {
+
+                /**
+                 * The referenced class loader.
+                 */
+                private final ClassLoader classLoader;
+
+                /**
+                 * The class loader's identity hash code.
+                 */
+                private final int hashCode;
+
+                /**
+                 * Creates a new lookup key.
+                 *
+                 * @param classLoader The represented class loader.
+                 */
+                protected LookupKey(ClassLoader classLoader) {
+                    this.classLoader = classLoader;
+                    hashCode = System.identityHashCode(classLoader);
+                }
+
+                @Override
+                public int hashCode() {
+                    return hashCode;
+                }
+
+                @Override
+                @SuppressFBWarnings(value = "EQ_CHECK_FOR_OPERAND_NOT_COMPATIBLE_WITH_THIS", justification = "Cross-comparison is intended")
+                public boolean equals(Object other) {
+                    if (other == this) {
+                        return true;
+                    } else if (other instanceof LookupKey) {
+                        return classLoader == ((LookupKey) other).classLoader;
+                    } else if (other instanceof StorageKey) {
+                        StorageKey storageKey = (StorageKey) other;
+                        return hashCode == storageKey.hashCode && classLoader == storageKey.get();
+                    } else {
+                        return false;
+                    }
+                }
+            }
+
+            /**
+             * A key used for storing the shared type pool of a class loader which only weakly references the class loader.
+             */
+            protected static class StorageKey extends WeakReference<ClassLoader> {
+
+                /**
+                 * The class loader's identity hash code.
+                 */
+                private final int hashCode;
+
+                /**
+                 * Creates a new storage key.
+                 *
+                 * @param classLoader    The represented class loader.
+                 * @param referenceQueue The reference queue to notify upon a garbage collection.
+                 */
+                protected StorageKey(ClassLoader classLoader, ReferenceQueue<? super ClassLoader> referenceQueue) {
+                    super(classLoader, referenceQueue);
+                    hashCode = System.identityHashCode(classLoader);
+                }
+
+                @Override
+                public int hashCode() {
+                    return hashCode;
+                }
+
+                @Override
+                @SuppressFBWarnings(value = "EQ_CHECK_FOR_OPERAND_NOT_COMPATIBLE_WITH_THIS", justification = "Cross-comparison is intended")
+                public boolean equals(Object other) {
+                    if (other == this) {
+                        return true;
+                    } else if (other instanceof LookupKey) {
+                        LookupKey lookupKey = (LookupKey) other;
+                        return hashCode == lookupKey.hashCode && get() == lookupKey.classLoader;
+                    } else if (other instanceof StorageKey) {
+                        StorageKey storageKey = (StorageKey) other;
+                        return hashCode == storageKey.hashCode && get() == storageKey.get();
+                    } else {
+                        return false;
+                    }
+                }
+            }
+
+            /**
+             * A type pool that describes a single type from a given class file locator while resolving any other type from a shared type pool.
+             */
+            @EqualsAndHashCode(callSuper = true)
+            protected static class Overlay extends TypePool.Default.WithLazyResolution {
+
+                /**
+                 * The shared type pool to query for any type that is not overlaid.
+                 */
+                private final TypePool typePool;
+
+                /**
+                 * The name of the overlaid type.
+                 */
+                private final String name;
+
+                /**
+                 * Creates a new overlay type pool.
+                 *
+                 * @param classFileLocator The class file locator to use.
+                 * @param readerMode       The reader mode to use for parsing a class file.
+                 * @param typePool         The shared type pool to query for any type that is not overlaid.
+                 * @param name             The name of the overlaid type.
+                 */
+                protected Overlay(ClassFileLocator classFileLocator, TypePool.Default.ReaderMode readerMode, TypePool typePool, String name) {
+                    super(new TypePool.CacheProvider.Simple(), classFileLocator, readerMode);
+                    this.typePool = typePool;
+                    this.name = name;
+                }
+
+                @Override
+                public Resolution describe(String name) {
+                    if (!this.name.equals(name)) {
+                        Resolution resolution = typePool.describe(name);
+                        if (resolution.isResolved()) {
+                            return resolution;
+                        }
+                    }
+                    return super.describe(name);
+                }
+            }
         }
     }
 
@@ -3720,6 +4128,7 @@ public interface AgentBuilder {
          * @param locationStrategy              The location strategy to use.
          * @param redefinitionBatchAllocator    The batch allocator for the redefinition strategy to apply.
          * @param redefinitionListener          The redefinition listener for the redefinition strategy to apply.
+         * @param redefinitionMatchingStrategy  The matching strategy for describing and matching all loaded types.
          * @param lambdaInstrumentationStrategy A strategy to determine of the {@code LambdaMetafactory} should be instrumented to allow for the
          *                                      instrumentation of classes that represent lambda expressions.
          * @param descriptionStrategy           The description strategy for resolving type descriptions for types.
@@ -3734,6 +4143,7 @@ public interface AgentBuilder {
                           LocationStrategy locationStrategy,
                           BatchAllocator redefinitionBatchAllocator,
                           Listener redefinitionListener,
+                          MatchingStrategy redefinitionMatchingStrategy,
                           LambdaInstrumentationStrategy lambdaInstrumentationStrategy,
                           DescriptionStrategy descriptionStrategy,
                           FallbackStrategy fallbackStrategy,
@@ -3741,49 +4151,20 @@ public interface AgentBuilder {
                           RawMatcher ignoredTypeMatcher) {
             check(instrumentation);
             RedefinitionStrategy.Collector collector = make();
-            for (Class<?> type : instrumentation.getAllLoadedClasses()) {
-                if (!lambdaInstrumentationStrategy.isInstrumented(type)) {
-                    continue;
-                }
-                JavaModule module = JavaModule.ofType(type);
-                try {
-                    TypePool typePool = poolStrategy.typePool(locationStrategy.classFileLocator(type.getClassLoader(), module), type.getClassLoader());
-                    try {
-                        collector.consider(typeMatcher,
-                                ignoredTypeMatcher,
-                                listener,
-                                descriptionStrategy.apply(TypeDescription.ForLoadedType.getName(type), type, typePool, circularityLock, type.getClassLoader(), module),
-                                type,
-                                type,
-                                module,
-                                !instrumentation.isModifiableClass(type));
-                    } catch (Throwable throwable) {
-                        if (descriptionStrategy.isLoadedFirst() && fallbackStrategy.isFallback(type, throwable)) {
-                            collector.consider(typeMatcher,
-                                    ignoredTypeMatcher,
-                                    listener,
-                                    typePool.describe(TypeDescription.ForLoadedType.getName(type)).resolve(),
-                                    type,
-                                    module);
-                        } else {
-                            throw throwable;
-                        }
-                    }
-                } catch (Throwable throwable) {
-                    try {
-                        try {
-                            listener.onError(TypeDescription.ForLoadedType.getName(type), type.getClassLoader(), module, AgentBuilder.Listener.LOADED, throwable);
-                        } finally {
-                            listener.onComplete(TypeDescription.ForLoadedType.getName(type), type.getClassLoader(), module, AgentBuilder.Listener.LOADED);
-                        }
-                    } catch (Throwable ignored) {
-                        // Ignore exceptions that are thrown by listeners to mimic the behavior of a transformation.
-                    }
-                }
-            }
-            collector.apply(instrumentation, circularityLock, locationStrategy, listener, redefinitionBatchAllocator, redefinitionListener);
-        }
-
+            for (Collector.Candidate candidate : redefinitionMatchingStrategy.execute(new Collector.Candidates(instrumentation,
+                    lambdaInstrumentationStrategy,
+                    circularityLock,
+                    poolStrategy,
+                    locationStrategy,
+                    descriptionStrategy,
+                    fallbackStrategy,
+                    typeMatcher,
+                    ignoredTypeMatcher))) {
+                candidate.apply(collector, listener);
+            }
+            collector.apply(instrumentation, circularityLock, locationStrategy, listener, redefinitionBatchAllocator, redefinitionListener);
+        }
+
         /**
          * A batch allocator which is responsible for applying a redefinition in a batches. A class redefinition or
          * retransformation can be a time-consuming operation rendering a JVM non-responsive. In combination with a
@@ -4205,6 +4586,158 @@ public interface AgentBuilder {
             }
         }
 
+        /**
+         * A matching strategy is responsible for resolving the descriptions of all loaded types that are considered for a redefinition
+         * and for applying the type matchers to them. Independently of the matching strategy, any {@link AgentBuilder.Listener} is
+         * notified sequentially on the installing thread in the order in which loaded types are reported by the instrumentation and any
+         * redefinition is applied in the batches of the configured {@link BatchAllocator}.
+         */
+        public interface MatchingStrategy {
+
+            /**
+             * Runs all supplied tasks. The returned iterable yields every task only after it was run and in the order of the supplied tasks.
+             * The supplied tasks must only be iterated once.
+             *
+             * @param tasks The tasks to run.
+             * @param <T>   The type of the tasks.
+             * @return An iterable over all tasks where every task is run before it is returned.
+             */
+            <T extends Runnable> Iterable<T> execute(Iterable<T> tasks);
+
+            /**
+             * A matching strategy that runs all tasks sequentially on the calling thread. Every task is only run when it is iterated over
+             * such that the outcome of a task can be discarded before the next task is run.
+             */
+            enum Sequential implements MatchingStrategy {
+
+                /**
+                 * The singleton instance.
+                 */
+                INSTANCE;
+
+                @Override
+                public <T extends Runnable> Iterable<T> execute(Iterable<T> tasks) {
+                    return new Execution<T>(tasks);
+                }
+
+                /**
+                 * An iterable that runs every task of another iterable when it is iterated over.
+                 *
+                 * @param <T> The type of the tasks.
+                 */
+                protected static class Execution<T extends Runnable> implements Iterable<T> {
+
+                    /**
+                     * The tasks to run.
+                     */
+                    private final Iterable<T> tasks;
+
+                    /**
+                     * Creates a new execution.
+                     *
+                     * @param tasks The tasks to run.
+                     */
+                    protected Execution(Iterable<T> tasks) {
+                        this.tasks = tasks;
+                    }
+
+                    @Override
+                    public Iterator<T> iterator() {
+                        return new ExecutingIterator<T>(tasks.iterator());
+                    }
+                }
+
+                /**
+                 * An iterator that runs every task of another iterator before it is returned.
+                 *
+                 * @param <T> The type of the tasks.
+                 */
+                protected static class ExecutingIterator<T extends Runnable> implements Iterator<T> {
+
+                    /**
+                     * The iterator over the tasks to run.
+                     */
+                    private final Iterator<T> iterator;
+
+                    /**
+                     * Creates a new executing iterator.
+                     *
+                     * @param iterator The iterator over the tasks to run.
+                     */
+                    protected ExecutingIterator(Iterator<T> iterator) {
+                        this.iterator = iterator;
+                    }
+
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public T next() {
+                        T task = iterator.next();
+                        task.run();
+                        return task;
+                    }
+
+                    @Override
+                    public void remove() {
+                        throw new UnsupportedOperationException("remove");
+                    }
+                }
+            }
+
+            /**
+             * A matching strategy that runs all tasks on an executor what allows for resolving and matching loaded types in parallel.
+             * Any type matcher, pool strategy and location strategy that is used in combination with this strategy must be thread-safe.
+             * All tasks and their outcomes are retained until every task was run.
+             */
+            @EqualsAndHashCode
+            class ForExecutor implements MatchingStrategy {
+
+                /**
+                 * The executor to submit tasks to.
+                 */
+                private final Executor executor;
+
+                /**
+                 * Creates a new matching strategy that runs all tasks on an executor.
+                 *
+                 * @param executor The executor to submit tasks to.
+                 */
+                public ForExecutor(Executor executor) {
+                    this.executor = executor;
+                }
+
+                @Override
+                public <T extends Runnable> Iterable<T> execute(Iterable<T> tasks) {
+                    List<T> executed = new ArrayList<T>();
+                    List<FutureTask<?>> futureTasks = new ArrayList<FutureTask<?>>();
+                    try {
+                        for (T task : tasks) {
+                            FutureTask<?> futureTask = new FutureTask<Void>(task, null);
+                            executed.add(task);
+                            futureTasks.add(futureTask);
+                            executor.execute(futureTask);
+                        }
+                        for (FutureTask<?> futureTask : futureTasks) {
+                            futureTask.get();
+                        }
+                    } catch (InterruptedException exception) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException("Interrupted while matching loaded types", exception);
+                    } catch (ExecutionException exception) {
+                        throw new IllegalStateException("Failed to match loaded type", exception.getCause());
+                    } finally {
+                        for (FutureTask<?> futureTask : futureTasks) {
+                            futureTask.cancel(false);
+                        }
+                    }
+                    return executed;
+                }
+            }
+        }
+
         /**
          * A listener to be applied during a redefinition.
          */
@@ -4788,6 +5321,179 @@ public interface AgentBuilder {
             }
         }
 
+        /**
+         * A resubmission policy determines how many types are retained for resubmission and how often and when the resubmission of
+         * a type is attempted. Any type is only retained once per class loader. If the resubmission of a type fails, its resubmission
+         * is retried after a delay that doubles with every attempt until the maximum number of attempts is reached.
+         */
+        @EqualsAndHashCode
+        public static class ResubmissionPolicy {
+
+            /**
+             * A resubmission policy that retains any number of types and that attempts their resubmission once without delay.
+             */
+            public static final ResubmissionPolicy UNBOUNDED = new ResubmissionPolicy(Integer.MAX_VALUE, 1, 0, 0, TimeUnit.MILLISECONDS);
+
+            /**
+             * The maximum number of types that are retained for resubmission at any time.
+             */
+            private final int capacity;
+
+            /**
+             * The maximum number of resubmission attempts per type.
+             */
+            private final int maximumAttempts;
+
+            /**
+             * The delay before retrying a failed resubmission for the first time in nanoseconds.
+             */
+            private final long initialDelay;
+
+            /**
+             * The maximum delay before retrying a failed resubmission in nanoseconds.
+             */
+            private final long maximumDelay;
+
+            /**
+             * The monitor to notify after each resubmission job.
+             */
+            private final Monitor monitor;
+
+            /**
+             * Creates a new resubmission policy.
+             *
+             * @param capacity        The maximum number of types that are retained for resubmission at any time.
+             * @param maximumAttempts The maximum number of resubmission attempts per type.
+             * @param initialDelay    The delay before retrying a failed resubmission for the first time.
+             * @param maximumDelay    The maximum delay before retrying a failed resubmission.
+             * @param timeUnit        The time unit of the supplied delays.
+             */
+            public ResubmissionPolicy(int capacity, int maximumAttempts, long initialDelay, long maximumDelay, TimeUnit timeUnit) {
+                this(capacity, maximumAttempts, timeUnit.toNanos(initialDelay), timeUnit.toNanos(maximumDelay), Monitor.NoOp.INSTANCE);
+                if (capacity < 1) {
+                    throw new IllegalArgumentException("Cannot define a non-positive capacity: " + capacity);
+                } else if (maximumAttempts < 1) {
+                    throw new IllegalArgumentException("Cannot define a non-positive number of attempts: " + maximumAttempts);
+                } else if (initialDelay < 0 || maximumDelay < initialDelay) {
+                    throw new IllegalArgumentException("Cannot define a delay of " + initialDelay + " with a maximum delay of " + maximumDelay);
+                }
+            }
+
+            /**
+             * Creates a new resubmission policy.
+             *
+             * @param capacity        The maximum number of types that are retained for resubmission at any time.
+             * @param maximumAttempts The maximum number of resubmission attempts per type.
+             * @param initialDelay    The delay before retrying a failed resubmission for the first time in nanoseconds.
+             * @param maximumDelay    The maximum delay before retrying a failed resubmission in nanoseconds.
+             * @param monitor         The monitor to notify after each resubmission job.
+             */
+            protected ResubmissionPolicy(int capacity, int maximumAttempts, long initialDelay, long maximumDelay, Monitor monitor) {
+                this.capacity = capacity;
+                this.maximumAttempts = maximumAttempts;
+                this.initialDelay = initialDelay;
+                this.maximumDelay = maximumDelay;
+                this.monitor = monitor;
+            }
+
+            /**
+             * Returns a new resubmission policy that notifies the supplied monitor after each resubmission job.
+             *
+             * @param monitor The monitor to notify after each resubmission job.
+             * @return A new resubmission policy that notifies the supplied monitor.
+             */
+            public ResubmissionPolicy with(Monitor monitor) {
+                return new ResubmissionPolicy(capacity, maximumAttempts, initialDelay, maximumDelay, monitor);
+            }
+
+            /**
+             * Checks if a type can be retained if the given number of types is already retained.
+             *
+             * @param size The number of types that are currently retained.
+             * @return {@code true} if another type can be retained.
+             */
+            protected boolean isRetainable(int size) {
+                return size < capacity;
+            }
+
+            /**
+             * Checks if another resubmission attempt is permitted after the given number of attempts.
+             *
+             * @param attempts The number of resubmission attempts that were already made.
+             * @return {@code true} if another resubmission attempt is permitted.
+             */
+            protected boolean isAttemptable(int attempts) {
+                return attempts < maximumAttempts;
+            }
+
+            /**
+             * Checks if a type is retained after its first resubmission attempt.
+             *
+             * @return {@code true} if a type is retained after its first resubmission attempt.
+             */
+            protected boolean isRetrying() {
+                return maximumAttempts > 1;
+            }
+
+            /**
+             * Resolves the delay before the next resubmission attempt.
+             *
+             * @param attempts The number of resubmission attempts that were already made, at least one.
+             * @return The delay before the next resubmission attempt in nanoseconds.
+             */
+            protected long toDelay(int attempts) {
+                long delay = initialDelay;
+                for (int attempt = 1; attempt < attempts && delay < maximumDelay; attempt++) {
+                    delay = delay > maximumDelay >> 1
+                            ? maximumDelay
+                            : delay << 1;
+                }
+                return delay;
+            }
+
+            /**
+             * Returns the monitor to notify after each resubmission job.
+             *
+             * @return The monitor to notify after each resubmission job.
+             */
+            protected Monitor getMonitor() {
+                return monitor;
+            }
+
+            /**
+             * A monitor that is notified about the outcome of every resubmission job.
+             */
+            public interface Monitor {
+
+                /**
+                 * Invoked after a resubmission job was applied.
+                 *
+                 * @param resubmitted The number of types that were resubmitted.
+                 * @param deferred    The number of retained types of which the resubmission was deferred as their delay did not yet pass.
+                 * @param discarded   The number of types that were discarded without resubmission since the last job, either because the
+                 *                    capacity of the policy was exceeded or because their class loader was garbage collected.
+                 * @param pending     The number of types that remain retained after this job.
+                 */
+                void onResubmission(int resubmitted, int deferred, int discarded, int pending);
+
+                /**
+                 * A non-operational monitor.
+                 */
+                enum NoOp implements Monitor {
+
+                    /**
+                     * The singleton instance.
+                     */
+                    INSTANCE;
+
+                    @Override
+                    public void onResubmission(int resubmitted, int deferred, int discarded, int pending) {
+                        /* do nothing */
+                    }
+                }
+            }
+        }
+
         /**
          * A resubmission strategy is responsible for enabling resubmission of types that failed to resubmit.
          */
@@ -4855,14 +5561,33 @@ public interface AgentBuilder {
                 private final ElementMatcher<? super Throwable> matcher;
 
                 /**
-                 * Creates a new enabled resubmission strategy.
+                 * The resubmission policy to apply.
+                 */
+                private final ResubmissionPolicy resubmissionPolicy;
+
+                /**
+                 * Creates a new enabled resubmission strategy that applies an {@link ResubmissionPolicy#UNBOUNDED} resubmission policy.
                  *
                  * @param resubmissionScheduler A scheduler that is responsible for resubmission of types.
                  * @param matcher               The matcher for filtering error causes.
                  */
                 protected Enabled(ResubmissionScheduler resubmissionScheduler, ElementMatcher<? super Throwable> matcher) {
+                    this(resubmissionScheduler, matcher, ResubmissionPolicy.UNBOUNDED);
+                }
+
+                /**
+                 * Creates a new enabled resubmission strategy.
+                 *
+                 * @param resubmissionScheduler A scheduler that is responsible for resubmission of types.
+                 * @param matcher               The matcher for filtering error causes.
+                 * @param resubmissionPolicy    The resubmission policy to apply.
+                 */
+                protected Enabled(ResubmissionScheduler resubmissionScheduler,
+                                  ElementMatcher<? super Throwable> matcher,
+                                  ResubmissionPolicy resubmissionPolicy) {
                     this.resubmissionScheduler = resubmissionScheduler;
                     this.matcher = matcher;
+                    this.resubmissionPolicy = resubmissionPolicy;
                 }
 
                 @Override
@@ -4875,7 +5600,7 @@ public interface AgentBuilder {
                                                        RedefinitionStrategy.BatchAllocator redefinitionBatchAllocator,
                                                        RedefinitionStrategy.Listener redefinitionBatchListener) {
                     if (redefinitionStrategy.isEnabled() && resubmissionScheduler.isAlive()) {
-                        ConcurrentMap<StorageKey, Set<String>> types = new ConcurrentHashMap<StorageKey, Set<String>>();
+                        ResubmissionQueue resubmissionQueue = new ResubmissionQueue(resubmissionPolicy);
                         resubmissionScheduler.schedule(new ResubmissionJob(instrumentation,
                                 locationStrategy,
                                 listener,
@@ -4884,8 +5609,8 @@ public interface AgentBuilder {
                                 redefinitionStrategy,
                                 redefinitionBatchAllocator,
                                 redefinitionBatchListener,
-                                types));
-                        return new AgentBuilder.Listener.Compound(new ResubmissionListener(this.matcher, types), listener);
+                                resubmissionQueue));
+                        return new AgentBuilder.Listener.Compound(new ResubmissionListener(this.matcher, resubmissionQueue), listener);
                     } else {
                         return listener;
                     }
@@ -4902,32 +5627,238 @@ public interface AgentBuilder {
                     private final ElementMatcher<? super Throwable> matcher;
 
                     /**
-                     * A map of class loaders to their types to resubmit.
+                     * The queue of types to resubmit.
                      */
-                    private final ConcurrentMap<StorageKey, Set<String>> types;
+                    private final ResubmissionQueue resubmissionQueue;
 
                     /**
-                     * @param matcher The matcher for filtering error causes.
-                     * @param types   A map of class loaders to their types to resubmit.
+                     * @param matcher           The matcher for filtering error causes.
+                     * @param resubmissionQueue The queue of types to resubmit.
                      */
-                    protected ResubmissionListener(ElementMatcher<? super Throwable> matcher, ConcurrentMap<StorageKey, Set<String>> types) {
+                    protected ResubmissionListener(ElementMatcher<? super Throwable> matcher, ResubmissionQueue resubmissionQueue) {
                         this.matcher = matcher;
-                        this.types = types;
+                        this.resubmissionQueue = resubmissionQueue;
+                    }
+
+                    @Override
+                    public void onTransformation(TypeDescription typeDescription,
+                                                 ClassLoader classLoader,
+                                                 JavaModule module,
+                                                 boolean loaded,
+                                                 DynamicType dynamicType) {
+                        if (loaded) {
+                            resubmissionQueue.remove(typeDescription.getName(), classLoader);
+                        }
+                    }
+
+                    @Override
+                    public void onIgnored(TypeDescription typeDescription, ClassLoader classLoader, JavaModule module, boolean loaded) {
+                        if (loaded) {
+                            resubmissionQueue.remove(typeDescription.getName(), classLoader);
+                        }
                     }
 
                     @Override
-                    @SuppressFBWarnings(value = "GC_UNRELATED_TYPES", justification = "Use of unrelated key is inteded for avoiding unnecessary weak reference")
                     public void onError(String typeName, ClassLoader classLoader, JavaModule module, boolean loaded, Throwable throwable) {
                         if (!loaded && matcher.matches(throwable)) {
-                            Set<String> types = this.types.get(new LookupKey(classLoader));
-                            if (types == null) {
-                                types = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
-                                Set<String> previous = this.types.putIfAbsent(new StorageKey(classLoader), types);
-                                if (previous != null) {
-                                    types = previous;
+                            resubmissionQueue.add(typeName, classLoader);
+                        } else if (loaded && resubmissionQueue.isRetaining() && !matcher.matches(throwable)) {
+                            resubmissionQueue.remove(typeName, classLoader);
+                        }
+                    }
+                }
+
+                /**
+                 * A queue of types to resubmit that retains every type at most once per class loader and that is bounded by a resubmission policy.
+                 */
+                protected static class ResubmissionQueue {
+
+                    /**
+                     * The resubmission policy to apply.
+                     */
+                    private final ResubmissionPolicy resubmissionPolicy;
+
+                    /**
+                     * A map of class loaders to their types to resubmit and their attempts.
+                     */
+                    private final ConcurrentMap<StorageKey, ConcurrentMap<String, Attempt>> types;
+
+                    /**
+                     * The number of types that are currently retained.
+                     */
+                    private final AtomicInteger size;
+
+                    /**
+                     * The number of types that were discarded since the queue was last drained.
+                     */
+                    private final AtomicInteger discarded;
+
+                    /**
+                     * Creates a new resubmission queue.
+                     *
+                     * @param resubmissionPolicy The resubmission policy to apply.
+                     */
+                    protected ResubmissionQueue(ResubmissionPolicy resubmissionPolicy) {
+                        this.resubmissionPolicy = resubmissionPolicy;
+                        types = new ConcurrentHashMap<StorageKey, ConcurrentMap<String, Attempt>>();
+                        size = new AtomicInteger();
+                        discarded = new AtomicInteger();
+                    }
+
+                    /**
+                     * Adds a type to this queue if it is not already retained and if the resubmission policy's capacity is not exceeded.
+                     *
+                     * @param typeName    The name of the type to resubmit.
+                     * @param classLoader The class loader of the type to resubmit.
+                     */
+                    @SuppressFBWarnings(value = "GC_UNRELATED_TYPES", justification = "Use of unrelated key is inteded for avoiding unnecessary weak reference")
+                    protected void add(String typeName, ClassLoader classLoader) {
+                        ConcurrentMap<String, Attempt> types = this.types.get(new LookupKey(classLoader));
+                        if (types == null) {
+                            types = new ConcurrentHashMap<String, Attempt>();
+                            ConcurrentMap<String, Attempt> previous = this.types.putIfAbsent(new StorageKey(classLoader), types);
+                            if (previous != null) {
+                                types = previous;
+                            }
+                        }
+                        if (types.containsKey(typeName)) {
+                            return;
+                        }
+                        int size;
+                        do {
+                            size = this.size.get();
+                            if (!resubmissionPolicy.isRetainable(size)) {
+                                discarded.incrementAndGet();
+                                return;
+                            }
+                        } while (!this.size.compareAndSet(size, size + 1));
+                        if (types.putIfAbsent(typeName, new Attempt()) != null) {
+                            this.size.decrementAndGet();
+                        }
+                    }
+
+                    /**
+                     * Removes a type from this queue if it is retained.
+                     *
+                     * @param typeName    The name of the type to remove.
+                     * @param classLoader The class loader of the type to remove.
+                     */
+                    @SuppressFBWarnings(value = "GC_UNRELATED_TYPES", justification = "Use of unrelated key is inteded for avoiding unnecessary weak reference")
+                    protected void remove(String typeName, ClassLoader classLoader) {
+                        if (size.get() > 0) {
+                            ConcurrentMap<String, Attempt> types = this.types.get(new LookupKey(classLoader));
+                            if (types != null && types.remove(typeName) != null) {
+                                size.decrementAndGet();
+                            }
+                        }
+                    }
+
+                    /**
+                     * Collects all types of this queue that are due for resubmission and schedules their next attempt. A type for which no
+                     * further attempt is permitted is removed from the queue when it is collected. Types of garbage collected class loaders
+                     * are discarded.
+                     *
+                     * @param now The current time in nanoseconds as returned by {@link System#nanoTime()}.
+                     * @param due A map to which the names of all types that are due for resubmission are added per class loader.
+                     * @return The number of retained types of which the resubmission is deferred.
+                     */
+                    protected int drain(long now, Map<ClassLoader, List<String>> due) {
+                        int deferred = 0;
+                        Iterator<Map.Entry<StorageKey, ConcurrentMap<String, Attempt>>> entries = types.entrySet().iterator();
+                        while (entries.hasNext()) {
+                            Map.Entry<StorageKey, ConcurrentMap<String, Attempt>> entry = entries.next();
+                            ClassLoader classLoader = entry.getKey().get();
+                            if (classLoader != null || entry.getKey().isBootstrapLoader()) {
+                                List<String> typeNames = new ArrayList<String>();
+                                for (Map.Entry<String, Attempt> type : entry.getValue().entrySet()) {
+                                    Attempt attempt = type.getValue();
+                                    if (!attempt.isDue(now)) {
+                                        deferred++;
+                                    } else if (attempt.next(now, resubmissionPolicy)) {
+                                        typeNames.add(type.getKey());
+                                    } else if (entry.getValue().remove(type.getKey(), attempt)) {
+                                        size.decrementAndGet();
+                                        typeNames.add(type.getKey());
+                                    }
                                 }
+                                if (!typeNames.isEmpty()) {
+                                    due.put(classLoader, typeNames);
+                                }
+                            } else {
+                                entries.remove();
+                                int removed = entry.getValue().size();
+                                size.addAndGet(-removed);
+                                discarded.addAndGet(removed);
                             }
-                            types.add(typeName);
+                        }
+                        return deferred;
+                    }
+
+                    /**
+                     * Notifies the resubmission policy's monitor about the outcome of a resubmission job and resets the number of discarded types.
+                     *
+                     * @param resubmitted The number of types that were resubmitted.
+                     * @param deferred    The number of retained types of which the resubmission was deferred.
+                     */
+                    protected void onResubmission(int resubmitted, int deferred) {
+                        resubmissionPolicy.getMonitor().onResubmission(resubmitted, deferred, discarded.getAndSet(0), size.get());
+                    }
+
+                    /**
+                     * Checks if this queue retains types after their first resubmission attempt. Only then, a type that failed
+                     * during its resubmission must be removed explicitly.
+                     *
+                     * @return {@code true} if this queue retains types after their first resubmission attempt.
+                     */
+                    protected boolean isRetaining() {
+                        return resubmissionPolicy.isRetrying();
+                    }
+
+                    /**
+                     * Returns the number of types that are currently retained by this queue.
+                     *
+                     * @return The number of types that are currently retained.
+                     */
+                    protected int size() {
+                        return size.get();
+                    }
+
+                    /**
+                     * Represents the resubmission attempts of a retained type. An attempt is only mutated by the resubmission job.
+                     */
+                    protected static class Attempt {
+
+                        /**
+                         * The number of resubmission attempts that were made.
+                         */
+                        private int attempts;
+
+                        /**
+                         * The time in nanoseconds after which the next resubmission attempt is due.
+                         */
+                        private long due;
+
+                        /**
+                         * Checks if the next resubmission attempt is due.
+                         *
+                         * @param now The current time in nanoseconds.
+                         * @return {@code true} if the next resubmission attempt is due.
+                         */
+                        protected boolean isDue(long now) {
+                            return attempts == 0 || now - due >= 0;
+                        }
+
+                        /**
+                         * Records a resubmission attempt.
+                         *
+                         * @param now                The current time in nanoseconds.
+                         * @param resubmissionPolicy The resubmission policy to apply.
+                         * @return {@code true} if another resubmission attempt is permitted after this attempt.
+                         */
+                        protected boolean next(long now, ResubmissionPolicy resubmissionPolicy) {
+                            attempts += 1;
+                            due = now + resubmissionPolicy.toDelay(attempts);
+                            return resubmissionPolicy.isAttemptable(attempts);
                         }
                     }
                 }
@@ -4978,9 +5909,9 @@ public interface AgentBuilder {
                     private final Listener redefinitionBatchListener;
 
                     /**
-                     * A map of class loaders to their types to resubmit.
+                     * The queue of types to resubmit.
                      */
-                    private final ConcurrentMap<StorageKey, Set<String>> types;
+                    private final ResubmissionQueue resubmissionQueue;
 
                     /**
                      * Creates a new resubmission job.
@@ -4993,7 +5924,7 @@ public interface AgentBuilder {
                      * @param redefinitionStrategy       The redefinition strategy to use.
                      * @param redefinitionBatchAllocator The batch allocator to use.
                      * @param redefinitionBatchListener  The batch listener to notify.
-                     * @param types                      A map of class loaders to their types to resubmit.
+                     * @param resubmissionQueue          The queue of types to resubmit.
                      */
                     protected ResubmissionJob(Instrumentation instrumentation,
                                               LocationStrategy locationStrategy,
@@ -5003,7 +5934,7 @@ public interface AgentBuilder {
                                               RedefinitionStrategy redefinitionStrategy,
                                               BatchAllocator redefinitionBatchAllocator,
                                               Listener redefinitionBatchListener,
-                                              ConcurrentMap<StorageKey, Set<String>> types) {
+                                              ResubmissionQueue resubmissionQueue) {
                         this.instrumentation = instrumentation;
                         this.locationStrategy = locationStrategy;
                         this.listener = listener;
@@ -5012,53 +5943,50 @@ public interface AgentBuilder {
                         this.redefinitionStrategy = redefinitionStrategy;
                         this.redefinitionBatchAllocator = redefinitionBatchAllocator;
                         this.redefinitionBatchListener = redefinitionBatchListener;
-                        this.types = types;
+                        this.resubmissionQueue = resubmissionQueue;
                     }
 
                     @Override
                     public void run() {
                         boolean release = circularityLock.acquire();
                         try {
-                            Iterator<Map.Entry<StorageKey, Set<String>>> entries = types.entrySet().iterator();
+                            Map<ClassLoader, List<String>> due = new HashMap<ClassLoader, List<String>>();
+                            int deferred = resubmissionQueue.drain(System.nanoTime(), due);
                             List<Class<?>> types = new ArrayList<Class<?>>();
-                            while (entries.hasNext()) {
-                                Map.Entry<StorageKey, Set<String>> entry = entries.next();
-                                ClassLoader classLoader = entry.getKey().get();
-                                if (classLoader != null || entry.getKey().isBootstrapLoader()) {
-                                    Iterator<String> iterator = entry.getValue().iterator();
-                                    while (iterator.hasNext()) {
+                            for (Map.Entry<ClassLoader, List<String>> entry : due.entrySet()) {
+                                for (String typeName : entry.getValue()) {
+                                    boolean resubmitted = false;
+                                    try {
+                                        Class<?> type = Class.forName(typeName, false, entry.getKey());
                                         try {
-                                            Class<?> type = Class.forName(iterator.next(), false, classLoader);
+                                            if (instrumentation.isModifiableClass(type) && matcher.matches(new TypeDescription.ForLoadedType(type),
+                                                    type.getClassLoader(),
+                                                    JavaModule.ofType(type),
+                                                    type,
+                                                    type.getProtectionDomain())) {
+                                                resubmitted = types.add(type);
+                                            }
+                                        } catch (Throwable throwable) {
                                             try {
-                                                if (instrumentation.isModifiableClass(type) && matcher.matches(new TypeDescription.ForLoadedType(type),
+                                                listener.onError(TypeDescription.ForLoadedType.getName(type),
                                                         type.getClassLoader(),
                                                         JavaModule.ofType(type),
-                                                        type,
-                                                        type.getProtectionDomain())) {
-                                                    types.add(type);
-                                                }
-                                            } catch (Throwable throwable) {
-                                                try {
-                                                    listener.onError(TypeDescription.ForLoadedType.getName(type),
-                                                            type.getClassLoader(),
-                                                            JavaModule.ofType(type),
-                                                            AgentBuilder.Listener.LOADED,
-                                                            throwable);
-                                                } finally {
-                                                    listener.onComplete(TypeDescription.ForLoadedType.getName(type),
-                                                            type.getClassLoader(),
-                                                            JavaModule.ofType(type),
-                                                            AgentBuilder.Listener.LOADED);
-                                                }
+                                                        AgentBuilder.Listener.LOADED,
+                                                        throwable);
+                                            } finally {
+                                                listener.onComplete(TypeDescription.ForLoadedType.getName(type),
+                                                        type.getClassLoader(),
+                                                        JavaModule.ofType(type),
+                                                        AgentBuilder.Listener.LOADED);
                                             }
-                                        } catch (Throwable ignored) {
+                                        }
+                                    } catch (Throwable ignored) {
                                         /* do nothing */
-                                        } finally {
-                                            iterator.remove();
+                                    } finally {
+                                        if (!resubmitted) {
+                                            resubmissionQueue.remove(typeName, entry.getKey());
                                         }
                                     }
-                                } else {
-                                    entries.remove();
                                 }
                             }
                             if (!types.isEmpty()) {
@@ -5071,7 +5999,7 @@ public interface AgentBuilder {
                                         redefinitionBatchAllocator,
                                         redefinitionBatchListener);
                             }
-
+                            resubmissionQueue.onResubmission(types.size(), deferred);
                         } finally {
                             if (release) {
                                 circularityLock.release();
@@ -5201,49 +6129,23 @@ public interface AgentBuilder {
                 types = new ArrayList<Class<?>>();
             }
 
-            /**
-             * Does consider the retransformation or redefinition of a loaded type without a loaded type representation.
-             *
-             * @param typeMatcher        The type matcher to apply.
-             * @param ignoredTypeMatcher The ignored type matcher to apply.
-             * @param listener           The listener to apply during the consideration.
-             * @param typeDescription    The type description of the type being considered.
-             * @param type               The loaded type being considered.
-             * @param module             The type's Java module or {@code null} if the current VM does not support modules.
-             */
-            protected void consider(RawMatcher typeMatcher,
-                                    RawMatcher ignoredTypeMatcher,
-                                    AgentBuilder.Listener listener,
-                                    TypeDescription typeDescription,
-                                    Class<?> type,
-                                    JavaModule module) {
-                consider(typeMatcher, ignoredTypeMatcher, listener, typeDescription, type, NO_LOADED_TYPE, module, false);
-            }
-
             /**
              * Does consider the retransformation or redefinition of a loaded type.
              *
-             * @param typeMatcher         A type matcher to apply.
-             * @param ignoredTypeMatcher  The ignored type matcher to apply.
              * @param listener            The listener to apply during the consideration.
              * @param typeDescription     The type description of the type being considered.
              * @param type                The loaded type being considered.
              * @param classBeingRedefined The loaded type being considered or {@code null} if it should be considered non-available.
              * @param module              The type's Java module or {@code null} if the current VM does not support modules.
-             * @param unmodifiable        {@code true} if the current type should be considered unmodifiable.
+             * @param matched             {@code true} if the type was matched for a retransformation or redefinition.
              */
-            protected void consider(RawMatcher typeMatcher,
-                                    RawMatcher ignoredTypeMatcher,
-                                    AgentBuilder.Listener listener,
+            protected void consider(AgentBuilder.Listener listener,
                                     TypeDescription typeDescription,
                                     Class<?> type,
                                     Class<?> classBeingRedefined,
                                     JavaModule module,
-                                    boolean unmodifiable) {
-                if (unmodifiable
-                        || ignoredTypeMatcher.matches(typeDescription, type.getClassLoader(), module, classBeingRedefined, type.getProtectionDomain())
-                        || !typeMatcher.matches(typeDescription, type.getClassLoader(), module, classBeingRedefined, type.getProtectionDomain())
-                        || !types.add(type)) {
+                                    boolean matched) {
+                if (!matched || !types.add(type)) {
                     try {
                         try {
                             listener.onIgnored(typeDescription, type.getClassLoader(), module, classBeingRedefined != null);
@@ -5374,6 +6276,325 @@ public interface AgentBuilder {
                 }
             }
 
+            /**
+             * An iterable over the candidates of all loaded types that are considered for a retransformation or redefinition.
+             * A candidate is only created when it is iterated over such that a candidate can be discarded after it was applied.
+             */
+            protected static class Candidates implements Iterable<Candidate> {
+
+                /**
+                 * The instrumentation instance to use.
+                 */
+                private final Instrumentation instrumentation;
+
+                /**
+                 * The lambda instrumentation strategy to use.
+                 */
+                private final LambdaInstrumentationStrategy lambdaInstrumentationStrategy;
+
+                /**
+                 * The circularity lock to use.
+                 */
+                private final CircularityLock circularityLock;
+
+                /**
+                 * The pool strategy to use.
+                 */
+                private final PoolStrategy poolStrategy;
+
+                /**
+                 * The location strategy to use.
+                 */
+                private final LocationStrategy locationStrategy;
+
+                /**
+                 * The description strategy for resolving type descriptions for types.
+                 */
+                private final DescriptionStrategy descriptionStrategy;
+
+                /**
+                 * The fallback strategy to apply.
+                 */
+                private final FallbackStrategy fallbackStrategy;
+
+                /**
+                 * The type matcher to apply.
+                 */
+                private final RawMatcher typeMatcher;
+
+                /**
+                 * The ignored type matcher to apply.
+                 */
+                private final RawMatcher ignoredTypeMatcher;
+
+                /**
+                 * Creates a new iterable over the candidates of all loaded types.
+                 *
+                 * @param instrumentation               The instrumentation instance to use.
+                 * @param lambdaInstrumentationStrategy The lambda instrumentation strategy to use.
+                 * @param circularityLock               The circularity lock to use.
+                 * @param poolStrategy                  The pool strategy to use.
+                 * @param locationStrategy              The location strategy to use.
+                 * @param descriptionStrategy           The description strategy for resolving type descriptions for types.
+                 * @param fallbackStrategy              The fallback strategy to apply.
+                 * @param typeMatcher                   The type matcher to apply.
+                 * @param ignoredTypeMatcher            The ignored type matcher to apply.
+                 */
+                protected Candidates(Instrumentation instrumentation,
+                                     LambdaInstrumentationStrategy lambdaInstrumentationStrategy,
+                                     CircularityLock circularityLock,
+                                     PoolStrategy poolStrategy,
+                                     LocationStrategy locationStrategy,
+                                     DescriptionStrategy descriptionStrategy,
+                                     FallbackStrategy fallbackStrategy,
+                                     RawMatcher typeMatcher,
+                                     RawMatcher ignoredTypeMatcher) {
+                    this.instrumentation = instrumentation;
+                    this.lambdaInstrumentationStrategy = lambdaInstrumentationStrategy;
+                    this.circularityLock = circularityLock;
+                    this.poolStrategy = poolStrategy;
+                    this.locationStrategy = locationStrategy;
+                    this.descriptionStrategy = descriptionStrategy;
+                    this.fallbackStrategy = fallbackStrategy;
+                    this.typeMatcher = typeMatcher;
+                    this.ignoredTypeMatcher = ignoredTypeMatcher;
+                }
+
+                @Override
+                public Iterator<Candidate> iterator() {
+                    return new CandidateIterator(instrumentation.getAllLoadedClasses());
+                }
+
+                /**
+                 * An iterator that creates a candidate for every loaded type that is instrumented by the lambda instrumentation strategy.
+                 */
+                protected class CandidateIterator implements Iterator<Candidate> {
+
+                    /**
+                     * All loaded types.
+                     */
+                    private final Class<?>[] types;
+
+                    /**
+                     * The index of the next type to consider.
+                     */
+                    private int index;
+
+                    /**
+                     * Creates a new candidate iterator.
+                     *
+                     * @param types All loaded types.
+                     */
+                    protected CandidateIterator(Class<?>[] types) {
+                        this.types = types;
+                    }
+
+                    @Override
+                    public boolean hasNext() {
+                        while (index < types.length && !lambdaInstrumentationStrategy.isInstrumented(types[index])) {
+                            index++;
+                        }
+                        return index < types.length;
+                    }
+
+                    @Override
+                    public Candidate next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException("No more loaded types");
+                        }
+                        Class<?> type = types[index++];
+                        return new Candidate(circularityLock,
+                                poolStrategy,
+                                locationStrategy,
+                                descriptionStrategy,
+                                fallbackStrategy,
+                                typeMatcher,
+                                ignoredTypeMatcher,
+                                type,
+                                JavaModule.ofType(type),
+                                !instrumentation.isModifiableClass(type));
+                    }
+
+                    @Override
+                    public void remove() {
+                        throw new UnsupportedOperationException("remove");
+                    }
+                }
+            }
+
+            /**
+             * A candidate for a retransformation or redefinition of a loaded type. A candidate resolves the description of a
+             * loaded type and applies the type matchers when it is run what can be done concurrently for different candidates.
+             * The outcome of a candidate is applied to a collector subsequently on the thread that applies the redefinition
+             * such that any listener is notified sequentially and in the order of the candidates.
+             */
+            protected static class Candidate implements Runnable {
+
+                /**
+                 * The circularity lock to use.
+                 */
+                private final CircularityLock circularityLock;
+
+                /**
+                 * The pool strategy to use.
+                 */
+                private final PoolStrategy poolStrategy;
+
+                /**
+                 * The location strategy to use.
+                 */
+                private final LocationStrategy locationStrategy;
+
+                /**
+                 * The description strategy for resolving type descriptions for types.
+                 */
+                private final DescriptionStrategy descriptionStrategy;
+
+                /**
+                 * The fallback strategy to apply.
+                 */
+                private final FallbackStrategy fallbackStrategy;
+
+                /**
+                 * The type matcher to apply.
+                 */
+                private final RawMatcher typeMatcher;
+
+                /**
+                 * The ignored type matcher to apply.
+                 */
+                private final RawMatcher ignoredTypeMatcher;
+
+                /**
+                 * The loaded type being considered.
+                 */
+                private final Class<?> type;
+
+                /**
+                 * The type's Java module or {@code null} if the current VM does not support modules.
+                 */
+                private final JavaModule module;
+
+                /**
+                 * {@code true} if the type is not modifiable.
+                 */
+                private final boolean unmodifiable;
+
+                /**
+                 * The resolved type description or {@code null} if the type was not yet resolved or if the resolution failed.
+                 */
+                private TypeDescription typeDescription;
+
+                /**
+                 * The loaded type being considered or {@code null} if the type should be considered non-available.
+                 */
+                private Class<?> classBeingRedefined;
+
+                /**
+                 * {@code true} if the type was matched for a retransformation or redefinition.
+                 */
+                private boolean matched;
+
+                /**
+                 * The throwable that was thrown during the resolution or {@code null} if no throwable was thrown.
+                 */
+                private Throwable throwable;
+
+                /**
+                 * Creates a new candidate.
+                 *
+                 * @param circularityLock     The circularity lock to use.
+                 * @param poolStrategy        The pool strategy to use.
+                 * @param locationStrategy    The location strategy to use.
+                 * @param descriptionStrategy The description strategy for resolving type descriptions for types.
+                 * @param fallbackStrategy    The fallback strategy to apply.
+                 * @param typeMatcher         The type matcher to apply.
+                 * @param ignoredTypeMatcher  The ignored type matcher to apply.
+                 * @param type                The loaded type being considered.
+                 * @param module              The type's Java module or {@code null} if the current VM does not support modules.
+                 * @param unmodifiable        {@code true} if the type is not modifiable.
+                 */
+                protected Candidate(CircularityLock circularityLock,
+                                    PoolStrategy poolStrategy,
+                                    LocationStrategy locationStrategy,
+                                    DescriptionStrategy descriptionStrategy,
+                                    FallbackStrategy fallbackStrategy,
+                                    RawMatcher typeMatcher,
+                                    RawMatcher ignoredTypeMatcher,
+                                    Class<?> type,
+                                    JavaModule module,
+                                    boolean unmodifiable) {
+                    this.circularityLock = circularityLock;
+                    this.poolStrategy = poolStrategy;
+                    this.locationStrategy = locationStrategy;
+                    this.descriptionStrategy = descriptionStrategy;
+                    this.fallbackStrategy = fallbackStrategy;
+                    this.typeMatcher = typeMatcher;
+                    this.ignoredTypeMatcher = ignoredTypeMatcher;
+                    this.type = type;
+                    this.module = module;
+                    this.unmodifiable = unmodifiable;
+                }
+
+                @Override
+                public void run() {
+                    try {
+                        TypePool typePool = poolStrategy.typePool(locationStrategy.classFileLocator(type.getClassLoader(), module), type.getClassLoader());
+                        try {
+                            resolve(descriptionStrategy.apply(TypeDescription.ForLoadedType.getName(type), type, typePool, circularityLock, type.getClassLoader(), module),
+                                    type,
+                                    unmodifiable);
+                        } catch (Throwable throwable) {
+                            if (descriptionStrategy.isLoadedFirst() && fallbackStrategy.isFallback(type, throwable)) {
+                                resolve(typePool.describe(TypeDescription.ForLoadedType.getName(type)).resolve(), NO_LOADED_TYPE, false);
+                            } else {
+                                throw throwable;
+                            }
+                        }
+                    } catch (Throwable throwable) {
+                        typeDescription = null;
+                        this.throwable = throwable;
+                    }
+                }
+
+                /**
+                 * Resolves the matching of the considered type.
+                 *
+                 * @param typeDescription     The type description of the type being considered.
+                 * @param classBeingRedefined The loaded type being considered or {@code null} if it should be considered non-available.
+                 * @param unmodifiable        {@code true} if the current type should be considered unmodifiable.
+                 */
+                private void resolve(TypeDescription typeDescription, Class<?> classBeingRedefined, boolean unmodifiable) {
+                    this.typeDescription = typeDescription;
+                    this.classBeingRedefined = classBeingRedefined;
+                    matched = !unmodifiable
+                            && !ignoredTypeMatcher.matches(typeDescription, type.getClassLoader(), module, classBeingRedefined, type.getProtectionDomain())
+                            && typeMatcher.matches(typeDescription, type.getClassLoader(), module, classBeingRedefined, type.getProtectionDomain());
+                }
+
+                /**
+                 * Applies the outcome of this candidate to the supplied collector. This method must only be called after this candidate was run.
+                 *
+                 * @param collector The collector to apply this candidate to.
+                 * @param listener  The listener to notify.
+                 */
+                protected void apply(Collector collector, AgentBuilder.Listener listener) {
+                    if (typeDescription == null) {
+                        try {
+                            try {
+                                listener.onError(TypeDescription.ForLoadedType.getName(type), type.getClassLoader(), module, AgentBuilder.Listener.LOADED, throwable);
+                            } finally {
+                                listener.onComplete(TypeDescription.ForLoadedType.getName(type), type.getClassLoader(), module, AgentBuilder.Listener.LOADED);
+                            }
+                        } catch (Throwable ignored) {
+                            // Ignore exceptions that are thrown by listeners to mimic the behavior of a transformation.
+                        }
+                    } else {
+                        collector.consider(listener, typeDescription, type, classBeingRedefined, module, matched);
+                    }
+                }
+            }
+
             /**
              * A collector that applies a <b>redefinition</b> of already loaded classes.
              */
@@ -6722,6 +7943,11 @@ public interface AgentBuilder {
          */
         protected final RedefinitionStrategy.Listener redefinitionListener;
 
+        /**
+         * The matching strategy for the redefinition strategy to apply.
+         */
+        protected final RedefinitionStrategy.MatchingStrategy redefinitionMatchingStrategy;
+
         /**
          * The resubmission strategy to apply.
          */
@@ -6790,6 +8016,7 @@ public interface AgentBuilder {
                     RedefinitionStrategy.DISABLED,
                     RedefinitionStrategy.BatchAllocator.ForTotal.INSTANCE,
                     RedefinitionStrategy.Listener.NoOp.INSTANCE,
+                    RedefinitionStrategy.MatchingStrategy.Sequential.INSTANCE,
                     RedefinitionStrategy.ResubmissionStrategy.Disabled.INSTANCE,
                     BootstrapInjectionStrategy.Disabled.INSTANCE,
                     LambdaInstrumentationStrategy.DISABLED,
@@ -6815,6 +8042,7 @@ public interface AgentBuilder {
          * @param redefinitionStrategy             The redefinition strategy to apply.
          * @param redefinitionBatchAllocator       The batch allocator for the redefinition strategy to apply.
          * @param redefinitionListener             The redefinition listener for the redefinition strategy to apply.
+         * @param redefinitionMatchingStrategy     The matching strategy for the redefinition strategy to apply.
          * @param redefinitionResubmissionStrategy The resubmission strategy to apply.
          * @param bootstrapInjectionStrategy       The injection strategy for injecting classes into the bootstrap class loader.
          * @param lambdaInstrumentationStrategy    A strategy to determine of the {@code LambdaMetafactory} should be instrumented to allow for the
@@ -6836,6 +8064,7 @@ public interface AgentBuilder {
                           RedefinitionStrategy redefinitionStrategy,
                           RedefinitionStrategy.BatchAllocator redefinitionBatchAllocator,
                           RedefinitionStrategy.Listener redefinitionListener,
+                          RedefinitionStrategy.MatchingStrategy redefinitionMatchingStrategy,
                           RedefinitionStrategy.ResubmissionStrategy redefinitionResubmissionStrategy,
                           BootstrapInjectionStrategy bootstrapInjectionStrategy,
                           LambdaInstrumentationStrategy lambdaInstrumentationStrategy,
@@ -6855,6 +8084,7 @@ public interface AgentBuilder {
             this.redefinitionStrategy = redefinitionStrategy;
             this.redefinitionBatchAllocator = redefinitionBatchAllocator;
             this.redefinitionListener = redefinitionListener;
+            this.redefinitionMatchingStrategy = redefinitionMatchingStrategy;
             this.redefinitionResubmissionStrategy = redefinitionResubmissionStrategy;
             this.bootstrapInjectionStrategy = bootstrapInjectionStrategy;
             this.lambdaInstrumentationStrategy = lambdaInstrumentationStrategy;
@@ -6924,6 +8154,7 @@ public interface AgentBuilder {
                     redefinitionStrategy,
                     redefinitionBatchAllocator,
                     redefinitionListener,
+                    redefinitionMatchingStrategy,
                     redefinitionResubmissionStrategy,
                     bootstrapInjectionStrategy,
                     lambdaInstrumentationStrategy,
@@ -6947,6 +8178,7 @@ public interface AgentBuilder {
                     redefinitionStrategy,
                     redefinitionBatchAllocator,
                     redefinitionListener,
+                    redefinitionMatchingStrategy,
                     redefinitionResubmissionStrategy,
                     bootstrapInjectionStrategy,
                     lambdaInstrumentationStrategy,
@@ -6970,6 +8202,7 @@ public interface AgentBuilder {
                     redefinitionStrategy,
                     redefinitionBatchAllocator,
                     redefinitionListener,
+                    redefinitionMatchingStrategy,
                     redefinitionResubmissionStrategy,
                     bootstrapInjectionStrategy,
                     lambdaInstrumentationStrategy,
@@ -6993,6 +8226,7 @@ public interface AgentBuilder {
                     redefinitionStrategy,
                     redefinitionBatchAllocator,
                     redefinitionListener,
+                    redefinitionMatchingStrategy,
                     redefinitionResubmissionStrategy,
                     bootstrapInjectionStrategy,
                     lambdaInstrumentationStrategy,
@@ -7016,6 +8250,7 @@ public interface AgentBuilder {
                     redefinitionStrategy,
                     redefinitionBatchAllocator,
                     redefinitionListener,
+                    redefinitionMatchingStrategy,
                     redefinitionResubmissionStrategy,
                     bootstrapInjectionStrategy,
                     lambdaInstrumentationStrategy,
@@ -7039,6 +8274,7 @@ public interface AgentBuilder {
                     redefinitionStrategy,
                     redefinitionBatchAllocator,
                     redefinitionListener,
+                    redefinitionMatchingStrategy,
                     redefinitionResubmissionStrategy,
                     bootstrapInjectionStrategy,
                     lambdaInstrumentationStrategy,
@@ -7062,6 +8298,7 @@ public interface AgentBuilder {
                     redefinitionStrategy,
                     redefinitionBatchAllocator,
                     redefinitionListener,
+                    redefinitionMatchingStrategy,
                     redefinitionResubmissionStrategy,
                     bootstrapInjectionStrategy,
                     lambdaInstrumentationStrategy,
@@ -7085,6 +8322,7 @@ public interface AgentBuilder {
                     redefinitionStrategy,
                     redefinitionBatchAllocator,
                     redefinitionListener,
+                    redefinitionMatchingStrategy,
                     redefinitionResubmissionStrategy,
                     bootstrapInjectionStrategy,
                     lambdaInstrumentationStrategy,
@@ -7108,6 +8346,7 @@ public interface AgentBuilder {
                     redefinitionStrategy,
                     RedefinitionStrategy.BatchAllocator.ForTotal.INSTANCE,
                     RedefinitionStrategy.Listener.NoOp.INSTANCE,
+                    RedefinitionStrategy.MatchingStrategy.Sequential.INSTANCE,
                     RedefinitionStrategy.ResubmissionStrategy.Disabled.INSTANCE,
                     bootstrapInjectionStrategy,
                     lambdaInstrumentationStrategy,
@@ -7131,6 +8370,7 @@ public interface AgentBuilder {
                     redefinitionStrategy,
                     redefinitionBatchAllocator,
                     redefinitionListener,
+                    redefinitionMatchingStrategy,
                     redefinitionResubmissionStrategy,
                     bootstrapInjectionStrategy,
                     lambdaInstrumentationStrategy,
@@ -7154,6 +8394,7 @@ public interface AgentBuilder {
                     redefinitionStrategy,
                     redefinitionBatchAllocator,
                     redefinitionListener,
+                    redefinitionMatchingStrategy,
                     redefinitionResubmissionStrategy,
                     bootstrapInjectionStrategy,
                     lambdaInstrumentationStrategy,
@@ -7177,6 +8418,7 @@ public interface AgentBuilder {
                     redefinitionStrategy,
                     redefinitionBatchAllocator,
                     redefinitionListener,
+                    redefinitionMatchingStrategy,
                     redefinitionResubmissionStrategy,
                     bootstrapInjectionStrategy,
                     lambdaInstrumentationStrategy,
@@ -7200,6 +8442,7 @@ public interface AgentBuilder {
                     redefinitionStrategy,
                     redefinitionBatchAllocator,
                     redefinitionListener,
+                    redefinitionMatchingStrategy,
                     redefinitionResubmissionStrategy,
                     bootstrapInjectionStrategy,
                     lambdaInstrumentationStrategy,
@@ -7223,6 +8466,7 @@ public interface AgentBuilder {
                     redefinitionStrategy,
                     redefinitionBatchAllocator,
                     redefinitionListener,
+                    redefinitionMatchingStrategy,
                     redefinitionResubmissionStrategy,
                     bootstrapInjectionStrategy,
                     lambdaInstrumentationStrategy,
@@ -7246,6 +8490,7 @@ public interface AgentBuilder {
                     redefinitionStrategy,
                     redefinitionBatchAllocator,
                     redefinitionListener,
+                    redefinitionMatchingStrategy,
                     redefinitionResubmissionStrategy,
                     new BootstrapInjectionStrategy.Enabled(folder, instrumentation),
                     lambdaInstrumentationStrategy,
@@ -7269,6 +8514,7 @@ public interface AgentBuilder {
                     redefinitionStrategy,
                     redefinitionBatchAllocator,
                     redefinitionListener,
+                    redefinitionMatchingStrategy,
                     redefinitionResubmissionStrategy,
                     BootstrapInjectionStrategy.Unsafe.INSTANCE,
                     lambdaInstrumentationStrategy,
@@ -7292,6 +8538,7 @@ public interface AgentBuilder {
                     redefinitionStrategy,
                     redefinitionBatchAllocator,
                     redefinitionListener,
+                    redefinitionMatchingStrategy,
                     redefinitionResubmissionStrategy,
                     BootstrapInjectionStrategy.Disabled.INSTANCE,
                     lambdaInstrumentationStrategy,
@@ -7315,6 +8562,7 @@ public interface AgentBuilder {
                     redefinitionStrategy,
                     redefinitionBatchAllocator,
                     redefinitionListener,
+                    redefinitionMatchingStrategy,
                     redefinitionResubmissionStrategy,
                     bootstrapInjectionStrategy,
                     lambdaInstrumentationStrategy,
@@ -7460,6 +8708,7 @@ public interface AgentBuilder {
                                 locationStrategy,
                                 redefinitionBatchAllocator,
                                 redefinitionListener,
+                                redefinitionMatchingStrategy,
                                 lambdaInstrumentationStrategy,
                                 descriptionStrategy,
                                 fallbackStrategy,
@@ -8444,7 +9693,7 @@ public interface AgentBuilder {
                     ClassFileLocator classFileLocator = ClassFileLocator.Simple.of(typeName,
                             binaryRepresentation,
                             locationStrategy.classFileLocator(classLoader, module));
-                    TypePool typePool = poolStrategy.typePool(classFileLocator, classLoader);
+                    Deferred typePool = new Deferred(poolStrategy, classFileLocator, classLoader, typeName);
                     try {
                         return doTransform(module, classLoader, typeName, classBeingRedefined, classBeingRedefined != null, protectionDomain, typePool, classFileLocator);
                     } catch (Throwable throwable) {
@@ -8471,7 +9720,7 @@ public interface AgentBuilder {
              * @param classBeingRedefined The loaded {@link Class} being redefined or {@code null} if no such class exists.
              * @param loaded              {@code true} if the instrumented type is loaded.
              * @param protectionDomain    The instrumented type's protection domain.
-             * @param typePool            The type pool to use.
+             * @param typePool            The deferred type pool to use.
              * @param classFileLocator    The class file locator to use.
              * @return The transformed class file or an empty byte array if this transformer does not apply an instrumentation.
              */
@@ -8481,7 +9730,7 @@ public interface AgentBuilder {
                                        Class<?> classBeingRedefined,
                                        boolean loaded,
                                        ProtectionDomain protectionDomain,
-                                       TypePool typePool,
+                                       Deferred typePool,
                                        ClassFileLocator classFileLocator) {
                 return resolve(module, classLoader, typeName, classBeingRedefined, loaded, protectionDomain, typePool).apply(initializationStrategy,
                         classFileLocator,
@@ -8495,7 +9744,9 @@ public interface AgentBuilder {
 
 
             /**
-             * Resolves the transformation and assures it is not ignored.
+             * Resolves the transformation and assures it is not ignored. The instrumented type is described lazily such that the ignored type
+             * matcher is applied without requesting a type pool and such that neither matcher parses a class file if a type's name, its class
+             * loader or its module suffice for a decision.
              *
              * @param module              The instrumented class's Java module in its wrapped form or {@code null} if the current VM does not support modules.
              * @param classLoader         The instrumented class's class loader.
@@ -8503,7 +9754,7 @@ public interface AgentBuilder {
              * @param classBeingRedefined The loaded {@link Class} being redefined or {@code null} if no such class exists.
              * @param loaded              {@code true} if the instrumented type is loaded.
              * @param protectionDomain    The instrumented type's protection domain.
-             * @param typePool            The type pool to use.
+             * @param typePool            The deferred type pool to use.
              * @return The resolution for the transformation.
              */
             private Transformation.Resolution resolve(JavaModule module,
@@ -8512,11 +9763,16 @@ public interface AgentBuilder {
                                                       Class<?> classBeingRedefined,
                                                       boolean loaded,
                                                       ProtectionDomain protectionDomain,
-                                                      TypePool typePool) {
-                TypeDescription typeDescription = descriptionStrategy.apply(typeName, classBeingRedefined, typePool, circularityLock, classLoader, module);
+                                                      Deferred typePool) {
+                TypeDescription typeDescription = descriptionStrategy.apply(typeName,
+                        classBeingRedefined,
+                        new TypePool.LazyFacade(typePool),
+                        circularityLock,
+                        classLoader,
+                        module);
                 return ignoredTypeMatcher.matches(typeDescription, classLoader, module, classBeingRedefined, protectionDomain)
                         ? new Transformation.Resolution.Unresolved(typeDescription, classLoader, module, loaded)
-                        : transformation.resolve(typeDescription, classLoader, module, classBeingRedefined, loaded, protectionDomain, typePool);
+                        : transformation.resolve(typeDescription, classLoader, module, classBeingRedefined, loaded, protectionDomain, typePool.resolve());
             }
 
             @Override
@@ -8532,6 +9788,7 @@ public interface AgentBuilder {
                             locationStrategy,
                             redefinitionBatchAllocator,
                             redefinitionListener,
+                            RedefinitionStrategy.MatchingStrategy.Sequential.INSTANCE,
                             lambdaInstrumentationStrategy,
                             descriptionStrategy,
                             fallbackStrategy,
@@ -8545,6 +9802,80 @@ public interface AgentBuilder {
 
             /* does not implement hashCode and equals in order to align with identity treatment of the JVM */
 
+            /**
+             * A type pool that only requests a type pool from a {@link PoolStrategy} once a type is described. Combined with a
+             * {@link TypePool.LazyFacade}, this allows to apply matchers that only consider a type's name, its class loader or
+             * its module without creating a type pool or parsing a class file.
+             */
+            protected static class Deferred implements TypePool {
+
+                /**
+                 * The pool strategy to use.
+                 */
+                private final PoolStrategy poolStrategy;
+
+                /**
+                 * The class file locator to use.
+                 */
+                private final ClassFileLocator classFileLocator;
+
+                /**
+                 * The class loader of the instrumented type.
+                 */
+                private final ClassLoader classLoader;
+
+                /**
+                 * The binary name of the instrumented type.
+                 */
+                private final String typeName;
+
+                /**
+                 * The type pool that was requested from the pool strategy or {@code null} if no type pool was requested yet.
+                 */
+                private TypePool typePool;
+
+                /**
+                 * Creates a new deferred type pool.
+                 *
+                 * @param poolStrategy     The pool strategy to use.
+                 * @param classFileLocator The class file locator to use.
+                 * @param classLoader      The class loader of the instrumented type.
+                 * @param typeName         The binary name of the instrumented type.
+                 */
+                protected Deferred(PoolStrategy poolStrategy, ClassFileLocator classFileLocator, ClassLoader classLoader, String typeName) {
+                    this.poolStrategy = poolStrategy;
+                    this.classFileLocator = classFileLocator;
+                    this.classLoader = classLoader;
+                    this.typeName = typeName;
+                }
+
+                /**
+                 * Returns the type pool of the pool strategy and requests it if it was not requested yet.
+                 *
+                 * @return The type pool to delegate to.
+                 */
+                protected TypePool resolve() {
+                    if (typePool == null) {
+                        typePool = poolStrategy instanceof PoolStrategy.ForTransformedType
+                                ? ((PoolStrategy.ForTransformedType) poolStrategy).typePool(classFileLocator, classLoader, typeName)
+                                : poolStrategy.typePool(classFileLocator, classLoader);
+                    }
+                    return typePool;
+                }
+
+                @Override
+                public Resolution describe(String name) {
+                    return resolve().describe(name);
+                }
+
+                @Override
+                public void clear() {
+                    if (typePool != null) {
+                        typePool.clear();
+                    }
+                }
+            }
+
             /**
              * A factory for creating a {@link ClassFileTransformer} for the current VM.
              */
@@ -9168,6 +10499,7 @@ public interface AgentBuilder {
                         redefinitionStrategy,
                         redefinitionBatchAllocator,
                         redefinitionListener,
+                        redefinitionMatchingStrategy,
                         redefinitionResubmissionStrategy,
                         bootstrapInjectionStrategy,
                         lambdaInstrumentationStrategy,
@@ -9231,6 +10563,7 @@ public interface AgentBuilder {
              * @param redefinitionStrategy             The redefinition strategy to apply.
              * @param redefinitionBatchAllocator       The batch allocator for the redefinition strategy to apply.
              * @param redefinitionListener             The redefinition listener for the redefinition strategy to apply.
+             * @param redefinitionMatchingStrategy     The matching strategy for the redefinition strategy to apply.
              * @param redefinitionResubmissionStrategy The resubmission strategy to apply.
              * @param bootstrapInjectionStrategy       The injection strategy for injecting classes into the bootstrap class loader.
              * @param lambdaInstrumentationStrategy    A strategy to determine of the {@code LambdaMetafactory} should be instrumented to allow for the
@@ -9252,6 +10585,7 @@ public interface AgentBuilder {
                                  RedefinitionStrategy redefinitionStrategy,
                                  RedefinitionStrategy.BatchAllocator redefinitionBatchAllocator,
                                  RedefinitionStrategy.Listener redefinitionListener,
+                                 RedefinitionStrategy.MatchingStrategy redefinitionMatchingStrategy,
                                  RedefinitionStrategy.ResubmissionStrategy redefinitionResubmissionStrategy,
                                  BootstrapInjectionStrategy bootstrapInjectionStrategy,
                                  LambdaInstrumentationStrategy lambdaInstrumentationStrategy,
@@ -9271,6 +10605,7 @@ public interface AgentBuilder {
                         redefinitionStrategy,
                         redefinitionBatchAllocator,
                         redefinitionListener,
+                        redefinitionMatchingStrategy,
                         redefinitionResubmissionStrategy,
                         bootstrapInjectionStrategy,
                         lambdaInstrumentationStrategy,
@@ -9297,6 +10632,7 @@ public interface AgentBuilder {
                         redefinitionStrategy,
                         redefinitionBatchAllocator,
                         redefinitionListener,
+                        redefinitionMatchingStrategy,
                         redefinitionResubmissionStrategy,
                         bootstrapInjectionStrategy,
                         lambdaInstrumentationStrategy,
@@ -9323,6 +10659,34 @@ public interface AgentBuilder {
                         redefinitionStrategy,
                         redefinitionBatchAllocator,
                         new RedefinitionStrategy.Listener.Compound(this.redefinitionListener, redefinitionListener),
+                        redefinitionMatchingStrategy,
+                        redefinitionResubmissionStrategy,
+                        bootstrapInjectionStrategy,
+                        lambdaInstrumentationStrategy,
+                        descriptionStrategy,
+                        installationStrategy,
+                        fallbackStrategy,
+                        ignoredTypeMatcher,
+                        transformation);
+            }
+
+            @Override
+            public RedefinitionListenable with(RedefinitionStrategy.MatchingStrategy redefinitionMatchingStrategy) {
+                if (!redefinitionStrategy.isEnabled()) {
+                    throw new IllegalStateException("Cannot set redefinition matching strategy when redefinition is disabled");
+                }
+                return new Redefining(byteBuddy,
+                        listener,
+                        circularityLock,
+                        poolStrategy,
+                        typeStrategy,
+                        locationStrategy,
+                        nativeMethodStrategy,
+                        initializationStrategy,
+                        redefinitionStrategy,
+                        redefinitionBatchAllocator,
+                        redefinitionListener,
+                        redefinitionMatchingStrategy,
                         redefinitionResubmissionStrategy,
                         bootstrapInjectionStrategy,
                         lambdaInstrumentationStrategy,
@@ -9340,6 +10704,13 @@ public interface AgentBuilder {
 
             @Override
             public AgentBuilder withResubmission(RedefinitionStrategy.ResubmissionScheduler resubmissionScheduler, ElementMatcher<? super Throwable> matcher) {
+                return withResubmission(resubmissionScheduler, matcher, RedefinitionStrategy.ResubmissionPolicy.UNBOUNDED);
+            }
+
+            @Override
+            public AgentBuilder withResubmission(RedefinitionStrategy.ResubmissionScheduler resubmissionScheduler,
+                                                 ElementMatcher<? super Throwable> matcher,
+                                                 RedefinitionStrategy.ResubmissionPolicy resubmissionPolicy) {
                 if (!redefinitionStrategy.isEnabled()) {
                     throw new IllegalStateException("Cannot enable redefinition resubmission when redefinition is disabled");
                 }
@@ -9354,7 +10725,8 @@ public interface AgentBuilder {
                         redefinitionStrategy,
                         redefinitionBatchAllocator,
                         redefinitionListener,
-                        new RedefinitionStrategy.ResubmissionStrategy.Enabled(resubmissionScheduler, matcher),
+                        redefinitionMatchingStrategy,
+                        new RedefinitionStrategy.ResubmissionStrategy.Enabled(resubmissionScheduler, matcher, resubmissionPolicy),
                         bootstrapInjectionStrategy,
                         lambdaInstrumentationStrategy,
                         descriptionStrategy,
@@ -9413,6 +10785,7 @@ public interface AgentBuilder {
                         redefinitionStrategy,
                         redefinitionBatchAllocator,
                         redefinitionListener,
+                        redefinitionMatchingStrategy,
                         redefinitionResubmissionStrategy,
                         bootstrapInjectionStrategy,
                         lambdaInstrumentationStrategy,
@@ -0,0 +1,502 @@
+package net.bytebuddy.build;
+
+import net.bytebuddy.description.type.TypeDefinition;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.utility.StreamDrainer;
+
+import java.io.*;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * <p>
+ * An index of class files that were processed by a build tool. The index records a hash of every class file within a
+ * build's output directory after the transformation was applied together with the class files of the processed type's
+ * direct and indirect super types that are located in the same output directory. If neither a class file nor any of its super types' class
+ * files changed since the index was written and if the transformation's fingerprint is unchanged, it is not necessary
+ * to transform this class file again.
+ * </p>
+ * <p>
+ * <b>Important</b>: This index is not thread-safe.
+ * </p>
+ */
+public class IncrementalIndex {
+
+    /**
+     * The file extension of a Java class file.
+     */
+    private static final String CLASS_FILE_EXTENSION = ".class";
+
+    /**
+     * The algorithm that is used for computing hashes.
+     */
+    private static final String ALGORITHM = "SHA-1";
+
+    /**
+     * The charset that is used for reading and writing an index.
+     */
+    private static final String CHARSET = "UTF-8";
+
+    /**
+     * The separator between the elements of an index line.
+     */
+    private static final char SEPARATOR = '\t';
+
+    /**
+     * The separator between the dependencies of an index line.
+     */
+    private static final char DEPENDENCY_SEPARATOR = ',';
+
+    /**
+     * A hash of the fingerprint of the transformation that is represented by this index.
+     */
+    private final String fingerprint;
+
+    /**
+     * The entries of the previously written index by the relative path of their class file.
+     */
+    private final Map<String, Entry> entries;
+
+    /**
+     * The hashes of all class files in their state before the transformation by their relative path.
+     */
+    private final Map<String, String> hashes;
+
+    /**
+     * The dependencies of all processed class files by their relative path.
+     */
+    private final Map<String, List<String>> dependencies;
+
+    /**
+     * Creates a new incremental index.
+     *
+     * @param fingerprint A hash of the fingerprint of the transformation that is represented by this index.
+     * @param entries     The entries of the previously written index by the relative path of their class file.
+     */
+    protected IncrementalIndex(String fingerprint, Map<String, Entry> entries) {
+        this.fingerprint = fingerprint;
+        this.entries = entries;
+        hashes = new HashMap<String, String>();
+        dependencies = new HashMap<String, List<String>>();
+    }
+
+    /**
+     * Reads an incremental index. If the index file does not exist, is malformed or if it was written for a
+     * transformation with a different fingerprint, an empty index is returned.
+     *
+     * @param file        The file containing the index.
+     * @param fingerprint A fingerprint that uniquely identifies the transformation's configuration.
+     * @return The incremental index that is represented by the supplied file.
+     * @throws IOException If an I/O exception occurs.
+     */
+    public static IncrementalIndex read(File file, String fingerprint) throws IOException {
+        String hash;
+        try {
+            hash = hash(fingerprint.getBytes(CHARSET));
+        } catch (UnsupportedEncodingException exception) {
+            throw new IllegalStateException("Could not find charset: " + CHARSET, exception);
+        }
+        if (!file.isFile()) {
+            return new IncrementalIndex(hash, Collections.<String, Entry>emptyMap());
+        }
+        BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), CHARSET));
+        try {
+            if (!hash.equals(reader.readLine())) {
+                return new IncrementalIndex(hash, Collections.<String, Entry>emptyMap());
+            }
+            Map<String, Entry> entries = new HashMap<String, Entry>();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] element = line.split(String.valueOf(SEPARATOR), -1);
+                if (element.length != 3) {
+                    return new IncrementalIndex(hash, Collections.<String, Entry>emptyMap());
+                }
+                entries.put(element[0], new Entry(element[1], element[2].length() == 0
+                        ? Collections.<String>emptyList()
+                        : Arrays.asList(element[2].split(String.valueOf(DEPENDENCY_SEPARATOR)))));
+            }
+            return new IncrementalIndex(hash, entries);
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * Computes a fingerprint of a transformation's configuration. If the fingerprint changes, all class files are
+     * transformed, even if an incremental index exists. Besides the names of the entry point and the plugins, the fingerprint
+     * contains a checksum of the artifacts that define these types such that a new version of a plugin invalidates the index.
+     * The root directory of the processed class files is never included in the fingerprint as the transformation alters its
+     * content. For a type that is defined within this directory, only the type's class file is considered.
+     *
+     * @param entryPoint The transformation's entry point.
+     * @param plugins    The plugins to apply.
+     * @param root       The root directory of the processed class files.
+     * @param classPath  The class path elements expected by the processed classes.
+     * @param properties Any additional properties of the transformation's configuration.
+     * @return A fingerprint of the transformation's configuration.
+     * @throws IOException If an I/O exception occurs.
+     */
+    public static String fingerprint(EntryPoint entryPoint,
+                                     List<? extends Plugin> plugins,
+                                     File root,
+                                     Iterable<? extends File> classPath,
+                                     Object... properties) throws IOException {
+        File excluded = root.getCanonicalFile();
+        StringBuilder stringBuilder = new StringBuilder()
+                .append(entryPoint.getClass().getName())
+                .append(entryPoint instanceof Enum<?> ? ((Enum<?>) entryPoint).name() : "")
+                .append(':').append(checksum(entryPoint.getClass(), excluded));
+        for (Object property : properties) {
+            stringBuilder.append('\n').append(property);
+        }
+        for (Plugin plugin : plugins) {
+            stringBuilder.append('\n').append(plugin.getClass().getName()).append(':').append(checksum(plugin.getClass(), excluded));
+        }
+        for (File artifact : classPath) {
+            if (!isContained(artifact, excluded)) {
+                stringBuilder.append('\n').append(artifact).append(':').append(artifact.length()).append(':').append(artifact.lastModified());
+            }
+        }
+        return stringBuilder.toString();
+    }
+
+    /**
+     * Checks if a file is the excluded root directory or if it is located within this directory.
+     *
+     * @param file     The file to check.
+     * @param excluded The canonical file of the excluded root directory.
+     * @return {@code true} if the supplied file is the excluded directory or is located within it.
+     * @throws IOException If an I/O exception occurs.
+     */
+    private static boolean isContained(File file, File excluded) throws IOException {
+        for (File current = file.getCanonicalFile(); current != null; current = current.getParentFile()) {
+            if (current.equals(excluded)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Computes a checksum of the artifact that defines the supplied type. For a jar file, the checksum is a hash of the file.
+     * For a folder, the checksum is composed of the size and the modification time of all contained files except for those
+     * within the excluded root directory. If the folder is itself located in the excluded root directory, the checksum is
+     * a hash of the type's class file.
+     *
+     * @param type     The type for which to compute a checksum of its defining artifact.
+     * @param excluded The canonical file of the root directory of the processed class files.
+     * @return A checksum of the defining artifact or an empty string if this artifact cannot be located.
+     * @throws IOException If an I/O exception occurs.
+     */
+    private static String checksum(Class<?> type, File excluded) throws IOException {
+        CodeSource codeSource = type.getProtectionDomain().getCodeSource();
+        URL location = codeSource == null
+                ? null
+                : codeSource.getLocation();
+        if (location == null || !location.getProtocol().equals("file")) {
+            return "";
+        }
+        File artifact;
+        try {
+            artifact = new File(location.toURI());
+        } catch (URISyntaxException ignored) {
+            return location.toString();
+        } catch (IllegalArgumentException ignored) {
+            return location.toString();
+        }
+        if (artifact.isFile()) {
+            InputStream inputStream = new FileInputStream(artifact);
+            try {
+                return hash(StreamDrainer.DEFAULT.drain(inputStream, artifact.length()));
+            } finally {
+                inputStream.close();
+            }
+        } else if (isContained(artifact, excluded)) {
+            return String.valueOf(hash(artifact, type.getName().replace('.', '/') + CLASS_FILE_EXTENSION));
+        } else {
+            StringBuilder stringBuilder = new StringBuilder();
+            checksum(artifact, artifact, excluded, stringBuilder);
+            return stringBuilder.toString();
+        }
+    }
+
+    /**
+     * Appends the size and the modification time of all files of a folder to a checksum. The excluded root directory
+     * is not traversed.
+     *
+     * @param root          The root folder of the artifact.
+     * @param folder        The currently processed folder.
+     * @param excluded      The canonical file of the root directory of the processed class files.
+     * @param stringBuilder The string builder to append the checksum to.
+     * @throws IOException If an I/O exception occurs.
+     */
+    private static void checksum(File root, File folder, File excluded, StringBuilder stringBuilder) throws IOException {
+        File[] file = folder.listFiles();
+        if (file != null) {
+            Arrays.sort(file);
+            for (File aFile : file) {
+                if (aFile.isDirectory()) {
+                    if (!aFile.getCanonicalFile().equals(excluded)) {
+                        checksum(root, aFile, excluded, stringBuilder);
+                    }
+                } else {
+                    stringBuilder.append(aFile.getAbsolutePath().substring(root.getAbsolutePath().length()))
+                            .append('/').append(aFile.length())
+                            .append('/').append(aFile.lastModified())
+                            .append(';');
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes a hash of the supplied binary representation.
+     *
+     * @param binaryRepresentation The binary representation to hash.
+     * @return A hexadecimal representation of the computed hash.
+     */
+    private static String hash(byte[] binaryRepresentation) {
+        MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("Could not find algorithm: " + ALGORITHM, exception);
+        }
+        byte[] digest = messageDigest.digest(binaryRepresentation);
+        StringBuilder stringBuilder = new StringBuilder(digest.length * 2);
+        for (byte aDigest : digest) {
+            stringBuilder.append(Character.forDigit((aDigest >> 4) & 0xF, 16)).append(Character.forDigit(aDigest & 0xF, 16));
+        }
+        return stringBuilder.toString();
+    }
+
+    /**
+     * Computes a hash of a class file.
+     *
+     * @param root The root directory of the class file.
+     * @param file The relative path of the class file.
+     * @return A hash of the class file or {@code null} if the file does not exist.
+     * @throws IOException If an I/O exception occurs.
+     */
+    private static String hash(File root, String file) throws IOException {
+        File classFile = new File(root, file);
+        if (!classFile.isFile()) {
+            return null;
+        }
+        InputStream inputStream = new FileInputStream(classFile);
+        try {
+            return hash(StreamDrainer.DEFAULT.drain(inputStream, classFile.length()));
+        } finally {
+            inputStream.close();
+        }
+    }
+
+    /**
+     * Returns the hash of a class file in its current state where the hash of any file is only computed once.
+     *
+     * @param root The root directory of the class file.
+     * @param file The relative path of the class file.
+     * @return A hash of the class file or {@code null} if the file does not exist.
+     * @throws IOException If an I/O exception occurs.
+     */
+    private String current(File root, String file) throws IOException {
+        if (hashes.containsKey(file)) {
+            return hashes.get(file);
+        }
+        String hash = hash(root, file);
+        hashes.put(file, hash);
+        return hash;
+    }
+
+    /**
+     * Filters the supplied class files for those class files that need to be processed. A class file needs to be processed
+     * if this index does not contain a matching entry or if any of the class files of its super types changed. This method
+     * must be invoked before any class file is changed.
+     *
+     * @param root  The root directory of the class files.
+     * @param files The relative paths of all class files within the root directory.
+     * @return The relative paths of all class files that need to be processed.
+     * @throws IOException If an I/O exception occurs.
+     */
+    public List<String> filter(File root, List<String> files) throws IOException {
+        List<String> filtered = new ArrayList<String>(files.size());
+        for (String file : files) {
+            if (!isUnchanged(root, file)) {
+                filtered.add(file);
+            }
+        }
+        return filtered;
+    }
+
+    /**
+     * Checks if a class file and all class files of its super types remained unchanged since this index was written.
+     *
+     * @param root The root directory of the class file.
+     * @param file The relative path of the class file.
+     * @return {@code true} if the class file does not need to be processed.
+     * @throws IOException If an I/O exception occurs.
+     */
+    private boolean isUnchanged(File root, String file) throws IOException {
+        Entry entry = entries.get(file);
+        if (entry == null || !entry.getHash().equals(current(root, file))) {
+            return false;
+        }
+        for (String dependency : entry.getDependencies()) {
+            Entry dependencyEntry = entries.get(dependency);
+            if (dependencyEntry == null || !dependencyEntry.getHash().equals(current(root, dependency))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Registers a processed class file together with the class files of all of its direct and indirect super types that are
+     * located in the same root directory.
+     *
+     * @param root            The root directory of the class file.
+     * @param file            The relative path of the class file.
+     * @param typeDescription A description of the type that is represented by the class file.
+     */
+    public void register(File root, String file, TypeDescription typeDescription) {
+        Set<String> dependencies = new LinkedHashSet<String>();
+        register(root, typeDescription, dependencies);
+        this.dependencies.put(file, new ArrayList<String>(dependencies));
+    }
+
+    /**
+     * Registers the super class and the interfaces of a type as dependencies.
+     *
+     * @param root           The root directory of the processed class files.
+     * @param typeDefinition The type whose super types to register.
+     * @param dependencies   The set of dependencies to add the super types' class files to.
+     */
+    private static void register(File root, TypeDefinition typeDefinition, Set<String> dependencies) {
+        TypeDescription.Generic superClass = typeDefinition.getSuperClass();
+        if (superClass != null) {
+            registerSuperType(root, superClass.asErasure(), dependencies);
+        }
+        for (TypeDescription interfaceType : typeDefinition.getInterfaces().asErasures()) {
+            registerSuperType(root, interfaceType, dependencies);
+        }
+    }
+
+    /**
+     * Registers a super type as a dependency if its class file is located in the supplied root directory and continues
+     * with the super type's own super types. A type outside of the root directory cannot inherit from a type within it
+     * such that the hierarchy is not traversed any further once it leaves the root directory.
+     *
+     * @param root            The root directory of the processed class files.
+     * @param typeDescription The super type to register.
+     * @param dependencies    The set of dependencies to add the super type's class file to.
+     */
+    private static void registerSuperType(File root, TypeDescription typeDescription, Set<String> dependencies) {
+        String file = typeDescription.getInternalName() + CLASS_FILE_EXTENSION;
+        if (new File(root, file).isFile() && dependencies.add(file)) {
+            register(root, typeDescription, dependencies);
+        }
+    }
+
+    /**
+     * Writes this index after all class files were processed. Any class file that was not registered as processed
+     * retains its previous entry.
+     *
+     * @param root   The root directory of the class files.
+     * @param files  The relative paths of all class files within the root directory.
+     * @param target The file to write the index to.
+     * @throws IOException If an I/O exception occurs.
+     */
+    public void write(File root, List<String> files, File target) throws IOException {
+        File parent = target.getParentFile();
+        if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+            throw new IOException("Could not create directory: " + parent);
+        }
+        Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(target), CHARSET));
+        try {
+            writer.write(fingerprint);
+            writer.write('\n');
+            for (String file : files) {
+                String hash;
+                List<String> dependencies = this.dependencies.get(file);
+                if (dependencies == null) {
+                    Entry entry = entries.get(file);
+                    if (entry == null) {
+                        continue;
+                    }
+                    hash = entry.getHash();
+                    dependencies = entry.getDependencies();
+                } else {
+                    hash = hash(root, file);
+                    if (hash == null) {
+                        continue;
+                    }
+                }
+                writer.write(file);
+                writer.write(SEPARATOR);
+                writer.write(hash);
+                writer.write(SEPARATOR);
+                boolean first = true;
+                for (String dependency : dependencies) {
+                    if (first) {
+                        first = false;
+                    } else {
+                        writer.write(DEPENDENCY_SEPARATOR);
+                    }
+                    writer.write(dependency);
+                }
+                writer.write('\n');
+            }
+        } finally {
+            writer.close();
+        }
+    }
+
+    /**
+     * An entry of an incremental index.
+     */
+    protected static class Entry {
+
+        /**
+         * The hash of the class file after it was processed.
+         */
+        private final String hash;
+
+        /**
+         * The relative paths of the class files of the type's super types that are located in the same root directory.
+         */
+        private final List<String> dependencies;
+
+        /**
+         * Creates a new entry.
+         *
+         * @param hash         The hash of the class file after it was processed.
+         * @param dependencies The relative paths of the class files of the type's super types that are located in the same root directory.
+         */
+        protected Entry(String hash, List<String> dependencies) {
+            this.hash = hash;
+            this.dependencies = dependencies;
+        }
+
+        /**
+         * Returns the hash of the class file after it was processed.
+         *
+         * @return The hash of the class file after it was processed.
+         */
+        protected String getHash() {
+            return hash;
+        }
+
+        /**
+         * Returns the relative paths of the class files of the type's super types that are located in the same root directory.
+         *
+         * @return The relative paths of the class files of the type's super types that are located in the same root directory.
+         */
+        protected List<String> getDependencies() {
+            return dependencies;
+        }
+    }
+}
@@ -20,6 +20,8 @@ import net.bytebuddy.implementation.bytecode.StackSize;
 import net.bytebuddy.matcher.ElementMatcher;
 import net.bytebuddy.utility.CompoundList;
 import net.bytebuddy.utility.JavaType;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 import org.objectweb.asm.signature.SignatureVisitor;
@@ -32,6 +34,9 @@ import java.lang.reflect.*;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static net.bytebuddy.matcher.ElementMatchers.is;
 
@@ -44,22 +49,22 @@ public interface TypeDescription extends TypeDefinition, ByteCodeElement, TypeVa
     /**
      * A representation of the {@link java.lang.Object} type.
      */
-    TypeDescription OBJECT = new ForLoadedType(Object.class);
+    TypeDescription OBJECT = ForLoadedType.of(Object.class);
 
     /**
      * A representation of the {@link java.lang.String} type.
      */
-    TypeDescription STRING = new ForLoadedType(String.class);
+    TypeDescription STRING = ForLoadedType.of(String.class);
 
     /**
      * A representation of the {@link java.lang.Class} type.
      */
-    TypeDescription CLASS = new ForLoadedType(Class.class);
+    TypeDescription CLASS = ForLoadedType.of(Class.class);
 
     /**
      * A representation of the {@link java.lang.Throwable} type.
      */
-    TypeDescription THROWABLE = new ForLoadedType(Throwable.class);
+    TypeDescription THROWABLE = ForLoadedType.of(Throwable.class);
 
     /**
      * A representation of the {@code void} non-type.
@@ -3473,7 +3478,7 @@ public interface TypeDescription extends TypeDefinition, ByteCodeElement, TypeVa
 
                 @Override
                 public TypeDescription asErasure() {
-                    return new TypeDescription.ForLoadedType(type);
+                    return TypeDescription.ForLoadedType.of(type);
                 }
 
                 @Override
@@ -4544,7 +4549,7 @@ public interface TypeDescription extends TypeDefinition, ByteCodeElement, TypeVa
 
                 @Override
                 public TypeDescription asErasure() {
-                    return new TypeDescription.ForLoadedType((Class<?>) parameterizedType.getRawType());
+                    return TypeDescription.ForLoadedType.of((Class<?>) parameterizedType.getRawType());
                 }
 
                 @Override
@@ -5588,7 +5593,7 @@ public interface TypeDescription extends TypeDefinition, ByteCodeElement, TypeVa
                     Class<?> superClass = type.getSuperclass();
                     return superClass == null
                             ? TypeDescription.UNDEFINED
-                            : new ForLoadedType(superClass);
+                            : ForLoadedType.of(superClass);
                 }
 
                 @Override
@@ -6501,6 +6506,325 @@ public interface TypeDescription extends TypeDefinition, ByteCodeElement, TypeVa
         }
     }
 
+    /**
+     * A type description that memoizes the closure of its super types. Repeated checks for a type's assignability or for a
+     * type's super types can then be answered without traversing the type hierarchy. This is in particular beneficial for
+     * types that resolve their super types lazily, as for example types that are described by a type pool.
+     */
+    interface WithSuperTypeClosure extends TypeDescription {
+
+        /**
+         * Returns the names of all types this type is assignable to, including the name of this type itself and of the {@link Object} type.
+         *
+         * @return The names of all types this type is assignable to.
+         */
+        Set<String> getSuperTypeNames();
+
+        /**
+         * Returns this type and all of its super classes and interfaces where each erasure is only contained once. The types are
+         * ordered such that the super classes are visited from the most specific class and such that the interfaces of each
+         * class are visited in depth-first order after this class. The super types are only resolved when they are iterated
+         * over such that a matching super type can be found without resolving the remainder of the type hierarchy.
+         *
+         * @return This type and all of its super types.
+         */
+        Iterable<Generic> getSuperTypes();
+
+        /**
+         * An iterable over a type and all of its super types that resolves the type hierarchy while it is iterated over and that
+         * memoizes any resolved super type for later iterations.
+         */
+        class SuperTypes implements Iterable<Generic> {
+
+            /**
+             * The super types that were already resolved.
+             */
+            private final List<Generic> resolved;
+
+            /**
+             * The erasures of all interfaces that were already resolved.
+             */
+            private final Set<TypeDescription> checkedInterfaces;
+
+            /**
+             * The interfaces of all types of the hierarchy whose interfaces are not yet fully resolved together with the
+             * index of the next interface to resolve.
+             */
+            private final LinkedList<Map.Entry<TypeList.Generic, Integer>> interfaceTypes;
+
+            /**
+             * The type whose interfaces were not yet considered or {@code null} if there is no such type.
+             */
+            private TypeDefinition unexpanded;
+
+            /**
+             * The last class of the hierarchy that was resolved or {@code null} if the type hierarchy is fully resolved.
+             */
+            private TypeDefinition currentClass;
+
+            /**
+             * {@code true} if the initial type was already resolved.
+             */
+            private boolean started;
+
+            /**
+             * Creates a new iterable over a type and its super types.
+             *
+             * @param typeDefinition The type for which to iterate over its super types.
+             */
+            public SuperTypes(TypeDefinition typeDefinition) {
+                resolved = new ArrayList<Generic>();
+                checkedInterfaces = new HashSet<TypeDescription>();
+                interfaceTypes = new LinkedList<Map.Entry<TypeList.Generic, Integer>>();
+                currentClass = typeDefinition;
+            }
+
+            /**
+             * Returns the super type with the given index by resolving the type hierarchy as far as it is necessary.
+             *
+             * @param index The index of the super type to resolve.
+             * @return The super type with the given index or {@code null} if the type hierarchy does not contain such a type.
+             */
+            protected synchronized Generic get(int index) {
+                while (index >= resolved.size()) {
+                    Generic superType = resolveNext();
+                    if (superType == null) {
+                        return Generic.UNDEFINED;
+                    }
+                    resolved.add(superType);
+                }
+                return resolved.get(index);
+            }
+
+            /**
+             * Resolves the next super type of the type hierarchy. The state of this iterable is only changed after a type
+             * was resolved successfully such that a failed resolution is attempted again on a later iteration.
+             *
+             * @return The next super type or {@code null} if the type hierarchy is fully resolved.
+             */
+            private Generic resolveNext() {
+                if (unexpanded != null) {
+                    interfaceTypes.addLast(new AbstractMap.SimpleEntry<TypeList.Generic, Integer>(unexpanded.getInterfaces(), 0));
+                    unexpanded = null;
+                }
+                while (!interfaceTypes.isEmpty()) {
+                    Map.Entry<TypeList.Generic, Integer> entry = interfaceTypes.getLast();
+                    int index = entry.getValue();
+                    if (index < entry.getKey().size()) {
+                        Generic interfaceType = entry.getKey().get(index);
+                        TypeDescription erasure = interfaceType.asErasure();
+                        entry.setValue(index + 1);
+                        if (checkedInterfaces.add(erasure)) {
+                            unexpanded = interfaceType;
+                            return interfaceType;
+                        }
+                    } else {
+                        interfaceTypes.removeLast();
+                    }
+                }
+                if (currentClass == null) {
+                    return Generic.UNDEFINED;
+                } else if (started) {
+                    Generic superClass = currentClass.getSuperClass();
+                    currentClass = superClass;
+                    unexpanded = superClass;
+                    return superClass;
+                } else {
+                    started = true;
+                    unexpanded = currentClass;
+                    return currentClass.asGenericType();
+                }
+            }
+
+            @Override
+            public Iterator<Generic> iterator() {
+                return new SuperTypeIterator();
+            }
+
+            /**
+             * An iterator over the super types of a {@link SuperTypes} iterable.
+             */
+            protected class SuperTypeIterator implements Iterator<Generic> {
+
+                /**
+                 * The index of the next super type.
+                 */
+                private int index;
+
+                @Override
+                public boolean hasNext() {
+                    return get(index) != null;
+                }
+
+                @Override
+                public Generic next() {
+                    Generic superType = get(index);
+                    if (superType == null) {
+                        throw new NoSuchElementException("End of type hierarchy");
+                    }
+                    index++;
+                    return superType;
+                }
+
+                @Override
+                public void remove() {
+                    throw new UnsupportedOperationException("remove");
+                }
+            }
+        }
+
+        /**
+         * An abstract base implementation of a type description that memoizes the closure of its super types.
+         */
+        abstract class AbstractBase extends TypeDescription.AbstractBase.OfSimpleType implements WithSuperTypeClosure {
+
+            /**
+             * The names of all types this type is assignable to or {@code null} if those names were not yet resolved.
+             */
+            private volatile Set<String> superTypeNames;
+
+            /**
+             * This type and all of its super types or {@code null} if those types were not yet requested.
+             */
+            private volatile SuperTypes superTypes;
+
+            /**
+             * Resolves the names of all types the supplied type is assignable to. If a super type memoizes its own closure,
+             * this closure is reused.
+             *
+             * @param typeDescription     The type for which to resolve the names of its super types.
+             * @param superClass          The erasure of the type's super class or {@code null} if the type does not define a super class.
+             * @param interfaceTypes      The erasures of the type's interfaces.
+             * @return The names of all types the supplied type is assignable to.
+             */
+            public static Set<String> ofNames(TypeDescription typeDescription, TypeDescription superClass, List<? extends TypeDescription> interfaceTypes) {
+                Set<String> superTypeNames = new HashSet<String>();
+                superTypeNames.add(typeDescription.getName());
+                superTypeNames.add(Object.class.getName());
+                if (superClass != null) {
+                    superTypeNames.addAll(ofNames(superClass));
+                }
+                for (TypeDescription interfaceType : interfaceTypes) {
+                    superTypeNames.addAll(ofNames(interfaceType));
+                }
+                return Collections.unmodifiableSet(superTypeNames);
+            }
+
+            /**
+             * Resolves the names of all types the supplied type is assignable to. If the type memoizes its own closure,
+             * this closure is returned.
+             *
+             * @param typeDescription The type for which to resolve the names of its super types.
+             * @return The names of all types the supplied type is assignable to.
+             */
+            public static Set<String> ofNames(TypeDescription typeDescription) {
+                if (typeDescription instanceof WithSuperTypeClosure) {
+                    return ((WithSuperTypeClosure) typeDescription).getSuperTypeNames();
+                } else {
+                    Generic superClass = typeDescription.getSuperClass();
+                    return ofNames(typeDescription, superClass == null
+                            ? TypeDescription.UNDEFINED
+                            : superClass.asErasure(), typeDescription.getInterfaces().asErasures());
+                }
+            }
+
+            /**
+             * Returns the supplied type and all of its super types. If the type memoizes its own closure, this closure is returned.
+             * Otherwise, the type hierarchy is resolved while it is iterated over.
+             *
+             * @param typeDescription The type for which to resolve its super types.
+             * @return The supplied type and all of its super types.
+             */
+            public static Iterable<Generic> ofTypes(TypeDescription typeDescription) {
+                return typeDescription instanceof WithSuperTypeClosure
+                        ? ((WithSuperTypeClosure) typeDescription).getSuperTypes()
+                        : new SuperTypes(typeDescription);
+            }
+
+            /**
+             * Checks if a type with a memoized super type closure is assignable to another type.
+             *
+             * @param typeDescription The type with a memoized super type closure.
+             * @param target          The type to which the type is to be assigned.
+             * @return {@code true} if the type is assignable to the target type.
+             */
+            public static boolean isAssignable(WithSuperTypeClosure typeDescription, TypeDescription target) {
+                String name = target.getName();
+                return name.equals(typeDescription.getName())
+                        || name.equals(Object.class.getName())
+                        || typeDescription.getSuperTypeNames().contains(name);
+            }
+
+            /**
+             * Returns the erasure of this type's super class. This method can be overridden to avoid the resolution of
+             * this type's generic super class.
+             *
+             * @return The erasure of this type's super class or {@code null} if this type does not define a super class.
+             */
+            protected TypeDescription getSuperClassErasure() {
+                Generic superClass = getSuperClass();
+                return superClass == null
+                        ? TypeDescription.UNDEFINED
+                        : superClass.asErasure();
+            }
+
+            /**
+             * Returns the erasures of this type's interfaces. This method can be overridden to avoid the resolution of
+             * this type's generic interfaces.
+             *
+             * @return The erasures of this type's interfaces.
+             */
+            protected TypeList getInterfaceErasures() {
+                return getInterfaces().asErasures();
+            }
+
+            @Override
+            public Set<String> getSuperTypeNames() {
+                Set<String> superTypeNames = this.superTypeNames;
+                if (superTypeNames == null) {
+                    superTypeNames = ofNames(this, getSuperClassErasure(), getInterfaceErasures());
+                    this.superTypeNames = superTypeNames;
+                }
+                return superTypeNames;
+            }
+
+            @Override
+            public Iterable<Generic> getSuperTypes() {
+                SuperTypes superTypes = this.superTypes;
+                if (superTypes == null) {
+                    superTypes = new SuperTypes(this);
+                    this.superTypes = superTypes;
+                }
+                return superTypes;
+            }
+
+            @Override
+            public boolean isAssignableFrom(TypeDescription typeDescription) {
+                return typeDescription instanceof WithSuperTypeClosure
+                        ? typeDescription.isAssignableTo(this)
+                        : super.isAssignableFrom(typeDescription);
+            }
+
+            @Override
+            public boolean isAssignableTo(TypeDescription typeDescription) {
+                String name = typeDescription.getName();
+                if (superTypeNames != null || name.equals(getName()) || name.equals(Object.class.getName())) {
+                    return isAssignable(this, typeDescription);
+                }
+                TypeDescription superClass = getSuperClassErasure();
+                if (superClass != null && superClass.isAssignableTo(typeDescription)) {
+                    return true;
+                }
+                for (TypeDescription interfaceType : getInterfaceErasures()) {
+                    if (interfaceType.isAssignableTo(typeDescription)) {
+                        return true;
+                    }
+                }
+                return isAssignable(this, typeDescription);
+            }
+        }
+    }
+
     /**
      * An abstract base implementation of a type description.
      */
@@ -7085,6 +7409,32 @@ public interface TypeDescription extends TypeDefinition, ByteCodeElement, TypeVa
             this.type = type;
         }
 
+        /**
+         * <p>
+         * Returns a type description of a loaded type that memoizes its members, annotations, super types and generic signature.
+         * </p>
+         * <p>
+         * On a VM that supports {@code java.lang.ClassValue}, a description is stored alongside its type such that it is shared
+         * among all callers of this method without retaining the type's class loader. On a VM without this class, only the
+         * descriptions of types that are loaded by the bootstrap class loader are shared as such types can never be unloaded.
+         * </p>
+         *
+         * @param type The type to be represented by the type description.
+         * @return A memoizing type description of the supplied type.
+         */
+        public static TypeDescription of(Class<?> type) {
+            return Dispatcher.INSTANCE.describe(type);
+        }
+
+        /**
+         * Returns the loaded type that is represented by this type description.
+         *
+         * @return The loaded type that is represented by this type description.
+         */
+        public Class<?> getLoadedType() {
+            return type;
+        }
+
         /**
          * Returns the type's actual name where it is taken into consideration that this type might be loaded anonymously.
          * In this case, the remainder of the types name is suffixed by {@code /<id>} which is removed when using this method
@@ -7293,6 +7643,345 @@ public interface TypeDescription extends TypeDefinition, ByteCodeElement, TypeVa
         public AnnotationList getDeclaredAnnotations() {
             return new AnnotationList.ForLoadedAnnotations(type.getDeclaredAnnotations());
         }
+
+        /**
+         * A dispatcher for sharing memoizing type descriptions of loaded types. The dispatcher is held by a separate type as the
+         * constants of {@link TypeDescription} are resolved via {@link ForLoadedType#of(Class)} which might happen before the
+         * initialization of {@link ForLoadedType} is complete.
+         */
+        protected interface Dispatcher {
+
+            /**
+             * The dispatcher to use.
+             */
+            Dispatcher INSTANCE = AccessController.doPrivileged(CreationAction.INSTANCE);
+
+            /**
+             * Returns a memoizing type description of the supplied type.
+             *
+             * @param type The type to describe.
+             * @return A memoizing type description of the supplied type.
+             */
+            TypeDescription describe(Class<?> type);
+
+            /**
+             * A creation action for a dispatcher.
+             */
+            enum CreationAction implements PrivilegedAction<Dispatcher> {
+
+                /**
+                 * The singleton instance.
+                 */
+                INSTANCE;
+
+                /**
+                 * The internal name of the generated subclass of {@code java.lang.ClassValue}.
+                 */
+                private static final String CLASS_VALUE = "net/bytebuddy/description/type/TypeDescription$ForLoadedType$Dispatcher$ClassValue";
+
+                /**
+                 * The internal name of the {@link AtomicReference} type.
+                 */
+                private static final String ATOMIC_REFERENCE = "java/util/concurrent/atomic/AtomicReference";
+
+                @Override
+                @SuppressFBWarnings(value = "REC_CATCH_EXCEPTION", justification = "Exception should not be rethrown but trigger a fallback")
+                public Dispatcher run() {
+                    try {
+                        Class<?> classValue = Class.forName("java.lang.ClassValue");
+                        return new ForClassValue(new ClassValueLoader().define(CLASS_VALUE.replace('/', '.'), make()).getConstructor().newInstance(),
+                                classValue.getMethod("get", Class.class));
+                    } catch (Exception ignored) {
+                        return ForLegacyVm.INSTANCE;
+                    }
+                }
+
+                /**
+                 * Creates the class file of a subclass of {@code java.lang.ClassValue} that computes an empty {@link AtomicReference}
+                 * for any type. The class only references types of the Java class library such that it can be defined by a class
+                 * loader without a parent that therefore never retains a type that is described.
+                 *
+                 * @return The class file of the generated subclass of {@code java.lang.ClassValue}.
+                 */
+                private static byte[] make() {
+                    ClassWriter classWriter = new ClassWriter(0);
+                    classWriter.visit(Opcodes.V1_7,
+                            Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL | Opcodes.ACC_SUPER,
+                            CLASS_VALUE,
+                            null,
+                            "java/lang/ClassValue",
+                            null);
+                    MethodVisitor methodVisitor = classWriter.visitMethod(Opcodes.ACC_PUBLIC, MethodDescription.CONSTRUCTOR_INTERNAL_NAME, "()V", null, null);
+                    methodVisitor.visitCode();
+                    methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
+                    methodVisitor.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/ClassValue", MethodDescription.CONSTRUCTOR_INTERNAL_NAME, "()V", false);
+                    methodVisitor.visitInsn(Opcodes.RETURN);
+                    methodVisitor.visitMaxs(1, 1);
+                    methodVisitor.visitEnd();
+                    methodVisitor = classWriter.visitMethod(Opcodes.ACC_PROTECTED, "computeValue", "(Ljava/lang/Class;)Ljava/lang/Object;", null, null);
+                    methodVisitor.visitCode();
+                    methodVisitor.visitTypeInsn(Opcodes.NEW, ATOMIC_REFERENCE);
+                    methodVisitor.visitInsn(Opcodes.DUP);
+                    methodVisitor.visitMethodInsn(Opcodes.INVOKESPECIAL, ATOMIC_REFERENCE, MethodDescription.CONSTRUCTOR_INTERNAL_NAME, "()V", false);
+                    methodVisitor.visitInsn(Opcodes.ARETURN);
+                    methodVisitor.visitMaxs(2, 2);
+                    methodVisitor.visitEnd();
+                    classWriter.visitEnd();
+                    return classWriter.toByteArray();
+                }
+            }
+
+            /**
+             * A class loader without a parent that defines the generated subclass of {@code java.lang.ClassValue}.
+             */
+            class ClassValueLoader extends ClassLoader {
+
+                /**
+                 * Creates a new class loader for the generated subclass of {@code java.lang.ClassValue}.
+                 */
+                protected ClassValueLoader() {
+                    super(null);
+                }
+
+                /**
+                 * Defines a type.
+                 *
+                 * @param name                 The binary name of the type.
+                 * @param binaryRepresentation The type's class file.
+                 * @return The defined type.
+                 */
+                protected Class<?> define(String name, byte[] binaryRepresentation) {
+                    return defineClass(name, binaryRepresentation, 0, binaryRepresentation.length);
+                }
+            }
+
+            /**
+             * A dispatcher for a VM that does not support {@code java.lang.ClassValue}. Only descriptions of types that are loaded
+             * by the bootstrap class loader are shared as retaining any other description would also retain its class loader.
+             */
+            enum ForLegacyVm implements Dispatcher {
+
+                /**
+                 * The singleton instance.
+                 */
+                INSTANCE;
+
+                /**
+                 * A cache of memoizing type descriptions of types that are loaded by the bootstrap class loader.
+                 */
+                private final ConcurrentMap<Class<?>, TypeDescription> cache = new ConcurrentHashMap<Class<?>, TypeDescription>();
+
+                @Override
+                public TypeDescription describe(Class<?> type) {
+                    if (type.getClassLoader() != null) {
+                        return new Memoizing(type);
+                    }
+                    TypeDescription typeDescription = cache.get(type);
+                    if (typeDescription == null) {
+                        typeDescription = new Memoizing(type);
+                        TypeDescription previous = cache.putIfAbsent(type, typeDescription);
+                        if (previous != null) {
+                            typeDescription = previous;
+                        }
+                    }
+                    return typeDescription;
+                }
+            }
+
+            /**
+             * A dispatcher that stores a description alongside its type by a {@code java.lang.ClassValue}. A class value
+             * does not retain a type or its class loader if the type's value references the type.
+             */
+            @EqualsAndHashCode
+            class ForClassValue implements Dispatcher {
+
+                /**
+                 * The {@code java.lang.ClassValue} that computes an {@link AtomicReference} for any type.
+                 */
+                private final Object classValue;
+
+                /**
+                 * The {@code java.lang.ClassValue#get(Class)} method.
+                 */
+                private final Method get;
+
+                /**
+                 * Creates a new dispatcher for a class value.
+                 *
+                 * @param classValue The {@code java.lang.ClassValue} that computes an {@link AtomicReference} for any type.
+                 * @param get        The {@code java.lang.ClassValue#get(Class)} method.
+                 */
+                protected ForClassValue(Object classValue, Method get) {
+                    this.classValue = classValue;
+                    this.get = get;
+                }
+
+                @Override
+                @SuppressWarnings("unchecked")
+                public TypeDescription describe(Class<?> type) {
+                    AtomicReference<TypeDescription> reference;
+                    try {
+                        reference = (AtomicReference<TypeDescription>) get.invoke(classValue, type);
+                    } catch (IllegalAccessException exception) {
+                        throw new IllegalStateException("Cannot access java.lang.ClassValue#get", exception);
+                    } catch (InvocationTargetException exception) {
+                        throw new IllegalStateException("Error invoking java.lang.ClassValue#get", exception.getCause());
+                    }
+                    TypeDescription typeDescription = reference.get();
+                    if (typeDescription == null) {
+                        typeDescription = new Memoizing(type);
+                        if (!reference.compareAndSet(null, typeDescription)) {
+                            typeDescription = reference.get();
+                        }
+                    }
+                    return typeDescription;
+                }
+            }
+        }
+
+        /**
+         * A description of a loaded type that memoizes any property that requires a reflective lookup of the type's members or
+         * annotations or a resolution of the type's generic properties. As reflective lookups copy the underlying information,
+         * a memoizing description avoids repeated lookups when the same type is queried by several matchers or method graph compilers.
+         *
+         * @see ForLoadedType#of(Class)
+         */
+        protected static class Memoizing extends ForLoadedType {
+
+            /**
+             * The class's serial version UID.
+             */
+            private static final long serialVersionUID = 1L;
+
+            /**
+             * A sentinel that is memoized as the super class of a type that does not define a super class.
+             */
+            private static final Generic NO_SUPER_CLASS = new Generic.OfNonGenericType.ForLoadedType(void.class);
+
+            /**
+             * The type's declared fields or {@code null} if they were not yet resolved.
+             */
+            private transient FieldList<FieldDescription.InDefinedShape> declaredFields;
+
+            /**
+             * The type's declared methods or {@code null} if they were not yet resolved.
+             */
+            private transient MethodList<MethodDescription.InDefinedShape> declaredMethods;
+
+            /**
+             * The type's declared annotations or {@code null} if they were not yet resolved.
+             */
+            private transient AnnotationList declaredAnnotations;
+
+            /**
+             * The type's type variables or {@code null} if they were not yet resolved.
+             */
+            private transient TypeList.Generic typeVariables;
+
+            /**
+             * The type's super class, {@link Memoizing#NO_SUPER_CLASS} if the type does not define a super class or
+             * {@code null} if it was not yet resolved.
+             */
+            private transient Generic superClass;
+
+            /**
+             * The type's interfaces or {@code null} if they were not yet resolved.
+             */
+            private transient TypeList.Generic interfaceTypes;
+
+            /**
+             * {@code true} if the type's generic signature was resolved.
+             */
+            private transient volatile boolean genericSignatureResolved;
+
+            /**
+             * The type's generic signature which is only valid if {@link Memoizing#genericSignatureResolved} is {@code true}.
+             */
+            private transient String genericSignature;
+
+            /**
+             * Creates a new memoizing type description for a loaded type.
+             *
+             * @param type The type to be represented by this type description.
+             */
+            protected Memoizing(Class<?> type) {
+                super(type);
+            }
+
+            @Override
+            public FieldList<FieldDescription.InDefinedShape> getDeclaredFields() {
+                FieldList<FieldDescription.InDefinedShape> declaredFields = this.declaredFields;
+                if (declaredFields == null) {
+                    declaredFields = new FieldList.Explicit<FieldDescription.InDefinedShape>(new ArrayList<FieldDescription.InDefinedShape>(super.getDeclaredFields()));
+                    this.declaredFields = declaredFields;
+                }
+                return declaredFields;
+            }
+
+            @Override
+            public MethodList<MethodDescription.InDefinedShape> getDeclaredMethods() {
+                MethodList<MethodDescription.InDefinedShape> declaredMethods = this.declaredMethods;
+                if (declaredMethods == null) {
+                    declaredMethods = new MethodList.Explicit<MethodDescription.InDefinedShape>(new ArrayList<MethodDescription.InDefinedShape>(super.getDeclaredMethods()));
+                    this.declaredMethods = declaredMethods;
+                }
+                return declaredMethods;
+            }
+
+            @Override
+            public AnnotationList getDeclaredAnnotations() {
+                AnnotationList declaredAnnotations = this.declaredAnnotations;
+                if (declaredAnnotations == null) {
+                    declaredAnnotations = new AnnotationList.Explicit(new ArrayList<AnnotationDescription>(super.getDeclaredAnnotations()));
+                    this.declaredAnnotations = declaredAnnotations;
+                }
+                return declaredAnnotations;
+            }
+
+            @Override
+            public TypeList.Generic getTypeVariables() {
+                TypeList.Generic typeVariables = this.typeVariables;
+                if (typeVariables == null) {
+                    typeVariables = new TypeList.Generic.Explicit(new ArrayList<Generic>(super.getTypeVariables()));
+                    this.typeVariables = typeVariables;
+                }
+                return typeVariables;
+            }
+
+            @Override
+            public Generic getSuperClass() {
+                Generic superClass = this.superClass;
+                if (superClass == null) {
+                    superClass = super.getSuperClass();
+                    this.superClass = superClass == null
+                            ? NO_SUPER_CLASS
+                            : superClass;
+                    return superClass;
+                }
+                return superClass == NO_SUPER_CLASS
+                        ? Generic.UNDEFINED
+                        : superClass;
+            }
+
+            @Override
+            public TypeList.Generic getInterfaces() {
+                TypeList.Generic interfaceTypes = this.interfaceTypes;
+                if (interfaceTypes == null) {
+                    interfaceTypes = new TypeList.Generic.Explicit(new ArrayList<Generic>(super.getInterfaces()));
+                    this.interfaceTypes = interfaceTypes;
+                }
+                return interfaceTypes;
+            }
+
+            @Override
+            public String getGenericSignature() {
+                if (!genericSignatureResolved) {
+                    genericSignature = super.getGenericSignature();
+                    genericSignatureResolved = true;
+                }
+                return genericSignature;
+            }
+        }
     }
 
     /**
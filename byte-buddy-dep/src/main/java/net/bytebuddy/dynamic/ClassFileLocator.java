@@ -14,14 +14,17 @@ import java.lang.instrument.Instrumentation;
 import java.lang.ref.WeakReference;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.security.ProtectionDomain;
 import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.jar.JarFile;
 import java.util.regex.Pattern;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipFile;
+import java.util.zip.*;
 
 import static net.bytebuddy.matcher.ElementMatchers.isChildOf;
 
@@ -646,7 +649,7 @@ public interface ClassFileLocator extends Closeable {
             } else {
                 InputStream inputStream = jarFile.getInputStream(zipEntry);
                 try {
-                    return new Resolution.Explicit(StreamDrainer.DEFAULT.drain(inputStream));
+                    return new Resolution.Explicit(StreamDrainer.DEFAULT.drain(inputStream, zipEntry.getSize()));
                 } finally {
                     inputStream.close();
                 }
@@ -657,6 +660,331 @@ public interface ClassFileLocator extends Closeable {
         public void close() throws IOException {
             jarFile.close();
         }
+
+        /**
+         * <p>
+         * A class file locator that maps a <i>jar</i> file into memory and that reads the file's central directory only once
+         * upon its creation. Stored class files are copied directly from the mapped file and deflated class files are inflated
+         * by a pooled {@link Inflater} into an array of the class file's exact size.
+         * </p>
+         * <p>
+         * <b>Important</b>: A mapped file is only released when the mapping is garbage collected what might prevent the
+         * file from being deleted on some platforms even after closing this locator.
+         * </p>
+         */
+        public static class Mapped implements ClassFileLocator {
+
+            /**
+             * The signature of a zip file's end of central directory record.
+             */
+            private static final int END_OF_CENTRAL_DIRECTORY = 0x06054b50;
+
+            /**
+             * The signature of a zip file's central directory file header.
+             */
+            private static final int CENTRAL_DIRECTORY_HEADER = 0x02014b50;
+
+            /**
+             * The signature of a zip file's local file header.
+             */
+            private static final int LOCAL_FILE_HEADER = 0x04034b50;
+
+            /**
+             * The minimal length of an end of central directory record.
+             */
+            private static final int END_OF_CENTRAL_DIRECTORY_LENGTH = 22;
+
+            /**
+             * The length of the fixed part of a central directory file header.
+             */
+            private static final int CENTRAL_DIRECTORY_HEADER_LENGTH = 46;
+
+            /**
+             * The length of the fixed part of a local file header.
+             */
+            private static final int LOCAL_FILE_HEADER_LENGTH = 30;
+
+            /**
+             * The maximum length of a zip file's comment.
+             */
+            private static final int MAXIMUM_COMMENT_LENGTH = 0xFFFF;
+
+            /**
+             * A value of a 16 bit field that indicates the use of the <i>zip64</i> format.
+             */
+            private static final int ZIP64_SHORT = 0xFFFF;
+
+            /**
+             * A value of a 32 bit field that indicates the use of the <i>zip64</i> format.
+             */
+            private static final long ZIP64_INT = 0xFFFFFFFFL;
+
+            /**
+             * The flag that indicates an encrypted entry.
+             */
+            private static final int ENCRYPTED = 0x1;
+
+            /**
+             * The compression method of a stored entry.
+             */
+            private static final int STORED = 0;
+
+            /**
+             * The compression method of a deflated entry.
+             */
+            private static final int DEFLATED = 8;
+
+            /**
+             * The maximum number of inflaters that are retained for reuse.
+             */
+            private static final int MAXIMUM_POOL_SIZE = 8;
+
+            /**
+             * The mapped jar file.
+             */
+            private final ByteBuffer buffer;
+
+            /**
+             * An index of all class files' entries by their type's internal name.
+             */
+            private final Map<String, Entry> entries;
+
+            /**
+             * A pool of inflaters that are currently not in use.
+             */
+            private final Queue<Inflater> inflaters;
+
+            /**
+             * Creates a new class file locator for a mapped jar file.
+             *
+             * @param buffer  The mapped jar file.
+             * @param entries An index of all class files' entries by their type's internal name.
+             */
+            protected Mapped(ByteBuffer buffer, Map<String, Entry> entries) {
+                this.buffer = buffer;
+                this.entries = entries;
+                inflaters = new ConcurrentLinkedQueue<Inflater>();
+            }
+
+            /**
+             * Creates a new class file locator for a mapped jar file. If the supplied file cannot be mapped, i.e. because it uses the
+             * <i>zip64</i> format or because it is too large, a regular {@link ForJarFile} class file locator is returned instead.
+             *
+             * @param file The jar file to read from.
+             * @return A class file locator for the jar file.
+             * @throws IOException If an I/O exception is thrown.
+             */
+            public static ClassFileLocator of(File file) throws IOException {
+                RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+                ByteBuffer buffer;
+                try {
+                    FileChannel fileChannel = randomAccessFile.getChannel();
+                    if (fileChannel.size() > Integer.MAX_VALUE) {
+                        return ForJarFile.of(file);
+                    }
+                    buffer = fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, fileChannel.size()).order(ByteOrder.LITTLE_ENDIAN);
+                } finally {
+                    randomAccessFile.close();
+                }
+                Map<String, Entry> entries = index(buffer);
+                return entries == null
+                        ? ForJarFile.of(file)
+                        : new Mapped(buffer, entries);
+            }
+
+            /**
+             * Reads the central directory of a mapped zip file.
+             *
+             * @param buffer The mapped zip file.
+             * @return An index of all class files' entries by their type's internal name or {@code null} if the file cannot be indexed.
+             * @throws IOException If the file is not a valid zip file.
+             */
+            private static Map<String, Entry> index(ByteBuffer buffer) throws IOException {
+                int endOfCentralDirectory = -1;
+                for (int index = buffer.limit() - END_OF_CENTRAL_DIRECTORY_LENGTH;
+                     index >= Math.max(0, buffer.limit() - END_OF_CENTRAL_DIRECTORY_LENGTH - MAXIMUM_COMMENT_LENGTH);
+                     index--) {
+                    if (buffer.getInt(index) == END_OF_CENTRAL_DIRECTORY) {
+                        endOfCentralDirectory = index;
+                        break;
+                    }
+                }
+                if (endOfCentralDirectory == -1) {
+                    throw new ZipException("Cannot locate end of central directory");
+                }
+                int count = buffer.getShort(endOfCentralDirectory + 10) & 0xFFFF;
+                long offset = buffer.getInt(endOfCentralDirectory + 16) & 0xFFFFFFFFL;
+                if (count == ZIP64_SHORT || offset == ZIP64_INT) {
+                    return null;
+                }
+                Map<String, Entry> entries = new HashMap<String, Entry>();
+                int position = (int) offset;
+                for (int index = 0; index < count; index++) {
+                    if (position + CENTRAL_DIRECTORY_HEADER_LENGTH > buffer.limit() || buffer.getInt(position) != CENTRAL_DIRECTORY_HEADER) {
+                        throw new ZipException("Illegal central directory header at " + position);
+                    }
+                    int flags = buffer.getShort(position + 8) & 0xFFFF;
+                    int method = buffer.getShort(position + 10) & 0xFFFF;
+                    long compressedSize = buffer.getInt(position + 20) & 0xFFFFFFFFL;
+                    long size = buffer.getInt(position + 24) & 0xFFFFFFFFL;
+                    int nameLength = buffer.getShort(position + 28) & 0xFFFF;
+                    int extraLength = buffer.getShort(position + 30) & 0xFFFF;
+                    int commentLength = buffer.getShort(position + 32) & 0xFFFF;
+                    long localHeader = buffer.getInt(position + 42) & 0xFFFFFFFFL;
+                    if (compressedSize == ZIP64_INT || size == ZIP64_INT || localHeader == ZIP64_INT) {
+                        return null;
+                    }
+                    byte[] name = new byte[nameLength];
+                    ByteBuffer duplicate = buffer.duplicate();
+                    duplicate.position(position + CENTRAL_DIRECTORY_HEADER_LENGTH);
+                    duplicate.get(name);
+                    String entryName = new String(name, "UTF-8");
+                    if ((flags & ENCRYPTED) == 0 && entryName.endsWith(CLASS_FILE_EXTENSION)) {
+                        entries.put(entryName.substring(0, entryName.length() - CLASS_FILE_EXTENSION.length()),
+                                new Entry((int) localHeader, (int) compressedSize, (int) size, method));
+                    }
+                    position += CENTRAL_DIRECTORY_HEADER_LENGTH + nameLength + extraLength + commentLength;
+                }
+                return entries;
+            }
+
+            @Override
+            public Resolution locate(String typeName) throws IOException {
+                Entry entry = entries.get(typeName.replace('.', '/'));
+                if (entry == null) {
+                    return new Resolution.Illegal(typeName);
+                }
+                ByteBuffer buffer = this.buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+                if (buffer.getInt(entry.getLocalHeader()) != LOCAL_FILE_HEADER) {
+                    throw new ZipException("Illegal local file header for " + typeName);
+                }
+                buffer.position(entry.getLocalHeader()
+                        + LOCAL_FILE_HEADER_LENGTH
+                        + (buffer.getShort(entry.getLocalHeader() + 26) & 0xFFFF)
+                        + (buffer.getShort(entry.getLocalHeader() + 28) & 0xFFFF));
+                byte[] binaryRepresentation = new byte[entry.getSize()];
+                switch (entry.getMethod()) {
+                    case STORED:
+                        buffer.get(binaryRepresentation);
+                        return new Resolution.Explicit(binaryRepresentation);
+                    case DEFLATED:
+                        byte[] compressed = new byte[entry.getCompressedSize() + 1]; // Inflaters that omit the wrapper might require an additional byte.
+                        buffer.get(compressed, 0, entry.getCompressedSize());
+                        Inflater inflater = inflaters.poll();
+                        if (inflater == null) {
+                            inflater = new Inflater(true);
+                        }
+                        try {
+                            inflater.setInput(compressed);
+                            int length = 0;
+                            while (length < binaryRepresentation.length) {
+                                int inflated = inflater.inflate(binaryRepresentation, length, binaryRepresentation.length - length);
+                                if (inflated == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                                    throw new ZipException("Unexpected end of deflated entry for " + typeName);
+                                }
+                                length += inflated;
+                            }
+                        } catch (DataFormatException exception) {
+                            throw new ZipException("Illegal deflated entry for " + typeName + ": " + exception.getMessage());
+                        } finally {
+                            inflater.reset();
+                            if (inflaters.size() < MAXIMUM_POOL_SIZE) {
+                                inflaters.offer(inflater);
+                            } else {
+                                inflater.end();
+                            }
+                        }
+                        return new Resolution.Explicit(binaryRepresentation);
+                    default:
+                        throw new ZipException("Unsupported compression method " + entry.getMethod() + " for " + typeName);
+                }
+            }
+
+            @Override
+            public void close() throws IOException {
+                Inflater inflater;
+                while ((inflater = inflaters.poll()) != null) {
+                    inflater.end();
+                }
+            }
+
+            /**
+             * An entry of a mapped jar file's central directory.
+             */
+            protected static class Entry {
+
+                /**
+                 * The offset of the entry's local file header.
+                 */
+                private final int localHeader;
+
+                /**
+                 * The entry's compressed size.
+                 */
+                private final int compressedSize;
+
+                /**
+                 * The entry's uncompressed size.
+                 */
+                private final int size;
+
+                /**
+                 * The entry's compression method.
+                 */
+                private final int method;
+
+                /**
+                 * Creates a new entry.
+                 *
+                 * @param localHeader    The offset of the entry's local file header.
+                 * @param compressedSize The entry's compressed size.
+                 * @param size           The entry's uncompressed size.
+                 * @param method         The entry's compression method.
+                 */
+                protected Entry(int localHeader, int compressedSize, int size, int method) {
+                    this.localHeader = localHeader;
+                    this.compressedSize = compressedSize;
+                    this.size = size;
+                    this.method = method;
+                }
+
+                /**
+                 * Returns the offset of the entry's local file header.
+                 *
+                 * @return The offset of the entry's local file header.
+                 */
+                protected int getLocalHeader() {
+                    return localHeader;
+                }
+
+                /**
+                 * Returns the entry's compressed size.
+                 *
+                 * @return The entry's compressed size.
+                 */
+                protected int getCompressedSize() {
+                    return compressedSize;
+                }
+
+                /**
+                 * Returns the entry's uncompressed size.
+                 *
+                 * @return The entry's uncompressed size.
+                 */
+                protected int getSize() {
+                    return size;
+                }
+
+                /**
+                 * Returns the entry's compression method.
+                 *
+                 * @return The entry's compression method.
+                 */
+                protected int getMethod() {
+                    return method;
+                }
+            }
+        }
     }
 
     /**
@@ -826,7 +1154,7 @@ public interface ClassFileLocator extends Closeable {
             } else {
                 InputStream inputStream = zipFile.getInputStream(zipEntry);
                 try {
-                    return new Resolution.Explicit(StreamDrainer.DEFAULT.drain(inputStream));
+                    return new Resolution.Explicit(StreamDrainer.DEFAULT.drain(inputStream, zipEntry.getSize()));
                 } finally {
                     inputStream.close();
                 }
@@ -867,7 +1195,7 @@ public interface ClassFileLocator extends Closeable {
             if (file.exists()) {
                 InputStream inputStream = new FileInputStream(file);
                 try {
-                    return new Resolution.Explicit(StreamDrainer.DEFAULT.drain(inputStream));
+                    return new Resolution.Explicit(StreamDrainer.DEFAULT.drain(inputStream, file.length()));
                 } finally {
                     inputStream.close();
                 }
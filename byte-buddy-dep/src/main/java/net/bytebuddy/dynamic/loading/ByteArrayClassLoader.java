@@ -3,11 +3,9 @@ package net.bytebuddy.dynamic.loading;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import lombok.EqualsAndHashCode;
 import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.utility.StreamDrainer;
 
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.UnsupportedEncodingException;
+import java.io.*;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.net.*;
@@ -18,6 +16,8 @@ import java.security.ProtectionDomain;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * <p>
@@ -195,6 +195,34 @@ public class ByteArrayClassLoader extends InjectionClassLoader {
         }
     }
 
+    @Override
+    public Map<String, Class<?>> defineClasses(Map<String, byte[]> typeDefinitions) throws ClassNotFoundException {
+        Map<String, byte[]> previousDefinitions = new HashMap<String, byte[]>();
+        for (Map.Entry<String, byte[]> entry : typeDefinitions.entrySet()) {
+            previousDefinitions.put(entry.getKey(), this.typeDefinitions.putIfAbsent(entry.getKey(), entry.getValue()));
+        }
+        Map<String, Class<?>> types = new LinkedHashMap<String, Class<?>>();
+        try {
+            for (String name : typeDefinitions.keySet()) {
+                synchronized (SYNCHRONIZATION_STRATEGY.initialize().getClassLoadingLock(this, name)) {
+                    types.put(name, loadClass(name));
+                }
+            }
+        } finally {
+            for (Map.Entry<String, byte[]> entry : previousDefinitions.entrySet()) {
+                Class<?> type = types.get(entry.getKey());
+                if (type == null || type.getClassLoader() != this) {
+                    if (entry.getValue() == null) {
+                        this.typeDefinitions.remove(entry.getKey());
+                    } else {
+                        this.typeDefinitions.put(entry.getKey(), entry.getValue());
+                    }
+                }
+            }
+        }
+        return types;
+    }
+
     @Override
     protected Class<?> findClass(String name) throws ClassNotFoundException {
         byte[] binaryRepresentation = persistenceHandler.lookup(name, typeDefinitions);
@@ -522,17 +550,41 @@ public class ByteArrayClassLoader extends InjectionClassLoader {
 
             @Override
             protected URL url(String resourceName, ConcurrentMap<String, byte[]> typeDefinitions) {
-                if (!resourceName.endsWith(CLASS_FILE_SUFFIX)) {
-                    return NO_URL;
-                } else if (resourceName.startsWith("/")) {
-                    resourceName = resourceName.substring(1);
+                return toUrl(resourceName, typeDefinitions);
+            }
+        },
+
+        /**
+         * The compressed persistence handler makes all class file representations accessible similarly to the {@link PersistenceHandler#MANIFEST}
+         * handler but replaces a class file representation by a compressed version once the class file is looked up for defining its class.
+         * A compressed class file representation is decompressed when its resource is requested.
+         */
+        COMPRESSED(true) {
+            @Override
+            protected byte[] lookup(String name, ConcurrentMap<String, byte[]> typeDefinitions) {
+                byte[] binaryRepresentation = typeDefinitions.get(name);
+                if (binaryRepresentation == null) {
+                    return NO_BINARY_REPRESENTATION;
+                } else if (isCompressed(binaryRepresentation)) {
+                    return decompress(binaryRepresentation);
                 }
-                String typeName = resourceName.replace('/', '.').substring(FROM_BEGINNING, resourceName.length() - CLASS_FILE_SUFFIX.length());
-                byte[] binaryRepresentation = typeDefinitions.get(typeName);
-                return binaryRepresentation == null
-                        ? NO_URL
-                        : AccessController.doPrivileged(new UrlDefinitionAction(resourceName, binaryRepresentation));
+                byte[] compressed = compress(binaryRepresentation);
+                if (compressed.length < binaryRepresentation.length) {
+                    typeDefinitions.replace(name, binaryRepresentation, compressed);
+                }
+                return binaryRepresentation;
+            }
+
+            @Override
+            protected URL url(String resourceName, ConcurrentMap<String, byte[]> typeDefinitions) {
+                return toUrl(resourceName, typeDefinitions);
+            }
 
+            @Override
+            protected byte[] resolve(byte[] binaryRepresentation) {
+                return isCompressed(binaryRepresentation)
+                        ? decompress(binaryRepresentation)
+                        : binaryRepresentation;
             }
         },
 
@@ -557,6 +609,21 @@ public class ByteArrayClassLoader extends InjectionClassLoader {
          */
         private static final String CLASS_FILE_SUFFIX = ".class";
 
+        /**
+         * Indicates that no binary representation is known for a type.
+         */
+        private static final byte[] NO_BINARY_REPRESENTATION = null;
+
+        /**
+         * The first byte of the GZIP format's magic number which is never the first byte of a class file.
+         */
+        private static final byte GZIP_MAGIC_FIRST = (byte) 0x1F;
+
+        /**
+         * The second byte of the GZIP format's magic number.
+         */
+        private static final byte GZIP_MAGIC_SECOND = (byte) 0x8B;
+
         /**
          * {@code true} if this persistence handler represents manifest class file storage.
          */
@@ -598,6 +665,86 @@ public class ByteArrayClassLoader extends InjectionClassLoader {
          */
         protected abstract URL url(String resourceName, ConcurrentMap<String, byte[]> typeDefinitions);
 
+        /**
+         * Resolves a stored binary representation to the represented class file.
+         *
+         * @param binaryRepresentation The stored binary representation.
+         * @return The represented class file.
+         */
+        protected byte[] resolve(byte[] binaryRepresentation) {
+            return binaryRepresentation;
+        }
+
+        /**
+         * Returns a URL representing a class file that is stored in the supplied map.
+         *
+         * @param resourceName    The name of the requested resource.
+         * @param typeDefinitions A mapping of byte arrays by their type names.
+         * @return A URL representing the type definition or {@code null} if the requested resource does not represent a class file.
+         */
+        protected URL toUrl(String resourceName, ConcurrentMap<String, byte[]> typeDefinitions) {
+            if (!resourceName.endsWith(CLASS_FILE_SUFFIX)) {
+                return NO_URL;
+            } else if (resourceName.startsWith("/")) {
+                resourceName = resourceName.substring(1);
+            }
+            String typeName = resourceName.replace('/', '.').substring(FROM_BEGINNING, resourceName.length() - CLASS_FILE_SUFFIX.length());
+            byte[] binaryRepresentation = typeDefinitions.get(typeName);
+            return binaryRepresentation == null
+                    ? NO_URL
+                    : AccessController.doPrivileged(new UrlDefinitionAction(resourceName, resolve(binaryRepresentation)));
+        }
+
+        /**
+         * Checks if a binary representation is compressed.
+         *
+         * @param binaryRepresentation The binary representation to check.
+         * @return {@code true} if the binary representation is compressed.
+         */
+        protected static boolean isCompressed(byte[] binaryRepresentation) {
+            return binaryRepresentation.length > 1 && binaryRepresentation[0] == GZIP_MAGIC_FIRST && binaryRepresentation[1] == GZIP_MAGIC_SECOND;
+        }
+
+        /**
+         * Compresses a binary representation.
+         *
+         * @param binaryRepresentation The binary representation to compress.
+         * @return The compressed binary representation.
+         */
+        protected static byte[] compress(byte[] binaryRepresentation) {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(binaryRepresentation.length / 2);
+            try {
+                OutputStream compressingStream = new GZIPOutputStream(outputStream);
+                try {
+                    compressingStream.write(binaryRepresentation);
+                } finally {
+                    compressingStream.close();
+                }
+            } catch (IOException exception) {
+                throw new IllegalStateException("Cannot compress class file", exception);
+            }
+            return outputStream.toByteArray();
+        }
+
+        /**
+         * Decompresses a binary representation.
+         *
+         * @param binaryRepresentation The compressed binary representation.
+         * @return The decompressed binary representation.
+         */
+        protected static byte[] decompress(byte[] binaryRepresentation) {
+            try {
+                InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(binaryRepresentation));
+                try {
+                    return StreamDrainer.DEFAULT.drain(inputStream);
+                } finally {
+                    inputStream.close();
+                }
+            } catch (IOException exception) {
+                throw new IllegalStateException("Cannot decompress class file", exception);
+            }
+        }
+
         /**
          * An action to define a URL that represents a class file.
          */
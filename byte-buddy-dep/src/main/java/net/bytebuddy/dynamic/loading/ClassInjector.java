@@ -26,7 +26,10 @@ import java.security.Permission;
 import java.security.PrivilegedAction;
 import java.security.ProtectionDomain;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.jar.JarOutputStream;
@@ -56,6 +59,105 @@ public interface ClassInjector {
      */
     Map<TypeDescription, Class<?>> inject(Map<? extends TypeDescription, byte[]> types);
 
+    /**
+     * A listener that is notified of each type that is processed by a class injector.
+     */
+    interface Listener {
+
+        /**
+         * Invoked after a type was injected or after it was discovered that a type of the same name was already loaded.
+         *
+         * @param typeDescription A description of the injected type.
+         * @param type            The injected type or the previously loaded type of the same name.
+         * @param nanos           The time in nanoseconds that was spent on processing the type.
+         */
+        void onInjection(TypeDescription typeDescription, Class<?> type, long nanos);
+
+        /**
+         * A non-operational listener.
+         */
+        enum NoOp implements Listener {
+
+            /**
+             * The singleton instance.
+             */
+            INSTANCE;
+
+            @Override
+            public void onInjection(TypeDescription typeDescription, Class<?> type, long nanos) {
+                /* do nothing */
+            }
+        }
+    }
+
+    /**
+     * An ordering of a group of types where each type is preceded by those of its super classes and interfaces that are
+     * contained in the same group. Injecting types in this order avoids that a type's definition attempts to load a super
+     * type of the same group that was not yet injected. A group with a circular type hierarchy cannot be defined and is rejected.
+     */
+    enum DependencyOrder {
+
+        /**
+         * The singleton instance.
+         */
+        INSTANCE;
+
+        /**
+         * Sorts the supplied types.
+         *
+         * @param types The types to sort mapped to their binary representations.
+         * @return The supplied types in their dependency order.
+         */
+        public Map<TypeDescription, byte[]> sort(Map<? extends TypeDescription, byte[]> types) {
+            Map<String, TypeDescription> typeDescriptions = new HashMap<String, TypeDescription>();
+            for (TypeDescription typeDescription : types.keySet()) {
+                typeDescriptions.put(typeDescription.getName(), typeDescription);
+            }
+            Map<TypeDescription, byte[]> sorted = new LinkedHashMap<TypeDescription, byte[]>();
+            Set<TypeDescription> visiting = new HashSet<TypeDescription>();
+            for (TypeDescription typeDescription : types.keySet()) {
+                sort(typeDescription, types, typeDescriptions, visiting, sorted);
+            }
+            return sorted;
+        }
+
+        /**
+         * Adds a type to the sorted types after adding any of its super types that are contained in the group.
+         *
+         * @param typeDescription  The type to add.
+         * @param types            The types to sort mapped to their binary representations.
+         * @param typeDescriptions The types to sort by their names.
+         * @param visiting         The types of which the super types are currently added.
+         * @param sorted           The types that were already sorted.
+         */
+        private static void sort(TypeDescription typeDescription,
+                                 Map<? extends TypeDescription, byte[]> types,
+                                 Map<String, TypeDescription> typeDescriptions,
+                                 Set<TypeDescription> visiting,
+                                 Map<TypeDescription, byte[]> sorted) {
+            if (sorted.containsKey(typeDescription)) {
+                return;
+            } else if (!visiting.add(typeDescription)) {
+                throw new IllegalArgumentException("Circular type hierarchy for " + typeDescription);
+            }
+            TypeDescription.Generic superClass = typeDescription.getSuperClass();
+            if (superClass != null) {
+                TypeDescription superType = typeDescriptions.get(superClass.asErasure().getName());
+                if (superType != null && !superType.equals(typeDescription)) {
+                    sort(superType, types, typeDescriptions, visiting, sorted);
+                }
+            }
+            for (TypeDescription interfaceType : typeDescription.getInterfaces().asErasures()) {
+                TypeDescription superType = typeDescriptions.get(interfaceType.getName());
+                if (superType != null && !superType.equals(typeDescription)) {
+                    sort(superType, types, typeDescriptions, visiting, sorted);
+                }
+            }
+            visiting.remove(typeDescription);
+            sorted.put(typeDescription, types.get(typeDescription));
+        }
+    }
+
     /**
      * A class injector that uses reflective method calls.
      */
@@ -152,44 +254,84 @@ public interface ClassInjector {
 
         @Override
         public Map<TypeDescription, Class<?>> inject(Map<? extends TypeDescription, byte[]> types) {
+            return inject(types, Listener.NoOp.INSTANCE);
+        }
+
+        /**
+         * Injects the given types into the represented class loader. The types are injected in their {@link DependencyOrder}. If the
+         * class loader is not parallel capable, its lock is acquired only once for all types. Otherwise, the class loading lock of each
+         * type is acquired for its injection.
+         *
+         * @param types    The types to load via injection.
+         * @param listener A listener to notify of each injected type.
+         * @return The loaded types that were passed as arguments.
+         */
+        public Map<TypeDescription, Class<?>> inject(Map<? extends TypeDescription, byte[]> types, Listener listener) {
             Dispatcher dispatcher = DISPATCHER.initialize();
             Map<TypeDescription, Class<?>> loadedTypes = new HashMap<TypeDescription, Class<?>>();
-            for (Map.Entry<? extends TypeDescription, byte[]> entry : types.entrySet()) {
-                String typeName = entry.getKey().getName();
-                synchronized (dispatcher.getClassLoadingLock(classLoader, typeName)) {
-                    Class<?> type = dispatcher.findClass(classLoader, typeName);
-                    if (type == null) {
-                        int packageIndex = typeName.lastIndexOf('.');
-                        if (packageIndex != -1) {
-                            String packageName = typeName.substring(0, packageIndex);
-                            PackageDefinitionStrategy.Definition definition = packageDefinitionStrategy.define(classLoader, packageName, typeName);
-                            if (definition.isDefined()) {
-                                Package definedPackage = dispatcher.getPackage(classLoader, packageName);
-                                if (definedPackage == null) {
-                                    dispatcher.definePackage(classLoader,
-                                            packageName,
-                                            definition.getSpecificationTitle(),
-                                            definition.getSpecificationVersion(),
-                                            definition.getSpecificationVendor(),
-                                            definition.getImplementationTitle(),
-                                            definition.getImplementationVersion(),
-                                            definition.getImplementationVendor(),
-                                            definition.getSealBase());
-                                } else if (!definition.isCompatibleTo(definedPackage)) {
-                                    throw new SecurityException("Sealing violation for package " + packageName);
-                                }
-                            }
-                        }
-                        type = dispatcher.defineClass(classLoader, typeName, entry.getValue(), protectionDomain);
-                    } else if (forbidExisting) {
-                        throw new IllegalStateException("Cannot inject already loaded type: " + type);
+            if (types.isEmpty()) {
+                return loadedTypes;
+            }
+            Map<TypeDescription, byte[]> sortedTypes = DependencyOrder.INSTANCE.sort(types);
+            if (dispatcher.getClassLoadingLock(classLoader, sortedTypes.keySet().iterator().next().getName()) == classLoader) {
+                synchronized (classLoader) {
+                    for (Map.Entry<TypeDescription, byte[]> entry : sortedTypes.entrySet()) {
+                        loadedTypes.put(entry.getKey(), inject(dispatcher, entry.getKey(), entry.getValue(), listener));
+                    }
+                }
+            } else {
+                for (Map.Entry<TypeDescription, byte[]> entry : sortedTypes.entrySet()) {
+                    synchronized (dispatcher.getClassLoadingLock(classLoader, entry.getKey().getName())) {
+                        loadedTypes.put(entry.getKey(), inject(dispatcher, entry.getKey(), entry.getValue(), listener));
                     }
-                    loadedTypes.put(entry.getKey(), type);
                 }
             }
             return loadedTypes;
         }
 
+        /**
+         * Injects a single type while holding its class loading lock.
+         *
+         * @param dispatcher           The dispatcher to use.
+         * @param typeDescription      The type to inject.
+         * @param binaryRepresentation The type's binary representation.
+         * @param listener             A listener to notify of the injected type.
+         * @return The injected type or a previously loaded type of the same name.
+         */
+        private Class<?> inject(Dispatcher dispatcher, TypeDescription typeDescription, byte[] binaryRepresentation, Listener listener) {
+            long start = System.nanoTime();
+            String typeName = typeDescription.getName();
+            Class<?> type = dispatcher.findClass(classLoader, typeName);
+            if (type == null) {
+                int packageIndex = typeName.lastIndexOf('.');
+                if (packageIndex != -1) {
+                    String packageName = typeName.substring(0, packageIndex);
+                    PackageDefinitionStrategy.Definition definition = packageDefinitionStrategy.define(classLoader, packageName, typeName);
+                    if (definition.isDefined()) {
+                        Package definedPackage = dispatcher.getPackage(classLoader, packageName);
+                        if (definedPackage == null) {
+                            dispatcher.definePackage(classLoader,
+                                    packageName,
+                                    definition.getSpecificationTitle(),
+                                    definition.getSpecificationVersion(),
+                                    definition.getSpecificationVendor(),
+                                    definition.getImplementationTitle(),
+                                    definition.getImplementationVersion(),
+                                    definition.getImplementationVendor(),
+                                    definition.getSealBase());
+                        } else if (!definition.isCompatibleTo(definedPackage)) {
+                            throw new SecurityException("Sealing violation for package " + packageName);
+                        }
+                    }
+                }
+                type = dispatcher.defineClass(classLoader, typeName, binaryRepresentation, protectionDomain);
+            } else if (forbidExisting) {
+                throw new IllegalStateException("Cannot inject already loaded type: " + type);
+            }
+            listener.onInjection(typeDescription, type, System.nanoTime() - start);
+            return type;
+        }
+
         /**
          * A dispatcher for accessing a {@link ClassLoader} reflectively.
          */
@@ -915,17 +1057,33 @@ public interface ClassInjector {
 
         @Override
         public Map<TypeDescription, Class<?>> inject(Map<? extends TypeDescription, byte[]> types) {
+            return inject(types, Listener.NoOp.INSTANCE);
+        }
+
+        /**
+         * Injects the given types into the represented class loader in their {@link DependencyOrder} while holding the
+         * class loader's lock once for all types.
+         *
+         * @param types    The types to load via injection.
+         * @param listener A listener to notify of each injected type.
+         * @return The loaded types that were passed as arguments.
+         */
+        public Map<TypeDescription, Class<?>> inject(Map<? extends TypeDescription, byte[]> types, Listener listener) {
             Dispatcher dispatcher = DISPATCHER.initialize();
             Map<TypeDescription, Class<?>> loaded = new HashMap<TypeDescription, Class<?>>();
             synchronized (classLoader == null
                     ? BOOTSTRAP_LOADER_LOCK
                     : classLoader) {
-                for (Map.Entry<? extends TypeDescription, byte[]> entry : types.entrySet()) {
+                for (Map.Entry<TypeDescription, byte[]> entry : DependencyOrder.INSTANCE.sort(types).entrySet()) {
+                    long start = System.nanoTime();
+                    Class<?> type;
                     try {
-                        loaded.put(entry.getKey(), Class.forName(entry.getKey().getName(), false, classLoader));
+                        type = Class.forName(entry.getKey().getName(), false, classLoader);
                     } catch (ClassNotFoundException ignored) {
-                        loaded.put(entry.getKey(), dispatcher.defineClass(classLoader, entry.getKey().getName(), entry.getValue(), protectionDomain));
+                        type = dispatcher.defineClass(classLoader, entry.getKey().getName(), entry.getValue(), protectionDomain);
                     }
+                    listener.onInjection(entry.getKey(), type, System.nanoTime() - start);
+                    loaded.put(entry.getKey(), type);
                 }
             }
             return loaded;
@@ -1,12 +1,14 @@
 package net.bytebuddy.dynamic.loading;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import lombok.EqualsAndHashCode;
 import net.bytebuddy.description.type.TypeDescription;
 
 import java.io.File;
 import java.lang.instrument.Instrumentation;
+import java.lang.ref.WeakReference;
 import java.security.ProtectionDomain;
-import java.util.Map;
+import java.util.*;
 
 /**
  * A strategy for loading a collection of types.
@@ -409,4 +411,210 @@ public interface ClassLoadingStrategy<T extends ClassLoader> {
             return new ClassInjector.UsingUnsafe(classLoader, protectionDomain).inject(types);
         }
     }
+
+    /**
+     * <p>
+     * A class loading strategy that loads types into a bounded number of shared {@link ByteArrayClassLoader}s per parent class loader
+     * instead of creating a new class loader for each loaded group of types. This avoids the cost of creating a large number of class
+     * loaders, each of which requires its own locks and storage.
+     * </p>
+     * <p>
+     * A shared class loader is chosen such that it does not yet define a type of the same name as any loaded type. If no pooled class
+     * loader can define all types, a new class loader is created that is not retained by the pool. The pool references its class loaders
+     * weakly such that a class loader is only retained for as long as any of its types or instances are reachable. Note that a shared class
+     * loader is only eligible for garbage collection once all types of all groups that it defines are unreachable.
+     * </p>
+     */
+    @EqualsAndHashCode(exclude = {"pool", "index"})
+    class ForClassLoaderPool implements ClassLoadingStrategy<ClassLoader> {
+
+        /**
+         * The number of class loaders that are pooled per parent class loader.
+         */
+        private final int size;
+
+        /**
+         * The protection domain to apply.
+         */
+        private final ProtectionDomain protectionDomain;
+
+        /**
+         * The package definer to be used for querying information on package information.
+         */
+        private final PackageDefinitionStrategy packageDefinitionStrategy;
+
+        /**
+         * The persistence handler to apply.
+         */
+        private final ByteArrayClassLoader.PersistenceHandler persistenceHandler;
+
+        /**
+         * {@code true} if the created class loaders should apply child-first semantics.
+         */
+        private final boolean childFirst;
+
+        /**
+         * The pooled class loaders by their parent class loader.
+         */
+        private final Map<ClassLoader, Slot[]> pool;
+
+        /**
+         * The index of the slot at which a search for an applicable class loader is started next.
+         */
+        private int index;
+
+        /**
+         * Creates a new class loading strategy that pools parent-first class loaders with a latent persistence handler.
+         *
+         * @param size The number of class loaders that are pooled per parent class loader.
+         */
+        public ForClassLoaderPool(int size) {
+            this(size, NO_PROTECTION_DOMAIN, PackageDefinitionStrategy.Trivial.INSTANCE, ByteArrayClassLoader.PersistenceHandler.LATENT, false);
+        }
+
+        /**
+         * Creates a new class loading strategy that pools class loaders.
+         *
+         * @param size                      The number of class loaders that are pooled per parent class loader.
+         * @param protectionDomain          The protection domain to apply.
+         * @param packageDefinitionStrategy The package definer to be used for querying information on package information.
+         * @param persistenceHandler        The persistence handler to apply.
+         * @param childFirst                {@code true} if the created class loaders should apply child-first semantics.
+         */
+        public ForClassLoaderPool(int size,
+                                  ProtectionDomain protectionDomain,
+                                  PackageDefinitionStrategy packageDefinitionStrategy,
+                                  ByteArrayClassLoader.PersistenceHandler persistenceHandler,
+                                  boolean childFirst) {
+            if (size < 1) {
+                throw new IllegalArgumentException("Pool size must be positive: " + size);
+            }
+            this.size = size;
+            this.protectionDomain = protectionDomain;
+            this.packageDefinitionStrategy = packageDefinitionStrategy;
+            this.persistenceHandler = persistenceHandler;
+            this.childFirst = childFirst;
+            pool = new WeakHashMap<ClassLoader, Slot[]>();
+        }
+
+        @Override
+        public Map<TypeDescription, Class<?>> load(ClassLoader classLoader, Map<TypeDescription, byte[]> types) {
+            Map<String, byte[]> typeDefinitions = new LinkedHashMap<String, byte[]>();
+            for (Map.Entry<TypeDescription, byte[]> entry : types.entrySet()) {
+                typeDefinitions.put(entry.getKey().getName(), entry.getValue());
+            }
+            InjectionClassLoader injectionClassLoader = acquire(classLoader, typeDefinitions.keySet());
+            Map<String, Class<?>> definedTypes;
+            try {
+                definedTypes = injectionClassLoader.defineClasses(typeDefinitions);
+            } catch (ClassNotFoundException exception) {
+                throw new IllegalStateException("Cannot load classes: " + types, exception);
+            }
+            Map<TypeDescription, Class<?>> loadedTypes = new LinkedHashMap<TypeDescription, Class<?>>();
+            for (TypeDescription typeDescription : types.keySet()) {
+                Class<?> type = definedTypes.get(typeDescription.getName());
+                if (type.getClassLoader() != injectionClassLoader) {
+                    throw new IllegalStateException("Class already loaded: " + type);
+                }
+                loadedTypes.put(typeDescription, type);
+            }
+            return loadedTypes;
+        }
+
+        /**
+         * Acquires a class loader that does not yet define any type of the given names and reserves these names.
+         *
+         * @param parent The parent class loader.
+         * @param names  The names of the types to define.
+         * @return A class loader to define the types in.
+         */
+        protected InjectionClassLoader acquire(ClassLoader parent, Set<String> names) {
+            synchronized (pool) {
+                Slot[] slots = pool.get(parent);
+                if (slots == null) {
+                    slots = new Slot[size];
+                    pool.put(parent, slots);
+                }
+                for (int attempt = 0; attempt < size; attempt++) {
+                    int current = index;
+                    index = (index + 1) % size;
+                    InjectionClassLoader injectionClassLoader = slots[current] == null
+                            ? null
+                            : slots[current].getClassLoader();
+                    if (injectionClassLoader == null) {
+                        injectionClassLoader = make(parent);
+                        slots[current] = new Slot(injectionClassLoader);
+                    }
+                    if (slots[current].reserve(names)) {
+                        return injectionClassLoader;
+                    }
+                }
+            }
+            return make(parent);
+        }
+
+        /**
+         * Creates a new class loader that does not yet define any types.
+         *
+         * @param parent The parent class loader.
+         * @return A new class loader.
+         */
+        @SuppressFBWarnings(value = "DP_CREATE_CLASSLOADER_INSIDE_DO_PRIVILEGED", justification = "Privilege is explicit user responsibility")
+        protected InjectionClassLoader make(ClassLoader parent) {
+            return childFirst
+                    ? new ByteArrayClassLoader.ChildFirst(parent, Collections.<String, byte[]>emptyMap(), protectionDomain, persistenceHandler, packageDefinitionStrategy)
+                    : new ByteArrayClassLoader(parent, Collections.<String, byte[]>emptyMap(), protectionDomain, persistenceHandler, packageDefinitionStrategy);
+        }
+
+        /**
+         * A slot of the pool that weakly references a shared class loader together with the names of the types it defines.
+         */
+        protected static class Slot {
+
+            /**
+             * A weak reference to the shared class loader.
+             */
+            private final WeakReference<InjectionClassLoader> classLoader;
+
+            /**
+             * The names of the types that were assigned to the shared class loader.
+             */
+            private final Set<String> names;
+
+            /**
+             * Creates a new slot.
+             *
+             * @param classLoader The shared class loader.
+             */
+            protected Slot(InjectionClassLoader classLoader) {
+                this.classLoader = new WeakReference<InjectionClassLoader>(classLoader);
+                names = new HashSet<String>();
+            }
+
+            /**
+             * Returns the shared class loader.
+             *
+             * @return The shared class loader or {@code null} if it was garbage collected.
+             */
+            protected InjectionClassLoader getClassLoader() {
+                return classLoader.get();
+            }
+
+            /**
+             * Reserves the given names if none of them was reserved before.
+             *
+             * @param names The names to reserve.
+             * @return {@code true} if the names were reserved.
+             */
+            protected boolean reserve(Set<String> names) {
+                for (String name : names) {
+                    if (this.names.contains(name)) {
+                        return false;
+                    }
+                }
+                this.names.addAll(names);
+                return true;
+            }
+        }
+    }
 }
@@ -3,6 +3,7 @@ package net.bytebuddy.dynamic.loading;
 import net.bytebuddy.description.type.TypeDescription;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -30,6 +31,22 @@ public abstract class InjectionClassLoader extends ClassLoader {
      */
     public abstract Class<?> defineClass(String name, byte[] binaryRepresentation) throws ClassNotFoundException;
 
+    /**
+     * Defines a group of types to be loaded by this class loader. Types of the group might reference each other, for example
+     * as a super type, independently of the group's iteration order.
+     *
+     * @param typeDefinitions The binary representations of the types to define mapped by their names.
+     * @return The defined classes or previously defined classes mapped by their names.
+     * @throws ClassNotFoundException If a class could not be loaded.
+     */
+    public Map<String, Class<?>> defineClasses(Map<String, byte[]> typeDefinitions) throws ClassNotFoundException {
+        Map<String, Class<?>> types = new LinkedHashMap<String, Class<?>>();
+        for (Map.Entry<String, byte[]> entry : typeDefinitions.entrySet()) {
+            types.put(entry.getKey(), defineClass(entry.getKey(), entry.getValue()));
+        }
+        return types;
+    }
+
     /**
      * A class loading strategy for adding a type to an injection class loader.
      */
@@ -45,14 +62,20 @@ public abstract class InjectionClassLoader extends ClassLoader {
             if (classLoader == null) {
                 throw new IllegalArgumentException("Cannot add types to bootstrap class loader: " + types);
             }
-            Map<TypeDescription, Class<?>> loadedTypes = new HashMap<TypeDescription, Class<?>>();
+            Map<String, byte[]> typeDefinitions = new LinkedHashMap<String, byte[]>();
+            for (Map.Entry<TypeDescription, byte[]> entry : types.entrySet()) {
+                typeDefinitions.put(entry.getKey().getName(), entry.getValue());
+            }
+            Map<String, Class<?>> definedTypes;
             try {
-                for (Map.Entry<TypeDescription, byte[]> entry : types.entrySet()) {
-                    loadedTypes.put(entry.getKey(), classLoader.defineClass(entry.getKey().getName(), entry.getValue()));
-                }
+                definedTypes = classLoader.defineClasses(typeDefinitions);
             } catch (ClassNotFoundException exception) {
                 throw new IllegalStateException("Cannot load classes: " + types, exception);
             }
+            Map<TypeDescription, Class<?>> loadedTypes = new HashMap<TypeDescription, Class<?>>();
+            for (TypeDescription typeDescription : types.keySet()) {
+                loadedTypes.put(typeDescription, definedTypes.get(typeDescription.getName()));
+            }
             return loadedTypes;
         }
     }
@@ -5,12 +5,16 @@ import lombok.EqualsAndHashCode;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.method.MethodList;
 import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.description.type.PackageDescription;
 import net.bytebuddy.description.type.TypeDefinition;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.matcher.ElementMatcher;
 import net.bytebuddy.matcher.FilterableList;
 import org.objectweb.asm.Opcodes;
 
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
 import java.util.*;
 
 import static net.bytebuddy.matcher.ElementMatchers.*;
@@ -420,17 +424,17 @@ public interface MethodGraph {
             /**
              * The harmonizer to be used.
              */
-            private final Harmonizer<T> harmonizer;
+            protected final Harmonizer<T> harmonizer;
 
             /**
              * The merger to be used.
              */
-            private final Merger merger;
+            protected final Merger merger;
 
             /**
              * A visitor to apply to all type descriptions before analyzing their methods or resolving super types.
              */
-            private final TypeDescription.Generic.Visitor<? extends TypeDescription.Generic> visitor;
+            protected final TypeDescription.Generic.Visitor<? extends TypeDescription.Generic> visitor;
 
             /**
              * Creates a new default method graph compiler.
@@ -573,10 +577,274 @@ public interface MethodGraph {
                     interfaceStore = interfaceStore.combineWith(analyze(interfaceType.accept(visitor), interfaceType, snapshots, relevanceMatcher));
                 }
                 store = store.inject(interfaceStore);
-                for (MethodDescription methodDescription : typeDefinition.getDeclaredMethods().filter(relevanceMatcher)) {
-                    store = store.registerTopLevel(methodDescription, harmonizer);
+                return store.registerTopLevel(typeDefinition.getDeclaredMethods().filter(relevanceMatcher), harmonizer);
+            }
+
+            /**
+             * <p>
+             * A default method graph compiler that retains the key stores of analyzed super types across compilations such that
+             * the method graph of a type that shares super types with a previously compiled type does not need to analyze these
+             * super types again. Only stores of non-generic types that the view point of a compilation is assignable to are retained
+             * as the visibility of the methods of such types only depends on the package of the view point. At most the specified
+             * number of stores are retained where the least recently used store is discarded first.
+             * </p>
+             * <p>
+             * Stores are retained by the identity of the type description they describe such that types of the same name but of
+             * different class loaders are never confused. A store is therefore only reused for a type that is represented by the
+             * same type description, as for example the descriptions of a caching {@link net.bytebuddy.pool.TypePool}. Type
+             * descriptions are only referenced weakly and stores are only referenced softly such that a retained store does not
+             * prevent a class loader from being garbage collected.
+             * </p>
+             *
+             * @param <T> The type of the harmonizer token to be used for linking methods of different types.
+             */
+            @EqualsAndHashCode(callSuper = true, exclude = {"cache", "referenceQueue"})
+            public static class WithCache<T> extends Default<T> {
+
+                /**
+                 * The maximum number of retained stores.
+                 */
+                private final int maximumSize;
+
+                /**
+                 * The retained stores by their type and the package of the view point they were created for.
+                 */
+                private final Map<CacheKey, SoftReference<Key.Store<T>>> cache;
+
+                /**
+                 * A reference queue that is notified when the type of a retained store was garbage collected.
+                 */
+                private final ReferenceQueue<Object> referenceQueue;
+
+                /**
+                 * Creates a new default method graph compiler that retains key stores of analyzed super types.
+                 *
+                 * @param harmonizer  The harmonizer to be used.
+                 * @param merger      The merger to be used.
+                 * @param visitor     A visitor to apply to all type descriptions before analyzing their methods or resolving super types.
+                 * @param maximumSize The maximum number of retained stores.
+                 */
+                protected WithCache(Harmonizer<T> harmonizer,
+                                    Merger merger,
+                                    TypeDescription.Generic.Visitor<? extends TypeDescription.Generic> visitor,
+                                    int maximumSize) {
+                    super(harmonizer, merger, visitor);
+                    if (maximumSize < 1) {
+                        throw new IllegalArgumentException("Maximum size must be positive: " + maximumSize);
+                    }
+                    this.maximumSize = maximumSize;
+                    cache = new LinkedHashMap<CacheKey, SoftReference<Key.Store<T>>>(16, 0.75f, true);
+                    referenceQueue = new ReferenceQueue<Object>();
+                }
+
+                /**
+                 * Creates a caching compiler using the given harmonizer and merger. All raw types are reified before analyzing their properties.
+                 *
+                 * @param harmonizer  The harmonizer to be used for creating tokens that uniquely identify a method hierarchy.
+                 * @param merger      The merger to be used for identifying a method to represent an ambiguous method resolution.
+                 * @param maximumSize The maximum number of retained stores.
+                 * @param <S>         The type of the harmonizer token.
+                 * @return A caching compiler for the given harmonizer and merger.
+                 */
+                public static <S> Compiler of(Harmonizer<S> harmonizer, Merger merger, int maximumSize) {
+                    return new WithCache<S>(harmonizer, merger, TypeDescription.Generic.Visitor.Reifying.INITIATING, maximumSize);
+                }
+
+                /**
+                 * Creates a caching compiler for a method hierarchy following the rules of the Java programming language.
+                 *
+                 * @param maximumSize The maximum number of retained stores.
+                 * @return A caching compiler for resolving a method hierarchy following the rules of the Java programming language.
+                 * @see Default#forJavaHierarchy()
+                 */
+                public static Compiler forJavaHierarchy(int maximumSize) {
+                    return of(Harmonizer.ForJavaMethod.INSTANCE, Merger.Directional.LEFT, maximumSize);
+                }
+
+                /**
+                 * Creates a caching compiler for a method hierarchy following the rules of the Java virtual machine.
+                 *
+                 * @param maximumSize The maximum number of retained stores.
+                 * @return A caching compiler for resolving a method hierarchy following the rules of the Java virtual machine.
+                 * @see Default#forJVMHierarchy()
+                 */
+                public static Compiler forJVMHierarchy(int maximumSize) {
+                    return of(Harmonizer.ForJVMMethod.INSTANCE, Merger.Directional.LEFT, maximumSize);
+                }
+
+                @Override
+                public MethodGraph.Linked compile(TypeDefinition typeDefinition, TypeDescription viewPoint) {
+                    return new Compilation(viewPoint).compile(typeDefinition, viewPoint);
+                }
+
+                /**
+                 * Looks up a retained store.
+                 *
+                 * @param typeDescription The type of the store.
+                 * @param packageName     The name of the view point's package or {@code null} if the view point does not define a package.
+                 * @return The retained store or {@code null} if no such store is retained.
+                 */
+                protected synchronized Key.Store<T> find(TypeDescription typeDescription, String packageName) {
+                    expungeStaleEntries();
+                    SoftReference<Key.Store<T>> reference = cache.get(new CacheKey(typeDescription, packageName));
+                    return reference == null
+                            ? null
+                            : reference.get();
+                }
+
+                /**
+                 * Retains a store and discards the least recently used stores if the maximum number of retained stores is exceeded.
+                 *
+                 * @param typeDescription The type of the store.
+                 * @param packageName     The name of the view point's package or {@code null} if the view point does not define a package.
+                 * @param store           The store to retain.
+                 */
+                protected synchronized void register(TypeDescription typeDescription, String packageName, Key.Store<T> store) {
+                    cache.put(new CacheKey(typeDescription, packageName, referenceQueue), new SoftReference<Key.Store<T>>(store));
+                    Iterator<SoftReference<Key.Store<T>>> iterator = cache.values().iterator();
+                    while (cache.size() > maximumSize) {
+                        iterator.next();
+                        iterator.remove();
+                    }
+                }
+
+                /**
+                 * Removes all retained stores of types that were garbage collected.
+                 */
+                private void expungeStaleEntries() {
+                    Object reference;
+                    while ((reference = referenceQueue.poll()) != null) {
+                        cache.remove(reference);
+                    }
+                }
+
+                /**
+                 * A key of a retained store that references the described type weakly and that compares it by its identity. A
+                 * description of a loaded type is represented by the loaded {@link Class} such that any description of the same
+                 * type that is loaded by the same class loader resolves the same store. Any other type description is represented
+                 * by itself as its name does not identify its class loader.
+                 */
+                protected static class CacheKey extends WeakReference<Object> {
+
+                    /**
+                     * The name of the view point's package or {@code null} if the view point does not define a package.
+                     */
+                    private final String packageName;
+
+                    /**
+                     * The hash code of this key.
+                     */
+                    private final int hashCode;
+
+                    /**
+                     * Creates a new cache key for looking up a store.
+                     *
+                     * @param typeDescription The type of the store.
+                     * @param packageName     The name of the view point's package or {@code null} if the view point does not define a package.
+                     */
+                    protected CacheKey(TypeDescription typeDescription, String packageName) {
+                        this(typeDescription, packageName, null);
+                    }
+
+                    /**
+                     * Creates a new cache key for retaining a store.
+                     *
+                     * @param typeDescription The type of the store.
+                     * @param packageName     The name of the view point's package or {@code null} if the view point does not define a package.
+                     * @param referenceQueue  The reference queue to notify when the type is garbage collected or {@code null}.
+                     */
+                    protected CacheKey(TypeDescription typeDescription, String packageName, ReferenceQueue<? super Object> referenceQueue) {
+                        this(typeDescription instanceof TypeDescription.ForLoadedType
+                                ? ((TypeDescription.ForLoadedType) typeDescription).getLoadedType()
+                                : typeDescription, packageName, referenceQueue);
+                    }
+
+                    /**
+                     * Creates a new cache key.
+                     *
+                     * @param identity       The loaded type or the type description that identifies the type of the store.
+                     * @param packageName    The name of the view point's package or {@code null} if the view point does not define a package.
+                     * @param referenceQueue The reference queue to notify when the type is garbage collected or {@code null}.
+                     */
+                    private CacheKey(Object identity, String packageName, ReferenceQueue<? super Object> referenceQueue) {
+                        super(identity, referenceQueue);
+                        this.packageName = packageName;
+                        hashCode = 31 * System.identityHashCode(identity) + (packageName == null ? 0 : packageName.hashCode());
+                    }
+
+                    @Override
+                    public int hashCode() {
+                        return hashCode;
+                    }
+
+                    @Override
+                    public boolean equals(Object other) {
+                        if (this == other) {
+                            return true;
+                        } else if (!(other instanceof CacheKey)) {
+                            return false;
+                        }
+                        CacheKey cacheKey = (CacheKey) other;
+                        Object identity = get();
+                        return identity != null
+                                && hashCode == cacheKey.hashCode
+                                && identity == cacheKey.get()
+                                && (packageName == null ? cacheKey.packageName == null : packageName.equals(cacheKey.packageName));
+                    }
+                }
+
+                /**
+                 * A single compilation of a method graph that resolves the stores of non-generic super types that are assignable
+                 * from the view point from the compiler's retained stores.
+                 */
+                protected class Compilation extends Default<T> {
+
+                    /**
+                     * The view point of this compilation.
+                     */
+                    private final TypeDescription viewPoint;
+
+                    /**
+                     * The name of the view point's package or {@code null} if the view point does not define a package.
+                     */
+                    private final String packageName;
+
+                    /**
+                     * Creates a new compilation.
+                     *
+                     * @param viewPoint The view point of this compilation.
+                     */
+                    protected Compilation(TypeDescription viewPoint) {
+                        super(WithCache.this.harmonizer, WithCache.this.merger, WithCache.this.visitor);
+                        this.viewPoint = viewPoint;
+                        PackageDescription packageDescription = viewPoint.getPackage();
+                        packageName = packageDescription == null
+                                ? null
+                                : packageDescription.getName();
+                    }
+
+                    @Override
+                    protected Key.Store<T> analyze(TypeDefinition typeDefinition,
+                                                   TypeDefinition key,
+                                                   Map<TypeDefinition, Key.Store<T>> snapshots,
+                                                   ElementMatcher<? super MethodDescription> relevanceMatcher) {
+                        Key.Store<T> store = snapshots.get(key);
+                        if (store == null) {
+                            TypeDescription typeDescription = key.asErasure();
+                            if (key.getSort().isNonGeneric() && typeDescription.isAssignableFrom(viewPoint)) {
+                                store = find(typeDescription, packageName);
+                                if (store == null) {
+                                    store = doAnalyze(typeDefinition, snapshots, relevanceMatcher);
+                                    register(typeDescription, packageName, store);
+                                }
+                            } else {
+                                store = doAnalyze(typeDefinition, snapshots, relevanceMatcher);
+                            }
+                            snapshots.put(key, store);
+                        }
+                        return store;
+                    }
                 }
-                return store;
             }
 
             /**
@@ -1005,28 +1273,50 @@ public interface MethodGraph {
                      * @return A store with the given method registered as a top-level method.
                      */
                     protected Store<V> registerTopLevel(MethodDescription methodDescription, Harmonizer<V> harmonizer) {
-                        Harmonized<V> key = Harmonized.of(methodDescription, harmonizer);
+                        return registerTopLevel(Collections.singletonList(methodDescription), harmonizer);
+                    }
+
+                    /**
+                     * Registers several new top level methods within this store in their iteration order. Other than registering
+                     * each method individually, the entries of this store are only copied once.
+                     *
+                     * @param methodDescriptions The methods to register.
+                     * @param harmonizer         The harmonizer to use for determining method equality.
+                     * @return A store with the given methods registered as top-level methods.
+                     */
+                    protected Store<V> registerTopLevel(List<? extends MethodDescription> methodDescriptions, Harmonizer<V> harmonizer) {
+                        if (methodDescriptions.isEmpty()) {
+                            return this;
+                        }
                         LinkedHashMap<Harmonized<V>, Entry<V>> entries = new LinkedHashMap<Harmonized<V>, Entry<V>>(this.entries);
-                        Entry<V> currentEntry = entries.remove(key);
-                        Entry<V> extendedEntry = (currentEntry == null
-                                ? new Entry.Initial<V>(key)
-                                : currentEntry).extendBy(methodDescription, harmonizer);
-                        entries.put(extendedEntry.getKey(), extendedEntry);
+                        for (MethodDescription methodDescription : methodDescriptions) {
+                            Harmonized<V> key = Harmonized.of(methodDescription, harmonizer);
+                            Entry<V> currentEntry = entries.remove(key);
+                            Entry<V> extendedEntry = (currentEntry == null
+                                    ? new Entry.Initial<V>(key)
+                                    : currentEntry).extendBy(methodDescription, harmonizer);
+                            entries.put(extendedEntry.getKey(), extendedEntry);
+                        }
                         return new Store<V>(entries);
                     }
 
                     /**
-                     * Combines this store with the given store.
+                     * Combines this store with the given store. The entries of this store are only copied once.
                      *
                      * @param store The store to combine with this store.
                      * @return A store representing a combination of this store and the given store.
                      */
                     protected Store<V> combineWith(Store<V> store) {
-                        Store<V> combinedStore = this;
+                        if (store.entries.isEmpty()) {
+                            return this;
+                        } else if (entries.isEmpty()) {
+                            return store;
+                        }
+                        LinkedHashMap<Harmonized<V>, Entry<V>> entries = new LinkedHashMap<Harmonized<V>, Entry<V>>(this.entries);
                         for (Entry<V> entry : store.entries.values()) {
-                            combinedStore = combinedStore.combineWith(entry);
+                            combineWith(entries, entry);
                         }
-                        return combinedStore;
+                        return new Store<V>(entries);
                     }
 
                     /**
@@ -1037,26 +1327,42 @@ public interface MethodGraph {
                      */
                     protected Store<V> combineWith(Entry<V> entry) {
                         LinkedHashMap<Harmonized<V>, Entry<V>> entries = new LinkedHashMap<Harmonized<V>, Entry<V>>(this.entries);
-                        Entry<V> previousEntry = entries.remove(entry.getKey());
-                        Entry<V> injectedEntry = previousEntry == null
+                        combineWith(entries, entry);
+                        return new Store<V>(entries);
+                    }
+
+                    /**
+                     * Combines the supplied entries with the given entry.
+                     *
+                     * @param entries The entries to combine with the given entry which are modified by this method.
+                     * @param entry   The entry to combine with the supplied entries.
+                     * @param <W>     The type of the harmonized key of the entries.
+                     */
+                    private static <W> void combineWith(LinkedHashMap<Harmonized<W>, Entry<W>> entries, Entry<W> entry) {
+                        Entry<W> previousEntry = entries.remove(entry.getKey());
+                        Entry<W> injectedEntry = previousEntry == null
                                 ? entry
                                 : combine(previousEntry, entry);
                         entries.put(injectedEntry.getKey(), injectedEntry);
-                        return new Store<V>(entries);
                     }
 
                     /**
-                     * Injects the given store into this store.
+                     * Injects the given store into this store. The entries of this store are only copied once.
                      *
                      * @param store The key store to inject into this store.
                      * @return A store that represents this store with the given store injected.
                      */
                     protected Store<V> inject(Store<V> store) {
-                        Store<V> injectedStore = this;
+                        if (store.entries.isEmpty()) {
+                            return this;
+                        } else if (entries.isEmpty()) {
+                            return store;
+                        }
+                        LinkedHashMap<Harmonized<V>, Entry<V>> entries = new LinkedHashMap<Harmonized<V>, Entry<V>>(this.entries);
                         for (Entry<V> entry : store.entries.values()) {
-                            injectedStore = injectedStore.inject(entry);
+                            inject(entries, entry);
                         }
-                        return injectedStore;
+                        return new Store<V>(entries);
                     }
 
                     /**
@@ -1067,12 +1373,23 @@ public interface MethodGraph {
                      */
                     protected Store<V> inject(Entry<V> entry) {
                         LinkedHashMap<Harmonized<V>, Entry<V>> entries = new LinkedHashMap<Harmonized<V>, Entry<V>>(this.entries);
-                        Entry<V> dominantEntry = entries.remove(entry.getKey());
-                        Entry<V> injectedEntry = dominantEntry == null
+                        inject(entries, entry);
+                        return new Store<V>(entries);
+                    }
+
+                    /**
+                     * Injects the given entry into the supplied entries.
+                     *
+                     * @param entries The entries to inject the given entry into which are modified by this method.
+                     * @param entry   The entry to be injected.
+                     * @param <W>     The type of the harmonized key of the entries.
+                     */
+                    private static <W> void inject(LinkedHashMap<Harmonized<W>, Entry<W>> entries, Entry<W> entry) {
+                        Entry<W> dominantEntry = entries.remove(entry.getKey());
+                        Entry<W> injectedEntry = dominantEntry == null
                                 ? entry
                                 : dominantEntry.inject(entry.getKey(), entry.getVisibility());
                         entries.put(injectedEntry.getKey(), injectedEntry);
-                        return new Store<V>(entries);
                     }
 
                     /**
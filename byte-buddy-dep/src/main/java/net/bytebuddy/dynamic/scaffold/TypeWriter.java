@@ -1857,6 +1857,35 @@ public interface TypeWriter<T> {
 
             @Override
             public MethodVisitor visitMethod(int modifiers, String name, String descriptor, String signature, String[] exceptions) {
+                assertMethod(modifiers, name, descriptor, signature);
+                return new ValidatingMethodVisitor(super.visitMethod(modifiers, name, descriptor, signature, exceptions), name);
+            }
+
+            /**
+             * Visits a method that is copied without alteration from a class file of the same class file version and sort. Only the method's
+             * declaration is validated. The method's code is not validated such that the underlying class writer can copy the method verbatim.
+             *
+             * @param modifiers  The method's modifiers.
+             * @param name       The method's internal name.
+             * @param descriptor The method's descriptor.
+             * @param signature  The method's generic signature or {@code null} if the method is not generic.
+             * @param exceptions The internal names of the method's declared exceptions or {@code null} if no exceptions are declared.
+             * @return A method visitor for visiting the preserved method.
+             */
+            protected MethodVisitor visitPreservedMethod(int modifiers, String name, String descriptor, String signature, String[] exceptions) {
+                assertMethod(modifiers, name, descriptor, signature);
+                return super.visitMethod(modifiers, name, descriptor, signature, exceptions);
+            }
+
+            /**
+             * Asserts the declaration of a method against this visitor's constraint.
+             *
+             * @param modifiers  The method's modifiers.
+             * @param name       The method's internal name.
+             * @param descriptor The method's descriptor.
+             * @param signature  The method's generic signature or {@code null} if the method is not generic.
+             */
+            private void assertMethod(int modifiers, String name, String descriptor, String signature) {
                 constraint.assertMethod(name,
                         (modifiers & Opcodes.ACC_ABSTRACT) != 0,
                         (modifiers & Opcodes.ACC_PUBLIC) != 0,
@@ -1868,7 +1897,6 @@ public interface TypeWriter<T> {
                         name.equals(MethodDescription.CONSTRUCTOR_INTERNAL_NAME),
                         !descriptor.startsWith(NO_PARAMETERS) || descriptor.endsWith(RETURNS_VOID),
                         signature != null);
-                return new ValidatingMethodVisitor(super.visitMethod(modifiers, name, descriptor, signature, exceptions), name);
             }
 
             /**
@@ -2721,6 +2749,16 @@ public interface TypeWriter<T> {
              */
             private final TypePool typePool;
 
+            /**
+             * The already computed common super classes by the internal names of both queried types in their natural order.
+             */
+            private final Map<String, String> commonSuperClasses;
+
+            /**
+             * The super classes of all types that were queried by their internal names, beginning with the direct super class.
+             */
+            private final Map<String, List<TypeDescription>> superClasses;
+
             /**
              * Creates a new frame computing class writer.
              *
@@ -2730,6 +2768,8 @@ public interface TypeWriter<T> {
             protected FrameComputingClassWriter(int flags, TypePool typePool) {
                 super(flags);
                 this.typePool = typePool;
+                commonSuperClasses = new HashMap<String, String>();
+                superClasses = new HashMap<String, List<TypeDescription>>();
             }
 
             /**
@@ -2742,10 +2782,31 @@ public interface TypeWriter<T> {
             protected FrameComputingClassWriter(ClassReader classReader, int flags, TypePool typePool) {
                 super(classReader, flags);
                 this.typePool = typePool;
+                commonSuperClasses = new HashMap<String, String>();
+                superClasses = new HashMap<String, List<TypeDescription>>();
             }
 
             @Override
             protected String getCommonSuperClass(String leftTypeName, String rightTypeName) {
+                String key = leftTypeName.compareTo(rightTypeName) < 0
+                        ? leftTypeName + ';' + rightTypeName
+                        : rightTypeName + ';' + leftTypeName;
+                String commonSuperClass = commonSuperClasses.get(key);
+                if (commonSuperClass == null) {
+                    commonSuperClass = resolveCommonSuperClass(leftTypeName, rightTypeName);
+                    commonSuperClasses.put(key, commonSuperClass);
+                }
+                return commonSuperClass;
+            }
+
+            /**
+             * Resolves the common super class of two types.
+             *
+             * @param leftTypeName  The internal name of the first type.
+             * @param rightTypeName The internal name of the second type.
+             * @return The internal name of the most specific common super class of both types.
+             */
+            private String resolveCommonSuperClass(String leftTypeName, String rightTypeName) {
                 TypeDescription leftType = typePool.describe(leftTypeName.replace('/', '.')).resolve();
                 TypeDescription rightType = typePool.describe(rightTypeName.replace('/', '.')).resolve();
                 if (leftType.isAssignableFrom(rightType)) {
@@ -2754,12 +2815,33 @@ public interface TypeWriter<T> {
                     return rightType.getInternalName();
                 } else if (leftType.isInterface() || rightType.isInterface()) {
                     return TypeDescription.OBJECT.getInternalName();
-                } else {
-                    do {
-                        leftType = leftType.getSuperClass().asErasure();
-                    } while (!leftType.isAssignableFrom(rightType));
-                    return leftType.getInternalName();
                 }
+                for (TypeDescription superClass : getSuperClasses(leftType)) {
+                    if (superClass.isAssignableFrom(rightType)) {
+                        return superClass.getInternalName();
+                    }
+                }
+                return TypeDescription.OBJECT.getInternalName();
+            }
+
+            /**
+             * Returns all super classes of a type beginning with its direct super class.
+             *
+             * @param typeDescription The type for which to resolve the super classes.
+             * @return All super classes of the supplied type beginning with its direct super class.
+             */
+            private List<TypeDescription> getSuperClasses(TypeDescription typeDescription) {
+                List<TypeDescription> superClasses = this.superClasses.get(typeDescription.getInternalName());
+                if (superClasses == null) {
+                    superClasses = new ArrayList<TypeDescription>();
+                    TypeDescription.Generic superClass = typeDescription.getSuperClass();
+                    if (superClass != null) {
+                        superClasses.add(superClass.asErasure());
+                        superClasses.addAll(getSuperClasses(superClass.asErasure()));
+                    }
+                    this.superClasses.put(typeDescription.getInternalName(), superClasses);
+                }
+                return superClasses;
             }
         }
 
@@ -2888,7 +2970,7 @@ public interface TypeWriter<T> {
                 try {
                     int writerFlags = asmVisitorWrapper.mergeWriter(AsmVisitorWrapper.NO_FLAGS);
                     int readerFlags = asmVisitorWrapper.mergeReader(AsmVisitorWrapper.NO_FLAGS);
-                    ClassReader classReader = new ClassReader(classFileLocator.locate(originalType.getName()).resolve());
+                    ClassReader classReader = toClassReader();
                     ClassWriter classWriter = new FrameComputingClassWriter(classReader, writerFlags, typePool);
                     ContextRegistry contextRegistry = new ContextRegistry();
                     classReader.accept(writeTo(ValidatingClassVisitor.of(classWriter, typeValidation),
@@ -2902,6 +2984,22 @@ public interface TypeWriter<T> {
                 }
             }
 
+            /**
+             * Resolves a class reader for the original type. If the type pool retained a class reader for the original type when
+             * describing it, this reader is reused. Otherwise, the original type's class file is located and parsed.
+             *
+             * @return A class reader for the original type's class file.
+             * @throws IOException If the class file of the original type cannot be located.
+             */
+            private ClassReader toClassReader() throws IOException {
+                ClassReader classReader = typePool instanceof TypePool.ReaderRetaining
+                        ? ((TypePool.ReaderRetaining) typePool).claim(originalType.getName())
+                        : null;
+                return classReader == null
+                        ? new ClassReader(classFileLocator.locate(originalType.getName()).resolve())
+                        : classReader;
+            }
+
             /**
              * Creates a class visitor which weaves all changes and additions on the fly.
              *
@@ -3740,8 +3838,8 @@ public interface TypeWriter<T> {
                     } else {
                         MethodDescription methodDescription = declarableMethods.remove(internalName + descriptor);
                         return methodDescription == null
-                                ? super.visitMethod(modifiers, internalName, descriptor, genericSignature, exceptionName)
-                                : redefine(methodDescription, (modifiers & Opcodes.ACC_ABSTRACT) != 0);
+                                ? preserve(modifiers, internalName, descriptor, genericSignature, exceptionName)
+                                : redefine(methodDescription, modifiers, genericSignature, exceptionName);
                     }
                 }
 
@@ -3750,18 +3848,26 @@ public interface TypeWriter<T> {
                  * {@link net.bytebuddy.dynamic.scaffold.TypeWriter.MethodPool}.
                  *
                  * @param methodDescription The method being considered for redefinition.
-                 * @param abstractOrigin    {@code true} if the original method is abstract, i.e. there is no implementation
-                 *                          to preserve.
+                 * @param modifiers         The modifiers of the original method.
+                 * @param genericSignature  The generic signature of the original method or {@code null} if it is not generic.
+                 * @param exceptionName     The internal names of the original method's declared exceptions or {@code null} if no
+                 *                          exceptions are declared.
                  * @return A method visitor which is capable of consuming the original method.
                  */
-                protected MethodVisitor redefine(MethodDescription methodDescription, boolean abstractOrigin) {
+                protected MethodVisitor redefine(MethodDescription methodDescription, int modifiers, String genericSignature, String[] exceptionName) {
                     MethodPool.Record record = methodPool.target(methodDescription);
                     if (!record.getSort().isDefined()) {
+                        String[] exceptionTypeName = methodDescription.getExceptionTypes().asErasures().toInternalNames();
+                        if (methodDescription.getActualModifiers() == modifiers
+                                && (genericSignature == null ? methodDescription.getGenericSignature() == null : genericSignature.equals(methodDescription.getGenericSignature()))
+                                && Arrays.equals(exceptionName, exceptionTypeName)) {
+                            return preserve(modifiers, methodDescription.getInternalName(), methodDescription.getDescriptor(), genericSignature, exceptionName);
+                        }
                         return super.visitMethod(methodDescription.getActualModifiers(),
                                 methodDescription.getInternalName(),
                                 methodDescription.getDescriptor(),
                                 methodDescription.getGenericSignature(),
-                                methodDescription.getExceptionTypes().asErasures().toInternalNames());
+                                exceptionTypeName);
                     }
                     MethodDescription implementedMethod = record.getMethod();
                     MethodVisitor methodVisitor = super.visitMethod(ModifierContributor.Resolver.of(Collections.singleton(record.getVisibility()))
@@ -3770,7 +3876,7 @@ public interface TypeWriter<T> {
                             implementedMethod.getDescriptor(),
                             implementedMethod.getGenericSignature(),
                             implementedMethod.getExceptionTypes().asErasures().toInternalNames());
-                    if (abstractOrigin) {
+                    if ((modifiers & Opcodes.ACC_ABSTRACT) != 0) {
                         return new AttributeObtainingMethodVisitor(methodVisitor, record);
                     } else if (methodDescription.isNative()) {
                         MethodRebaseResolver.Resolution resolution = methodRebaseResolver.resolve(implementedMethod.asDefined());
@@ -3788,6 +3894,26 @@ public interface TypeWriter<T> {
                     }
                 }
 
+                /**
+                 * Visits a method of the original class file that is not altered by this redefinition. The method's original
+                 * declaration is passed on unaltered. If no ASM visitor wrapper or type validation intercepts the method,
+                 * the underlying class writer copies the method's byte code and attributes verbatim from the original class
+                 * file without parsing its code or computing its frames. The code of a preserved method is not validated as
+                 * the class file version and the sort of the type are retained from the original class file.
+                 *
+                 * @param modifiers        The method's modifiers.
+                 * @param internalName     The method's internal name.
+                 * @param descriptor       The method's descriptor.
+                 * @param genericSignature The method's generic signature or {@code null} if the method is not generic.
+                 * @param exceptionName    The internal names of the method's declared exceptions or {@code null} if no exceptions are declared.
+                 * @return A method visitor for visiting the preserved method.
+                 */
+                protected MethodVisitor preserve(int modifiers, String internalName, String descriptor, String genericSignature, String[] exceptionName) {
+                    return cv instanceof ValidatingClassVisitor
+                            ? ((ValidatingClassVisitor) cv).visitPreservedMethod(modifiers, internalName, descriptor, genericSignature, exceptionName)
+                            : super.visitMethod(modifiers, internalName, descriptor, genericSignature, exceptionName);
+                }
+
                 @Override
                 public void visitEnd() {
                     for (FieldDescription fieldDescription : declarableFields.values()) {
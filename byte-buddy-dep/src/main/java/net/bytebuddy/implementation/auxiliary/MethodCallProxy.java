@@ -29,8 +29,10 @@ import net.bytebuddy.implementation.bytecode.member.FieldAccess;
 import net.bytebuddy.implementation.bytecode.member.MethodInvocation;
 import net.bytebuddy.implementation.bytecode.member.MethodReturn;
 import net.bytebuddy.implementation.bytecode.member.MethodVariableAccess;
+import org.objectweb.asm.Handle;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
 
 import java.io.Serializable;
 import java.util.*;
@@ -432,4 +434,115 @@ public class MethodCallProxy implements AuxiliaryType {
             ).apply(methodVisitor, implementationContext);
         }
     }
+
+    /**
+     * <p>
+     * A stack manipulation that creates a {@link Callable} or a {@link Runnable} for a given method and pushes this instance onto
+     * the operand stack. If the instrumented type's class file version is at least Java 8, the instance is created by an
+     * {@code invokedynamic} call site that is bootstrapped by the {@code java.lang.invoke.LambdaMetafactory} such that no
+     * auxiliary type is added to the instrumented type. The metafactory is linked against an accessor method for the
+     * special method invocation. For this purpose, all arguments of the proxied method are loaded onto the stack what
+     * is only possible if this instance is used from a method with an identical signature such as the target method itself.
+     * </p>
+     * <p>
+     * If a lambda expression cannot represent the proxy, an {@link AssignableSignatureCall} is applied instead. This is the
+     * case for class files of a version prior to Java 8, for interface types, for serializable proxies, for functional
+     * types other than {@link Callable} and {@link Runnable} and for {@link Callable} proxies of methods without a return value.
+     * </p>
+     */
+    @EqualsAndHashCode
+    public static class LambdaSignatureCall implements StackManipulation {
+
+        /**
+         * The internal name of the {@code LambdaMetafactory} type.
+         */
+        private static final String LAMBDA_META_FACTORY = "java/lang/invoke/LambdaMetafactory";
+
+        /**
+         * The name of the bootstrap method of the {@code LambdaMetafactory}.
+         */
+        private static final String META_FACTORY = "metafactory";
+
+        /**
+         * The descriptor of the bootstrap method of the {@code LambdaMetafactory}.
+         */
+        private static final String META_FACTORY_DESCRIPTOR = "(Ljava/lang/invoke/MethodHandles$Lookup;"
+                + "Ljava/lang/String;"
+                + "Ljava/lang/invoke/MethodType;"
+                + "Ljava/lang/invoke/MethodType;"
+                + "Ljava/lang/invoke/MethodHandle;"
+                + "Ljava/lang/invoke/MethodType;)Ljava/lang/invoke/CallSite;";
+
+        /**
+         * The special method invocation to be proxied by this stack manipulation.
+         */
+        private final Implementation.SpecialMethodInvocation specialMethodInvocation;
+
+        /**
+         * The functional type that the created instance is assigned to.
+         */
+        private final TypeDescription functionalType;
+
+        /**
+         * Determines if the generated proxy should be serializable.
+         */
+        private final boolean serializable;
+
+        /**
+         * Creates an operand stack assignment that creates a lambda expression for the {@code targetMethod} and pushes this
+         * instance onto the stack.
+         *
+         * @param specialMethodInvocation The special method invocation which should be invoked by the created instance.
+         * @param functionalType          The functional type that the created instance is assigned to.
+         * @param serializable            Determines if the generated proxy should be serializable.
+         */
+        public LambdaSignatureCall(Implementation.SpecialMethodInvocation specialMethodInvocation,
+                                   TypeDescription functionalType,
+                                   boolean serializable) {
+            this.specialMethodInvocation = specialMethodInvocation;
+            this.functionalType = functionalType;
+            this.serializable = serializable;
+        }
+
+        @Override
+        public boolean isValid() {
+            return true;
+        }
+
+        @Override
+        public Size apply(MethodVisitor methodVisitor, Implementation.Context implementationContext) {
+            boolean runnable = functionalType.represents(Runnable.class);
+            if (serializable
+                    || !implementationContext.getClassFileVersion().isAtLeast(ClassFileVersion.JAVA_V8)
+                    || implementationContext.getInstrumentedType().isInterface()
+                    || !runnable && !(functionalType.represents(Callable.class) && !specialMethodInvocation.getMethodDescription().getReturnType().represents(void.class))) {
+                return new AssignableSignatureCall(specialMethodInvocation, serializable).apply(methodVisitor, implementationContext);
+            }
+            MethodDescription.InDefinedShape accessorMethod = implementationContext.registerAccessorFor(specialMethodInvocation, MethodAccessorFactory.AccessType.DEFAULT);
+            Size argumentSize = MethodVariableAccess.allArgumentsOf(specialMethodInvocation.getMethodDescription())
+                    .prependThisReference()
+                    .apply(methodVisitor, implementationContext);
+            StringBuilder descriptor = new StringBuilder("(");
+            if (!accessorMethod.isStatic()) {
+                descriptor.append(accessorMethod.getDeclaringType().getDescriptor());
+            }
+            for (TypeDescription parameterType : accessorMethod.getParameters().asTypeList().asErasures()) {
+                descriptor.append(parameterType.getDescriptor());
+            }
+            Type functionalMethodType = Type.getMethodType(runnable
+                    ? "()V"
+                    : "()Ljava/lang/Object;");
+            methodVisitor.visitInvokeDynamicInsn(runnable ? "run" : "call",
+                    descriptor.append(')').append(functionalType.getDescriptor()).toString(),
+                    new Handle(Opcodes.H_INVOKESTATIC, LAMBDA_META_FACTORY, META_FACTORY, META_FACTORY_DESCRIPTOR, false),
+                    functionalMethodType,
+                    new Handle(accessorMethod.isStatic() ? Opcodes.H_INVOKESTATIC : Opcodes.H_INVOKEVIRTUAL,
+                            accessorMethod.getDeclaringType().getInternalName(),
+                            accessorMethod.getInternalName(),
+                            accessorMethod.getDescriptor(),
+                            false),
+                    functionalMethodType);
+            return new Size(1, Math.max(argumentSize.getMaximalSize(), 1));
+        }
+    }
 }
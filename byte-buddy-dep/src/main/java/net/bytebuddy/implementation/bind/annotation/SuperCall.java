@@ -53,6 +53,17 @@ public @interface SuperCall {
      */
     boolean nullIfImpossible() default false;
 
+    /**
+     * Determines if the proxy should be created by an {@code invokedynamic} call site that is bootstrapped by the
+     * {@code java.lang.invoke.LambdaMetafactory} instead of by defining an auxiliary type. This is only possible for
+     * types of a class file version of at least Java 8 and for non-serializable proxies that are assigned to a {@link Runnable}
+     * or to a {@link Callable} where the latter requires the proxied method to return a value. Otherwise, an auxiliary
+     * type is defined as if this property was not set.
+     *
+     * @return {@code true} if the proxy should be created as a lambda expression if possible.
+     */
+    boolean lambdaProxy() default false;
+
     /**
      * A binder for handling the
      * {@link net.bytebuddy.implementation.bind.annotation.SuperCall}
@@ -92,7 +103,9 @@ public @interface SuperCall {
                     : implementationTarget.invokeSuper(source.asSignatureToken());
             StackManipulation stackManipulation;
             if (specialMethodInvocation.isValid()) {
-                stackManipulation = new MethodCallProxy.AssignableSignatureCall(specialMethodInvocation, annotation.loadSilent().serializableProxy());
+                stackManipulation = annotation.loadSilent().lambdaProxy()
+                        ? new MethodCallProxy.LambdaSignatureCall(specialMethodInvocation, targetType, annotation.loadSilent().serializableProxy())
+                        : new MethodCallProxy.AssignableSignatureCall(specialMethodInvocation, annotation.loadSilent().serializableProxy());
             } else if (annotation.loadSilent().nullIfImpossible()) {
                 stackManipulation = NullConstant.INSTANCE;
             } else {
@@ -31,6 +31,14 @@ public class HasSuperTypeMatcher<T extends TypeDescription> extends ElementMatch
 
     @Override
     public boolean matches(T target) {
+        if (target instanceof TypeDescription.WithSuperTypeClosure) {
+            for (TypeDescription.Generic superType : ((TypeDescription.WithSuperTypeClosure) target).getSuperTypes()) {
+                if (matcher.matches(superType)) {
+                    return true;
+                }
+            }
+            return false;
+        }
         Set<TypeDescription> checkedInterfaces = new HashSet<TypeDescription>();
         for (TypeDefinition typeDefinition : target) {
             if (matcher.matches(typeDefinition.asGenericType()) || hasInterface(typeDefinition, checkedInterfaces)) {
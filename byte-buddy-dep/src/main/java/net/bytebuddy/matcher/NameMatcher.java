@@ -37,6 +37,14 @@ public class NameMatcher<T extends NamedElement> extends ElementMatcher.Junction
         return matcher.matches(target.getActualName());
     }
 
+    @Override
+    public <U extends T> Junction<U> or(ElementMatcher<? super U> other) {
+        if (other instanceof NameMatcher && StringTrieMatcher.isCompilable(matcher) && StringTrieMatcher.isCompilable(((NameMatcher<?>) other).matcher)) {
+            return new NameMatcher<U>(StringTrieMatcher.of(matcher, ((NameMatcher<?>) other).matcher));
+        }
+        return super.or(other);
+    }
+
     @Override
     public String toString() {
         return "name(" + matcher + ")";
@@ -0,0 +1,389 @@
+package net.bytebuddy.matcher;
+
+import lombok.EqualsAndHashCode;
+
+import java.util.*;
+
+/**
+ * <p>
+ * An element matcher that matches a string against several {@link StringMatcher}s at once and that matches a string if any of these matchers
+ * matches the string. Matchers with a mode of {@link StringMatcher.Mode#EQUALS_FULLY}, {@link StringMatcher.Mode#STARTS_WITH} and
+ * {@link StringMatcher.Mode#ENDS_WITH} are compiled into a hash set and two prefix trees such that the cost of a match only depends on
+ * the length of the matched string but not on the number of such matchers. Any other matcher is applied subsequently in its registration
+ * order.
+ * </p>
+ * <p>
+ * A disjunction of two {@link NameMatcher}s that are based on string matchers is collapsed into a name matcher that is based on a
+ * string trie matcher. When chaining such disjunctions, the string matchers are appended to a builder that is shared by all matchers
+ * of the chain and the prefix trees are only compiled once a matcher is first applied.
+ * </p>
+ */
+@EqualsAndHashCode(callSuper = false, of = "matchers")
+public class StringTrieMatcher extends ElementMatcher.Junction.AbstractBase<String> {
+
+    /**
+     * The string matchers that are represented by this matcher in their registration order.
+     */
+    private final List<StringMatcher> matchers;
+
+    /**
+     * The builder that this matcher's string matchers were appended to.
+     */
+    private final Builder builder;
+
+    /**
+     * The compiled representation of this matcher or {@code null} if this matcher was not yet applied.
+     */
+    private volatile Trie trie;
+
+    /**
+     * Creates a new string trie matcher.
+     *
+     * @param matcher The string matchers to represent.
+     */
+    public StringTrieMatcher(StringMatcher... matcher) {
+        this(Arrays.asList(matcher));
+    }
+
+    /**
+     * Creates a new string trie matcher.
+     *
+     * @param matchers The string matchers to represent.
+     */
+    public StringTrieMatcher(List<? extends StringMatcher> matchers) {
+        this(new Builder(), matchers);
+    }
+
+    /**
+     * Creates a new string trie matcher by appending the supplied matchers to a builder.
+     *
+     * @param builder  The builder to append the supplied matchers to.
+     * @param matchers The string matchers to represent.
+     */
+    protected StringTrieMatcher(Builder builder, List<? extends StringMatcher> matchers) {
+        this(builder.add(matchers), builder);
+    }
+
+    /**
+     * Creates a new string trie matcher for string matchers that were already appended to a builder.
+     *
+     * @param matchers The string matchers to represent.
+     * @param builder  The builder that the supplied matchers were appended to.
+     */
+    protected StringTrieMatcher(List<StringMatcher> matchers, Builder builder) {
+        this.matchers = matchers;
+        this.builder = builder;
+    }
+
+    /**
+     * Checks if the supplied matcher can be represented by a string trie matcher.
+     *
+     * @param matcher The matcher to check.
+     * @return {@code true} if the supplied matcher can be represented by a string trie matcher.
+     */
+    protected static boolean isCompilable(ElementMatcher<?> matcher) {
+        return matcher instanceof StringMatcher || matcher instanceof StringTrieMatcher;
+    }
+
+    /**
+     * Creates a string trie matcher that represents a disjunction of both supplied matchers. Both matchers must be
+     * {@link StringTrieMatcher#isCompilable(ElementMatcher) compilable}. If the left matcher is a string trie matcher, the
+     * right matcher's string matchers are appended to its builder such that a chain of disjunctions does not copy any
+     * previously registered string matchers.
+     *
+     * @param left  The first matcher to represent.
+     * @param right The second matcher to represent.
+     * @return A string trie matcher that represents a disjunction of both matchers.
+     */
+    protected static StringTrieMatcher of(ElementMatcher<?> left, ElementMatcher<?> right) {
+        if (left instanceof StringTrieMatcher) {
+            StringTrieMatcher matcher = (StringTrieMatcher) left;
+            return matcher.builder.append(matcher.matchers.size(), matchersOf(right));
+        }
+        List<StringMatcher> matchers = new ArrayList<StringMatcher>(matchersOf(left));
+        matchers.addAll(matchersOf(right));
+        return new StringTrieMatcher(matchers);
+    }
+
+    /**
+     * Resolves the string matchers that are represented by a compilable matcher.
+     *
+     * @param matcher The matcher to resolve.
+     * @return The string matchers that are represented by the supplied matcher.
+     */
+    private static List<StringMatcher> matchersOf(ElementMatcher<?> matcher) {
+        if (matcher instanceof StringTrieMatcher) {
+            return ((StringTrieMatcher) matcher).matchers;
+        } else if (matcher instanceof StringMatcher) {
+            return Collections.singletonList((StringMatcher) matcher);
+        } else {
+            throw new IllegalArgumentException("Cannot compile " + matcher);
+        }
+    }
+
+    @Override
+    public boolean matches(String target) {
+        Trie trie = this.trie;
+        if (trie == null) {
+            trie = new Trie(matchers);
+            this.trie = trie;
+        }
+        return trie.matches(target);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder("(");
+        boolean first = true;
+        for (StringMatcher matcher : matchers) {
+            if (first) {
+                first = false;
+            } else {
+                stringBuilder.append(" or ");
+            }
+            stringBuilder.append(matcher);
+        }
+        return stringBuilder.append(')').toString();
+    }
+
+    /**
+     * An appendable list of string matchers that is shared by a chain of string trie matchers. A string matcher is appended in
+     * place if it is appended to the most recently created matcher of the chain. Otherwise, the represented string matchers are
+     * copied into a new builder. As string matchers are never overwritten, any matcher can represent a prefix of this builder's
+     * string matchers.
+     */
+    protected static class Builder {
+
+        /**
+         * The string matchers of this builder where only the first {@link Builder#size} entries are set.
+         */
+        private StringMatcher[] matchers;
+
+        /**
+         * The number of string matchers that were appended to this builder.
+         */
+        private int size;
+
+        /**
+         * Creates a new empty builder.
+         */
+        protected Builder() {
+            matchers = new StringMatcher[0];
+        }
+
+        /**
+         * Appends string matchers to the end of this builder.
+         *
+         * @param matchers The string matchers to append.
+         * @return A list of all string matchers of this builder including the appended string matchers.
+         */
+        protected synchronized List<StringMatcher> add(List<? extends StringMatcher> matchers) {
+            if (this.matchers.length < size + matchers.size()) {
+                StringMatcher[] resized = new StringMatcher[Math.max(this.matchers.length * 2, size + matchers.size())];
+                System.arraycopy(this.matchers, 0, resized, 0, size);
+                this.matchers = resized;
+            }
+            for (StringMatcher matcher : matchers) {
+                this.matchers[size++] = matcher;
+            }
+            return Collections.unmodifiableList(Arrays.asList(this.matchers).subList(0, size));
+        }
+
+        /**
+         * Creates a string trie matcher for the first string matchers of this builder followed by the supplied string matchers.
+         *
+         * @param size     The number of string matchers of this builder that the appended string matchers follow.
+         * @param matchers The string matchers to append.
+         * @return A string trie matcher for the first {@code size} string matchers of this builder followed by the supplied string matchers.
+         */
+        protected synchronized StringTrieMatcher append(int size, List<? extends StringMatcher> matchers) {
+            if (size == this.size) {
+                return new StringTrieMatcher(add(matchers), this);
+            }
+            List<StringMatcher> appended = new ArrayList<StringMatcher>(size + matchers.size());
+            appended.addAll(Arrays.asList(this.matchers).subList(0, size));
+            appended.addAll(matchers);
+            return new StringTrieMatcher(appended);
+        }
+    }
+
+    /**
+     * A compiled representation of a list of string matchers.
+     */
+    protected static class Trie {
+
+        /**
+         * The values of all matchers that require an equal string.
+         */
+        private final Set<String> values;
+
+        /**
+         * A prefix tree of the values of all matchers that require a string to start with a value.
+         */
+        private final Node prefixes;
+
+        /**
+         * A prefix tree of the reversed values of all matchers that require a string to end with a value.
+         */
+        private final Node suffixes;
+
+        /**
+         * All matchers that cannot be compiled into a prefix tree in their registration order.
+         */
+        private final List<StringMatcher> others;
+
+        /**
+         * Compiles the supplied string matchers.
+         *
+         * @param matchers The string matchers to compile.
+         */
+        protected Trie(List<StringMatcher> matchers) {
+            values = new HashSet<String>();
+            prefixes = new Node();
+            suffixes = new Node();
+            others = new ArrayList<StringMatcher>();
+            for (StringMatcher matcher : matchers) {
+                switch (matcher.getMode()) {
+                    case EQUALS_FULLY:
+                        values.add(matcher.getValue());
+                        break;
+                    case STARTS_WITH:
+                        Node node = prefixes;
+                        for (int index = 0; index < matcher.getValue().length(); index++) {
+                            node = node.add(matcher.getValue().charAt(index));
+                        }
+                        node.terminate();
+                        break;
+                    case ENDS_WITH:
+                        node = suffixes;
+                        for (int index = matcher.getValue().length() - 1; index >= 0; index--) {
+                            node = node.add(matcher.getValue().charAt(index));
+                        }
+                        node.terminate();
+                        break;
+                    default:
+                        others.add(matcher);
+                }
+            }
+        }
+
+        /**
+         * Matches the supplied string against the compiled string matchers.
+         *
+         * @param target The string to match.
+         * @return {@code true} if any compiled string matcher matches the supplied string.
+         */
+        protected boolean matches(String target) {
+            if (values.contains(target)) {
+                return true;
+            }
+            Node node = prefixes;
+            for (int index = 0; node != null; index++) {
+                if (node.isTerminal()) {
+                    return true;
+                }
+                node = index < target.length()
+                        ? node.find(target.charAt(index))
+                        : null;
+            }
+            node = suffixes;
+            for (int index = target.length() - 1; node != null; index--) {
+                if (node.isTerminal()) {
+                    return true;
+                }
+                node = index >= 0
+                        ? node.find(target.charAt(index))
+                        : null;
+            }
+            for (StringMatcher matcher : others) {
+                if (matcher.matches(target)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * A node of a prefix tree.
+     */
+    protected static class Node {
+
+        /**
+         * The characters of this node's children in their natural order.
+         */
+        private char[] characters;
+
+        /**
+         * The children of this node in the order of their characters.
+         */
+        private Node[] children;
+
+        /**
+         * {@code true} if a value terminates at this node.
+         */
+        private boolean terminal;
+
+        /**
+         * Creates a new node without any children.
+         */
+        protected Node() {
+            characters = new char[0];
+            children = new Node[0];
+        }
+
+        /**
+         * Finds the child of this node for the given character.
+         *
+         * @param character The character of the child to find.
+         * @return The child of this node for the given character or {@code null} if no such child exists.
+         */
+        protected Node find(char character) {
+            int index = Arrays.binarySearch(characters, character);
+            return index < 0
+                    ? null
+                    : children[index];
+        }
+
+        /**
+         * Returns the child of this node for the given character and creates it if it does not exist.
+         *
+         * @param character The character of the child.
+         * @return The child of this node for the given character.
+         */
+        protected Node add(char character) {
+            int index = Arrays.binarySearch(characters, character);
+            if (index >= 0) {
+                return children[index];
+            }
+            index = -(index + 1);
+            char[] characters = new char[this.characters.length + 1];
+            Node[] children = new Node[this.children.length + 1];
+            System.arraycopy(this.characters, 0, characters, 0, index);
+            System.arraycopy(this.children, 0, children, 0, index);
+            System.arraycopy(this.characters, index, characters, index + 1, this.characters.length - index);
+            System.arraycopy(this.children, index, children, index + 1, this.children.length - index);
+            characters[index] = character;
+            children[index] = new Node();
+            this.characters = characters;
+            this.children = children;
+            return children[index];
+        }
+
+        /**
+         * Marks this node as the termination of a value.
+         */
+        protected void terminate() {
+            terminal = true;
+        }
+
+        /**
+         * Returns {@code true} if a value terminates at this node.
+         *
+         * @return {@code true} if a value terminates at this node.
+         */
+        protected boolean isTerminal() {
+            return terminal;
+        }
+    }
+}
@@ -18,17 +18,24 @@ import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.description.type.TypeList;
 import net.bytebuddy.dynamic.ClassFileLocator;
 import net.bytebuddy.implementation.bytecode.StackSize;
+import net.bytebuddy.utility.StreamDrainer;
 import org.objectweb.asm.*;
 import org.objectweb.asm.signature.SignatureReader;
 import org.objectweb.asm.signature.SignatureVisitor;
 
-import java.io.IOException;
+import java.io.*;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Array;
 import java.lang.reflect.GenericSignatureFormatError;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.zip.ZipEntry;
 
 import static net.bytebuddy.matcher.ElementMatchers.*;
 
@@ -242,6 +249,161 @@ public interface TypePool {
                 cache.clear();
             }
         }
+
+        /**
+         * A thread-safe type cache that retains a bounded number of resolutions. If the cache exceeds its capacity, the
+         * least recently used resolution is evicted. This cache records the number of hits, misses and evictions.
+         */
+        class Bounded implements CacheProvider {
+
+            /**
+             * The maximum number of resolutions that are retained by this cache.
+             */
+            private final int capacity;
+
+            /**
+             * A map containing all cached resolutions by their names in the order of their last access.
+             */
+            private final Map<String, Resolution> cache;
+
+            /**
+             * The number of cache hits.
+             */
+            private long hitCount;
+
+            /**
+             * The number of cache misses.
+             */
+            private long missCount;
+
+            /**
+             * The number of evicted resolutions.
+             */
+            private long evictionCount;
+
+            /**
+             * Creates a new bounded cache.
+             *
+             * @param capacity The maximum number of resolutions that are retained by this cache.
+             */
+            public Bounded(int capacity) {
+                if (capacity < 1) {
+                    throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+                }
+                this.capacity = capacity;
+                cache = new LinkedHashMap<String, Resolution>(16, 0.75f, true);
+            }
+
+            /**
+             * Returns a bounded cache provider that is prepopulated with the {@link Object} type.
+             *
+             * @param capacity The maximum number of resolutions that are retained by this cache.
+             * @return A bounded cache provider that is prepopulated with the {@link Object} type.
+             */
+            public static CacheProvider withObjectType(int capacity) {
+                CacheProvider cacheProvider = new Bounded(capacity);
+                cacheProvider.register(Object.class.getName(), new Resolution.Simple(TypeDescription.OBJECT));
+                return cacheProvider;
+            }
+
+            @Override
+            public synchronized Resolution find(String name) {
+                Resolution resolution = cache.get(name);
+                if (resolution == null) {
+                    missCount++;
+                } else {
+                    hitCount++;
+                }
+                return resolution;
+            }
+
+            @Override
+            public synchronized Resolution register(String name, Resolution resolution) {
+                Resolution cached = cache.get(name);
+                if (cached != null) {
+                    return cached;
+                }
+                cache.put(name, resolution);
+                Iterator<Resolution> iterator = cache.values().iterator();
+                while (cache.size() > capacity) {
+                    iterator.next();
+                    iterator.remove();
+                    evictionCount++;
+                }
+                return resolution;
+            }
+
+            @Override
+            public synchronized void clear() {
+                cache.clear();
+            }
+
+            /**
+             * Returns the maximum number of resolutions that are retained by this cache.
+             *
+             * @return The maximum number of resolutions that are retained by this cache.
+             */
+            public int getCapacity() {
+                return capacity;
+            }
+
+            /**
+             * Returns the number of resolutions that are currently retained by this cache.
+             *
+             * @return The number of resolutions that are currently retained by this cache.
+             */
+            public synchronized int getSize() {
+                return cache.size();
+            }
+
+            /**
+             * Returns the number of lookups that were answered by this cache.
+             *
+             * @return The number of lookups that were answered by this cache.
+             */
+            public synchronized long getHitCount() {
+                return hitCount;
+            }
+
+            /**
+             * Returns the number of lookups that could not be answered by this cache.
+             *
+             * @return The number of lookups that could not be answered by this cache.
+             */
+            public synchronized long getMissCount() {
+                return missCount;
+            }
+
+            /**
+             * Returns the number of resolutions that were evicted from this cache for exceeding its capacity.
+             *
+             * @return The number of resolutions that were evicted from this cache.
+             */
+            public synchronized long getEvictionCount() {
+                return evictionCount;
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * A type pool that retains the {@link ClassReader}s of the class files it parsed. A type writer that redefines or rebases a
+     * type that was described by such a pool can claim the retained reader instead of locating and parsing the class file a second time.
+     * </p>
+     * <p>
+     * <b>Important</b>: A retained reader is only a valid substitute if the type pool's class file locator yields the same class file
+     * as the class file locator that is supplied to the type writer.
+     * </p>
+     */
+    interface ReaderRetaining extends TypePool {
+
+        /**
+         * Claims the class reader that was retained for the type of the given name. A reader can only be claimed once.
+         *
+         * @param name The binary name of the type for which a class reader is claimed.
+         * @return The retained class reader or {@code null} if no reader was retained for the type of the given name.
+         */
+        ClassReader claim(String name);
     }
 
     /**
@@ -990,100 +1152,1634 @@ public interface TypePool {
             return of(ClassFileLocator.ForClassLoader.ofClassPath());
         }
 
-        /**
-         * Returns a type pool for the provided class loader.
-         *
-         * @param classLoader The class loader for which this class pool is representing types.
-         * @return An appropriate type pool.
-         */
-        public static TypePool of(ClassLoader classLoader) {
-            return of(ClassFileLocator.ForClassLoader.of(classLoader));
-        }
+        /**
+         * Returns a type pool for the provided class loader.
+         *
+         * @param classLoader The class loader for which this class pool is representing types.
+         * @return An appropriate type pool.
+         */
+        public static TypePool of(ClassLoader classLoader) {
+            return of(ClassFileLocator.ForClassLoader.of(classLoader));
+        }
+
+        /**
+         * Creates a default {@link net.bytebuddy.pool.TypePool} that looks up data by querying the supplied class
+         * file locator. The returned instance is configured to use a fast reading mode and a simple cache.
+         *
+         * @param classFileLocator The class file locator to use.
+         * @return A type pool that reads its data from the system class path.
+         */
+        public static TypePool of(ClassFileLocator classFileLocator) {
+            return new Default(new CacheProvider.Simple(), classFileLocator, ReaderMode.FAST);
+        }
+
+        @Override
+        protected Resolution doDescribe(String name) {
+            try {
+                ClassFileLocator.Resolution resolution = classFileLocator.locate(name);
+                return resolution.isResolved()
+                        ? new Resolution.Simple(parse(read(name, resolution.resolve())))
+                        : new Resolution.Illegal(name);
+            } catch (IOException exception) {
+                throw new IllegalStateException("Error while reading class file", exception);
+            }
+        }
+
+        /**
+         * Creates a class reader for the binary representation of a type that is parsed by this type pool.
+         *
+         * @param name                 The binary name of the type being parsed.
+         * @param binaryRepresentation The binary data to be parsed.
+         * @return A class reader for the binary data.
+         */
+        protected ClassReader read(String name, byte[] binaryRepresentation) {
+            return new ClassReader(binaryRepresentation);
+        }
+
+        /**
+         * Parses a class file and transforms it into a type description.
+         *
+         * @param classReader A class reader for the class file to be parsed.
+         * @return A type description of the class file.
+         */
+        private TypeDescription parse(ClassReader classReader) {
+            TypeExtractor typeExtractor = new TypeExtractor();
+            classReader.accept(typeExtractor, readerMode.getFlags());
+            return typeExtractor.toTypeDescription();
+        }
+
+        /**
+         * Determines the granularity of the class file parsing that is conducted by a {@link net.bytebuddy.pool.TypePool.Default}.
+         */
+        public enum ReaderMode {
+
+            /**
+             * The extended reader mode parses the code segment of each method in order to detect parameter names
+             * that are only stored in a method's debugging information but are not explicitly included.
+             */
+            EXTENDED(ClassReader.SKIP_FRAMES),
+
+            /**
+             * The fast reader mode skips the code segment of each method and cannot detect parameter names that are
+             * only contained within the debugging information. This mode still detects explicitly included method
+             * parameter names.
+             */
+            FAST(ClassReader.SKIP_CODE);
+
+            /**
+             * The flags to provide to a {@link ClassReader} for parsing a file.
+             */
+            private final int flags;
+
+            /**
+             * Creates a new reader mode constant.
+             *
+             * @param flags The flags to provide to a {@link ClassReader} for parsing a file.
+             */
+            ReaderMode(int flags) {
+                this.flags = flags;
+            }
+
+            /**
+             * Returns the flags to provide to a {@link ClassReader} for parsing a file.
+             *
+             * @return The flags to provide to a {@link ClassReader} for parsing a file.
+             */
+            protected int getFlags() {
+                return flags;
+            }
+
+            /**
+             * Determines if this reader mode represents extended reading.
+             *
+             * @return {@code true} if this reader mode represents extended reading.
+             */
+            public boolean isExtended() {
+                return this == EXTENDED;
+            }
+        }
+
+        /**
+         * <p>
+         * A class file locator for a jar file that records the resolutions of the jar file's types in a persistent snapshot such that
+         * a {@link TypePool} can describe these types in a later run of the current application without opening the jar file or parsing
+         * any class file. A snapshot is keyed by the jar file's absolute path, its last modification date and its size and is discarded
+         * if any of these properties change. A snapshot also records the names of all types that are contained in the jar file such
+         * that the jar file is never opened for locating a type that it does not contain what allows for combining several snapshots
+         * in a {@link ClassFileLocator.Compound}.
+         * </p>
+         * <p>
+         * A stored resolution consists of the class file's structure as it is observed by a type pool of the snapshot's {@link ReaderMode}
+         * in a compact encoding without a constant pool. Stored resolutions are only served by a {@link Snapshot.Cache} which replays them
+         * into a type pool's class file parser. When this class file locator is queried, it always returns the type's class file from the
+         * jar file and records the type's resolution if it is not yet stored. Any recorded resolution is added to the snapshot when this
+         * locator is closed.
+         * </p>
+         * <p>
+         * Only the snapshot file's index is read when this locator is created. Stored resolutions are read on demand from the snapshot
+         * file which is kept open until this locator is closed. When persisting a snapshot, the snapshot is written to a uniquely named
+         * temporary file in the snapshot file's directory which then replaces the previous snapshot such that several processes can
+         * update a snapshot concurrently. If the previous snapshot cannot be replaced, it is retained and the temporary file is removed.
+         * On platforms that do not allow replacing an open file, a snapshot is therefore only replaced when this locator is closed.
+         * </p>
+         */
+        public static class Snapshot implements ClassFileLocator {
+
+            /**
+             * The magic number that identifies a snapshot file.
+             */
+            private static final int MAGIC = 0x42425453;
+
+            /**
+             * The version of the snapshot format.
+             */
+            private static final int VERSION = 2;
+
+            /**
+             * The length that indicates a type that is contained in the jar file but whose resolution is not contained in the snapshot.
+             */
+            private static final int NOT_CAPTURED = -1;
+
+            /**
+             * The suffix of a temporary file that is used for writing a snapshot.
+             */
+            private static final String TEMPORARY_SUFFIX = ".tmp";
+
+            /**
+             * The suffix of a temporary file that retains a previous snapshot while it is replaced.
+             */
+            private static final String PREVIOUS_SUFFIX = ".old";
+
+            /**
+             * The charset to use for encoding names.
+             */
+            private static final String CHARSET = "UTF-8";
+
+            /**
+             * The tag that terminates the events of a class, field, method or annotation.
+             */
+            private static final int END = 0;
+
+            /**
+             * The tag of a class's header.
+             */
+            private static final int VISIT = 1;
+
+            /**
+             * The tag of a class's outer class.
+             */
+            private static final int OUTER_CLASS = 2;
+
+            /**
+             * The tag of an inner class entry.
+             */
+            private static final int INNER_CLASS = 3;
+
+            /**
+             * The tag of a type annotation.
+             */
+            private static final int TYPE_ANNOTATION = 4;
+
+            /**
+             * The tag of an annotation or of a nested annotation value.
+             */
+            private static final int ANNOTATION = 5;
+
+            /**
+             * The tag of a field.
+             */
+            private static final int FIELD = 6;
+
+            /**
+             * The tag of a method.
+             */
+            private static final int METHOD = 7;
+
+            /**
+             * The tag of a parameter annotation.
+             */
+            private static final int PARAMETER_ANNOTATION = 8;
+
+            /**
+             * The tag of a method parameter.
+             */
+            private static final int PARAMETER = 9;
+
+            /**
+             * The tag of an annotation property's default value.
+             */
+            private static final int ANNOTATION_DEFAULT = 10;
+
+            /**
+             * The tag of a method's first label.
+             */
+            private static final int LABEL = 11;
+
+            /**
+             * The tag of a local variable that starts at a method's first label.
+             */
+            private static final int LOCAL_VARIABLE = 12;
+
+            /**
+             * The tag of a primitive, string, type or primitive array annotation value.
+             */
+            private static final int VALUE = 13;
+
+            /**
+             * The tag of an enumeration annotation value.
+             */
+            private static final int ENUMERATION = 14;
+
+            /**
+             * The tag of an array annotation value.
+             */
+            private static final int ARRAY = 15;
+
+            /**
+             * The sort of a string annotation value.
+             */
+            private static final char STRING_SORT = 's';
+
+            /**
+             * The sort of a type annotation value.
+             */
+            private static final char TYPE_SORT = 'T';
+
+            /**
+             * The sort of a primitive array annotation value.
+             */
+            private static final char ARRAY_SORT = '[';
+
+            /**
+             * The jar file that is represented by this snapshot.
+             */
+            private final File jarFile;
+
+            /**
+             * The snapshot file.
+             */
+            private final File file;
+
+            /**
+             * The reader mode of the type pools that this snapshot is used for.
+             */
+            private final ReaderMode readerMode;
+
+            /**
+             * A channel for reading the snapshot file or {@code null} if no valid snapshot was found.
+             */
+            private final FileChannel channel;
+
+            /**
+             * An index of all resolutions contained in the snapshot file by their type's binary name.
+             */
+            private final Map<String, Entry> entries;
+
+            /**
+             * All resolutions that were recorded from the jar file and that are not yet contained in the snapshot file.
+             */
+            private final ConcurrentMap<String, byte[]> additions;
+
+            /**
+             * The opened jar file or {@code null} if the jar file was not yet opened.
+             */
+            private JarFile jar;
+
+            /**
+             * Creates a new snapshot class file locator.
+             *
+             * @param jarFile    The jar file that is represented by this snapshot.
+             * @param file       The snapshot file.
+             * @param readerMode The reader mode of the type pools that this snapshot is used for.
+             * @param channel    A channel for reading the snapshot file or {@code null} if no valid snapshot was found.
+             * @param entries    An index of all resolutions contained in the snapshot file by their type's binary name.
+             */
+            protected Snapshot(File jarFile, File file, ReaderMode readerMode, FileChannel channel, Map<String, Entry> entries) {
+                this.jarFile = jarFile;
+                this.file = file;
+                this.readerMode = readerMode;
+                this.channel = channel;
+                this.entries = entries;
+                additions = new ConcurrentHashMap<String, byte[]>();
+            }
+
+            /**
+             * Creates a snapshot class file locator for a jar file using {@link ReaderMode#FAST}.
+             *
+             * @param jarFile The jar file to represent.
+             * @param file    The snapshot file which does not need to exist.
+             * @return A class file locator that is backed by the supplied snapshot.
+             * @throws IOException If an I/O exception occurs.
+             */
+            public static Snapshot of(File jarFile, File file) throws IOException {
+                return of(jarFile, file, ReaderMode.FAST);
+            }
+
+            /**
+             * Creates a snapshot class file locator for a jar file.
+             *
+             * @param jarFile    The jar file to represent.
+             * @param file       The snapshot file which does not need to exist.
+             * @param readerMode The reader mode of the type pools that the snapshot is used for.
+             * @return A class file locator that is backed by the supplied snapshot.
+             * @throws IOException If an I/O exception occurs.
+             */
+            public static Snapshot of(File jarFile, File file, ReaderMode readerMode) throws IOException {
+                if (file.isFile()) {
+                    FileChannel channel = new RandomAccessFile(file, "r").getChannel();
+                    Map<String, Entry> entries;
+                    try {
+                        entries = index(channel, jarFile, readerMode);
+                    } catch (IOException exception) {
+                        channel.close();
+                        throw exception;
+                    }
+                    if (entries != null) {
+                        return new Snapshot(jarFile, file, readerMode, channel, entries);
+                    }
+                    channel.close();
+                }
+                return new Snapshot(jarFile, file, readerMode, null, Collections.<String, Entry>emptyMap());
+            }
+
+            /**
+             * Reads the index of a snapshot file. The index is followed by all stored resolutions in the order of the index.
+             *
+             * @param channel    A channel for reading the snapshot file.
+             * @param jarFile    The jar file that the snapshot should represent.
+             * @param readerMode The reader mode of the type pools that the snapshot is used for.
+             * @return An index of all resolutions by their type's binary name or {@code null} if the snapshot is not valid for the jar file.
+             * @throws IOException If an I/O exception occurs.
+             */
+            private static Map<String, Entry> index(FileChannel channel, File jarFile, ReaderMode readerMode) throws IOException {
+                DataInputStream inputStream = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+                try {
+                    if (inputStream.readInt() != MAGIC
+                            || inputStream.readInt() != VERSION
+                            || inputStream.readInt() != readerMode.getFlags()
+                            || !read(inputStream).equals(jarFile.getAbsolutePath())
+                            || inputStream.readLong() != jarFile.lastModified()
+                            || inputStream.readLong() != jarFile.length()) {
+                        return null;
+                    }
+                    int count = inputStream.readInt();
+                    Map<String, Integer> lengths = new LinkedHashMap<String, Integer>();
+                    long size = 0;
+                    for (int index = 0; index < count; index++) {
+                        String name = read(inputStream);
+                        int length = inputStream.readInt();
+                        if (length < NOT_CAPTURED) {
+                            return null;
+                        } else if (length != NOT_CAPTURED) {
+                            size += length;
+                        }
+                        lengths.put(name, length);
+                    }
+                    long offset = channel.size() - size;
+                    if (offset < 0) {
+                        return null;
+                    }
+                    Map<String, Entry> entries = new HashMap<String, Entry>();
+                    for (Map.Entry<String, Integer> entry : lengths.entrySet()) {
+                        entries.put(entry.getKey(), new Entry(offset, entry.getValue()));
+                        if (entry.getValue() != NOT_CAPTURED) {
+                            offset += entry.getValue();
+                        }
+                    }
+                    return entries;
+                } catch (EOFException ignored) {
+                    return null;
+                }
+            }
+
+            /**
+             * Reads a name from a snapshot file.
+             *
+             * @param inputStream The input stream to read from.
+             * @return The name that was read.
+             * @throws IOException If an I/O exception occurs.
+             */
+            private static String read(DataInputStream inputStream) throws IOException {
+                byte[] name = new byte[inputStream.readUnsignedShort()];
+                inputStream.readFully(name);
+                return new String(name, CHARSET);
+            }
+
+            /**
+             * Writes a name to a snapshot file.
+             *
+             * @param outputStream The output stream to write to.
+             * @param name         The name to write.
+             * @throws IOException If an I/O exception occurs.
+             */
+            private static void write(DataOutputStream outputStream, String name) throws IOException {
+                byte[] encoded = name.getBytes(CHARSET);
+                outputStream.writeShort(encoded.length);
+                outputStream.write(encoded);
+            }
+
+            /**
+             * Returns the reader mode of the type pools that this snapshot is used for.
+             *
+             * @return The reader mode of the type pools that this snapshot is used for.
+             */
+            protected ReaderMode getReaderMode() {
+                return readerMode;
+            }
+
+            /**
+             * Returns the stored or recorded resolution of a type.
+             *
+             * @param typeName The binary name of the type.
+             * @return The encoded resolution of the type or {@code null} if no resolution is known for the type.
+             * @throws IOException If an I/O exception occurs.
+             */
+            protected byte[] resolve(String typeName) throws IOException {
+                Entry entry = entries.get(typeName);
+                return entry == null || entry.getLength() == NOT_CAPTURED
+                        ? additions.get(typeName)
+                        : read(entry);
+            }
+
+            /**
+             * Reads a stored resolution from the snapshot file.
+             *
+             * @param entry The entry of the resolution.
+             * @return The encoded resolution.
+             * @throws IOException If an I/O exception occurs.
+             */
+            private byte[] read(Entry entry) throws IOException {
+                ByteBuffer buffer = ByteBuffer.allocate(entry.getLength());
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer, entry.getOffset() + buffer.position()) == -1) {
+                        throw new EOFException("Unexpected end of snapshot file " + file);
+                    }
+                }
+                return buffer.array();
+            }
+
+            @Override
+            public Resolution locate(String typeName) throws IOException {
+                Entry entry = entries.get(typeName);
+                if (entry == null && channel != null) {
+                    return new Resolution.Illegal(typeName);
+                }
+                JarFile jar = jar();
+                ZipEntry zipEntry = jar.getEntry(typeName.replace('.', '/') + CLASS_FILE_EXTENSION);
+                if (zipEntry == null) {
+                    return new Resolution.Illegal(typeName);
+                }
+                byte[] binaryRepresentation;
+                InputStream inputStream = jar.getInputStream(zipEntry);
+                try {
+                    binaryRepresentation = StreamDrainer.DEFAULT.drain(inputStream, zipEntry.getSize());
+                } finally {
+                    inputStream.close();
+                }
+                if ((entry == null || entry.getLength() == NOT_CAPTURED) && !additions.containsKey(typeName)) {
+                    Encoder encoder = new Encoder();
+                    new ClassReader(binaryRepresentation).accept(encoder, readerMode.getFlags());
+                    additions.putIfAbsent(typeName, encoder.toByteArray());
+                }
+                return new Resolution.Explicit(binaryRepresentation);
+            }
+
+            /**
+             * Returns the represented jar file which is only opened on demand.
+             *
+             * @return The represented jar file.
+             * @throws IOException If an I/O exception occurs.
+             */
+            private synchronized JarFile jar() throws IOException {
+                if (jar == null) {
+                    jar = new JarFile(jarFile, false);
+                }
+                return jar;
+            }
+
+            /**
+             * Returns the binary names of all types that are known to be contained in the represented jar file.
+             *
+             * @return The binary names of all types that are known to be contained in the represented jar file.
+             */
+            private synchronized Set<String> names() {
+                Set<String> names = new HashSet<String>(entries.keySet());
+                if (jar != null) {
+                    Enumeration<JarEntry> enumeration = jar.entries();
+                    while (enumeration.hasMoreElements()) {
+                        String name = enumeration.nextElement().getName();
+                        if (name.endsWith(CLASS_FILE_EXTENSION)) {
+                            names.add(name.substring(0, name.length() - CLASS_FILE_EXTENSION.length()).replace('/', '.'));
+                        }
+                    }
+                }
+                return names;
+            }
+
+            /**
+             * Writes all resolutions that were recorded from the jar file to the snapshot file in addition to the resolutions that were
+             * already contained in the snapshot. If the snapshot does not need to be updated, this method does not have any effect.
+             *
+             * @throws IOException If an I/O exception occurs.
+             */
+            public void persist() throws IOException {
+                File temporary = prepare();
+                if (temporary != null) {
+                    replace(temporary);
+                }
+            }
+
+            /**
+             * Writes an updated snapshot to a temporary file in the snapshot file's directory.
+             *
+             * @return The temporary file or {@code null} if the snapshot does not need to be updated.
+             * @throws IOException If an I/O exception occurs.
+             */
+            private File prepare() throws IOException {
+                Map<String, byte[]> additions = new HashMap<String, byte[]>(this.additions);
+                Set<String> names = names();
+                if (additions.isEmpty() && (channel != null || names.isEmpty())) {
+                    return null;
+                }
+                names.addAll(additions.keySet());
+                File temporary = File.createTempFile(file.getName(), TEMPORARY_SUFFIX, file.getAbsoluteFile().getParentFile());
+                boolean written = false;
+                try {
+                    write(temporary, names, additions);
+                    written = true;
+                } finally {
+                    if (!written && !temporary.delete()) {
+                        temporary.deleteOnExit();
+                    }
+                }
+                return temporary;
+            }
+
+            /**
+             * Writes a snapshot file.
+             *
+             * @param target    The file to write the snapshot to.
+             * @param names     The binary names of all types that are known to be contained in the represented jar file.
+             * @param additions All resolutions that were recorded from the jar file and that are not yet contained in the snapshot file.
+             * @throws IOException If an I/O exception occurs.
+             */
+            private void write(File target, Set<String> names, Map<String, byte[]> additions) throws IOException {
+                Map<String, byte[]> resolutions = new LinkedHashMap<String, byte[]>();
+                for (String name : names) {
+                    byte[] resolution = additions.get(name);
+                    if (resolution == null) {
+                        Entry entry = entries.get(name);
+                        resolution = entry == null || entry.getLength() == NOT_CAPTURED
+                                ? null
+                                : read(entry);
+                    }
+                    resolutions.put(name, resolution);
+                }
+                DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(target)));
+                try {
+                    outputStream.writeInt(MAGIC);
+                    outputStream.writeInt(VERSION);
+                    outputStream.writeInt(readerMode.getFlags());
+                    write(outputStream, jarFile.getAbsolutePath());
+                    outputStream.writeLong(jarFile.lastModified());
+                    outputStream.writeLong(jarFile.length());
+                    outputStream.writeInt(resolutions.size());
+                    for (Map.Entry<String, byte[]> entry : resolutions.entrySet()) {
+                        write(outputStream, entry.getKey());
+                        outputStream.writeInt(entry.getValue() == null
+                                ? NOT_CAPTURED
+                                : entry.getValue().length);
+                    }
+                    for (byte[] resolution : resolutions.values()) {
+                        if (resolution != null) {
+                            outputStream.write(resolution);
+                        }
+                    }
+                } finally {
+                    outputStream.close();
+                }
+            }
+
+            /**
+             * Replaces the snapshot file with a temporary file. If the snapshot file cannot be replaced directly, the previous snapshot
+             * is first moved aside and restored if the temporary file cannot be moved in its place. The temporary file is removed if
+             * it cannot replace the snapshot file.
+             *
+             * @param temporary The temporary file that contains the new snapshot.
+             * @throws IOException If the snapshot file cannot be replaced.
+             */
+            private void replace(File temporary) throws IOException {
+                try {
+                    if (temporary.renameTo(file)) {
+                        return;
+                    } else if (!file.exists()) {
+                        throw new IOException("Cannot create snapshot file " + file);
+                    }
+                    File previous = File.createTempFile(file.getName(), PREVIOUS_SUFFIX, file.getAbsoluteFile().getParentFile());
+                    if (!previous.delete() || !file.renameTo(previous)) {
+                        throw new IOException("Cannot replace snapshot file " + file);
+                    }
+                    if (!temporary.renameTo(file)) {
+                        if (!previous.renameTo(file)) {
+                            throw new IOException("Cannot restore snapshot file " + file + " from " + previous);
+                        }
+                        throw new IOException("Cannot replace snapshot file " + file);
+                    } else if (!previous.delete()) {
+                        previous.deleteOnExit();
+                    }
+                } finally {
+                    if (temporary.exists() && !temporary.delete()) {
+                        temporary.deleteOnExit();
+                    }
+                }
+            }
+
+            /**
+             * Persists this snapshot and closes the represented jar file and the snapshot file if they were opened.
+             *
+             * @throws IOException If an I/O exception occurs.
+             */
+            @Override
+            public void close() throws IOException {
+                File temporary;
+                try {
+                    temporary = prepare();
+                } finally {
+                    try {
+                        synchronized (this) {
+                            if (jar != null) {
+                                jar.close();
+                            }
+                        }
+                    } finally {
+                        if (channel != null) {
+                            channel.close();
+                        }
+                    }
+                }
+                if (temporary != null) {
+                    replace(temporary);
+                }
+            }
+
+            /**
+             * An entry of a snapshot file.
+             */
+            protected static class Entry {
+
+                /**
+                 * The offset of the resolution within the snapshot file.
+                 */
+                private final long offset;
+
+                /**
+                 * The length of the resolution or {@code -1} if the resolution is not contained in the snapshot.
+                 */
+                private final int length;
+
+                /**
+                 * Creates a new entry.
+                 *
+                 * @param offset The offset of the resolution within the snapshot file.
+                 * @param length The length of the resolution or {@code -1} if the resolution is not contained in the snapshot.
+                 */
+                protected Entry(long offset, int length) {
+                    this.offset = offset;
+                    this.length = length;
+                }
+
+                /**
+                 * Returns the offset of the resolution within the snapshot file.
+                 *
+                 * @return The offset of the resolution within the snapshot file.
+                 */
+                protected long getOffset() {
+                    return offset;
+                }
+
+                /**
+                 * Returns the length of the resolution.
+                 *
+                 * @return The length of the resolution or {@code -1} if the resolution is not contained in the snapshot.
+                 */
+                protected int getLength() {
+                    return length;
+                }
+            }
+
+            /**
+             * An encoder that records the parts of a class file's structure that are consumed by a {@link TypePool.Default}
+             * as a compact stream of visitation events that can be replayed by a {@link Decoder}.
+             */
+            protected static class Encoder extends ClassVisitor {
+
+                /**
+                 * The output stream to which the encoded events are collected.
+                 */
+                private final ByteArrayOutputStream outputStream;
+
+                /**
+                 * A data output stream that writes to the output stream.
+                 */
+                private final DataOutputStream dataOutputStream;
+
+                /**
+                 * Creates a new encoder.
+                 */
+                protected Encoder() {
+                    super(Opcodes.ASM5);
+                    outputStream = new ByteArrayOutputStream();
+                    dataOutputStream = new DataOutputStream(outputStream);
+                }
+
+                /**
+                 * Returns the events that were encoded by this encoder.
+                 *
+                 * @return The events that were encoded by this encoder.
+                 */
+                protected byte[] toByteArray() {
+                    return outputStream.toByteArray();
+                }
+
+                /**
+                 * Writes a tag.
+                 *
+                 * @param tag The tag to write.
+                 */
+                private void tag(int tag) {
+                    try {
+                        dataOutputStream.writeByte(tag);
+                    } catch (IOException exception) {
+                        throw new IllegalStateException("Cannot encode tag " + tag, exception);
+                    }
+                }
+
+                /**
+                 * Writes an integer.
+                 *
+                 * @param value The integer to write.
+                 */
+                private void integer(int value) {
+                    try {
+                        dataOutputStream.writeInt(value);
+                    } catch (IOException exception) {
+                        throw new IllegalStateException("Cannot encode " + value, exception);
+                    }
+                }
+
+                /**
+                 * Writes a boolean.
+                 *
+                 * @param value The boolean to write.
+                 */
+                private void bool(boolean value) {
+                    try {
+                        dataOutputStream.writeBoolean(value);
+                    } catch (IOException exception) {
+                        throw new IllegalStateException("Cannot encode " + value, exception);
+                    }
+                }
+
+                /**
+                 * Writes a string that might be {@code null}.
+                 *
+                 * @param value The string to write or {@code null}.
+                 */
+                private void string(String value) {
+                    try {
+                        dataOutputStream.writeBoolean(value != null);
+                        if (value != null) {
+                            dataOutputStream.writeUTF(value);
+                        }
+                    } catch (IOException exception) {
+                        throw new IllegalStateException("Cannot encode " + value, exception);
+                    }
+                }
+
+                /**
+                 * Writes an array of strings that might be {@code null}.
+                 *
+                 * @param value The strings to write or {@code null}.
+                 */
+                private void strings(String[] value) {
+                    integer(value == null
+                            ? NOT_CAPTURED
+                            : value.length);
+                    if (value != null) {
+                        for (String aValue : value) {
+                            string(aValue);
+                        }
+                    }
+                }
+
+                /**
+                 * Writes an annotation value as it is supplied to {@link AnnotationVisitor#visit(String, Object)}.
+                 *
+                 * @param value The value to write.
+                 */
+                private void value(Object value) {
+                    try {
+                        if (value.getClass().isArray()) {
+                            char sort = Type.getDescriptor(value.getClass().getComponentType()).charAt(0);
+                            dataOutputStream.writeByte(ARRAY_SORT);
+                            dataOutputStream.writeByte(sort);
+                            int length = Array.getLength(value);
+                            dataOutputStream.writeInt(length);
+                            for (int index = 0; index < length; index++) {
+                                value(sort, Array.get(value, index));
+                            }
+                        } else {
+                            char sort;
+                            if (value instanceof String) {
+                                sort = STRING_SORT;
+                            } else if (value instanceof Type) {
+                                sort = TYPE_SORT;
+                            } else if (value instanceof Boolean) {
+                                sort = 'Z';
+                            } else if (value instanceof Byte) {
+                                sort = 'B';
+                            } else if (value instanceof Short) {
+                                sort = 'S';
+                            } else if (value instanceof Character) {
+                                sort = 'C';
+                            } else if (value instanceof Integer) {
+                                sort = 'I';
+                            } else if (value instanceof Long) {
+                                sort = 'J';
+                            } else if (value instanceof Float) {
+                                sort = 'F';
+                            } else if (value instanceof Double) {
+                                sort = 'D';
+                            } else {
+                                throw new IllegalArgumentException("Unexpected annotation value: " + value);
+                            }
+                            dataOutputStream.writeByte(sort);
+                            value(sort, value);
+                        }
+                    } catch (IOException exception) {
+                        throw new IllegalStateException("Cannot encode " + value, exception);
+                    }
+                }
+
+                /**
+                 * Writes an annotation value of a given sort without its sort.
+                 *
+                 * @param sort  The sort of the value.
+                 * @param value The value to write.
+                 * @throws IOException If an I/O exception occurs.
+                 */
+                private void value(char sort, Object value) throws IOException {
+                    switch (sort) {
+                        case STRING_SORT:
+                            dataOutputStream.writeUTF((String) value);
+                            break;
+                        case TYPE_SORT:
+                            dataOutputStream.writeUTF(((Type) value).getDescriptor());
+                            break;
+                        case 'Z':
+                            dataOutputStream.writeBoolean((Boolean) value);
+                            break;
+                        case 'B':
+                            dataOutputStream.writeByte((Byte) value);
+                            break;
+                        case 'S':
+                            dataOutputStream.writeShort((Short) value);
+                            break;
+                        case 'C':
+                            dataOutputStream.writeChar((Character) value);
+                            break;
+                        case 'I':
+                            dataOutputStream.writeInt((Integer) value);
+                            break;
+                        case 'J':
+                            dataOutputStream.writeLong((Long) value);
+                            break;
+                        case 'F':
+                            dataOutputStream.writeFloat((Float) value);
+                            break;
+                        case 'D':
+                            dataOutputStream.writeDouble((Double) value);
+                            break;
+                        default:
+                            throw new IllegalArgumentException("Unexpected annotation value sort: " + sort);
+                    }
+                }
+
+                @Override
+                public void visit(int version, int modifiers, String internalName, String genericSignature, String superClassName, String[] interfaceName) {
+                    tag(VISIT);
+                    integer(version);
+                    integer(modifiers);
+                    string(internalName);
+                    string(genericSignature);
+                    string(superClassName);
+                    strings(interfaceName);
+                }
+
+                @Override
+                public void visitOuterClass(String typeName, String methodName, String methodDescriptor) {
+                    tag(OUTER_CLASS);
+                    string(typeName);
+                    string(methodName);
+                    string(methodDescriptor);
+                }
+
+                @Override
+                public void visitInnerClass(String internalName, String outerName, String innerName, int modifiers) {
+                    tag(INNER_CLASS);
+                    string(internalName);
+                    string(outerName);
+                    string(innerName);
+                    integer(modifiers);
+                }
+
+                @Override
+                public AnnotationVisitor visitTypeAnnotation(int typeReference, TypePath typePath, String descriptor, boolean visible) {
+                    return onTypeAnnotation(typeReference, typePath, descriptor, visible);
+                }
+
+                @Override
+                public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+                    return onAnnotation(descriptor, visible);
+                }
+
+                @Override
+                public FieldVisitor visitField(int modifiers, String internalName, String descriptor, String genericSignature, Object defaultValue) {
+                    tag(FIELD);
+                    integer(modifiers);
+                    string(internalName);
+                    string(descriptor);
+                    string(genericSignature);
+                    return new FieldEncoder();
+                }
+
+                @Override
+                public MethodVisitor visitMethod(int modifiers, String internalName, String descriptor, String genericSignature, String[] exceptionName) {
+                    tag(METHOD);
+                    integer(modifiers);
+                    string(internalName);
+                    string(descriptor);
+                    string(genericSignature);
+                    strings(exceptionName);
+                    return new MethodEncoder();
+                }
+
+                @Override
+                public void visitEnd() {
+                    tag(END);
+                }
+
+                /**
+                 * Encodes the visitation of a type annotation.
+                 *
+                 * @param typeReference The type reference of the annotation.
+                 * @param typePath      The type path of the annotation or {@code null}.
+                 * @param descriptor    The annotation type's descriptor.
+                 * @param visible       {@code true} if the annotation is visible at runtime.
+                 * @return An annotation visitor for encoding the annotation's values.
+                 */
+                private AnnotationVisitor onTypeAnnotation(int typeReference, TypePath typePath, String descriptor, boolean visible) {
+                    tag(TYPE_ANNOTATION);
+                    integer(typeReference);
+                    string(typePath == null
+                            ? null
+                            : typePath.toString());
+                    string(descriptor);
+                    bool(visible);
+                    return new AnnotationEncoder();
+                }
+
+                /**
+                 * Encodes the visitation of an annotation.
+                 *
+                 * @param descriptor The annotation type's descriptor.
+                 * @param visible    {@code true} if the annotation is visible at runtime.
+                 * @return An annotation visitor for encoding the annotation's values.
+                 */
+                private AnnotationVisitor onAnnotation(String descriptor, boolean visible) {
+                    tag(ANNOTATION);
+                    string(descriptor);
+                    bool(visible);
+                    return new AnnotationEncoder();
+                }
+
+                /**
+                 * An encoder for the visitation of a field.
+                 */
+                protected class FieldEncoder extends FieldVisitor {
+
+                    /**
+                     * Creates a new field encoder.
+                     */
+                    protected FieldEncoder() {
+                        super(Opcodes.ASM5);
+                    }
+
+                    @Override
+                    public AnnotationVisitor visitTypeAnnotation(int typeReference, TypePath typePath, String descriptor, boolean visible) {
+                        return onTypeAnnotation(typeReference, typePath, descriptor, visible);
+                    }
+
+                    @Override
+                    public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+                        return onAnnotation(descriptor, visible);
+                    }
+
+                    @Override
+                    public void visitEnd() {
+                        tag(END);
+                    }
+                }
+
+                /**
+                 * An encoder for the visitation of a method. Of a method's code, only the first label and the local variables
+                 * that start at this label are encoded as they are used for determining the names of a method's parameters.
+                 */
+                protected class MethodEncoder extends MethodVisitor {
+
+                    /**
+                     * The first label that was visited or {@code null} if no label was visited.
+                     */
+                    private Label firstLabel;
+
+                    /**
+                     * Creates a new method encoder.
+                     */
+                    protected MethodEncoder() {
+                        super(Opcodes.ASM5);
+                    }
+
+                    @Override
+                    public AnnotationVisitor visitTypeAnnotation(int typeReference, TypePath typePath, String descriptor, boolean visible) {
+                        return onTypeAnnotation(typeReference, typePath, descriptor, visible);
+                    }
+
+                    @Override
+                    public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+                        return onAnnotation(descriptor, visible);
+                    }
+
+                    @Override
+                    public AnnotationVisitor visitParameterAnnotation(int index, String descriptor, boolean visible) {
+                        tag(PARAMETER_ANNOTATION);
+                        integer(index);
+                        string(descriptor);
+                        bool(visible);
+                        return new AnnotationEncoder();
+                    }
+
+                    @Override
+                    public void visitLabel(Label label) {
+                        if (firstLabel == null) {
+                            firstLabel = label;
+                            tag(LABEL);
+                        }
+                    }
+
+                    @Override
+                    public void visitLocalVariable(String name, String descriptor, String signature, Label start, Label end, int index) {
+                        if (start == firstLabel) {
+                            tag(LOCAL_VARIABLE);
+                            string(name);
+                            string(descriptor);
+                            string(signature);
+                            integer(index);
+                        }
+                    }
+
+                    @Override
+                    public void visitParameter(String name, int modifiers) {
+                        tag(PARAMETER);
+                        string(name);
+                        integer(modifiers);
+                    }
+
+                    @Override
+                    public AnnotationVisitor visitAnnotationDefault() {
+                        tag(ANNOTATION_DEFAULT);
+                        return new AnnotationEncoder();
+                    }
+
+                    @Override
+                    public void visitEnd() {
+                        tag(END);
+                    }
+                }
+
+                /**
+                 * An encoder for the visitation of an annotation's values.
+                 */
+                protected class AnnotationEncoder extends AnnotationVisitor {
+
+                    /**
+                     * Creates a new annotation encoder.
+                     */
+                    protected AnnotationEncoder() {
+                        super(Opcodes.ASM5);
+                    }
+
+                    @Override
+                    public void visit(String name, Object value) {
+                        tag(VALUE);
+                        string(name);
+                        value(value);
+                    }
+
+                    @Override
+                    public void visitEnum(String name, String descriptor, String value) {
+                        tag(ENUMERATION);
+                        string(name);
+                        string(descriptor);
+                        string(value);
+                    }
+
+                    @Override
+                    public AnnotationVisitor visitAnnotation(String name, String descriptor) {
+                        tag(ANNOTATION);
+                        string(name);
+                        string(descriptor);
+                        return new AnnotationEncoder();
+                    }
+
+                    @Override
+                    public AnnotationVisitor visitArray(String name) {
+                        tag(ARRAY);
+                        string(name);
+                        return new AnnotationEncoder();
+                    }
+
+                    @Override
+                    public void visitEnd() {
+                        tag(END);
+                    }
+                }
+            }
+
+            /**
+             * A decoder that replays the visitation events that were recorded by an {@link Encoder}.
+             */
+            protected static class Decoder {
+
+                /**
+                 * The input stream to read the encoded events from.
+                 */
+                private final DataInputStream inputStream;
+
+                /**
+                 * Creates a new decoder.
+                 *
+                 * @param inputStream The input stream to read the encoded events from.
+                 */
+                protected Decoder(DataInputStream inputStream) {
+                    this.inputStream = inputStream;
+                }
+
+                /**
+                 * Replays encoded visitation events on a class visitor.
+                 *
+                 * @param encoded      The encoded visitation events.
+                 * @param classVisitor The class visitor to replay the events on.
+                 * @throws IOException If the events cannot be decoded.
+                 */
+                protected static void decode(byte[] encoded, ClassVisitor classVisitor) throws IOException {
+                    new Decoder(new DataInputStream(new ByteArrayInputStream(encoded))).onClass(classVisitor);
+                }
+
+                /**
+                 * Reads a string that might be {@code null}.
+                 *
+                 * @return The string that was read or {@code null}.
+                 * @throws IOException If an I/O exception occurs.
+                 */
+                private String string() throws IOException {
+                    return inputStream.readBoolean()
+                            ? inputStream.readUTF()
+                            : null;
+                }
+
+                /**
+                 * Reads an array of strings that might be {@code null}.
+                 *
+                 * @return The strings that were read or {@code null}.
+                 * @throws IOException If an I/O exception occurs.
+                 */
+                private String[] strings() throws IOException {
+                    int length = inputStream.readInt();
+                    if (length == NOT_CAPTURED) {
+                        return null;
+                    }
+                    String[] value = new String[length];
+                    for (int index = 0; index < length; index++) {
+                        value[index] = string();
+                    }
+                    return value;
+                }
+
+                /**
+                 * Reads an annotation value as it is supplied to {@link AnnotationVisitor#visit(String, Object)}.
+                 *
+                 * @return The value that was read.
+                 * @throws IOException If an I/O exception occurs.
+                 */
+                private Object value() throws IOException {
+                    char sort = (char) inputStream.readUnsignedByte();
+                    if (sort == ARRAY_SORT) {
+                        char componentSort = (char) inputStream.readUnsignedByte();
+                        Class<?> componentType;
+                        switch (componentSort) {
+                            case 'Z':
+                                componentType = boolean.class;
+                                break;
+                            case 'B':
+                                componentType = byte.class;
+                                break;
+                            case 'S':
+                                componentType = short.class;
+                                break;
+                            case 'C':
+                                componentType = char.class;
+                                break;
+                            case 'I':
+                                componentType = int.class;
+                                break;
+                            case 'J':
+                                componentType = long.class;
+                                break;
+                            case 'F':
+                                componentType = float.class;
+                                break;
+                            case 'D':
+                                componentType = double.class;
+                                break;
+                            default:
+                                throw new IOException("Unexpected array component sort: " + componentSort);
+                        }
+                        int length = inputStream.readInt();
+                        Object value = Array.newInstance(componentType, length);
+                        for (int index = 0; index < length; index++) {
+                            Array.set(value, index, value(componentSort));
+                        }
+                        return value;
+                    } else {
+                        return value(sort);
+                    }
+                }
+
+                /**
+                 * Reads an annotation value of a given sort.
+                 *
+                 * @param sort The sort of the value.
+                 * @return The value that was read.
+                 * @throws IOException If an I/O exception occurs.
+                 */
+                private Object value(char sort) throws IOException {
+                    switch (sort) {
+                        case STRING_SORT:
+                            return inputStream.readUTF();
+                        case TYPE_SORT:
+                            return Type.getType(inputStream.readUTF());
+                        case 'Z':
+                            return inputStream.readBoolean();
+                        case 'B':
+                            return inputStream.readByte();
+                        case 'S':
+                            return inputStream.readShort();
+                        case 'C':
+                            return inputStream.readChar();
+                        case 'I':
+                            return inputStream.readInt();
+                        case 'J':
+                            return inputStream.readLong();
+                        case 'F':
+                            return inputStream.readFloat();
+                        case 'D':
+                            return inputStream.readDouble();
+                        default:
+                            throw new IOException("Unexpected annotation value sort: " + sort);
+                    }
+                }
 
-        /**
-         * Creates a default {@link net.bytebuddy.pool.TypePool} that looks up data by querying the supplied class
-         * file locator. The returned instance is configured to use a fast reading mode and a simple cache.
-         *
-         * @param classFileLocator The class file locator to use.
-         * @return A type pool that reads its data from the system class path.
-         */
-        public static TypePool of(ClassFileLocator classFileLocator) {
-            return new Default(new CacheProvider.Simple(), classFileLocator, ReaderMode.FAST);
-        }
+                /**
+                 * Replays the events of a class.
+                 *
+                 * @param classVisitor The class visitor to replay the events on.
+                 * @throws IOException If an I/O exception occurs.
+                 */
+                private void onClass(ClassVisitor classVisitor) throws IOException {
+                    while (true) {
+                        int tag = inputStream.readUnsignedByte();
+                        switch (tag) {
+                            case VISIT: {
+                                int version = inputStream.readInt(), modifiers = inputStream.readInt();
+                                classVisitor.visit(version, modifiers, string(), string(), string(), strings());
+                                break;
+                            }
+                            case OUTER_CLASS:
+                                classVisitor.visitOuterClass(string(), string(), string());
+                                break;
+                            case INNER_CLASS:
+                                classVisitor.visitInnerClass(string(), string(), string(), inputStream.readInt());
+                                break;
+                            case TYPE_ANNOTATION: {
+                                int typeReference = inputStream.readInt();
+                                String typePath = string();
+                                onAnnotation(classVisitor.visitTypeAnnotation(typeReference,
+                                        typePath == null ? null : TypePath.fromString(typePath),
+                                        string(),
+                                        inputStream.readBoolean()));
+                                break;
+                            }
+                            case ANNOTATION:
+                                onAnnotation(classVisitor.visitAnnotation(string(), inputStream.readBoolean()));
+                                break;
+                            case FIELD: {
+                                int modifiers = inputStream.readInt();
+                                onField(classVisitor.visitField(modifiers, string(), string(), string(), null));
+                                break;
+                            }
+                            case METHOD: {
+                                int modifiers = inputStream.readInt();
+                                onMethod(classVisitor.visitMethod(modifiers, string(), string(), string(), strings()));
+                                break;
+                            }
+                            case END:
+                                classVisitor.visitEnd();
+                                return;
+                            default:
+                                throw new IOException("Unexpected tag for class: " + tag);
+                        }
+                    }
+                }
 
-        @Override
-        protected Resolution doDescribe(String name) {
-            try {
-                ClassFileLocator.Resolution resolution = classFileLocator.locate(name);
-                return resolution.isResolved()
-                        ? new Resolution.Simple(parse(resolution.resolve()))
-                        : new Resolution.Illegal(name);
-            } catch (IOException exception) {
-                throw new IllegalStateException("Error while reading class file", exception);
-            }
-        }
+                /**
+                 * Replays the events of a field.
+                 *
+                 * @param fieldVisitor The field visitor to replay the events on or {@code null} if the events should be skipped.
+                 * @throws IOException If an I/O exception occurs.
+                 */
+                private void onField(FieldVisitor fieldVisitor) throws IOException {
+                    while (true) {
+                        int tag = inputStream.readUnsignedByte();
+                        switch (tag) {
+                            case TYPE_ANNOTATION: {
+                                int typeReference = inputStream.readInt();
+                                String typePath = string(), descriptor = string();
+                                boolean visible = inputStream.readBoolean();
+                                onAnnotation(fieldVisitor == null
+                                        ? null
+                                        : fieldVisitor.visitTypeAnnotation(typeReference, typePath == null ? null : TypePath.fromString(typePath), descriptor, visible));
+                                break;
+                            }
+                            case ANNOTATION: {
+                                String descriptor = string();
+                                boolean visible = inputStream.readBoolean();
+                                onAnnotation(fieldVisitor == null
+                                        ? null
+                                        : fieldVisitor.visitAnnotation(descriptor, visible));
+                                break;
+                            }
+                            case END:
+                                if (fieldVisitor != null) {
+                                    fieldVisitor.visitEnd();
+                                }
+                                return;
+                            default:
+                                throw new IOException("Unexpected tag for field: " + tag);
+                        }
+                    }
+                }
 
-        /**
-         * Parses a binary representation and transforms it into a type description.
-         *
-         * @param binaryRepresentation The binary data to be parsed.
-         * @return A type description of the binary data.
-         */
-        private TypeDescription parse(byte[] binaryRepresentation) {
-            ClassReader classReader = new ClassReader(binaryRepresentation);
-            TypeExtractor typeExtractor = new TypeExtractor();
-            classReader.accept(typeExtractor, readerMode.getFlags());
-            return typeExtractor.toTypeDescription();
-        }
+                /**
+                 * Replays the events of a method.
+                 *
+                 * @param methodVisitor The method visitor to replay the events on or {@code null} if the events should be skipped.
+                 * @throws IOException If an I/O exception occurs.
+                 */
+                private void onMethod(MethodVisitor methodVisitor) throws IOException {
+                    Label firstLabel = null;
+                    while (true) {
+                        int tag = inputStream.readUnsignedByte();
+                        switch (tag) {
+                            case TYPE_ANNOTATION: {
+                                int typeReference = inputStream.readInt();
+                                String typePath = string(), descriptor = string();
+                                boolean visible = inputStream.readBoolean();
+                                onAnnotation(methodVisitor == null
+                                        ? null
+                                        : methodVisitor.visitTypeAnnotation(typeReference, typePath == null ? null : TypePath.fromString(typePath), descriptor, visible));
+                                break;
+                            }
+                            case ANNOTATION: {
+                                String descriptor = string();
+                                boolean visible = inputStream.readBoolean();
+                                onAnnotation(methodVisitor == null
+                                        ? null
+                                        : methodVisitor.visitAnnotation(descriptor, visible));
+                                break;
+                            }
+                            case PARAMETER_ANNOTATION: {
+                                int index = inputStream.readInt();
+                                String descriptor = string();
+                                boolean visible = inputStream.readBoolean();
+                                onAnnotation(methodVisitor == null
+                                        ? null
+                                        : methodVisitor.visitParameterAnnotation(index, descriptor, visible));
+                                break;
+                            }
+                            case PARAMETER: {
+                                String name = string();
+                                int modifiers = inputStream.readInt();
+                                if (methodVisitor != null) {
+                                    methodVisitor.visitParameter(name, modifiers);
+                                }
+                                break;
+                            }
+                            case ANNOTATION_DEFAULT:
+                                onAnnotation(methodVisitor == null
+                                        ? null
+                                        : methodVisitor.visitAnnotationDefault());
+                                break;
+                            case LABEL:
+                                firstLabel = new Label();
+                                if (methodVisitor != null) {
+                                    methodVisitor.visitLabel(firstLabel);
+                                }
+                                break;
+                            case LOCAL_VARIABLE: {
+                                String name = string(), descriptor = string(), signature = string();
+                                int index = inputStream.readInt();
+                                if (methodVisitor != null) {
+                                    methodVisitor.visitLocalVariable(name, descriptor, signature, firstLabel, new Label(), index);
+                                }
+                                break;
+                            }
+                            case END:
+                                if (methodVisitor != null) {
+                                    methodVisitor.visitEnd();
+                                }
+                                return;
+                            default:
+                                throw new IOException("Unexpected tag for method: " + tag);
+                        }
+                    }
+                }
 
-        /**
-         * Determines the granularity of the class file parsing that is conducted by a {@link net.bytebuddy.pool.TypePool.Default}.
-         */
-        public enum ReaderMode {
+                /**
+                 * Replays the events of an annotation's values.
+                 *
+                 * @param annotationVisitor The annotation visitor to replay the events on or {@code null} if the events should be skipped.
+                 * @throws IOException If an I/O exception occurs.
+                 */
+                private void onAnnotation(AnnotationVisitor annotationVisitor) throws IOException {
+                    while (true) {
+                        int tag = inputStream.readUnsignedByte();
+                        switch (tag) {
+                            case VALUE: {
+                                String name = string();
+                                Object value = value();
+                                if (annotationVisitor != null) {
+                                    annotationVisitor.visit(name, value);
+                                }
+                                break;
+                            }
+                            case ENUMERATION: {
+                                String name = string(), descriptor = string(), value = string();
+                                if (annotationVisitor != null) {
+                                    annotationVisitor.visitEnum(name, descriptor, value);
+                                }
+                                break;
+                            }
+                            case ANNOTATION: {
+                                String name = string(), descriptor = string();
+                                onAnnotation(annotationVisitor == null
+                                        ? null
+                                        : annotationVisitor.visitAnnotation(name, descriptor));
+                                break;
+                            }
+                            case ARRAY: {
+                                String name = string();
+                                onAnnotation(annotationVisitor == null
+                                        ? null
+                                        : annotationVisitor.visitArray(name));
+                                break;
+                            }
+                            case END:
+                                if (annotationVisitor != null) {
+                                    annotationVisitor.visitEnd();
+                                }
+                                return;
+                            default:
+                                throw new IOException("Unexpected tag for annotation: " + tag);
+                        }
+                    }
+                }
+            }
 
             /**
-             * The extended reader mode parses the code segment of each method in order to detect parameter names
-             * that are only stored in a method's debugging information but are not explicitly included.
+             * <p>
+             * A cache provider that serves the resolutions that are stored by one or several snapshots without opening any jar file or
+             * parsing any class file. Any other resolution is cached as by a {@link CacheProvider.Simple}.
+             * </p>
+             * <p>
+             * A type description that is served from a snapshot resolves any type that it references by this cache's
+             * {@link Cache#getTypePool() type pool}. This type pool first queries the supplied parent pool, then this cache and
+             * finally locates any class file by the snapshots. The parent pool must therefore be able to describe any referenced
+             * type that is not contained in any of the snapshots' jar files.
+             * </p>
              */
-            EXTENDED(ClassReader.SKIP_FRAMES),
+            public static class Cache implements CacheProvider {
 
-            /**
-             * The fast reader mode skips the code segment of each method and cannot detect parameter names that are
-             * only contained within the debugging information. This mode still detects explicitly included method
-             * parameter names.
-             */
-            FAST(ClassReader.SKIP_CODE);
+                /**
+                 * The snapshots of which stored resolutions are served.
+                 */
+                private final List<Snapshot> snapshots;
 
-            /**
-             * The flags to provide to a {@link ClassReader} for parsing a file.
-             */
-            private final int flags;
+                /**
+                 * The type pool that parses stored resolutions and that resolves any referenced type.
+                 */
+                private final Default typePool;
 
-            /**
-             * Creates a new reader mode constant.
-             *
-             * @param flags The flags to provide to a {@link ClassReader} for parsing a file.
-             */
-            ReaderMode(int flags) {
-                this.flags = flags;
-            }
+                /**
+                 * A map of all resolutions of this cache by their type's name.
+                 */
+                private final ConcurrentMap<String, TypePool.Resolution> cache;
 
-            /**
-             * Returns the flags to provide to a {@link ClassReader} for parsing a file.
-             *
-             * @return The flags to provide to a {@link ClassReader} for parsing a file.
-             */
-            protected int getFlags() {
-                return flags;
-            }
+                /**
+                 * Creates a new cache provider for the stored resolutions of snapshots.
+                 *
+                 * @param parentPool The type pool that describes any type that is not contained in any of the snapshots' jar files.
+                 * @param snapshot   The snapshots of which stored resolutions are served.
+                 */
+                public Cache(TypePool parentPool, Snapshot... snapshot) {
+                    this(parentPool, Arrays.asList(snapshot));
+                }
 
-            /**
-             * Determines if this reader mode represents extended reading.
-             *
-             * @return {@code true} if this reader mode represents extended reading.
-             */
-            public boolean isExtended() {
-                return this == EXTENDED;
+                /**
+                 * Creates a new cache provider for the stored resolutions of snapshots.
+                 *
+                 * @param parentPool The type pool that describes any type that is not contained in any of the snapshots' jar files.
+                 * @param snapshots  The snapshots of which stored resolutions are served.
+                 */
+                public Cache(TypePool parentPool, List<? extends Snapshot> snapshots) {
+                    this.snapshots = new ArrayList<Snapshot>(snapshots);
+                    ReaderMode readerMode = ReaderMode.FAST;
+                    for (int index = 0; index < this.snapshots.size(); index++) {
+                        if (index == 0) {
+                            readerMode = this.snapshots.get(index).getReaderMode();
+                        } else if (readerMode != this.snapshots.get(index).getReaderMode()) {
+                            throw new IllegalArgumentException("Snapshots of different reader modes: " + snapshots);
+                        }
+                    }
+                    cache = new ConcurrentHashMap<String, TypePool.Resolution>();
+                    typePool = new Default(this, new ClassFileLocator.Compound(this.snapshots), readerMode, parentPool);
+                }
+
+                /**
+                 * Returns a type pool that uses this cache provider and that locates class files by the snapshots of this cache.
+                 *
+                 * @return A type pool that uses this cache provider.
+                 */
+                public TypePool getTypePool() {
+                    return typePool;
+                }
+
+                @Override
+                public TypePool.Resolution find(String name) {
+                    TypePool.Resolution resolution = cache.get(name);
+                    if (resolution == null) {
+                        for (Snapshot snapshot : snapshots) {
+                            byte[] encoded;
+                            try {
+                                encoded = snapshot.resolve(name);
+                            } catch (IOException exception) {
+                                throw new IllegalStateException("Cannot read snapshot of " + snapshot.jarFile, exception);
+                            }
+                            if (encoded != null) {
+                                Default.TypeExtractor typeExtractor = typePool.new TypeExtractor();
+                                try {
+                                    Decoder.decode(encoded, typeExtractor);
+                                } catch (IOException exception) {
+                                    throw new IllegalStateException("Cannot decode snapshot of " + name, exception);
+                                }
+                                return register(name, new TypePool.Resolution.Simple(typeExtractor.toTypeDescription()));
+                            }
+                        }
+                    }
+                    return resolution;
+                }
+
+                @Override
+                public TypePool.Resolution register(String name, TypePool.Resolution resolution) {
+                    TypePool.Resolution cached = cache.putIfAbsent(name, resolution);
+                    return cached == null
+                            ? resolution
+                            : cached;
+                }
+
+                @Override
+                public void clear() {
+                    cache.clear();
+                }
             }
         }
 
@@ -1231,7 +2927,7 @@ public interface TypePool {
             /**
              * A lazy type description that resolves any property that is not the name only when requested.
              */
-            protected class LazyTypeDescription extends TypeDescription.AbstractBase.OfSimpleType.WithDelegation {
+            protected class LazyTypeDescription extends TypeDescription.AbstractBase.OfSimpleType.WithDelegation implements TypeDescription.WithSuperTypeClosure {
 
                 /**
                  * The type's name.
@@ -1256,6 +2952,103 @@ public interface TypePool {
                 protected TypeDescription delegate() {
                     return doResolve(name).resolve();
                 }
+
+                @Override
+                public Set<String> getSuperTypeNames() {
+                    return WithSuperTypeClosure.AbstractBase.ofNames(delegate());
+                }
+
+                @Override
+                public Iterable<TypeDescription.Generic> getSuperTypes() {
+                    return WithSuperTypeClosure.AbstractBase.ofTypes(delegate());
+                }
+
+                @Override
+                public boolean isAssignableFrom(TypeDescription typeDescription) {
+                    return typeDescription instanceof WithSuperTypeClosure
+                            ? typeDescription.isAssignableTo(this)
+                            : super.isAssignableFrom(typeDescription);
+                }
+
+                @Override
+                public boolean isAssignableTo(TypeDescription typeDescription) {
+                    String name = typeDescription.getName();
+                    return name.equals(getName())
+                            || name.equals(Object.class.getName())
+                            || delegate().isAssignableTo(typeDescription);
+                }
+            }
+        }
+
+        /**
+         * <p>
+         * A variant of {@link TypePool.Default.WithLazyResolution} that retains the class reader of any class file it parses until the
+         * reader is claimed by a type writer or until the type pool is cleared. This avoids a second parsing of the class file of a type
+         * that is first described and subsequently redefined or rebased by using this type pool.
+         * </p>
+         * <p>
+         * As all parsed class files are retained until they are claimed, this type pool should only be used for a short-lived resolution,
+         * for example for the transformation of a single type.
+         * </p>
+         */
+        public static class WithReaderRetention extends WithLazyResolution implements ReaderRetaining {
+
+            /**
+             * The retained class readers by the binary names of their types.
+             */
+            private final ConcurrentMap<String, ClassReader> classReaders;
+
+            /**
+             * Creates a new default type pool with lazy resolution and reader retention and without a parent pool.
+             *
+             * @param cacheProvider    The cache provider to be used.
+             * @param classFileLocator The class file locator to be used.
+             * @param readerMode       The reader mode to apply by this default type pool.
+             */
+            public WithReaderRetention(CacheProvider cacheProvider, ClassFileLocator classFileLocator, ReaderMode readerMode) {
+                this(cacheProvider, classFileLocator, readerMode, Empty.INSTANCE);
+            }
+
+            /**
+             * Creates a new default type pool with lazy resolution and reader retention.
+             *
+             * @param cacheProvider    The cache provider to be used.
+             * @param classFileLocator The class file locator to be used.
+             * @param readerMode       The reader mode to apply by this default type pool.
+             * @param parentPool       The parent type pool.
+             */
+            public WithReaderRetention(CacheProvider cacheProvider, ClassFileLocator classFileLocator, ReaderMode readerMode, TypePool parentPool) {
+                super(cacheProvider, classFileLocator, readerMode, parentPool);
+                classReaders = new ConcurrentHashMap<String, ClassReader>();
+            }
+
+            /**
+             * Creates a default {@link net.bytebuddy.pool.TypePool} with lazy resolution and reader retention that looks up data by querying
+             * the supplied class file locator. The returned instance is configured to use a fast reading mode and a simple cache.
+             *
+             * @param classFileLocator The class file locator to use.
+             * @return A type pool that reads its data from the supplied class file locator.
+             */
+            public static TypePool of(ClassFileLocator classFileLocator) {
+                return new WithReaderRetention(new CacheProvider.Simple(), classFileLocator, ReaderMode.FAST);
+            }
+
+            @Override
+            protected ClassReader read(String name, byte[] binaryRepresentation) {
+                ClassReader classReader = super.read(name, binaryRepresentation);
+                classReaders.put(name, classReader);
+                return classReader;
+            }
+
+            @Override
+            public ClassReader claim(String name) {
+                return classReaders.remove(name);
+            }
+
+            @Override
+            public void clear() {
+                classReaders.clear();
+                super.clear();
             }
         }
 
@@ -2640,7 +4433,7 @@ public interface TypePool {
          * A type description that looks up any referenced {@link net.bytebuddy.description.ByteCodeElement} or
          * {@link AnnotationDescription} by querying a type pool at lookup time.
          */
-        protected static class LazyTypeDescription extends TypeDescription.AbstractBase.OfSimpleType {
+        protected static class LazyTypeDescription extends TypeDescription.WithSuperTypeClosure.AbstractBase {
 
             /**
              * The index of a super class's type annotations.
@@ -2824,6 +4617,18 @@ public interface TypePool {
                 return signatureResolution.resolveInterfaceTypes(interfaceTypeDescriptors, typePool, superTypeAnnotationTokens, this);
             }
 
+            @Override
+            protected TypeDescription getSuperClassErasure() {
+                return superClassDescriptor == null || isInterface()
+                        ? TypeDescription.UNDEFINED
+                        : TokenizedGenericType.toErasure(typePool, superClassDescriptor);
+            }
+
+            @Override
+            protected TypeList getInterfaceErasures() {
+                return new LazyTypeList(typePool, interfaceTypeDescriptors);
+            }
+
             @Override
             public MethodDescription getEnclosingMethod() {
                 return typeContainment.getEnclosingMethod(typePool);
@@ -7631,7 +9436,7 @@ public interface TypePool {
         /**
          * A description of a type that delegates to another type pool once a property that is not the name is resolved.
          */
-        protected static class LazyTypeDescription extends TypeDescription.AbstractBase.OfSimpleType.WithDelegation {
+        protected static class LazyTypeDescription extends TypeDescription.AbstractBase.OfSimpleType.WithDelegation implements TypeDescription.WithSuperTypeClosure {
 
             /**
              * The type pool to delegate to.
@@ -7663,6 +9468,31 @@ public interface TypePool {
             protected TypeDescription delegate() {
                 return typePool.describe(name).resolve();
             }
+
+            @Override
+            public Set<String> getSuperTypeNames() {
+                return WithSuperTypeClosure.AbstractBase.ofNames(delegate());
+            }
+
+            @Override
+            public Iterable<TypeDescription.Generic> getSuperTypes() {
+                return WithSuperTypeClosure.AbstractBase.ofTypes(delegate());
+            }
+
+            @Override
+            public boolean isAssignableFrom(TypeDescription typeDescription) {
+                return typeDescription instanceof WithSuperTypeClosure
+                        ? typeDescription.isAssignableTo(this)
+                        : super.isAssignableFrom(typeDescription);
+            }
+
+            @Override
+            public boolean isAssignableTo(TypeDescription typeDescription) {
+                String name = typeDescription.getName();
+                return name.equals(getName())
+                        || name.equals(Object.class.getName())
+                        || delegate().isAssignableTo(typeDescription);
+            }
         }
     }
 
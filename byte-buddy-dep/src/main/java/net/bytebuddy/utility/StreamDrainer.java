@@ -4,8 +4,7 @@ import lombok.EqualsAndHashCode;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 /**
  * A utility for draining the contents of an {@link java.io.InputStream} into a {@code byte} array.
@@ -23,11 +22,26 @@ public class StreamDrainer {
      */
     public static final StreamDrainer DEFAULT = new StreamDrainer();
 
+    /**
+     * A value that indicates that the size of a stream is unknown.
+     */
+    public static final long UNKNOWN_SIZE = -1L;
+
     /**
      * A convenience constant referring to the value representing the end of a stream.
      */
     private static final int END_OF_STREAM = -1;
 
+    /**
+     * The maximum size of a buffer that is retained by a thread for draining subsequent streams.
+     */
+    private static final int MAXIMUM_RETAINED_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * A scratch buffer per thread that is reused for draining streams of unknown size.
+     */
+    private static final ThreadLocal<byte[]> BUFFER = new ThreadLocal<byte[]>();
+
     /**
      * A convenience constant referring to the value representing the start of a stream.
      */
@@ -55,32 +69,80 @@ public class StreamDrainer {
     }
 
     /**
-     * Drains an input stream into a byte array. The given input stream is not closed.
+     * Drains an input stream into a byte array. The given input stream is not closed. The stream's estimate of its available
+     * bytes is used as a hint of the stream's size.
      *
      * @param inputStream The input stream to drain.
      * @return A byte array containing the content of the input stream.
      * @throws IOException If the stream reading causes an error.
      */
     public byte[] drain(InputStream inputStream) throws IOException {
-        List<byte[]> previousBytes = new ArrayList<byte[]>();
-        byte[] currentArray = new byte[bufferSize];
-        int currentIndex = 0;
-        int currentRead;
+        return drain(inputStream, inputStream.available());
+    }
+
+    /**
+     * Drains an input stream into a byte array. The given input stream is not closed. If the supplied size is accurate,
+     * the stream's content is read directly into the returned array. Otherwise, the content is read into a scratch buffer
+     * that is reused by the current thread before it is copied into an array of the exact size.
+     *
+     * @param inputStream The input stream to drain.
+     * @param size        The expected size of the stream or {@link StreamDrainer#UNKNOWN_SIZE} if the size is unknown.
+     * @return A byte array containing the content of the input stream.
+     * @throws IOException If the stream reading causes an error.
+     */
+    public byte[] drain(InputStream inputStream, long size) throws IOException {
+        if (size < 1 || size > Integer.MAX_VALUE) {
+            return drain(inputStream, new byte[0], 0);
+        }
+        byte[] result = new byte[(int) size];
+        int currentIndex = 0, currentRead;
         do {
-            currentRead = inputStream.read(currentArray, currentIndex, bufferSize - currentIndex);
+            currentRead = inputStream.read(result, currentIndex, result.length - currentIndex);
             currentIndex += currentRead > 0 ? currentRead : 0;
-            if (currentIndex == bufferSize) {
-                previousBytes.add(currentArray);
-                currentArray = new byte[bufferSize];
-                currentIndex = 0;
+        } while (currentRead != END_OF_STREAM && currentIndex < result.length);
+        if (currentIndex < result.length) {
+            return Arrays.copyOf(result, currentIndex);
+        }
+        int next = inputStream.read();
+        if (next == END_OF_STREAM) {
+            return result;
+        }
+        byte[] prefix = Arrays.copyOf(result, result.length + 1);
+        prefix[result.length] = (byte) next;
+        return drain(inputStream, prefix, prefix.length);
+    }
+
+    /**
+     * Drains the remainder of an input stream into a reusable scratch buffer before copying its content into an array of the exact size.
+     *
+     * @param inputStream The input stream to drain.
+     * @param prefix      An array containing any bytes that were already read from the stream.
+     * @param length      The number of bytes that were already read from the stream.
+     * @return A byte array containing the content of the input stream.
+     * @throws IOException If the stream reading causes an error.
+     */
+    private byte[] drain(InputStream inputStream, byte[] prefix, int length) throws IOException {
+        byte[] buffer = BUFFER.get();
+        BUFFER.remove(); // Avoid sharing the buffer if a stream drains another stream on the same thread.
+        if (buffer == null || buffer.length < Math.max(bufferSize, length + 1)) {
+            buffer = new byte[Math.max(bufferSize, length + 1)];
+        }
+        System.arraycopy(prefix, FROM_BEGINNING, buffer, FROM_BEGINNING, length);
+        int currentIndex = length, currentRead;
+        do {
+            if (currentIndex == buffer.length) {
+                if (buffer.length == Integer.MAX_VALUE) {
+                    throw new IOException("Stream exceeds maximum array size");
+                }
+                buffer = Arrays.copyOf(buffer, (int) Math.min(Integer.MAX_VALUE, buffer.length * 2L));
             }
+            currentRead = inputStream.read(buffer, currentIndex, Math.min(bufferSize, buffer.length - currentIndex));
+            currentIndex += currentRead > 0 ? currentRead : 0;
         } while (currentRead != END_OF_STREAM);
-        byte[] result = new byte[previousBytes.size() * bufferSize + currentIndex];
-        int arrayIndex = 0;
-        for (byte[] previousByte : previousBytes) {
-            System.arraycopy(previousByte, FROM_BEGINNING, result, arrayIndex++ * bufferSize, bufferSize);
+        byte[] result = Arrays.copyOf(buffer, currentIndex);
+        if (buffer.length <= MAXIMUM_RETAINED_BUFFER_SIZE) {
+            BUFFER.set(buffer);
         }
-        System.arraycopy(currentArray, FROM_BEGINNING, result, arrayIndex * bufferSize, currentIndex);
         return result;
     }
 }
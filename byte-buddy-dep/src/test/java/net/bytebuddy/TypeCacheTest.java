@@ -12,6 +12,9 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.nullValue;
@@ -134,8 +137,365 @@ public class TypeCacheTest {
         typeCache.findOrInsert(ClassLoader.getSystemClassLoader(), new Object(), callable, new Object());
     }
 
+    @Test
+    public void testConcurrentCreationOfSameKeyIsDeduplicated() throws Exception {
+        final TypeCache<Object> typeCache = new TypeCache<Object>(TypeCache.Sort.WEAK);
+        final Object key = new Object();
+        final CountDownLatch started = new CountDownLatch(1), release = new CountDownLatch(1);
+        final AtomicInteger invocations = new AtomicInteger();
+        final Callable<Class<?>> callable = new Callable<Class<?>>() {
+            @Override
+            public Class<?> call() throws Exception {
+                invocations.incrementAndGet();
+                started.countDown();
+                release.await();
+                return Void.class;
+            }
+        };
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                typeCache.findOrInsert(ClassLoader.getSystemClassLoader(), key, callable);
+            }
+        });
+        thread.start();
+        assertThat(started.await(10, TimeUnit.SECONDS), is(true));
+        Thread waiting = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                typeCache.findOrInsert(ClassLoader.getSystemClassLoader(), key, callable);
+            }
+        });
+        waiting.start();
+        release.countDown();
+        thread.join();
+        waiting.join();
+        assertThat(invocations.get(), is(1));
+        assertThat(typeCache.find(ClassLoader.getSystemClassLoader(), key), is((Object) Void.class));
+        assertThat(typeCache.pending.isEmpty(), is(true));
+    }
+
+    @Test
+    public void testConcurrentCreationOfDistinctKeys() throws Exception {
+        final TypeCache<Object> typeCache = new TypeCache<Object>(TypeCache.Sort.WEAK);
+        final CountDownLatch latch = new CountDownLatch(2);
+        final Callable<Class<?>> callable = new Callable<Class<?>>() {
+            @Override
+            public Class<?> call() throws Exception {
+                latch.countDown();
+                if (!latch.await(10, TimeUnit.SECONDS)) {
+                    throw new AssertionError("Types were not created concurrently");
+                }
+                return Void.class;
+            }
+        };
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                typeCache.findOrInsert(ClassLoader.getSystemClassLoader(), new Object(), callable);
+            }
+        });
+        thread.start();
+        assertThat(typeCache.findOrInsert(ClassLoader.getSystemClassLoader(), new Object(), callable), is((Object) Void.class));
+        thread.join();
+    }
+
+    @Test
+    public void testRecursiveCreationOfSameKey() throws Exception {
+        final TypeCache<Object> typeCache = new TypeCache<Object>(TypeCache.Sort.WEAK);
+        final Object key = new Object();
+        assertThat(typeCache.findOrInsert(ClassLoader.getSystemClassLoader(), key, new Callable<Class<?>>() {
+            @Override
+            public Class<?> call() throws Exception {
+                return typeCache.findOrInsert(ClassLoader.getSystemClassLoader(), key, new Callable<Class<?>>() {
+                    @Override
+                    public Class<?> call() throws Exception {
+                        return Void.class;
+                    }
+                });
+            }
+        }), is((Object) Void.class));
+    }
+
+    @Test
+    public void testCreationWithMonitorDoesNotWaitForBlockedThread() throws Exception {
+        final TypeCache<Object> typeCache = new TypeCache<Object>(TypeCache.Sort.WEAK);
+        final Object monitor = new Object(), first = new Object(), second = new Object();
+        final CountDownLatch started = new CountDownLatch(1);
+        final Thread blocked = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                typeCache.findOrInsert(ClassLoader.getSystemClassLoader(), second, new Callable<Class<?>>() {
+                    @Override
+                    public Class<?> call() throws Exception {
+                        return String.class;
+                    }
+                }, monitor);
+            }
+        });
+        blocked.setDaemon(true);
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                typeCache.findOrInsert(ClassLoader.getSystemClassLoader(), first, new Callable<Class<?>>() {
+                    @Override
+                    public Class<?> call() throws Exception {
+                        started.countDown();
+                        while (blocked.getState() != Thread.State.BLOCKED) {
+                            Thread.sleep(10L);
+                        }
+                        return typeCache.findOrInsert(ClassLoader.getSystemClassLoader(), second, new Callable<Class<?>>() {
+                            @Override
+                            public Class<?> call() throws Exception {
+                                return Void.class;
+                            }
+                        });
+                    }
+                }, monitor);
+            }
+        });
+        thread.setDaemon(true);
+        thread.start();
+        assertThat(started.await(10, TimeUnit.SECONDS), is(true));
+        blocked.start();
+        thread.join(TimeUnit.SECONDS.toMillis(10));
+        blocked.join(TimeUnit.SECONDS.toMillis(10));
+        assertThat(thread.isAlive(), is(false));
+        assertThat(blocked.isAlive(), is(false));
+        assertThat(typeCache.find(ClassLoader.getSystemClassLoader(), first), is((Object) Void.class));
+        assertThat(typeCache.find(ClassLoader.getSystemClassLoader(), second), is((Object) Void.class));
+    }
+
+    @Test
+    public void testConcurrentCreationWithMonitorIsDeduplicated() throws Exception {
+        final TypeCache<Object> typeCache = new TypeCache<Object>(TypeCache.Sort.WEAK);
+        final Object key = new Object(), monitor = new Object();
+        final CountDownLatch started = new CountDownLatch(1), release = new CountDownLatch(1);
+        final AtomicInteger invocations = new AtomicInteger();
+        final Callable<Class<?>> callable = new Callable<Class<?>>() {
+            @Override
+            public Class<?> call() throws Exception {
+                if (!Thread.holdsLock(monitor)) {
+                    throw new AssertionError("Monitor is not held during creation");
+                }
+                invocations.incrementAndGet();
+                started.countDown();
+                release.await();
+                return Void.class;
+            }
+        };
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                typeCache.findOrInsert(ClassLoader.getSystemClassLoader(), key, callable, monitor);
+            }
+        });
+        thread.start();
+        assertThat(started.await(10, TimeUnit.SECONDS), is(true));
+        Thread waiting = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                typeCache.findOrInsert(ClassLoader.getSystemClassLoader(), key, callable, monitor);
+            }
+        });
+        waiting.start();
+        while (waiting.getState() != Thread.State.WAITING) {
+            Thread.sleep(10L);
+        }
+        release.countDown();
+        thread.join();
+        waiting.join();
+        assertThat(invocations.get(), is(1));
+        assertThat(typeCache.find(ClassLoader.getSystemClassLoader(), key), is((Object) Void.class));
+        assertThat(typeCache.pending.isEmpty(), is(true));
+    }
+
+    @Test
+    public void testCreationWithHeldMonitorDoesNotWaitForPendingCreation() throws Exception {
+        final TypeCache<Object> typeCache = new TypeCache<Object>(TypeCache.Sort.WEAK);
+        final Object key = new Object(), monitor = new Object();
+        final AtomicInteger invocations = new AtomicInteger();
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                typeCache.findOrInsert(ClassLoader.getSystemClassLoader(), key, new Callable<Class<?>>() {
+                    @Override
+                    public Class<?> call() throws Exception {
+                        invocations.incrementAndGet();
+                        return String.class;
+                    }
+                }, monitor);
+            }
+        });
+        thread.setDaemon(true);
+        synchronized (monitor) {
+            thread.start();
+            while (thread.getState() != Thread.State.BLOCKED) {
+                Thread.sleep(10L);
+            }
+            assertThat(typeCache.findOrInsert(ClassLoader.getSystemClassLoader(), key, new Callable<Class<?>>() {
+                @Override
+                public Class<?> call() throws Exception {
+                    return Void.class;
+                }
+            }, monitor), is((Object) Void.class));
+        }
+        thread.join(TimeUnit.SECONDS.toMillis(10));
+        assertThat(thread.isAlive(), is(false));
+        assertThat(invocations.get(), is(0));
+        assertThat(typeCache.find(ClassLoader.getSystemClassLoader(), key), is((Object) Void.class));
+    }
+
+    @Test
+    public void testCyclicCreationOfDistinctKeys() throws Exception {
+        final TypeCache<Object> typeCache = new TypeCache<Object>(TypeCache.Sort.WEAK);
+        final Object first = new Object(), second = new Object();
+        final CountDownLatch latch = new CountDownLatch(2);
+        Thread thread = new Thread(new CyclicCreation(typeCache, first, second, latch)), other = new Thread(new CyclicCreation(typeCache, second, first, latch));
+        thread.setDaemon(true);
+        other.setDaemon(true);
+        thread.start();
+        other.start();
+        thread.join(TimeUnit.SECONDS.toMillis(10));
+        other.join(TimeUnit.SECONDS.toMillis(10));
+        assertThat(thread.isAlive(), is(false));
+        assertThat(other.isAlive(), is(false));
+        assertThat(typeCache.find(ClassLoader.getSystemClassLoader(), first), is((Object) Void.class));
+        assertThat(typeCache.find(ClassLoader.getSystemClassLoader(), second), is((Object) Void.class));
+        assertThat(typeCache.pending.isEmpty(), is(true));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testStatistics() throws Exception {
+        TypeCache.Statistics.Recording statistics = new TypeCache.Statistics.Recording();
+        TypeCache<Object> typeCache = new TypeCache.WithInlineExpunction<Object>(TypeCache.Sort.WEAK, statistics);
+        Object key = new Object();
+        Callable<Class<?>> callable = mock(Callable.class);
+        when(callable.call()).thenReturn((Class) Void.class);
+        assertThat(typeCache.findOrInsert(ClassLoader.getSystemClassLoader(), key, callable), is((Object) Void.class));
+        assertThat(typeCache.findOrInsert(ClassLoader.getSystemClassLoader(), key, callable), is((Object) Void.class));
+        assertThat(typeCache.findOrInsert(ClassLoader.getSystemClassLoader(), key, callable, new Object()), is((Object) Void.class));
+        verify(callable).call();
+        assertThat(statistics.getHits(), is(2L));
+        assertThat(statistics.getMisses(), is(1L));
+        assertThat(statistics.getCreations(), is(1L));
+        assertThat(statistics.getCreationTime() >= 0L, is(true));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    @SuppressWarnings("unchecked")
+    public void testCreationExceptionWithoutMonitor() throws Exception {
+        TypeCache<Object> typeCache = new TypeCache<Object>(TypeCache.Sort.WEAK);
+        Callable<Class<?>> callable = mock(Callable.class);
+        when(callable.call()).thenThrow(RuntimeException.class);
+        typeCache.findOrInsert(ClassLoader.getSystemClassLoader(), new Object(), callable);
+    }
+
+    @Test
+    public void testBoundedCacheDiscardsLeastRecentlyUsed() throws Exception {
+        TypeCache<Object> typeCache = new TypeCache<Object>(TypeCache.Sort.SOFT, TypeCache.Statistics.NoOp.INSTANCE, 2);
+        Object first = new Object(), second = new Object(), third = new Object();
+        assertThat(typeCache.insert(ClassLoader.getSystemClassLoader(), first, Void.class), is((Object) Void.class));
+        assertThat(typeCache.insert(ClassLoader.getSystemClassLoader(), second, String.class), is((Object) String.class));
+        assertThat(typeCache.find(ClassLoader.getSystemClassLoader(), first), is((Object) Void.class));
+        assertThat(typeCache.insert(ClassLoader.getSystemClassLoader(), third, Integer.class), is((Object) Integer.class));
+        assertThat(typeCache.find(ClassLoader.getSystemClassLoader(), first), is((Object) Void.class));
+        assertThat(typeCache.find(ClassLoader.getSystemClassLoader(), second), nullValue(Class.class));
+        assertThat(typeCache.find(ClassLoader.getSystemClassLoader(), third), is((Object) Integer.class));
+        assertThat(typeCache.insert(null, second, String.class), is((Object) String.class));
+        assertThat(typeCache.find(ClassLoader.getSystemClassLoader(), first), is((Object) Void.class));
+    }
+
+    @Test
+    public void testBoundedCacheReinsertsDiscardedType() throws Exception {
+        TypeCache<Object> typeCache = new TypeCache<Object>(TypeCache.Sort.SOFT, TypeCache.Statistics.NoOp.INSTANCE, 1);
+        Object first = new Object(), second = new Object();
+        assertThat(typeCache.insert(ClassLoader.getSystemClassLoader(), first, Void.class), is((Object) Void.class));
+        assertThat(typeCache.insert(ClassLoader.getSystemClassLoader(), second, String.class), is((Object) String.class));
+        assertThat(typeCache.find(ClassLoader.getSystemClassLoader(), first), nullValue(Class.class));
+        assertThat(typeCache.insert(ClassLoader.getSystemClassLoader(), first, Void.class), is((Object) Void.class));
+        assertThat(typeCache.find(ClassLoader.getSystemClassLoader(), second), nullValue(Class.class));
+        assertThat(typeCache.find(ClassLoader.getSystemClassLoader(), first), is((Object) Void.class));
+        assertThat(typeCache.cache.values().iterator().next().size(), is(1));
+        typeCache.clear();
+        assertThat(typeCache.cache.isEmpty(), is(true));
+    }
+
+    @Test
+    public void testBoundedCacheDiscardsCollectedTypeFirst() throws Exception {
+        TypeCache<Object> typeCache = new TypeCache<Object>(TypeCache.Sort.SOFT, TypeCache.Statistics.NoOp.INSTANCE, 2);
+        Object first = new Object(), second = new Object(), third = new Object();
+        assertThat(typeCache.insert(ClassLoader.getSystemClassLoader(), first, Void.class), is((Object) Void.class));
+        assertThat(typeCache.insert(ClassLoader.getSystemClassLoader(), second, String.class), is((Object) String.class));
+        typeCache.cache.values().iterator().next().get(second).clear();
+        assertThat(typeCache.insert(ClassLoader.getSystemClassLoader(), third, Integer.class), is((Object) Integer.class));
+        assertThat(typeCache.find(ClassLoader.getSystemClassLoader(), first), is((Object) Void.class));
+        assertThat(typeCache.find(ClassLoader.getSystemClassLoader(), third), is((Object) Integer.class));
+        assertThat(typeCache.cache.values().iterator().next().size(), is(2));
+    }
+
+    @Test
+    public void testBoundedCacheRecordsAccessWithoutLocking() throws Exception {
+        TypeCache<Object> typeCache = new TypeCache<Object>(TypeCache.Sort.WEAK, TypeCache.Statistics.NoOp.INSTANCE, 2);
+        Object key = new Object();
+        assertThat(typeCache.insert(ClassLoader.getSystemClassLoader(), key, Void.class), is((Object) Void.class));
+        TypeCache.Stamped stamped = (TypeCache.Stamped) typeCache.cache.values().iterator().next().get(key);
+        long stamp = stamped.getStamp();
+        assertThat(typeCache.find(ClassLoader.getSystemClassLoader(), key), is((Object) Void.class));
+        assertThat(stamped.getStamp(), is(stamp));
+        assertThat(typeCache.insert(ClassLoader.getSystemClassLoader(), new Object(), String.class), is((Object) String.class));
+        assertThat(typeCache.find(ClassLoader.getSystemClassLoader(), key), is((Object) Void.class));
+        assertThat(stamped.getStamp() > stamp, is(true));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIllegalCapacity() throws Exception {
+        new TypeCache<Object>(TypeCache.Sort.SOFT, TypeCache.Statistics.NoOp.INSTANCE, 0);
+    }
+
+    @Test
+    public void testAmortizedExpunction() throws Exception {
+        final AtomicInteger expunctions = new AtomicInteger();
+        TypeCache<Object> typeCache = new TypeCache.WithAmortizedExpunction<Object>(TypeCache.Sort.WEAK, 2) {
+            @Override
+            public void expungeStaleEntries() {
+                expunctions.incrementAndGet();
+                super.expungeStaleEntries();
+            }
+        };
+        Object key = new Object();
+        assertThat(typeCache.find(ClassLoader.getSystemClassLoader(), key), nullValue(Class.class));
+        assertThat(expunctions.get(), is(0));
+        assertThat(typeCache.insert(ClassLoader.getSystemClassLoader(), key, Void.class), is((Object) Void.class));
+        assertThat(expunctions.get(), is(1));
+        assertThat(typeCache.find(ClassLoader.getSystemClassLoader(), key), is((Object) Void.class));
+        assertThat(typeCache.find(ClassLoader.getSystemClassLoader(), key), is((Object) Void.class));
+        assertThat(expunctions.get(), is(2));
+    }
+
+    @Test
+    public void testAmortizedExpunctionCollection() throws Exception {
+        TypeCache<Object> typeCache = new TypeCache.WithAmortizedExpunction<Object>(TypeCache.Sort.WEAK, 1);
+        ClassLoader classLoader = mock(ClassLoader.class);
+        assertThat(typeCache.insert(classLoader, new Object(), Void.class), is((Object) Void.class));
+        classLoader = null; // Make eligible for GC
+        for (int index = 0; index < 2; index++) {
+            System.gc();
+            Thread.sleep(50L);
+        }
+        assertThat(typeCache.find(ClassLoader.getSystemClassLoader(), new Object()), nullValue(Class.class));
+        assertThat(typeCache.cache.isEmpty(), is(true));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIllegalInterval() throws Exception {
+        new TypeCache.WithAmortizedExpunction<Object>(TypeCache.Sort.WEAK, 0);
+    }
+
     @Test
     public void testObjectProperties() throws Exception {
+        ObjectPropertyAssertion.of(TypeCache.Statistics.NoOp.class).apply();
         ObjectPropertyAssertion.of(TypeCache.Sort.class).apply();
         final Iterator<Class<?>> iterator = Arrays.<Class<?>>asList(Object.class,
                 String.class,
@@ -161,4 +521,37 @@ public class TypeCacheTest {
         }).apply();
 
     }
+
+    private static class CyclicCreation implements Runnable {
+
+        private final TypeCache<Object> typeCache;
+
+        private final Object key, dependency;
+
+        private final CountDownLatch latch;
+
+        private CyclicCreation(TypeCache<Object> typeCache, Object key, Object dependency, CountDownLatch latch) {
+            this.typeCache = typeCache;
+            this.key = key;
+            this.dependency = dependency;
+            this.latch = latch;
+        }
+
+        @Override
+        public void run() {
+            typeCache.findOrInsert(ClassLoader.getSystemClassLoader(), key, new Callable<Class<?>>() {
+                @Override
+                public Class<?> call() throws Exception {
+                    latch.countDown();
+                    latch.await();
+                    return typeCache.findOrInsert(ClassLoader.getSystemClassLoader(), dependency, new Callable<Class<?>>() {
+                        @Override
+                        public Class<?> call() throws Exception {
+                            return Void.class;
+                        }
+                    });
+                }
+            });
+        }
+    }
 }
@@ -37,7 +37,10 @@ import java.lang.instrument.UnmodifiableClassException;
 import java.lang.reflect.Constructor;
 import java.security.ProtectionDomain;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import static net.bytebuddy.matcher.ElementMatchers.named;
 import static net.bytebuddy.matcher.ElementMatchers.none;
 import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -1031,6 +1034,42 @@ public class AgentBuilderDefaultTest {
         verifyZeroInteractions(installationStrategy);
     }
 
+    @Test
+    public void testSuccessfulWithRedefinitionMatchedInParallel() throws Exception {
+        when(typeMatcher.matches(new TypeDescription.ForLoadedType(REDEFINED), REDEFINED.getClassLoader(), JavaModule.ofType(REDEFINED), REDEFINED, REDEFINED.getProtectionDomain()))
+                .thenReturn(true);
+        when(instrumentation.isModifiableClass(REDEFINED)).thenReturn(true);
+        when(instrumentation.isRedefineClassesSupported()).thenReturn(true);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            ClassFileTransformer classFileTransformer = new AgentBuilder.Default(byteBuddy)
+                    .with(AgentBuilder.RedefinitionStrategy.REDEFINITION)
+                    .with(new AgentBuilder.RedefinitionStrategy.MatchingStrategy.ForExecutor(executorService))
+                    .with(initializationStrategy)
+                    .with(poolStrategy)
+                    .with(typeStrategy)
+                    .with(installationStrategy)
+                    .with(listener)
+                    .disableNativeMethodPrefix()
+                    .ignore(none())
+                    .type(typeMatcher).transform(transformer)
+                    .installOn(instrumentation);
+            verifyZeroInteractions(listener);
+            verify(instrumentation).addTransformer(classFileTransformer, false);
+            verify(instrumentation).getAllLoadedClasses();
+            verify(instrumentation).isModifiableClass(REDEFINED);
+            verify(instrumentation).redefineClasses(any(ClassDefinition[].class));
+            verify(instrumentation).isRedefineClassesSupported();
+            verifyNoMoreInteractions(instrumentation);
+            verify(typeMatcher).matches(new TypeDescription.ForLoadedType(REDEFINED), REDEFINED.getClassLoader(), JavaModule.ofType(REDEFINED), REDEFINED, REDEFINED.getProtectionDomain());
+            verifyNoMoreInteractions(typeMatcher);
+            verifyZeroInteractions(dispatcher);
+            verifyZeroInteractions(installationStrategy);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
     @Test
     public void testSuccessfulWithRedefinitionMatchedFallback() throws Exception {
         when(typeMatcher.matches(new TypeDescription.ForLoadedType(REDEFINED), REDEFINED.getClassLoader(), JavaModule.ofType(REDEFINED), REDEFINED, REDEFINED.getProtectionDomain()))
@@ -1630,8 +1669,13 @@ public class AgentBuilderDefaultTest {
         when(dynamicType.getBytes()).thenReturn(BAZ);
         RuntimeException exception = new RuntimeException();
         when(resolution.resolve()).thenThrow(exception);
-        when(typeMatcher.matches(new TypeDescription.ForLoadedType(REDEFINED), REDEFINED.getClassLoader(), JavaModule.ofType(REDEFINED), REDEFINED, REDEFINED.getProtectionDomain()))
-                .thenReturn(true);
+        when(typeMatcher.matches(any(TypeDescription.class), eq(REDEFINED.getClassLoader()), eq(JavaModule.ofType(REDEFINED)), any(Class.class), eq(REDEFINED.getProtectionDomain())))
+                .then(new Answer<Boolean>() {
+                    @Override
+                    public Boolean answer(InvocationOnMock invocationOnMock) throws Throwable {
+                        return ((TypeDescription) invocationOnMock.getArguments()[0]).isPublic();
+                    }
+                });
         ClassFileTransformer classFileTransformer = new AgentBuilder.Default(byteBuddy)
                 .with(initializationStrategy)
                 .with(poolStrategy)
@@ -1639,6 +1683,7 @@ public class AgentBuilderDefaultTest {
                 .with(installationStrategy)
                 .with(listener)
                 .disableNativeMethodPrefix()
+                .ignore(none())
                 .type(typeMatcher).transform(transformer)
                 .installOn(instrumentation);
         assertThat(transform(classFileTransformer, JavaModule.ofType(REDEFINED), REDEFINED.getClassLoader(), REDEFINED.getName(), null, REDEFINED.getProtectionDomain(), QUX),
@@ -1652,6 +1697,27 @@ public class AgentBuilderDefaultTest {
         verifyZeroInteractions(installationStrategy);
     }
 
+    @Test
+    public void testIgnoredByNameDoesNotRequestTypePool() throws Exception {
+        ClassFileTransformer classFileTransformer = new AgentBuilder.Default(byteBuddy)
+                .with(initializationStrategy)
+                .with(poolStrategy)
+                .with(typeStrategy)
+                .with(installationStrategy)
+                .with(listener)
+                .disableNativeMethodPrefix()
+                .ignore(named(REDEFINED.getName()))
+                .type(typeMatcher).transform(transformer)
+                .installOn(instrumentation);
+        assertThat(transform(classFileTransformer, JavaModule.ofType(REDEFINED), REDEFINED.getClassLoader(), REDEFINED.getName(), null, REDEFINED.getProtectionDomain(), QUX),
+                nullValue(byte[].class));
+        verify(listener).onIgnored(new TypeDescription.ForLoadedType(REDEFINED), REDEFINED.getClassLoader(), JavaModule.ofType(REDEFINED), false);
+        verify(listener).onComplete(REDEFINED.getName(), REDEFINED.getClassLoader(), JavaModule.ofType(REDEFINED), false);
+        verifyNoMoreInteractions(listener);
+        verifyZeroInteractions(poolStrategy);
+        verifyZeroInteractions(typeMatcher);
+    }
+
     @Test
     public void testIgnored() throws Exception {
         when(dynamicType.getBytes()).thenReturn(BAZ);
@@ -2079,6 +2145,13 @@ public class AgentBuilderDefaultTest {
                 .with(mock(AgentBuilder.RedefinitionStrategy.Listener.class));
     }
 
+    @Test(expected = IllegalStateException.class)
+    public void testRetransformationDisabledNotEnabledMatchingStrategy() throws Exception {
+        new AgentBuilder.Default()
+                .with(AgentBuilder.RedefinitionStrategy.DISABLED)
+                .with(mock(AgentBuilder.RedefinitionStrategy.MatchingStrategy.class));
+    }
+
     @Test(expected = IllegalStateException.class)
     public void testRetransformationDisabledNotEnabledResubmission() throws Exception {
         new AgentBuilder.Default()
@@ -0,0 +1,119 @@
+package net.bytebuddy.agent.builder;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.pool.TypePool;
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.InputStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class AgentBuilderPoolStrategyHierarchicalTest {
+
+    private static final String FOO = "foo";
+
+    private CountingClassLoader classLoader;
+
+    private AgentBuilder.PoolStrategy.Hierarchical poolStrategy;
+
+    @Before
+    public void setUp() throws Exception {
+        classLoader = new CountingClassLoader(null);
+        poolStrategy = new AgentBuilder.PoolStrategy.Hierarchical();
+    }
+
+    @Test
+    public void testSharedAcrossTypePools() throws Exception {
+        TypeDescription typeDescription = poolStrategy.typePool(ClassFileLocator.NoOp.INSTANCE, classLoader).describe(Foo.class.getName()).resolve();
+        assertThat(typeDescription.getDeclaredFields().size(), is(0));
+        typeDescription = poolStrategy.typePool(ClassFileLocator.NoOp.INSTANCE, classLoader).describe(Foo.class.getName()).resolve();
+        assertThat(typeDescription.getDeclaredFields().size(), is(0));
+        assertThat(classLoader.count, is(1));
+    }
+
+    @Test
+    public void testSharedWithChildClassLoader() throws Exception {
+        CountingClassLoader child = new CountingClassLoader(classLoader);
+        TypeDescription typeDescription = poolStrategy.typePool(ClassFileLocator.NoOp.INSTANCE, classLoader).describe(Foo.class.getName()).resolve();
+        assertThat(typeDescription.getDeclaredFields().size(), is(0));
+        typeDescription = poolStrategy.typePool(ClassFileLocator.NoOp.INSTANCE, child).describe(Foo.class.getName()).resolve();
+        assertThat(typeDescription.getDeclaredFields().size(), is(0));
+        assertThat(classLoader.count, is(1));
+        assertThat(child.count, is(0));
+    }
+
+    @Test
+    public void testBootstrap() throws Exception {
+        TypeDescription typeDescription = poolStrategy.typePool(ClassFileLocator.NoOp.INSTANCE, null).describe(Object.class.getName()).resolve();
+        assertThat(typeDescription, is(TypeDescription.OBJECT));
+        assertThat(poolStrategy.typePool(ClassFileLocator.NoOp.INSTANCE, classLoader).describe(Object.class.getName()).resolve(), is(TypeDescription.OBJECT));
+        assertThat(classLoader.count, is(0));
+    }
+
+    @Test
+    public void testOverlay() throws Exception {
+        ClassFileLocator classFileLocator = ClassFileLocator.Simple.of(Foo.class.getName(), new ByteBuddy()
+                .redefine(Foo.class)
+                .defineField(FOO, Object.class)
+                .make()
+                .getBytes(), ClassFileLocator.NoOp.INSTANCE);
+        TypeDescription typeDescription = poolStrategy.typePool(classFileLocator, classLoader, Foo.class.getName()).describe(Foo.class.getName()).resolve();
+        assertThat(typeDescription.getDeclaredFields().size(), is(1));
+        assertThat(typeDescription.getSuperClass().asErasure(), is(TypeDescription.OBJECT));
+        assertThat(classLoader.count, is(0));
+        typeDescription = poolStrategy.typePool(ClassFileLocator.NoOp.INSTANCE, classLoader).describe(Foo.class.getName()).resolve();
+        assertThat(typeDescription.getDeclaredFields().size(), is(0));
+        assertThat(classLoader.count, is(1));
+    }
+
+    @Test
+    public void testClear() throws Exception {
+        TypeDescription typeDescription = poolStrategy.typePool(ClassFileLocator.NoOp.INSTANCE, classLoader).describe(Foo.class.getName()).resolve();
+        assertThat(typeDescription.getDeclaredFields().size(), is(0));
+        poolStrategy.clear();
+        typeDescription = poolStrategy.typePool(ClassFileLocator.NoOp.INSTANCE, classLoader).describe(Foo.class.getName()).resolve();
+        assertThat(typeDescription.getDeclaredFields().size(), is(0));
+        assertThat(classLoader.count, is(2));
+    }
+
+    @Test
+    public void testEqualityIgnoresSharedTypePools() throws Exception {
+        poolStrategy.typePool(ClassFileLocator.NoOp.INSTANCE, classLoader).describe(Foo.class.getName()).resolve();
+        assertThat(poolStrategy, is((AgentBuilder.PoolStrategy) new AgentBuilder.PoolStrategy.Hierarchical()));
+        assertThat(poolStrategy.hashCode(), is(new AgentBuilder.PoolStrategy.Hierarchical().hashCode()));
+    }
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        ObjectPropertyAssertion.of(AgentBuilder.PoolStrategy.Hierarchical.class).apply();
+    }
+
+    private static class Foo {
+        /* empty */
+    }
+
+    private static class CountingClassLoader extends ClassLoader {
+
+        private int count;
+
+        private CountingClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        public InputStream getResourceAsStream(String name) {
+            InputStream inputStream = getParent() == null
+                    ? AgentBuilderPoolStrategyHierarchicalTest.class.getClassLoader().getResourceAsStream(name)
+                    : null;
+            if (inputStream != null) {
+                count++;
+            }
+            return inputStream;
+        }
+    }
+}
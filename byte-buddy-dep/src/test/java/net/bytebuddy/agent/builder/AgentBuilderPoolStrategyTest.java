@@ -9,6 +9,7 @@ import org.junit.Test;
 import org.junit.rules.TestRule;
 import org.mockito.Mock;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 
@@ -53,10 +54,21 @@ public class AgentBuilderPoolStrategyTest {
         assertThat(AgentBuilder.PoolStrategy.ClassLoading.EXTENDED.typePool(classFileLocator, classLoader), notNullValue(TypePool.class));
     }
 
+    @Test
+    public void testFastRetainingTypePool() throws Exception {
+        assertThat(AgentBuilder.PoolStrategy.WithReaderRetention.FAST.typePool(classFileLocator, classLoader), instanceOf(TypePool.ReaderRetaining.class));
+    }
+
+    @Test
+    public void testExtendedRetainingTypePool() throws Exception {
+        assertThat(AgentBuilder.PoolStrategy.WithReaderRetention.EXTENDED.typePool(classFileLocator, classLoader), instanceOf(TypePool.ReaderRetaining.class));
+    }
+
     @Test
     public void testObjectProperties() throws Exception {
         ObjectPropertyAssertion.of(AgentBuilder.PoolStrategy.Default.class).apply();
         ObjectPropertyAssertion.of(AgentBuilder.PoolStrategy.Eager.class).apply();
         ObjectPropertyAssertion.of(AgentBuilder.PoolStrategy.ClassLoading.class).apply();
+        ObjectPropertyAssertion.of(AgentBuilder.PoolStrategy.WithReaderRetention.class).apply();
     }
 }
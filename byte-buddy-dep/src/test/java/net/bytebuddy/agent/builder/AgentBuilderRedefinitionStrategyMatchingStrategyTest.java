@@ -0,0 +1,81 @@
+package net.bytebuddy.agent.builder;
+
+import net.bytebuddy.test.utility.MockitoRule;
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.*;
+
+public class AgentBuilderRedefinitionStrategyMatchingStrategyTest {
+
+    @Rule
+    public TestRule mockitoRule = new MockitoRule(this);
+
+    @Mock
+    private Runnable first, second;
+
+    @Test
+    public void testSequential() throws Exception {
+        Iterator<Runnable> iterator = AgentBuilder.RedefinitionStrategy.MatchingStrategy.Sequential.INSTANCE.execute(Arrays.asList(first, second)).iterator();
+        verifyZeroInteractions(first, second);
+        assertThat(iterator.hasNext(), is(true));
+        assertThat(iterator.next(), is(first));
+        verify(first).run();
+        verifyZeroInteractions(second);
+        assertThat(iterator.hasNext(), is(true));
+        assertThat(iterator.next(), is(second));
+        assertThat(iterator.hasNext(), is(false));
+        InOrder inOrder = inOrder(first, second);
+        inOrder.verify(first).run();
+        inOrder.verify(second).run();
+        verifyNoMoreInteractions(first, second);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testSequentialRemove() throws Exception {
+        AgentBuilder.RedefinitionStrategy.MatchingStrategy.Sequential.INSTANCE.execute(Arrays.asList(first, second)).iterator().remove();
+    }
+
+    @Test
+    public void testForExecutor() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            assertThat(new AgentBuilder.RedefinitionStrategy.MatchingStrategy.ForExecutor(executorService).execute(Arrays.asList(first, second)),
+                    is((Iterable<Runnable>) Arrays.asList(first, second)));
+            verify(first).run();
+            verify(second).run();
+            verifyNoMoreInteractions(first, second);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testForExecutorFailure() throws Exception {
+        doThrow(new RuntimeException()).when(first).run();
+        new AgentBuilder.RedefinitionStrategy.MatchingStrategy.ForExecutor(new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                command.run();
+            }
+        }).execute(Arrays.asList(first, second));
+    }
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        ObjectPropertyAssertion.of(AgentBuilder.RedefinitionStrategy.MatchingStrategy.Sequential.class).apply();
+        ObjectPropertyAssertion.of(AgentBuilder.RedefinitionStrategy.MatchingStrategy.ForExecutor.class).apply();
+    }
+}
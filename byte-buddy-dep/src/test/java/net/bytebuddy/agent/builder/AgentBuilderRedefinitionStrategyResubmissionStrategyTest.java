@@ -2,6 +2,7 @@ package net.bytebuddy.agent.builder;
 
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
 import net.bytebuddy.matcher.ElementMatcher;
 import net.bytebuddy.test.utility.MockitoRule;
@@ -804,6 +805,211 @@ public class AgentBuilderRedefinitionStrategyResubmissionStrategyTest {
         assertThat(key.isBootstrapLoader(), is(false));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testResubmissionIsDeduplicated() throws Exception {
+        when(instrumentation.isModifiableClass(Foo.class)).thenReturn(true);
+        when(redefinitionBatchAllocator.batch(Mockito.any(List.class))).thenAnswer(new Answer<Object>() {
+            @Override
+            public Object answer(InvocationOnMock invocationOnMock) throws Throwable {
+                return Collections.singleton(invocationOnMock.getArgumentAt(0, List.class));
+            }
+        });
+        when(rawMatcher.matches(new TypeDescription.ForLoadedType(Foo.class),
+                Foo.class.getClassLoader(),
+                JavaModule.ofType(Foo.class),
+                Foo.class,
+                Foo.class.getProtectionDomain())).thenReturn(true);
+        when(matcher.matches(error)).thenReturn(true);
+        when(resubmissionScheduler.isAlive()).thenReturn(true);
+        AgentBuilder.RedefinitionStrategy.ResubmissionPolicy.Monitor monitor = mock(AgentBuilder.RedefinitionStrategy.ResubmissionPolicy.Monitor.class);
+        AgentBuilder.RedefinitionStrategy.ResubmissionStrategy resubmissionStrategy = new AgentBuilder.RedefinitionStrategy.ResubmissionStrategy.Enabled(resubmissionScheduler,
+                matcher,
+                AgentBuilder.RedefinitionStrategy.ResubmissionPolicy.UNBOUNDED.with(monitor));
+        AgentBuilder.Listener listener = resubmissionStrategy.onInstall(instrumentation,
+                locationStrategy,
+                this.listener,
+                circularityLock,
+                rawMatcher,
+                AgentBuilder.RedefinitionStrategy.RETRANSFORMATION,
+                redefinitionBatchAllocator,
+                redefinitionListener);
+        listener.onError(Foo.class.getName(), Foo.class.getClassLoader(), JavaModule.ofType(Foo.class), false, error);
+        listener.onError(Foo.class.getName(), Foo.class.getClassLoader(), JavaModule.ofType(Foo.class), false, error);
+        ArgumentCaptor<Runnable> argumentCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(resubmissionScheduler).schedule(argumentCaptor.capture());
+        argumentCaptor.getValue().run();
+        argumentCaptor.getValue().run();
+        verify(instrumentation).isModifiableClass(Foo.class);
+        verify(instrumentation).retransformClasses(Foo.class);
+        verifyNoMoreInteractions(instrumentation);
+        verify(monitor).onResubmission(1, 0, 0, 0);
+        verify(monitor).onResubmission(0, 0, 0, 0);
+        verifyNoMoreInteractions(monitor);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testResubmissionCapacityExceeded() throws Exception {
+        when(instrumentation.isModifiableClass(Foo.class)).thenReturn(true);
+        when(redefinitionBatchAllocator.batch(Mockito.any(List.class))).thenAnswer(new Answer<Object>() {
+            @Override
+            public Object answer(InvocationOnMock invocationOnMock) throws Throwable {
+                return Collections.singleton(invocationOnMock.getArgumentAt(0, List.class));
+            }
+        });
+        when(rawMatcher.matches(new TypeDescription.ForLoadedType(Foo.class),
+                Foo.class.getClassLoader(),
+                JavaModule.ofType(Foo.class),
+                Foo.class,
+                Foo.class.getProtectionDomain())).thenReturn(true);
+        when(matcher.matches(error)).thenReturn(true);
+        when(resubmissionScheduler.isAlive()).thenReturn(true);
+        AgentBuilder.RedefinitionStrategy.ResubmissionPolicy.Monitor monitor = mock(AgentBuilder.RedefinitionStrategy.ResubmissionPolicy.Monitor.class);
+        AgentBuilder.RedefinitionStrategy.ResubmissionStrategy resubmissionStrategy = new AgentBuilder.RedefinitionStrategy.ResubmissionStrategy.Enabled(resubmissionScheduler,
+                matcher,
+                new AgentBuilder.RedefinitionStrategy.ResubmissionPolicy(1, 1, 0L, 0L, TimeUnit.MILLISECONDS).with(monitor));
+        AgentBuilder.Listener listener = resubmissionStrategy.onInstall(instrumentation,
+                locationStrategy,
+                this.listener,
+                circularityLock,
+                rawMatcher,
+                AgentBuilder.RedefinitionStrategy.RETRANSFORMATION,
+                redefinitionBatchAllocator,
+                redefinitionListener);
+        listener.onError(Foo.class.getName(), Foo.class.getClassLoader(), JavaModule.ofType(Foo.class), false, error);
+        listener.onError(Bar.class.getName(), Bar.class.getClassLoader(), JavaModule.ofType(Bar.class), false, error);
+        ArgumentCaptor<Runnable> argumentCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(resubmissionScheduler).schedule(argumentCaptor.capture());
+        argumentCaptor.getValue().run();
+        verify(instrumentation).isModifiableClass(Foo.class);
+        verify(instrumentation).retransformClasses(Foo.class);
+        verifyNoMoreInteractions(instrumentation);
+        verify(monitor).onResubmission(1, 0, 1, 0);
+        verifyNoMoreInteractions(monitor);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testResubmissionIsDeferred() throws Exception {
+        when(instrumentation.isModifiableClass(Foo.class)).thenReturn(true);
+        when(redefinitionBatchAllocator.batch(Mockito.any(List.class))).thenAnswer(new Answer<Object>() {
+            @Override
+            public Object answer(InvocationOnMock invocationOnMock) throws Throwable {
+                return Collections.singleton(invocationOnMock.getArgumentAt(0, List.class));
+            }
+        });
+        when(rawMatcher.matches(new TypeDescription.ForLoadedType(Foo.class),
+                Foo.class.getClassLoader(),
+                JavaModule.ofType(Foo.class),
+                Foo.class,
+                Foo.class.getProtectionDomain())).thenReturn(true);
+        when(matcher.matches(error)).thenReturn(true);
+        when(resubmissionScheduler.isAlive()).thenReturn(true);
+        AgentBuilder.RedefinitionStrategy.ResubmissionPolicy.Monitor monitor = mock(AgentBuilder.RedefinitionStrategy.ResubmissionPolicy.Monitor.class);
+        AgentBuilder.RedefinitionStrategy.ResubmissionStrategy resubmissionStrategy = new AgentBuilder.RedefinitionStrategy.ResubmissionStrategy.Enabled(resubmissionScheduler,
+                matcher,
+                new AgentBuilder.RedefinitionStrategy.ResubmissionPolicy(10, 2, 1L, 1L, TimeUnit.HOURS).with(monitor));
+        AgentBuilder.Listener listener = resubmissionStrategy.onInstall(instrumentation,
+                locationStrategy,
+                this.listener,
+                circularityLock,
+                rawMatcher,
+                AgentBuilder.RedefinitionStrategy.RETRANSFORMATION,
+                redefinitionBatchAllocator,
+                redefinitionListener);
+        listener.onError(Foo.class.getName(), Foo.class.getClassLoader(), JavaModule.ofType(Foo.class), false, error);
+        ArgumentCaptor<Runnable> argumentCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(resubmissionScheduler).schedule(argumentCaptor.capture());
+        argumentCaptor.getValue().run();
+        argumentCaptor.getValue().run();
+        verify(instrumentation).isModifiableClass(Foo.class);
+        verify(instrumentation).retransformClasses(Foo.class);
+        verifyNoMoreInteractions(instrumentation);
+        verify(monitor).onResubmission(1, 0, 0, 1);
+        verify(monitor).onResubmission(0, 1, 0, 1);
+        verifyNoMoreInteractions(monitor);
+        listener.onTransformation(new TypeDescription.ForLoadedType(Foo.class), Foo.class.getClassLoader(), JavaModule.ofType(Foo.class), true, mock(DynamicType.class));
+        argumentCaptor.getValue().run();
+        verify(monitor).onResubmission(0, 0, 0, 0);
+        verifyNoMoreInteractions(monitor);
+    }
+
+    @Test
+    public void testResubmissionRemovedOnLoadedError() throws Exception {
+        when(matcher.matches(error)).thenReturn(true);
+        when(resubmissionScheduler.isAlive()).thenReturn(true);
+        AgentBuilder.RedefinitionStrategy.ResubmissionPolicy.Monitor monitor = mock(AgentBuilder.RedefinitionStrategy.ResubmissionPolicy.Monitor.class);
+        AgentBuilder.RedefinitionStrategy.ResubmissionStrategy resubmissionStrategy = new AgentBuilder.RedefinitionStrategy.ResubmissionStrategy.Enabled(resubmissionScheduler,
+                matcher,
+                new AgentBuilder.RedefinitionStrategy.ResubmissionPolicy(10, 2, 1L, 1L, TimeUnit.HOURS).with(monitor));
+        AgentBuilder.Listener listener = resubmissionStrategy.onInstall(instrumentation,
+                locationStrategy,
+                this.listener,
+                circularityLock,
+                rawMatcher,
+                AgentBuilder.RedefinitionStrategy.RETRANSFORMATION,
+                redefinitionBatchAllocator,
+                redefinitionListener);
+        listener.onError(Foo.class.getName(), Foo.class.getClassLoader(), JavaModule.ofType(Foo.class), false, error);
+        Throwable other = mock(Throwable.class);
+        listener.onError(Foo.class.getName(), Foo.class.getClassLoader(), JavaModule.ofType(Foo.class), true, other);
+        ArgumentCaptor<Runnable> argumentCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(resubmissionScheduler).schedule(argumentCaptor.capture());
+        argumentCaptor.getValue().run();
+        verifyZeroInteractions(instrumentation);
+        verify(matcher).matches(error);
+        verify(matcher).matches(other);
+        verifyNoMoreInteractions(matcher);
+        verify(monitor).onResubmission(0, 0, 0, 0);
+        verifyNoMoreInteractions(monitor);
+    }
+
+    @Test
+    public void testResubmissionPolicyDelay() throws Exception {
+        AgentBuilder.RedefinitionStrategy.ResubmissionPolicy resubmissionPolicy = new AgentBuilder.RedefinitionStrategy.ResubmissionPolicy(1, 3, 1L, 3L, TimeUnit.NANOSECONDS);
+        assertThat(resubmissionPolicy.toDelay(1), is(1L));
+        assertThat(resubmissionPolicy.toDelay(2), is(2L));
+        assertThat(resubmissionPolicy.toDelay(3), is(3L));
+        assertThat(resubmissionPolicy.toDelay(Integer.MAX_VALUE), is(3L));
+        assertThat(resubmissionPolicy.isAttemptable(2), is(true));
+        assertThat(resubmissionPolicy.isAttemptable(3), is(false));
+        assertThat(resubmissionPolicy.isRetainable(0), is(true));
+        assertThat(resubmissionPolicy.isRetainable(1), is(false));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testResubmissionPolicyNonPositiveCapacity() throws Exception {
+        new AgentBuilder.RedefinitionStrategy.ResubmissionPolicy(0, 1, 0L, 0L, TimeUnit.MILLISECONDS);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testResubmissionPolicyNonPositiveAttempts() throws Exception {
+        new AgentBuilder.RedefinitionStrategy.ResubmissionPolicy(1, 0, 0L, 0L, TimeUnit.MILLISECONDS);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testResubmissionPolicyNegativeDelay() throws Exception {
+        new AgentBuilder.RedefinitionStrategy.ResubmissionPolicy(1, 1, -1L, 0L, TimeUnit.MILLISECONDS);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testResubmissionPolicyMaximumDelayBelowDelay() throws Exception {
+        new AgentBuilder.RedefinitionStrategy.ResubmissionPolicy(1, 1, 2L, 1L, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    public void testResubmissionPolicyEquality() throws Exception {
+        AgentBuilder.RedefinitionStrategy.ResubmissionPolicy resubmissionPolicy = new AgentBuilder.RedefinitionStrategy.ResubmissionPolicy(1, 2, 3L, 4L, TimeUnit.SECONDS);
+        assertThat(resubmissionPolicy, is(new AgentBuilder.RedefinitionStrategy.ResubmissionPolicy(1, 2, 3000L, 4000L, TimeUnit.MILLISECONDS)));
+        assertThat(resubmissionPolicy.hashCode(), is(new AgentBuilder.RedefinitionStrategy.ResubmissionPolicy(1, 2, 3000L, 4000L, TimeUnit.MILLISECONDS).hashCode()));
+        assertThat(resubmissionPolicy, not(new AgentBuilder.RedefinitionStrategy.ResubmissionPolicy(2, 2, 3L, 4L, TimeUnit.SECONDS)));
+        assertThat(resubmissionPolicy, not(new AgentBuilder.RedefinitionStrategy.ResubmissionPolicy(1, 3, 3L, 4L, TimeUnit.SECONDS)));
+        assertThat(resubmissionPolicy, not(new AgentBuilder.RedefinitionStrategy.ResubmissionPolicy(1, 2, 2L, 4L, TimeUnit.SECONDS)));
+        assertThat(resubmissionPolicy, not(new AgentBuilder.RedefinitionStrategy.ResubmissionPolicy(1, 2, 3L, 5L, TimeUnit.SECONDS)));
+        assertThat(resubmissionPolicy, not(resubmissionPolicy.with(mock(AgentBuilder.RedefinitionStrategy.ResubmissionPolicy.Monitor.class))));
+    }
+
     @Test
     public void testSchedulerNoOp() throws Exception {
         Runnable runnable = mock(Runnable.class);
@@ -841,9 +1047,14 @@ public class AgentBuilderRedefinitionStrategyResubmissionStrategyTest {
         ObjectPropertyAssertion.of(AgentBuilder.RedefinitionStrategy.ResubmissionScheduler.NoOp.class).apply();
         ObjectPropertyAssertion.of(AgentBuilder.RedefinitionStrategy.ResubmissionScheduler.AtFixedRate.class).apply();
         ObjectPropertyAssertion.of(AgentBuilder.RedefinitionStrategy.ResubmissionScheduler.WithFixedDelay.class).apply();
+        ObjectPropertyAssertion.of(AgentBuilder.RedefinitionStrategy.ResubmissionPolicy.Monitor.NoOp.class).apply();
     }
 
     private static class Foo {
         /* empty */
     }
+
+    private static class Bar {
+        /* empty */
+    }
 }
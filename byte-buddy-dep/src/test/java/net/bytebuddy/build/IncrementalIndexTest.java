@@ -0,0 +1,196 @@
+package net.bytebuddy.build;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.DynamicType;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class IncrementalIndexTest {
+
+    private static final String FOO = "foo", BAR = "bar", TEMP = ".tmp";
+
+    private static final String SUPER_CLASS = "foo/Bar.class", SUB_CLASS = "foo/Qux.class", INDIRECT_SUB_CLASS = "foo/Baz.class";
+
+    private File root, index;
+
+    private TypeDescription superClass, subClass, indirectSubClass;
+
+    @Before
+    public void setUp() throws Exception {
+        root = File.createTempFile(FOO, TEMP);
+        assertThat(root.delete(), is(true));
+        assertThat(root.mkdir(), is(true));
+        index = File.createTempFile(BAR, TEMP);
+        assertThat(index.delete(), is(true));
+        DynamicType superType = new ByteBuddy().subclass(Object.class).name("foo.Bar").make();
+        superType.saveIn(root);
+        superClass = superType.getTypeDescription();
+        DynamicType subType = new ByteBuddy().subclass(superClass).name("foo.Qux").make();
+        subType.saveIn(root);
+        subClass = subType.getTypeDescription();
+        DynamicType indirectSubType = new ByteBuddy().subclass(subClass).name("foo.Baz").make();
+        indirectSubType.saveIn(root);
+        indirectSubClass = indirectSubType.getTypeDescription();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        assertThat(new File(root, SUPER_CLASS).delete(), is(true));
+        assertThat(new File(root, SUB_CLASS).delete(), is(true));
+        assertThat(new File(root, INDIRECT_SUB_CLASS).delete(), is(true));
+        assertThat(new File(root, FOO).delete(), is(true));
+        assertThat(root.delete(), is(true));
+        assertThat(!index.exists() || index.delete(), is(true));
+    }
+
+    @Test
+    public void testEmptyIndex() throws Exception {
+        List<String> files = Arrays.asList(SUPER_CLASS, SUB_CLASS);
+        assertThat(IncrementalIndex.read(index, FOO).filter(root, files), is(files));
+    }
+
+    @Test
+    public void testUnchanged() throws Exception {
+        List<String> files = Arrays.asList(SUPER_CLASS, SUB_CLASS);
+        write(files, FOO);
+        assertThat(IncrementalIndex.read(index, FOO).filter(root, files), is(Collections.<String>emptyList()));
+    }
+
+    @Test
+    public void testUnchangedRetainsEntries() throws Exception {
+        List<String> files = Arrays.asList(SUPER_CLASS, SUB_CLASS);
+        write(files, FOO);
+        IncrementalIndex incrementalIndex = IncrementalIndex.read(index, FOO);
+        assertThat(incrementalIndex.filter(root, files), is(Collections.<String>emptyList()));
+        incrementalIndex.write(root, files, index);
+        assertThat(IncrementalIndex.read(index, FOO).filter(root, files), is(Collections.<String>emptyList()));
+    }
+
+    @Test
+    public void testChangedFingerprint() throws Exception {
+        List<String> files = Arrays.asList(SUPER_CLASS, SUB_CLASS);
+        write(files, FOO);
+        assertThat(IncrementalIndex.read(index, BAR).filter(root, files), is(files));
+    }
+
+    @Test
+    public void testChangedClassFile() throws Exception {
+        List<String> files = Arrays.asList(SUPER_CLASS, SUB_CLASS);
+        write(files, FOO);
+        OutputStream outputStream = new FileOutputStream(new File(root, SUB_CLASS), true);
+        try {
+            outputStream.write(0);
+        } finally {
+            outputStream.close();
+        }
+        assertThat(IncrementalIndex.read(index, FOO).filter(root, files), is(Collections.singletonList(SUB_CLASS)));
+    }
+
+    @Test
+    public void testChangedSuperClassFile() throws Exception {
+        List<String> files = Arrays.asList(SUPER_CLASS, SUB_CLASS);
+        write(files, FOO);
+        OutputStream outputStream = new FileOutputStream(new File(root, SUPER_CLASS), true);
+        try {
+            outputStream.write(0);
+        } finally {
+            outputStream.close();
+        }
+        assertThat(IncrementalIndex.read(index, FOO).filter(root, files), is(files));
+    }
+
+    @Test
+    public void testChangedIndirectSuperClassFile() throws Exception {
+        List<String> files = Arrays.asList(SUPER_CLASS, SUB_CLASS, INDIRECT_SUB_CLASS);
+        write(files, FOO);
+        OutputStream outputStream = new FileOutputStream(new File(root, SUPER_CLASS), true);
+        try {
+            outputStream.write(0);
+        } finally {
+            outputStream.close();
+        }
+        assertThat(IncrementalIndex.read(index, FOO).filter(root, files), is(files));
+    }
+
+    @Test
+    public void testNewClassFile() throws Exception {
+        write(Collections.singletonList(SUPER_CLASS), FOO);
+        assertThat(IncrementalIndex.read(index, FOO).filter(root, Arrays.asList(SUPER_CLASS, SUB_CLASS)), is(Collections.singletonList(SUB_CLASS)));
+    }
+
+    @Test
+    public void testFingerprint() throws Exception {
+        assertThat(IncrementalIndex.fingerprint(EntryPoint.Default.REBASE, Collections.<Plugin>emptyList(), root, Collections.singletonList(index), FOO),
+                is(IncrementalIndex.fingerprint(EntryPoint.Default.REBASE, Collections.<Plugin>emptyList(), root, Collections.singletonList(index), FOO)));
+        assertThat(IncrementalIndex.fingerprint(EntryPoint.Default.REBASE, Collections.<Plugin>emptyList(), root, Collections.singletonList(index), FOO),
+                not(IncrementalIndex.fingerprint(EntryPoint.Default.REBASE, Collections.<Plugin>emptyList(), root, Collections.singletonList(index), BAR)));
+        assertThat(IncrementalIndex.fingerprint(EntryPoint.Default.REBASE, Collections.<Plugin>emptyList(), root, Collections.singletonList(index), FOO),
+                not(IncrementalIndex.fingerprint(EntryPoint.Default.REDEFINE, Collections.<Plugin>emptyList(), root, Collections.singletonList(index), FOO)));
+    }
+
+    @Test
+    public void testFingerprintExcludesRoot() throws Exception {
+        String fingerprint = IncrementalIndex.fingerprint(EntryPoint.Default.REBASE, Collections.<Plugin>emptyList(), root, Arrays.asList(root, new File(root, FOO)));
+        assertThat(root.setLastModified(root.lastModified() - 10000L), is(true));
+        assertThat(IncrementalIndex.fingerprint(EntryPoint.Default.REBASE, Collections.<Plugin>emptyList(), root, Arrays.asList(root, new File(root, FOO))), is(fingerprint));
+        assertThat(fingerprint.contains(root.getPath()), is(false));
+    }
+
+    @Test
+    public void testFingerprintContainsPluginArtifact() throws Exception {
+        String fingerprint = IncrementalIndex.fingerprint(EntryPoint.Default.REBASE,
+                Collections.singletonList(new SamplePlugin()),
+                root,
+                Collections.<File>emptyList());
+        assertThat(fingerprint.contains(SamplePlugin.class.getName() + ":"), is(true));
+        assertThat(fingerprint.endsWith(SamplePlugin.class.getName() + ":"), is(false));
+    }
+
+    @Test
+    public void testFingerprintOfPluginInRootContainsOnlyPluginClassFile() throws Exception {
+        File folder = new File(SamplePlugin.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        String fingerprint = IncrementalIndex.fingerprint(EntryPoint.Default.REBASE,
+                Collections.singletonList(new SamplePlugin()),
+                folder,
+                Collections.<File>emptyList());
+        assertThat(fingerprint.matches("(?s).*\\n" + Pattern.quote(SamplePlugin.class.getName()) + ":[0-9a-f]{40}"), is(true));
+    }
+
+    private void write(List<String> files, String fingerprint) throws Exception {
+        IncrementalIndex incrementalIndex = IncrementalIndex.read(index, fingerprint);
+        assertThat(incrementalIndex.filter(root, files), is(files));
+        incrementalIndex.register(root, SUPER_CLASS, superClass);
+        if (files.contains(SUB_CLASS)) {
+            incrementalIndex.register(root, SUB_CLASS, subClass);
+        }
+        if (files.contains(INDIRECT_SUB_CLASS)) {
+            incrementalIndex.register(root, INDIRECT_SUB_CLASS, indirectSubClass);
+        }
+        incrementalIndex.write(root, files, index);
+    }
+
+    public static class SamplePlugin implements Plugin {
+
+        public DynamicType.Builder<?> apply(DynamicType.Builder<?> builder, TypeDescription typeDescription) {
+            return builder;
+        }
+
+        public boolean matches(TypeDescription target) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package net.bytebuddy.description.type;
+
+import net.bytebuddy.dynamic.loading.ByteArrayClassLoader;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.dynamic.loading.PackageDefinitionStrategy;
+import net.bytebuddy.matcher.ElementMatchers;
+import net.bytebuddy.test.utility.ClassFileExtraction;
+import net.bytebuddy.test.utility.JavaVersionRule;
+import org.junit.Test;
+
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class TypeDescriptionForLoadedTypeMemoizingTest extends TypeDescriptionForLoadedTypeTest {
+
+    @Override
+    protected TypeDescription describe(Class<?> type) {
+        return TypeDescription.ForLoadedType.of(type);
+    }
+
+    @Override
+    protected TypeDescription.Generic describeType(Field field) {
+        return TypeDescription.ForLoadedType.of(field.getDeclaringClass()).getDeclaredFields().filter(ElementMatchers.is(field)).getOnly().getType();
+    }
+
+    @Override
+    protected TypeDescription.Generic describeReturnType(Method method) {
+        return TypeDescription.ForLoadedType.of(method.getDeclaringClass()).getDeclaredMethods().filter(ElementMatchers.is(method)).getOnly().getReturnType();
+    }
+
+    @Override
+    protected TypeDescription.Generic describeParameterType(Method method, int index) {
+        return TypeDescription.ForLoadedType.of(method.getDeclaringClass()).getDeclaredMethods().filter(ElementMatchers.is(method)).getOnly().getParameters().get(index).getType();
+    }
+
+    @Override
+    protected TypeDescription.Generic describeExceptionType(Method method, int index) {
+        return TypeDescription.ForLoadedType.of(method.getDeclaringClass()).getDeclaredMethods().filter(ElementMatchers.is(method)).getOnly().getExceptionTypes().get(index);
+    }
+
+    @Override
+    protected TypeDescription.Generic describeSuperClass(Class<?> type) {
+        return TypeDescription.ForLoadedType.of(type).getSuperClass();
+    }
+
+    @Override
+    protected TypeDescription.Generic describeInterfaceType(Class<?> type, int index) {
+        return TypeDescription.ForLoadedType.of(type).getInterfaces().get(index);
+    }
+
+    @Test
+    public void testBootstrapTypeIsShared() throws Exception {
+        assertThat(TypeDescription.ForLoadedType.of(ArrayList.class), sameInstance(TypeDescription.ForLoadedType.of(ArrayList.class)));
+        assertThat(TypeDescription.OBJECT, sameInstance(TypeDescription.ForLoadedType.of(Object.class)));
+    }
+
+    @Test
+    @JavaVersionRule.Enforce(7)
+    public void testNonBootstrapTypeIsShared() throws Exception {
+        assertThat(TypeDescription.ForLoadedType.Dispatcher.INSTANCE, instanceOf(TypeDescription.ForLoadedType.Dispatcher.ForClassValue.class));
+        assertThat(TypeDescription.ForLoadedType.of(Sample.class), sameInstance(TypeDescription.ForLoadedType.of(Sample.class)));
+    }
+
+    @Test
+    @JavaVersionRule.Enforce(7)
+    public void testNonBootstrapTypeDoesNotRetainClassLoader() throws Exception {
+        ClassLoader classLoader = new ByteArrayClassLoader(ClassLoadingStrategy.BOOTSTRAP_LOADER,
+                ClassFileExtraction.of(Sample.class),
+                null,
+                ByteArrayClassLoader.PersistenceHandler.MANIFEST,
+                PackageDefinitionStrategy.NoOp.INSTANCE);
+        TypeDescription typeDescription = TypeDescription.ForLoadedType.of(classLoader.loadClass(Sample.class.getName()));
+        assertThat(typeDescription, sameInstance(TypeDescription.ForLoadedType.of(classLoader.loadClass(Sample.class.getName()))));
+        Reference<ClassLoader> reference = new WeakReference<ClassLoader>(classLoader);
+        classLoader = null; // Make eligible for GC
+        typeDescription = null;
+        for (int index = 0; index < 2; index++) {
+            System.gc();
+            Thread.sleep(50L);
+        }
+        assertThat(reference.get(), nullValue(ClassLoader.class));
+    }
+
+    @Test
+    public void testLegacyVmSharesOnlyBootstrapTypes() throws Exception {
+        assertThat(TypeDescription.ForLoadedType.Dispatcher.ForLegacyVm.INSTANCE.describe(Object.class),
+                sameInstance(TypeDescription.ForLoadedType.Dispatcher.ForLegacyVm.INSTANCE.describe(Object.class)));
+        assertThat(TypeDescription.ForLoadedType.Dispatcher.ForLegacyVm.INSTANCE.describe(Sample.class),
+                not(sameInstance(TypeDescription.ForLoadedType.Dispatcher.ForLegacyVm.INSTANCE.describe(Sample.class))));
+        assertThat(TypeDescription.ForLoadedType.Dispatcher.ForLegacyVm.INSTANCE.describe(Sample.class),
+                is(TypeDescription.ForLoadedType.Dispatcher.ForLegacyVm.INSTANCE.describe(Sample.class)));
+    }
+
+    @Test
+    public void testUndefinedSuperClassIsMemoized() throws Exception {
+        TypeDescription typeDescription = new TypeDescription.ForLoadedType.Memoizing(Object.class);
+        assertThat(typeDescription.getSuperClass(), nullValue(TypeDescription.Generic.class));
+        assertThat(typeDescription.getSuperClass(), nullValue(TypeDescription.Generic.class));
+        assertThat(new TypeDescription.ForLoadedType.Memoizing(Runnable.class).getSuperClass(), nullValue(TypeDescription.Generic.class));
+    }
+
+    @Test
+    public void testMembersAreMemoized() throws Exception {
+        TypeDescription typeDescription = TypeDescription.ForLoadedType.of(Sample.class);
+        assertThat(typeDescription.getDeclaredFields(), sameInstance(typeDescription.getDeclaredFields()));
+        assertThat(typeDescription.getDeclaredFields().getOnly(), sameInstance(typeDescription.getDeclaredFields().getOnly()));
+        assertThat(typeDescription.getDeclaredMethods(), sameInstance(typeDescription.getDeclaredMethods()));
+        assertThat(typeDescription.getDeclaredMethods().get(0), sameInstance(typeDescription.getDeclaredMethods().get(0)));
+        assertThat(typeDescription.getDeclaredAnnotations(), sameInstance(typeDescription.getDeclaredAnnotations()));
+        assertThat(typeDescription.getTypeVariables(), sameInstance(typeDescription.getTypeVariables()));
+        assertThat(typeDescription.getSuperClass(), sameInstance(typeDescription.getSuperClass()));
+        assertThat(typeDescription.getInterfaces(), sameInstance(typeDescription.getInterfaces()));
+        assertThat(typeDescription.getGenericSignature(), is(new TypeDescription.ForLoadedType(Sample.class).getGenericSignature()));
+    }
+
+    @Test
+    public void testSuperTypeErasureIsShared() throws Exception {
+        assertThat(TypeDescription.ForLoadedType.of(Sample.class).getSuperClass().asErasure(), sameInstance(TypeDescription.OBJECT));
+        assertThat(TypeDescription.ForLoadedType.of(Sample.class).getInterfaces().getOnly().asErasure(),
+                sameInstance(TypeDescription.ForLoadedType.of(Comparable.class)));
+    }
+
+    private static class Sample<T> implements Comparable<T> {
+
+        private T foo;
+
+        public int compareTo(T other) {
+            return 0;
+        }
+    }
+}
@@ -133,6 +133,11 @@ public class TypeDescriptionForLoadedTypeTest extends AbstractTypeDescriptionTes
         assertThat(TypeDescription.ForLoadedType.getName(Object.class), is(Object.class.getName()));
     }
 
+    @Test
+    public void testLoadedType() throws Exception {
+        assertThat(new TypeDescription.ForLoadedType(Foo.class).getLoadedType(), is((Object) Foo.class));
+    }
+
     @Test
     public void testLazyResolution() throws Exception {
         ClassLoader classLoader = new ByteArrayClassLoader(ClassLoadingStrategy.BOOTSTRAP_LOADER,
@@ -0,0 +1,137 @@
+package net.bytebuddy.dynamic;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.test.utility.ClassFileExtraction;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ClassFileLocatorForJarFileMappedTest {
+
+    private static final String FOO = "foo", BAR = "bar", QUX = "qux";
+
+    private static final int VALUE = 42;
+
+    private File file;
+
+    @Before
+    public void setUp() throws Exception {
+        file = File.createTempFile(FOO, BAR);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        assertThat(file.delete(), is(true));
+    }
+
+    @Test
+    public void testSuccessfulLocationDeflated() throws Exception {
+        byte[] binaryRepresentation = ClassFileExtraction.extract(ByteBuddy.class);
+        JarOutputStream jarOutputStream = new JarOutputStream(new FileOutputStream(file));
+        try {
+            jarOutputStream.putNextEntry(new JarEntry(FOO + "/" + BAR + ".class"));
+            jarOutputStream.write(binaryRepresentation);
+            jarOutputStream.closeEntry();
+        } finally {
+            jarOutputStream.close();
+        }
+        ClassFileLocator classFileLocator = ClassFileLocator.ForJarFile.Mapped.of(file);
+        try {
+            assertThat(classFileLocator, instanceOf(ClassFileLocator.ForJarFile.Mapped.class));
+            for (int index = 0; index < 2; index++) {
+                ClassFileLocator.Resolution resolution = classFileLocator.locate(FOO + "." + BAR);
+                assertThat(resolution.isResolved(), is(true));
+                assertThat(resolution.resolve(), is(binaryRepresentation));
+            }
+        } finally {
+            classFileLocator.close();
+        }
+    }
+
+    @Test
+    public void testSuccessfulLocationStored() throws Exception {
+        JarOutputStream jarOutputStream = new JarOutputStream(new FileOutputStream(file));
+        try {
+            JarEntry jarEntry = new JarEntry(FOO + "/" + BAR + ".class");
+            jarEntry.setMethod(ZipEntry.STORED);
+            jarEntry.setSize(2);
+            CRC32 crc32 = new CRC32();
+            crc32.update(new byte[]{VALUE, VALUE * 2});
+            jarEntry.setCrc(crc32.getValue());
+            jarOutputStream.putNextEntry(jarEntry);
+            jarOutputStream.write(VALUE);
+            jarOutputStream.write(VALUE * 2);
+            jarOutputStream.closeEntry();
+        } finally {
+            jarOutputStream.close();
+        }
+        ClassFileLocator classFileLocator = ClassFileLocator.ForJarFile.Mapped.of(file);
+        try {
+            ClassFileLocator.Resolution resolution = classFileLocator.locate(FOO + "." + BAR);
+            assertThat(resolution.isResolved(), is(true));
+            assertThat(resolution.resolve(), is(new byte[]{VALUE, VALUE * 2}));
+        } finally {
+            classFileLocator.close();
+        }
+    }
+
+    @Test
+    public void testNonSuccessfulLocation() throws Exception {
+        JarOutputStream jarOutputStream = new JarOutputStream(new FileOutputStream(file));
+        try {
+            jarOutputStream.putNextEntry(new JarEntry("noop.class"));
+            jarOutputStream.write(VALUE);
+            jarOutputStream.closeEntry();
+            jarOutputStream.putNextEntry(new JarEntry(FOO + "/" + QUX));
+            jarOutputStream.write(VALUE);
+            jarOutputStream.closeEntry();
+        } finally {
+            jarOutputStream.close();
+        }
+        ClassFileLocator classFileLocator = ClassFileLocator.ForJarFile.Mapped.of(file);
+        try {
+            assertThat(classFileLocator.locate(FOO + "." + BAR).isResolved(), is(false));
+            assertThat(classFileLocator.locate(FOO + "." + QUX).isResolved(), is(false));
+        } finally {
+            classFileLocator.close();
+        }
+    }
+
+    @Test
+    public void testEquivalentToJarFile() throws Exception {
+        File jar = new File(ClassVisitor.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        ClassFileLocator mapped = ClassFileLocator.ForJarFile.Mapped.of(jar), classFileLocator = ClassFileLocator.ForJarFile.of(jar);
+        try {
+            assertThat(mapped.locate(ClassVisitor.class.getName()).resolve(), is(classFileLocator.locate(ClassVisitor.class.getName()).resolve()));
+            assertThat(mapped.locate(ClassReader.class.getName()).resolve(), is(classFileLocator.locate(ClassReader.class.getName()).resolve()));
+        } finally {
+            mapped.close();
+            classFileLocator.close();
+        }
+    }
+
+    @Test(expected = ZipException.class)
+    public void testIllegalFile() throws Exception {
+        FileOutputStream outputStream = new FileOutputStream(file);
+        try {
+            outputStream.write(new byte[]{VALUE, VALUE, VALUE});
+        } finally {
+            outputStream.close();
+        }
+        ClassFileLocator.ForJarFile.Mapped.of(file);
+    }
+}
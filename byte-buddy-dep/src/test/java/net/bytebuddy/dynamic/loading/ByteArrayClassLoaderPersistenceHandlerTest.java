@@ -0,0 +1,81 @@
+package net.bytebuddy.dynamic.loading;
+
+import net.bytebuddy.test.utility.ClassFileExtraction;
+import org.junit.Test;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ByteArrayClassLoaderPersistenceHandlerTest {
+
+    private static final String FOO = "foo", BAR = "bar";
+
+    @Test
+    public void testManifestRetainsClassFile() throws Exception {
+        byte[] binaryRepresentation = ClassFileExtraction.extract(Foo.class);
+        ConcurrentMap<String, byte[]> typeDefinitions = new ConcurrentHashMap<String, byte[]>();
+        typeDefinitions.put(FOO, binaryRepresentation);
+        assertThat(ByteArrayClassLoader.PersistenceHandler.MANIFEST.lookup(FOO, typeDefinitions), is(binaryRepresentation));
+        assertThat(typeDefinitions.get(FOO), is(binaryRepresentation));
+    }
+
+    @Test
+    public void testLatentRemovesClassFile() throws Exception {
+        byte[] binaryRepresentation = ClassFileExtraction.extract(Foo.class);
+        ConcurrentMap<String, byte[]> typeDefinitions = new ConcurrentHashMap<String, byte[]>();
+        typeDefinitions.put(FOO, binaryRepresentation);
+        assertThat(ByteArrayClassLoader.PersistenceHandler.LATENT.lookup(FOO, typeDefinitions), is(binaryRepresentation));
+        assertThat(typeDefinitions.get(FOO), nullValue(byte[].class));
+    }
+
+    @Test
+    public void testCompressedCompressesClassFileAfterLookup() throws Exception {
+        byte[] binaryRepresentation = ClassFileExtraction.extract(Foo.class);
+        ConcurrentMap<String, byte[]> typeDefinitions = new ConcurrentHashMap<String, byte[]>();
+        typeDefinitions.put(FOO, binaryRepresentation);
+        assertThat(ByteArrayClassLoader.PersistenceHandler.COMPRESSED.lookup(FOO, typeDefinitions), is(binaryRepresentation));
+        assertThat(ByteArrayClassLoader.PersistenceHandler.isCompressed(typeDefinitions.get(FOO)), is(true));
+        assertThat(typeDefinitions.get(FOO).length < binaryRepresentation.length, is(true));
+        assertThat(ByteArrayClassLoader.PersistenceHandler.COMPRESSED.lookup(FOO, typeDefinitions), is(binaryRepresentation));
+        assertThat(ByteArrayClassLoader.PersistenceHandler.COMPRESSED.url(Foo.class.getName().replace('.', '/') + ".class", typeDefinitions), nullValue());
+        typeDefinitions.put(Foo.class.getName(), typeDefinitions.remove(FOO));
+        assertThat(ByteArrayClassLoader.PersistenceHandler.COMPRESSED.url(Foo.class.getName().replace('.', '/') + ".class", typeDefinitions), notNullValue());
+    }
+
+    @Test
+    public void testCompressedRetainsIncompressibleClassFile() throws Exception {
+        byte[] binaryRepresentation = new byte[]{1, 2, 3};
+        ConcurrentMap<String, byte[]> typeDefinitions = new ConcurrentHashMap<String, byte[]>();
+        typeDefinitions.put(BAR, binaryRepresentation);
+        assertThat(ByteArrayClassLoader.PersistenceHandler.COMPRESSED.lookup(BAR, typeDefinitions), is(binaryRepresentation));
+        assertThat(typeDefinitions.get(BAR), is(binaryRepresentation));
+        assertThat(ByteArrayClassLoader.PersistenceHandler.COMPRESSED.lookup(FOO, typeDefinitions), nullValue(byte[].class));
+    }
+
+    @Test
+    public void testCompression() throws Exception {
+        byte[] binaryRepresentation = ClassFileExtraction.extract(Foo.class);
+        byte[] compressed = ByteArrayClassLoader.PersistenceHandler.compress(binaryRepresentation);
+        assertThat(ByteArrayClassLoader.PersistenceHandler.isCompressed(compressed), is(true));
+        assertThat(ByteArrayClassLoader.PersistenceHandler.isCompressed(binaryRepresentation), is(false));
+        assertThat(ByteArrayClassLoader.PersistenceHandler.decompress(compressed), is(binaryRepresentation));
+    }
+
+    private static class Foo {
+
+        private String foo, bar, qux, baz;
+
+        private void foo() {
+            /* empty */
+        }
+
+        private void bar() {
+            /* empty */
+        }
+    }
+}
@@ -4,6 +4,7 @@ import net.bytebuddy.dynamic.ClassFileLocator;
 import net.bytebuddy.test.utility.ClassFileExtraction;
 import net.bytebuddy.test.utility.IntegrationRule;
 import net.bytebuddy.test.utility.MockitoRule;
+import net.bytebuddy.utility.StreamDrainer;
 import org.hamcrest.CoreMatchers;
 import org.junit.Before;
 import org.junit.Rule;
@@ -20,6 +21,8 @@ import java.security.ProtectionDomain;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import static junit.framework.TestCase.assertEquals;
 import static org.hamcrest.CoreMatchers.*;
@@ -61,7 +64,8 @@ public class ByteArrayClassLoaderTest {
     public static Collection<Object[]> data() {
         return Arrays.asList(new Object[][]{
                 {ByteArrayClassLoader.PersistenceHandler.LATENT, false},
-                {ByteArrayClassLoader.PersistenceHandler.MANIFEST, true}
+                {ByteArrayClassLoader.PersistenceHandler.MANIFEST, true},
+                {ByteArrayClassLoader.PersistenceHandler.COMPRESSED, true}
         });
     }
 
@@ -129,6 +133,23 @@ public class ByteArrayClassLoaderTest {
         }
     }
 
+    @Test
+    public void testResourceContentAfterLoading() throws Exception {
+        assertThat(classLoader.loadClass(Foo.class.getName()).getClassLoader(), is((ClassLoader) classLoader));
+        InputStream inputStream = classLoader.getResourceAsStream(Foo.class.getName().replace('.', '/') + CLASS_FILE);
+        try {
+            assertThat(inputStream == null
+                    ? null
+                    : StreamDrainer.DEFAULT.drain(inputStream), expectedResourceLookup
+                    ? is(ClassFileExtraction.of(Foo.class).get(Foo.class.getName()))
+                    : nullValue(byte[].class));
+        } finally {
+            if (inputStream != null) {
+                inputStream.close();
+            }
+        }
+    }
+
     @Test
     public void testResourceLookupBeforeLoading() throws Exception {
         assertThat(classLoader.getResource(Foo.class.getName().replace('.', '/') + CLASS_FILE), expectedResourceLookup
@@ -230,6 +251,20 @@ public class ByteArrayClassLoaderTest {
         assertThat(type, is((Object) classLoader.loadClass(Foo.class.getName())));
     }
 
+    @Test
+    public void testGroupInjection() throws Exception {
+        when(packageDefinitionStrategy.define(classLoader, Qux.class.getPackage().getName(), Qux.class.getName()))
+                .thenReturn(PackageDefinitionStrategy.Definition.Trivial.INSTANCE);
+        Map<String, byte[]> typeDefinitions = new LinkedHashMap<String, byte[]>();
+        typeDefinitions.put(Qux.class.getName(), ClassFileLocator.ForClassLoader.read(Qux.class).resolve());
+        typeDefinitions.put(Bar.class.getName(), ClassFileLocator.ForClassLoader.read(Bar.class).resolve());
+        Map<String, Class<?>> types = classLoader.defineClasses(typeDefinitions);
+        assertThat(types.size(), is(2));
+        assertThat(types.get(Qux.class.getName()).getClassLoader(), is((ClassLoader) classLoader));
+        assertThat(types.get(Qux.class.getName()).getSuperclass(), is((Object) types.get(Bar.class.getName())));
+        assertThat(types.get(Bar.class.getName()).getClassLoader(), is((ClassLoader) classLoader));
+    }
+
     private static class Foo {
         /* Note: Foo is know to the system class loader but not to the bootstrap class loader */
     }
@@ -237,4 +272,8 @@ public class ByteArrayClassLoaderTest {
     private static class Bar {
         /* Note: Bar is know to the system class loader but not to the bootstrap class loader */
     }
+
+    private static class Qux extends Bar {
+        /* Note: Qux is know to the system class loader but not to the bootstrap class loader */
+    }
 }
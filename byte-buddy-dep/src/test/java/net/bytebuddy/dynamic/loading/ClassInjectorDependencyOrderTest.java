@@ -0,0 +1,90 @@
+package net.bytebuddy.dynamic.loading;
+
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import org.junit.Test;
+import org.objectweb.asm.Opcodes;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ClassInjectorDependencyOrderTest {
+
+    private static final String FOO = "foo.Foo", BAR = "foo.Bar";
+
+    @Test
+    public void testSuperTypesFirst() throws Exception {
+        Map<TypeDescription, byte[]> types = new LinkedHashMap<TypeDescription, byte[]>();
+        types.put(new TypeDescription.ForLoadedType(Qux.class), new byte[]{3});
+        types.put(new TypeDescription.ForLoadedType(Baz.class), new byte[]{2});
+        types.put(new TypeDescription.ForLoadedType(Bar.class), new byte[]{1});
+        types.put(new TypeDescription.ForLoadedType(Foo.class), new byte[]{0});
+        Map<TypeDescription, byte[]> sorted = ClassInjector.DependencyOrder.INSTANCE.sort(types);
+        assertThat(new ArrayList<TypeDescription>(sorted.keySet()), is((List<TypeDescription>) Arrays.<TypeDescription>asList(
+                new TypeDescription.ForLoadedType(Foo.class),
+                new TypeDescription.ForLoadedType(Bar.class),
+                new TypeDescription.ForLoadedType(Baz.class),
+                new TypeDescription.ForLoadedType(Qux.class))));
+        assertThat(sorted.get(new TypeDescription.ForLoadedType(Foo.class)), is(new byte[]{0}));
+        assertThat(sorted.get(new TypeDescription.ForLoadedType(Qux.class)), is(new byte[]{3}));
+    }
+
+    @Test
+    public void testUnrelatedTypesRetainOrder() throws Exception {
+        Map<TypeDescription, byte[]> types = new LinkedHashMap<TypeDescription, byte[]>();
+        types.put(new TypeDescription.ForLoadedType(String.class), new byte[0]);
+        types.put(new TypeDescription.ForLoadedType(Bar.class), new byte[0]);
+        types.put(new TypeDescription.ForLoadedType(Integer.class), new byte[0]);
+        assertThat(new ArrayList<TypeDescription>(ClassInjector.DependencyOrder.INSTANCE.sort(types).keySet()), is((List<TypeDescription>) Arrays.<TypeDescription>asList(
+                new TypeDescription.ForLoadedType(String.class),
+                new TypeDescription.ForLoadedType(Bar.class),
+                new TypeDescription.ForLoadedType(Integer.class))));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCircularHierarchy() throws Exception {
+        Map<TypeDescription, byte[]> types = new LinkedHashMap<TypeDescription, byte[]>();
+        types.put(new TypeDescription.Latent(FOO, Opcodes.ACC_PUBLIC, new TypeDescription.Latent(BAR,
+                Opcodes.ACC_PUBLIC,
+                TypeDescription.Generic.OBJECT,
+                Collections.<TypeDescription.Generic>emptyList()).asGenericType(), Collections.<TypeDescription.Generic>emptyList()), new byte[0]);
+        types.put(new TypeDescription.Latent(BAR, Opcodes.ACC_PUBLIC, new TypeDescription.Latent(FOO,
+                Opcodes.ACC_PUBLIC,
+                TypeDescription.Generic.OBJECT,
+                Collections.<TypeDescription.Generic>emptyList()).asGenericType(), Collections.<TypeDescription.Generic>emptyList()), new byte[0]);
+        ClassInjector.DependencyOrder.INSTANCE.sort(types);
+    }
+
+    @Test
+    public void testEmpty() throws Exception {
+        assertThat(ClassInjector.DependencyOrder.INSTANCE.sort(Collections.<TypeDescription, byte[]>emptyMap()).isEmpty(), is(true));
+    }
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        ObjectPropertyAssertion.of(ClassInjector.DependencyOrder.class).apply();
+    }
+
+    private interface Foo {
+        /* empty */
+    }
+
+    private static class Bar implements Foo {
+        /* empty */
+    }
+
+    private interface Baz extends Foo {
+        /* empty */
+    }
+
+    private static class Qux extends Bar implements Baz {
+        /* empty */
+    }
+}
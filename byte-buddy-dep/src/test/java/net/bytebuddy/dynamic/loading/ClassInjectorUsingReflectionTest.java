@@ -2,6 +2,7 @@ package net.bytebuddy.dynamic.loading;
 
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.dynamic.TargetType;
 import net.bytebuddy.implementation.MethodDelegation;
 import net.bytebuddy.implementation.bind.annotation.AllArguments;
@@ -12,6 +13,7 @@ import net.bytebuddy.test.utility.ClassFileExtraction;
 import net.bytebuddy.test.utility.ObjectPropertyAssertion;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.InOrder;
 
 import java.lang.reflect.Method;
 import java.net.URL;
@@ -19,11 +21,15 @@ import java.net.URLClassLoader;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import static net.bytebuddy.matcher.ElementMatchers.named;
 import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.mockito.Mockito.mock;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.*;
 
 public class ClassInjectorUsingReflectionTest {
 
@@ -36,6 +42,31 @@ public class ClassInjectorUsingReflectionTest {
         classLoader = new URLClassLoader(new URL[0], null);
     }
 
+    @Test
+    public void testInjectionInDependencyOrder() throws Exception {
+        DynamicType.Unloaded<?> superClass = new ByteBuddy().subclass(Object.class).name(FOO + "." + BAR).make();
+        DynamicType.Unloaded<?> subClass = new ByteBuddy().subclass(superClass.getTypeDescription()).name(FOO + "." + FOO).make();
+        Map<TypeDescription, byte[]> types = new LinkedHashMap<TypeDescription, byte[]>();
+        types.put(subClass.getTypeDescription(), subClass.getBytes());
+        types.put(superClass.getTypeDescription(), superClass.getBytes());
+        ClassInjector.Listener listener = mock(ClassInjector.Listener.class);
+        Map<TypeDescription, Class<?>> loaded = new ClassInjector.UsingReflection(classLoader).inject(types, listener);
+        assertThat(loaded.size(), is(2));
+        assertThat(loaded.get(subClass.getTypeDescription()).getSuperclass(), is((Object) loaded.get(superClass.getTypeDescription())));
+        assertThat(loaded.get(subClass.getTypeDescription()).getClassLoader(), is(classLoader));
+        InOrder inOrder = inOrder(listener);
+        inOrder.verify(listener).onInjection(eq(superClass.getTypeDescription()), eq(loaded.get(superClass.getTypeDescription())), anyLong());
+        inOrder.verify(listener).onInjection(eq(subClass.getTypeDescription()), eq(loaded.get(subClass.getTypeDescription())), anyLong());
+        verifyNoMoreInteractions(listener);
+    }
+
+    @Test
+    public void testInjectionEmpty() throws Exception {
+        ClassInjector.Listener listener = mock(ClassInjector.Listener.class);
+        assertThat(new ClassInjector.UsingReflection(classLoader).inject(Collections.<TypeDescription, byte[]>emptyMap(), listener).size(), is(0));
+        verifyZeroInteractions(listener);
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void testBootstrapClassLoader() throws Exception {
         new ClassInjector.UsingReflection(ClassLoadingStrategy.BOOTSTRAP_LOADER);
@@ -183,6 +214,7 @@ public class ClassInjectorUsingReflectionTest {
         ObjectPropertyAssertion.of(ClassInjector.UsingReflection.Dispatcher.Unavailable.class).apply();
         ObjectPropertyAssertion.of(ClassInjector.UsingReflection.Dispatcher.Unavailable.class).apply();
         ObjectPropertyAssertion.of(ClassInjector.UsingReflection.Dispatcher.CreationAction.class).apply();
+        ObjectPropertyAssertion.of(ClassInjector.Listener.NoOp.class).apply();
     }
 
     private static class Foo {
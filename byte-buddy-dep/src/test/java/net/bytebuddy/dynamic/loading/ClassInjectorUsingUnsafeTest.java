@@ -1,6 +1,8 @@
 package net.bytebuddy.dynamic.loading;
 
+import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.test.utility.ClassFileExtraction;
 import net.bytebuddy.test.utility.ObjectPropertyAssertion;
 import org.junit.Before;
@@ -13,10 +15,15 @@ import java.net.URLClassLoader;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.CoreMatchers.is;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.*;
 
 public class ClassInjectorUsingUnsafeTest {
 
@@ -35,6 +42,21 @@ public class ClassInjectorUsingUnsafeTest {
         assertThat(Class.forName(Foo.class.getName(), false, classLoader).getName(), is(Foo.class.getName()));
     }
 
+    @Test
+    public void testUnsafeInjectionInDependencyOrder() throws Exception {
+        DynamicType.Unloaded<?> superClass = new ByteBuddy().subclass(Object.class).name("foo.Bar").make();
+        DynamicType.Unloaded<?> subClass = new ByteBuddy().subclass(superClass.getTypeDescription()).name("foo.Foo").make();
+        Map<TypeDescription, byte[]> types = new LinkedHashMap<TypeDescription, byte[]>();
+        types.put(subClass.getTypeDescription(), subClass.getBytes());
+        types.put(superClass.getTypeDescription(), superClass.getBytes());
+        ClassInjector.Listener listener = mock(ClassInjector.Listener.class);
+        Map<TypeDescription, Class<?>> loaded = new ClassInjector.UsingUnsafe(classLoader).inject(types, listener);
+        assertThat(loaded.get(subClass.getTypeDescription()).getSuperclass(), is((Object) loaded.get(superClass.getTypeDescription())));
+        verify(listener).onInjection(eq(superClass.getTypeDescription()), eq(loaded.get(superClass.getTypeDescription())), anyLong());
+        verify(listener).onInjection(eq(subClass.getTypeDescription()), eq(loaded.get(subClass.getTypeDescription())), anyLong());
+        verifyNoMoreInteractions(listener);
+    }
+
     @Test
     public void testAvailability() throws Exception {
         assertThat(ClassInjector.UsingUnsafe.isAvailable(), is(true));
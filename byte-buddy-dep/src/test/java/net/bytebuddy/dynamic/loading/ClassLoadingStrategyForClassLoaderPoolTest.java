@@ -0,0 +1,91 @@
+package net.bytebuddy.dynamic.loading;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ClassLoadingStrategyForClassLoaderPoolTest {
+
+    private static final String FOO = "net.bytebuddy.test.Foo", BAR = "net.bytebuddy.test.Bar";
+
+    @Test
+    public void testTypesShareClassLoader() throws Exception {
+        ClassLoadingStrategy<ClassLoader> classLoadingStrategy = new ClassLoadingStrategy.ForClassLoaderPool(1);
+        Class<?> foo = load(classLoadingStrategy, new ByteBuddy().subclass(Object.class).name(FOO).make());
+        Class<?> bar = load(classLoadingStrategy, new ByteBuddy().subclass(Object.class).name(BAR).make());
+        assertThat(foo.getClassLoader(), instanceOf(ByteArrayClassLoader.class));
+        assertThat(foo.getClassLoader().getParent(), is(getClass().getClassLoader()));
+        assertThat(bar.getClassLoader(), is(foo.getClassLoader()));
+    }
+
+    @Test
+    public void testTypesOfSameNameUseDifferentClassLoaders() throws Exception {
+        ClassLoadingStrategy<ClassLoader> classLoadingStrategy = new ClassLoadingStrategy.ForClassLoaderPool(2);
+        Class<?> first = load(classLoadingStrategy, new ByteBuddy().subclass(Object.class).name(FOO).make());
+        Class<?> second = load(classLoadingStrategy, new ByteBuddy().subclass(Object.class).name(FOO).make());
+        Class<?> third = load(classLoadingStrategy, new ByteBuddy().subclass(Object.class).name(FOO).make());
+        Class<?> bar = load(classLoadingStrategy, new ByteBuddy().subclass(Object.class).name(BAR).make());
+        assertThat(second.getClassLoader(), not(first.getClassLoader()));
+        assertThat(third.getClassLoader(), not(first.getClassLoader()));
+        assertThat(third.getClassLoader(), not(second.getClassLoader()));
+        assertThat(bar.getClassLoader() == first.getClassLoader() || bar.getClassLoader() == second.getClassLoader(), is(true));
+    }
+
+    @Test
+    public void testDependentTypes() throws Exception {
+        DynamicType.Unloaded<?> foo = new ByteBuddy().subclass(Object.class).name(FOO).make();
+        DynamicType.Unloaded<?> bar = new ByteBuddy().subclass(foo.getTypeDescription()).name(BAR).make();
+        Map<TypeDescription, byte[]> types = new LinkedHashMap<TypeDescription, byte[]>();
+        types.put(bar.getTypeDescription(), bar.getBytes());
+        types.put(foo.getTypeDescription(), foo.getBytes());
+        Map<TypeDescription, Class<?>> loaded = new ClassLoadingStrategy.ForClassLoaderPool(1).load(getClass().getClassLoader(), types);
+        assertThat(loaded.get(bar.getTypeDescription()).getSuperclass(), is((Object) loaded.get(foo.getTypeDescription())));
+    }
+
+    @Test
+    public void testChildFirst() throws Exception {
+        ClassLoadingStrategy<ClassLoader> classLoadingStrategy = new ClassLoadingStrategy.ForClassLoaderPool(1,
+                ClassLoadingStrategy.NO_PROTECTION_DOMAIN,
+                PackageDefinitionStrategy.Trivial.INSTANCE,
+                ByteArrayClassLoader.PersistenceHandler.MANIFEST,
+                true);
+        Class<?> type = load(classLoadingStrategy, new ByteBuddy().subclass(Object.class).name(Foo.class.getName()).make());
+        assertThat(type, not((Object) Foo.class));
+        assertThat(type.getClassLoader(), instanceOf(ByteArrayClassLoader.ChildFirst.class));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testTypeAlreadyLoaded() throws Exception {
+        load(new ClassLoadingStrategy.ForClassLoaderPool(1), new ByteBuddy().subclass(Object.class).name(Foo.class.getName()).make());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIllegalSize() throws Exception {
+        new ClassLoadingStrategy.ForClassLoaderPool(0);
+    }
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        ObjectPropertyAssertion.of(ClassLoadingStrategy.ForClassLoaderPool.class).apply();
+    }
+
+    private Class<?> load(ClassLoadingStrategy<ClassLoader> classLoadingStrategy, DynamicType dynamicType) {
+        return classLoadingStrategy.load(getClass().getClassLoader(), Collections.singletonMap(dynamicType.getTypeDescription(), dynamicType.getBytes()))
+                .get(dynamicType.getTypeDescription());
+    }
+
+    public static class Foo {
+        /* empty */
+    }
+}
@@ -27,8 +27,10 @@ public class InjectionClassLoaderTest {
         byte[] binaryRepresentation = new byte[0];
         when(typeDescription.getName()).thenReturn(FOO);
         when(classLoader.defineClass(FOO, binaryRepresentation)).thenReturn((Class) Object.class);
+        when(classLoader.defineClasses(Collections.singletonMap(FOO, binaryRepresentation))).thenCallRealMethod();
         assertThat(InjectionClassLoader.Strategy.INSTANCE.load(classLoader, Collections.singletonMap(typeDescription, binaryRepresentation)),
                 is(Collections.<TypeDescription, Class<?>>singletonMap(typeDescription, Object.class)));
+        verify(classLoader).defineClasses(Collections.singletonMap(FOO, binaryRepresentation));
         verify(classLoader).defineClass(FOO, binaryRepresentation);
         verifyNoMoreInteractions(classLoader);
     }
@@ -40,6 +42,7 @@ public class InjectionClassLoaderTest {
         byte[] binaryRepresentation = new byte[0];
         when(typeDescription.getName()).thenReturn(FOO);
         when(classLoader.defineClass(FOO, binaryRepresentation)).thenThrow(new ClassNotFoundException(FOO));
+        when(classLoader.defineClasses(Collections.singletonMap(FOO, binaryRepresentation))).thenCallRealMethod();
         InjectionClassLoader.Strategy.INSTANCE.load(classLoader, Collections.singletonMap(typeDescription, binaryRepresentation));
     }
 
@@ -1,5 +1,6 @@
 package net.bytebuddy.dynamic.scaffold;
 
+import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.modifier.Visibility;
 import net.bytebuddy.test.utility.MockitoRule;
 import net.bytebuddy.test.utility.ObjectPropertyAssertion;
@@ -8,13 +9,17 @@ import org.junit.Test;
 import org.junit.rules.TestRule;
 import org.mockito.Mock;
 
+import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.mock;
 
@@ -97,6 +102,36 @@ public class MethodGraphCompilerDefaultKeyTest {
                 .getKey();
     }
 
+    @Test
+    public void testStoreBulkRegistrationEqualsIndividualRegistration() throws Exception {
+        List<MethodDescription> methodDescriptions = new ArrayList<MethodDescription>();
+        for (Method method : Object.class.getDeclaredMethods()) {
+            methodDescriptions.add(new MethodDescription.ForLoadedMethod(method));
+        }
+        methodDescriptions.add(new MethodDescription.ForLoadedMethod(Object.class.getDeclaredMethod("toString")));
+        MethodGraph.Compiler.Default.Key.Store<MethodGraph.Compiler.Default.Harmonizer.ForJavaMethod.Token> store
+                = new MethodGraph.Compiler.Default.Key.Store<MethodGraph.Compiler.Default.Harmonizer.ForJavaMethod.Token>();
+        for (MethodDescription methodDescription : methodDescriptions) {
+            store = store.registerTopLevel(methodDescription, MethodGraph.Compiler.Default.Harmonizer.ForJavaMethod.INSTANCE);
+        }
+        assertThat(new MethodGraph.Compiler.Default.Key.Store<MethodGraph.Compiler.Default.Harmonizer.ForJavaMethod.Token>()
+                .registerTopLevel(methodDescriptions, MethodGraph.Compiler.Default.Harmonizer.ForJavaMethod.INSTANCE), is(store));
+    }
+
+    @Test
+    public void testStoreCombinationWithEmptyStore() throws Exception {
+        MethodGraph.Compiler.Default.Key.Store<MethodGraph.Compiler.Default.Harmonizer.ForJavaMethod.Token> store
+                = new MethodGraph.Compiler.Default.Key.Store<MethodGraph.Compiler.Default.Harmonizer.ForJavaMethod.Token>()
+                .registerTopLevel(new MethodDescription.ForLoadedMethod(Object.class.getDeclaredMethod("toString")),
+                        MethodGraph.Compiler.Default.Harmonizer.ForJavaMethod.INSTANCE);
+        MethodGraph.Compiler.Default.Key.Store<MethodGraph.Compiler.Default.Harmonizer.ForJavaMethod.Token> empty
+                = new MethodGraph.Compiler.Default.Key.Store<MethodGraph.Compiler.Default.Harmonizer.ForJavaMethod.Token>();
+        assertThat(store.combineWith(empty), sameInstance(store));
+        assertThat(empty.combineWith(store), sameInstance(store));
+        assertThat(store.inject(empty), sameInstance(store));
+        assertThat(empty.inject(store), sameInstance(store));
+    }
+
     @Test
     public void testObjectProperties() throws Exception {
         ObjectPropertyAssertion.of(MethodGraph.Compiler.Default.Key.Store.class).apply();
@@ -0,0 +1,153 @@
+package net.bytebuddy.dynamic.scaffold;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.implementation.StubMethod;
+import net.bytebuddy.pool.TypePool;
+import org.junit.Test;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class MethodGraphCompilerDefaultWithCacheTest {
+
+    private static final String BASE = "net.bytebuddy.test.Base", SUB = "net.bytebuddy.test.Sub";
+
+    @Test
+    public void testEquivalentToDefault() throws Exception {
+        MethodGraph.Compiler compiler = MethodGraph.Compiler.Default.WithCache.forJavaHierarchy(16);
+        for (Class<?> type : new Class<?>[]{ArrayList.class, Sub.class, OtherSub.class, ArrayList.class, Sub.class}) {
+            TypeDescription typeDescription = new TypeDescription.ForLoadedType(type);
+            assertThat(compiler.compile(typeDescription), is(MethodGraph.Compiler.Default.forJavaHierarchy().compile(typeDescription)));
+        }
+        TypeDescription typeDescription = new TypeDescription.ForLoadedType(Sub.class);
+        assertThat(compiler.compile(typeDescription, TypeDescription.OBJECT),
+                is(MethodGraph.Compiler.Default.forJavaHierarchy().compile(typeDescription, TypeDescription.OBJECT)));
+    }
+
+    @Test
+    public void testSuperTypeIsRetained() throws Exception {
+        MethodGraph.Compiler.Default.WithCache<?> compiler = (MethodGraph.Compiler.Default.WithCache<?>) MethodGraph.Compiler.Default.WithCache.forJavaHierarchy(16);
+        TypeDescription typeDescription = new TypeDescription.ForLoadedType(Sub.class);
+        compiler.compile(typeDescription);
+        assertThat(compiler.find(TypeDescription.OBJECT, typeDescription.getPackage().getName()), notNullValue());
+        assertThat(compiler.find(TypeDescription.OBJECT, TypeDescription.OBJECT.getPackage().getName()), nullValue());
+        assertThat(compiler.find(new TypeDescription.ForLoadedType(Object.class), typeDescription.getPackage().getName()), notNullValue());
+    }
+
+    @Test
+    public void testLoadedTypeIsSharedAmongDescriptions() throws Exception {
+        MethodGraph.Compiler.Default.WithCache<?> compiler = (MethodGraph.Compiler.Default.WithCache<?>) MethodGraph.Compiler.Default.WithCache.forJavaHierarchy(16);
+        TypeDescription typeDescription = new TypeDescription.ForLoadedType(OtherSub.class);
+        compiler.compile(typeDescription);
+        assertThat(compiler.find(new TypeDescription.ForLoadedType(Runnable.class), typeDescription.getPackage().getName()), notNullValue());
+        assertThat(compiler.find(typePool("foo").describe(BASE).resolve(), typeDescription.getPackage().getName()), nullValue());
+        assertThat(compiler.find(new TypeDescription.Latent(Runnable.class.getName(), 0, null, Collections.<TypeDescription.Generic>emptyList()),
+                typeDescription.getPackage().getName()), nullValue());
+    }
+
+    @Test
+    public void testSuperTypeIsNotRetainedForForeignViewPoint() throws Exception {
+        MethodGraph.Compiler.Default.WithCache<?> compiler = (MethodGraph.Compiler.Default.WithCache<?>) MethodGraph.Compiler.Default.WithCache.forJavaHierarchy(16);
+        compiler.compile(new TypeDescription.ForLoadedType(ArrayList.class), TypeDescription.OBJECT);
+        assertThat(compiler.find(TypeDescription.ForLoadedType.of(Serializable.class), TypeDescription.OBJECT.getPackage().getName()), nullValue());
+        assertThat(compiler.find(TypeDescription.OBJECT, TypeDescription.OBJECT.getPackage().getName()), notNullValue());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedStoreIsDiscarded() throws Exception {
+        MethodGraph.Compiler.Default.WithCache<?> compiler = (MethodGraph.Compiler.Default.WithCache<?>) MethodGraph.Compiler.Default.WithCache.forJavaHierarchy(1);
+        TypeDescription typeDescription = new TypeDescription.ForLoadedType(OtherSub.class);
+        compiler.compile(typeDescription);
+        assertThat(compiler.find(TypeDescription.ForLoadedType.of(Runnable.class), typeDescription.getPackage().getName()), notNullValue());
+        assertThat(compiler.find(TypeDescription.OBJECT, typeDescription.getPackage().getName()), nullValue());
+    }
+
+    @Test
+    public void testSameNamedTypesOfDifferentClassLoaders() throws Exception {
+        MethodGraph.Compiler.Default.WithCache<?> compiler = (MethodGraph.Compiler.Default.WithCache<?>) MethodGraph.Compiler.Default.WithCache.forJavaHierarchy(16);
+        TypePool firstPool = typePool("foo"), secondPool = typePool("bar");
+        TypeDescription first = firstPool.describe(SUB).resolve(), second = secondPool.describe(SUB).resolve();
+        assertThat(compiler.compile(first).listNodes().asMethodList().filter(named("foo")).size(), is(1));
+        assertThat(compiler.find(firstPool.describe(BASE).resolve(), first.getPackage().getName()), notNullValue());
+        assertThat(compiler.find(secondPool.describe(BASE).resolve(), second.getPackage().getName()), nullValue());
+        assertThat(compiler.compile(second).listNodes().asMethodList().filter(named("foo")).isEmpty(), is(true));
+        assertThat(compiler.compile(second).listNodes().asMethodList().filter(named("bar")).size(), is(1));
+        assertThat(compiler.compile(first).listNodes().asMethodList().filter(named("bar")).isEmpty(), is(true));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIllegalSize() throws Exception {
+        MethodGraph.Compiler.Default.WithCache.forJavaHierarchy(0);
+    }
+
+    @Test
+    public void testEquality() throws Exception {
+        assertThat(MethodGraph.Compiler.Default.WithCache.forJavaHierarchy(1), is(MethodGraph.Compiler.Default.WithCache.forJavaHierarchy(1)));
+        assertThat(MethodGraph.Compiler.Default.WithCache.forJavaHierarchy(1).hashCode(), is(MethodGraph.Compiler.Default.WithCache.forJavaHierarchy(1).hashCode()));
+        assertThat(MethodGraph.Compiler.Default.WithCache.forJavaHierarchy(1), not(MethodGraph.Compiler.Default.WithCache.forJavaHierarchy(2)));
+        assertThat(MethodGraph.Compiler.Default.WithCache.forJavaHierarchy(1), not(MethodGraph.Compiler.Default.WithCache.forJVMHierarchy(1)));
+        assertThat(MethodGraph.Compiler.Default.WithCache.forJavaHierarchy(1), not(MethodGraph.Compiler.Default.forJavaHierarchy()));
+    }
+
+    private static TypePool typePool(String methodName) {
+        DynamicType.Unloaded<?> base = new ByteBuddy()
+                .subclass(Object.class)
+                .name(BASE)
+                .defineMethod(methodName, void.class, Visibility.PUBLIC)
+                .intercept(StubMethod.INSTANCE)
+                .make();
+        ClassLoader classLoader = new ByteBuddy()
+                .subclass(base.getTypeDescription())
+                .name(SUB)
+                .make()
+                .include(base)
+                .load(ClassLoadingStrategy.BOOTSTRAP_LOADER, ClassLoadingStrategy.Default.WRAPPER_PERSISTENT)
+                .getLoaded()
+                .getClassLoader();
+        return TypePool.Default.of(ClassFileLocator.ForClassLoader.of(classLoader));
+    }
+
+    public static class Base<T> {
+
+        public T foo(T value) {
+            return value;
+        }
+
+        protected void bar() {
+            /* empty */
+        }
+
+        void qux() {
+            /* empty */
+        }
+    }
+
+    public static class Sub extends Base<String> {
+
+        @Override
+        public String foo(String value) {
+            return value;
+        }
+    }
+
+    public static class OtherSub extends Base<Integer> implements Runnable {
+
+        @Override
+        public void run() {
+            /* empty */
+        }
+    }
+}
@@ -13,8 +13,7 @@ import org.objectweb.asm.ClassReader;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 public class TypeWriterDefaultFrameComputingClassWriterTest {
 
@@ -75,4 +74,32 @@ public class TypeWriterDefaultFrameComputingClassWriterTest {
         when(superClass.isAssignableFrom(rightType)).thenReturn(true);
         assertThat(frameComputingClassWriter.getCommonSuperClass(FOO, BAR), is(FOOBAR));
     }
+
+    @Test
+    public void testSuperClassIterationWithoutCommonSuperClass() throws Exception {
+        assertThat(frameComputingClassWriter.getCommonSuperClass(FOO, BAR), is(TypeDescription.OBJECT.getInternalName()));
+    }
+
+    @Test
+    public void testCommonSuperClassIsMemoized() throws Exception {
+        when(superClass.isAssignableFrom(rightType)).thenReturn(true);
+        assertThat(frameComputingClassWriter.getCommonSuperClass(FOO, BAR), is(FOOBAR));
+        assertThat(frameComputingClassWriter.getCommonSuperClass(FOO, BAR), is(FOOBAR));
+        assertThat(frameComputingClassWriter.getCommonSuperClass(BAR, FOO), is(FOOBAR));
+        verify(typePool).describe(FOO.replace('/', '.'));
+        verify(typePool).describe(BAR.replace('/', '.'));
+        verifyNoMoreInteractions(typePool);
+    }
+
+    @Test
+    public void testSuperClassesAreMemoized() throws Exception {
+        TypeDescription otherType = mock(TypeDescription.class);
+        when(typePool.describe(QUX.replace('/', '.'))).thenReturn(new TypePool.Resolution.Simple(otherType));
+        when(superClass.isAssignableFrom(rightType)).thenReturn(true);
+        when(superClass.isAssignableFrom(otherType)).thenReturn(true);
+        assertThat(frameComputingClassWriter.getCommonSuperClass(FOO, BAR), is(FOOBAR));
+        assertThat(frameComputingClassWriter.getCommonSuperClass(FOO, QUX), is(FOOBAR));
+        verify(leftType).getSuperClass();
+        verify(superClass).getSuperClass();
+    }
 }
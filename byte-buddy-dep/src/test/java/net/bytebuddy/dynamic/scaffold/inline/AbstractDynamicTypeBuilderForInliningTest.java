@@ -518,6 +518,48 @@ public abstract class AbstractDynamicTypeBuilderForInliningTest extends Abstract
                 .asList().ofType(typeAnnotationType).getValue(value).resolve(Integer.class), is(QUX * 4));
     }
 
+    @Test
+    public void testUnalteredMethodIsCopiedVerbatim() throws Exception {
+        ClassWriter classWriter = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        classWriter.visit(Opcodes.V1_6, Opcodes.ACC_PUBLIC, "foo/Bar", null, "java/lang/Object", null);
+        for (String name : new String[]{FOO, BAR}) {
+            MethodVisitor methodVisitor = classWriter.visitMethod(Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC, name, "()Ljava/lang/String;", null, null);
+            methodVisitor.visitCode();
+            methodVisitor.visitLdcInsn(name);
+            if (name.equals(FOO)) {
+                methodVisitor.visitInsn(Opcodes.NOP);
+            }
+            methodVisitor.visitInsn(Opcodes.ARETURN);
+            methodVisitor.visitMaxs(-1, -1);
+            methodVisitor.visitEnd();
+        }
+        classWriter.visitEnd();
+        byte[] binaryRepresentation = classWriter.toByteArray();
+        // Replaces ldc and nop by an equivalent ldc_w which ASM only retains if the method is copied without being parsed.
+        int index = binaryRepresentation.length - 4;
+        while (binaryRepresentation[index] != Opcodes.LDC || binaryRepresentation[index + 2] != Opcodes.NOP || binaryRepresentation[index + 3] != (byte) Opcodes.ARETURN) {
+            index--;
+        }
+        byte constant = binaryRepresentation[index + 1];
+        binaryRepresentation[index] = 19;
+        binaryRepresentation[index + 1] = 0;
+        binaryRepresentation[index + 2] = constant;
+        ClassFileLocator classFileLocator = new ClassFileLocator.Compound(ClassFileLocator.Simple.of("foo.Bar", binaryRepresentation),
+                ClassFileLocator.ForClassLoader.ofClassPath());
+        DynamicType.Unloaded<?> dynamicType = create(TypePool.Default.of(classFileLocator).describe("foo.Bar").resolve(), classFileLocator)
+                .method(named(BAR)).intercept(StubMethod.INSTANCE)
+                .make();
+        boolean copied = false;
+        byte[] transformed = dynamicType.getBytes();
+        for (int position = 0; position < transformed.length - 3 && !copied; position++) {
+            copied = transformed[position] == 19 && transformed[position + 1] == 0 && transformed[position + 2] == constant && transformed[position + 3] == (byte) Opcodes.ARETURN;
+        }
+        assertThat(copied, is(true));
+        Class<?> type = dynamicType.load(new URLClassLoader(new URL[0], null), ClassLoadingStrategy.Default.WRAPPER).getLoaded();
+        assertThat(type.getDeclaredMethod(FOO).invoke(null), is((Object) FOO));
+        assertThat(type.getDeclaredMethod(BAR).invoke(null), nullValue(Object.class));
+    }
+
     public @interface Baz {
 
         String foo();
@@ -1,6 +1,7 @@
 package net.bytebuddy.implementation;
 
 import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.ClassFileVersion;
 import net.bytebuddy.description.modifier.Visibility;
 import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
@@ -62,6 +63,21 @@ public class MethodDelegationDefaultCallTest {
         assertThat(method.invoke(instance), is((Object) FOO));
     }
 
+    @Test
+    @JavaVersionRule.Enforce(8)
+    public void testCallableLambdaDefaultCall() throws Exception {
+        DynamicType.Loaded<?> loaded = new ByteBuddy(ClassFileVersion.JAVA_V8)
+                .subclass(Object.class)
+                .implement(Class.forName(SINGLE_DEFAULT_METHOD))
+                .intercept(MethodDelegation.to(CallableLambdaClass.class))
+                .make()
+                .load(Class.forName(SINGLE_DEFAULT_METHOD).getClassLoader(), ClassLoadingStrategy.Default.WRAPPER);
+        assertThat(loaded.getAuxiliaryTypes().size(), is(0));
+        Object instance = loaded.getLoaded().getDeclaredConstructor().newInstance();
+        Method method = loaded.getLoaded().getMethod(FOO);
+        assertThat(method.invoke(instance), is((Object) FOO));
+    }
+
     @Test(expected = IllegalArgumentException.class)
     @JavaVersionRule.Enforce(8)
     public void testImplicitAmbiguousDefaultCallIsBoundToFirst() throws Exception {
@@ -142,6 +158,13 @@ public class MethodDelegationDefaultCallTest {
         }
     }
 
+    public static class CallableLambdaClass {
+
+        public static String bar(@DefaultCall(lambdaProxy = true) Callable<String> callable) throws Exception {
+            return callable.call();
+        }
+    }
+
     public static class IllegalAnnotation {
 
         public static String bar(@DefaultCall String value) throws Exception {
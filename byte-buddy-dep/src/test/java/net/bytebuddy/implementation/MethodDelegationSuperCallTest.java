@@ -1,6 +1,7 @@
 package net.bytebuddy.implementation;
 
 import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.ClassFileVersion;
 import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
 import net.bytebuddy.implementation.bind.annotation.RuntimeType;
@@ -129,6 +130,77 @@ public class MethodDelegationSuperCallTest {
                 .make();
     }
 
+    @Test
+    @JavaVersionRule.Enforce(8)
+    public void testRunnableLambdaSuperCall() throws Exception {
+        DynamicType.Loaded<Foo> loaded = new ByteBuddy(ClassFileVersion.JAVA_V8)
+                .subclass(Foo.class)
+                .method(isDeclaredBy(Foo.class))
+                .intercept(MethodDelegation.to(RunnableLambdaClass.class))
+                .make()
+                .load(Foo.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER);
+        assertThat(loaded.getAuxiliaryTypes().size(), is(0));
+        Foo instance = loaded.getLoaded().getDeclaredConstructor().newInstance();
+        instance.foo();
+        assertThat(instance.value, is(FOO));
+    }
+
+    @Test
+    @JavaVersionRule.Enforce(8)
+    public void testCallableLambdaSuperCall() throws Exception {
+        DynamicType.Loaded<Bar> loaded = new ByteBuddy(ClassFileVersion.JAVA_V8)
+                .subclass(Bar.class)
+                .method(isDeclaredBy(Bar.class))
+                .intercept(MethodDelegation.to(CallableLambdaClass.class))
+                .make()
+                .load(Bar.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER);
+        assertThat(loaded.getAuxiliaryTypes().size(), is(0));
+        Bar instance = loaded.getLoaded().getDeclaredConstructor().newInstance();
+        assertThat(instance.bar(), is(FOO));
+    }
+
+    @Test
+    @JavaVersionRule.Enforce(8)
+    public void testCallableLambdaSuperCallWithArgumentsAndPrimitiveReturn() throws Exception {
+        DynamicType.Loaded<Baz> loaded = new ByteBuddy(ClassFileVersion.JAVA_V8)
+                .subclass(Baz.class)
+                .method(isDeclaredBy(Baz.class))
+                .intercept(MethodDelegation.to(LambdaRuntimeTypeTarget.class))
+                .make()
+                .load(Baz.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER);
+        assertThat(loaded.getAuxiliaryTypes().size(), is(0));
+        Baz instance = loaded.getLoaded().getDeclaredConstructor().newInstance();
+        assertThat(instance.baz(1L, 2), is(3L));
+    }
+
+    @Test
+    public void testLambdaSuperCallLegacyClassFileVersion() throws Exception {
+        DynamicType.Loaded<Bar> loaded = new ByteBuddy(ClassFileVersion.JAVA_V6)
+                .subclass(Bar.class)
+                .method(isDeclaredBy(Bar.class))
+                .intercept(MethodDelegation.to(CallableLambdaClass.class))
+                .make()
+                .load(Bar.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER);
+        assertThat(loaded.getAuxiliaryTypes().size(), is(1));
+        Bar instance = loaded.getLoaded().getDeclaredConstructor().newInstance();
+        assertThat(instance.bar(), is(FOO));
+    }
+
+    @Test
+    @JavaVersionRule.Enforce(8)
+    public void testLambdaSuperCallVoidCallable() throws Exception {
+        DynamicType.Loaded<VoidTest> loaded = new ByteBuddy(ClassFileVersion.JAVA_V8)
+                .subclass(VoidTest.class)
+                .method(isDeclaredBy(VoidTest.class))
+                .intercept(MethodDelegation.to(LambdaRuntimeTypeTarget.class))
+                .make()
+                .load(VoidTest.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER);
+        assertThat(loaded.getAuxiliaryTypes().size(), is(1));
+        VoidTest instance = loaded.getLoaded().getDeclaredConstructor().newInstance();
+        instance.foo();
+        instance.assertOnlyCall(FOO);
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void testAbstractMethodNonBindable() throws Exception {
         new ByteBuddy()
@@ -179,6 +251,35 @@ public class MethodDelegationSuperCallTest {
         }
     }
 
+    public static class Baz {
+
+        public long baz(long first, int second) {
+            return first + second;
+        }
+    }
+
+    public static class RunnableLambdaClass {
+
+        public static void foo(@SuperCall(lambdaProxy = true) Runnable runnable) {
+            runnable.run();
+        }
+    }
+
+    public static class CallableLambdaClass {
+
+        public static String bar(@SuperCall(lambdaProxy = true) Callable<String> callable) throws Exception {
+            return callable.call();
+        }
+    }
+
+    public static class LambdaRuntimeTypeTarget {
+
+        @RuntimeType
+        public static Object foo(@SuperCall(lambdaProxy = true) Callable<?> zuper) throws Exception {
+            return zuper.call();
+        }
+    }
+
     public abstract static class Qux {
 
         public abstract String bar();
@@ -66,4 +66,21 @@ public class HasSuperTypeMatcherTest extends AbstractElementMatcherTest<HasSuper
     public void testNoMatch() throws Exception {
         assertThat(new HasSuperTypeMatcher<TypeDescription>(typeMatcher).matches(typeDescription), is(false));
     }
+
+    @Test
+    public void testMatchSuperTypeClosure() throws Exception {
+        TypeDescription.WithSuperTypeClosure typeDescription = mock(TypeDescription.WithSuperTypeClosure.class);
+        when(typeDescription.getSuperTypes()).thenReturn(new TypeList.Generic.Explicit(superType, interfaceType));
+        when(typeMatcher.matches(interfaceType)).thenReturn(true);
+        assertThat(new HasSuperTypeMatcher<TypeDescription>(typeMatcher).matches(typeDescription), is(true));
+        verify(typeDescription).getSuperTypes();
+        verifyNoMoreInteractions(typeDescription);
+    }
+
+    @Test
+    public void testNoMatchSuperTypeClosure() throws Exception {
+        TypeDescription.WithSuperTypeClosure typeDescription = mock(TypeDescription.WithSuperTypeClosure.class);
+        when(typeDescription.getSuperTypes()).thenReturn(new TypeList.Generic.Explicit(superType, interfaceType));
+        assertThat(new HasSuperTypeMatcher<TypeDescription>(typeMatcher).matches(typeDescription), is(false));
+    }
 }
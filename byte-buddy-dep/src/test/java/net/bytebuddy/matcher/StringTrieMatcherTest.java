@@ -0,0 +1,135 @@
+package net.bytebuddy.matcher;
+
+import net.bytebuddy.description.type.TypeDescription;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static net.bytebuddy.matcher.ElementMatchers.*;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class StringTrieMatcherTest {
+
+    private static final String FOO = "foo", BAR = "bar", QUX = "qux";
+
+    @Test
+    public void testEquals() throws Exception {
+        StringTrieMatcher matcher = new StringTrieMatcher(new StringMatcher(FOO, StringMatcher.Mode.EQUALS_FULLY),
+                new StringMatcher(BAR, StringMatcher.Mode.EQUALS_FULLY));
+        assertThat(matcher.matches(FOO), is(true));
+        assertThat(matcher.matches(BAR), is(true));
+        assertThat(matcher.matches(FOO + BAR), is(false));
+        assertThat(matcher.matches(FOO.substring(1)), is(false));
+    }
+
+    @Test
+    public void testStartsWith() throws Exception {
+        StringTrieMatcher matcher = new StringTrieMatcher(new StringMatcher(FOO + BAR, StringMatcher.Mode.STARTS_WITH),
+                new StringMatcher(FOO, StringMatcher.Mode.STARTS_WITH),
+                new StringMatcher(BAR + QUX, StringMatcher.Mode.STARTS_WITH));
+        assertThat(matcher.matches(FOO), is(true));
+        assertThat(matcher.matches(FOO + QUX), is(true));
+        assertThat(matcher.matches(BAR + QUX + FOO), is(true));
+        assertThat(matcher.matches(BAR), is(false));
+        assertThat(matcher.matches(QUX + FOO), is(false));
+        assertThat(matcher.matches(""), is(false));
+    }
+
+    @Test
+    public void testStartsWithEmpty() throws Exception {
+        StringTrieMatcher matcher = new StringTrieMatcher(new StringMatcher("", StringMatcher.Mode.STARTS_WITH));
+        assertThat(matcher.matches(""), is(true));
+        assertThat(matcher.matches(FOO), is(true));
+    }
+
+    @Test
+    public void testEndsWith() throws Exception {
+        StringTrieMatcher matcher = new StringTrieMatcher(new StringMatcher(FOO, StringMatcher.Mode.ENDS_WITH),
+                new StringMatcher(BAR + QUX, StringMatcher.Mode.ENDS_WITH));
+        assertThat(matcher.matches(BAR + FOO), is(true));
+        assertThat(matcher.matches(FOO + BAR + QUX), is(true));
+        assertThat(matcher.matches(QUX), is(false));
+        assertThat(matcher.matches(FOO + BAR), is(false));
+    }
+
+    @Test
+    public void testOtherModes() throws Exception {
+        StringTrieMatcher matcher = new StringTrieMatcher(new StringMatcher(FOO, StringMatcher.Mode.STARTS_WITH),
+                new StringMatcher(BAR.toUpperCase(), StringMatcher.Mode.CONTAINS_IGNORE_CASE),
+                new StringMatcher("q.x", StringMatcher.Mode.MATCHES));
+        assertThat(matcher.matches(FOO + QUX), is(true));
+        assertThat(matcher.matches(QUX + BAR), is(true));
+        assertThat(matcher.matches(QUX), is(true));
+        assertThat(matcher.matches(QUX + QUX), is(false));
+    }
+
+    @Test
+    public void testEmpty() throws Exception {
+        assertThat(new StringTrieMatcher(Collections.<StringMatcher>emptyList()).matches(FOO), is(false));
+    }
+
+    @Test
+    public void testNameMatcherDisjunctionIsCollapsed() throws Exception {
+        ElementMatcher.Junction<TypeDescription> matcher = nameStartsWith(FOO).or(nameStartsWith(BAR)).or(named(QUX));
+        assertThat(matcher, instanceOf(NameMatcher.class));
+        assertThat((Object) matcher, is((Object) new NameMatcher<TypeDescription>(new StringTrieMatcher(Arrays.asList(new StringMatcher(FOO, StringMatcher.Mode.STARTS_WITH),
+                new StringMatcher(BAR, StringMatcher.Mode.STARTS_WITH),
+                new StringMatcher(QUX, StringMatcher.Mode.EQUALS_FULLY))))));
+        assertThat(matcher.matches(new TypeDescription.Latent(FOO + QUX, 0, null, Collections.<TypeDescription.Generic>emptyList())), is(true));
+        assertThat(matcher.matches(new TypeDescription.Latent(QUX, 0, null, Collections.<TypeDescription.Generic>emptyList())), is(true));
+        assertThat(matcher.matches(new TypeDescription.Latent(QUX + FOO, 0, null, Collections.<TypeDescription.Generic>emptyList())), is(false));
+    }
+
+    @Test
+    public void testNameMatcherDisjunctionChain() throws Exception {
+        ElementMatcher.Junction<TypeDescription> matcher = named(FOO);
+        for (int index = 0; index < 10000; index++) {
+            matcher = matcher.or(nameStartsWith(BAR + index + QUX));
+        }
+        assertThat(matcher, instanceOf(NameMatcher.class));
+        assertThat(matcher.matches(new TypeDescription.Latent(FOO, 0, null, Collections.<TypeDescription.Generic>emptyList())), is(true));
+        assertThat(matcher.matches(new TypeDescription.Latent(BAR + 9999 + QUX + FOO, 0, null, Collections.<TypeDescription.Generic>emptyList())), is(true));
+        assertThat(matcher.matches(new TypeDescription.Latent(BAR + 10000 + QUX, 0, null, Collections.<TypeDescription.Generic>emptyList())), is(false));
+    }
+
+    @Test
+    public void testNameMatcherDisjunctionBranches() throws Exception {
+        ElementMatcher.Junction<TypeDescription> matcher = nameStartsWith(FOO).or(named(BAR));
+        ElementMatcher.Junction<TypeDescription> left = matcher.or(named(QUX)), right = matcher.or(named(QUX + BAR));
+        TypeDescription first = new TypeDescription.Latent(QUX, 0, null, Collections.<TypeDescription.Generic>emptyList());
+        TypeDescription second = new TypeDescription.Latent(QUX + BAR, 0, null, Collections.<TypeDescription.Generic>emptyList());
+        assertThat(matcher.matches(first), is(false));
+        assertThat(matcher.matches(second), is(false));
+        assertThat(left.matches(first), is(true));
+        assertThat(left.matches(second), is(false));
+        assertThat(right.matches(first), is(false));
+        assertThat(right.matches(second), is(true));
+        assertThat((Object) right, is((Object) new NameMatcher<TypeDescription>(new StringTrieMatcher(new StringMatcher(FOO, StringMatcher.Mode.STARTS_WITH),
+                new StringMatcher(BAR, StringMatcher.Mode.EQUALS_FULLY),
+                new StringMatcher(QUX + BAR, StringMatcher.Mode.EQUALS_FULLY)))));
+    }
+
+    @Test
+    public void testNameMatcherDisjunctionIsNotCollapsed() throws Exception {
+        assertThat(nameStartsWith(FOO).or(isInterface()), not(instanceOf(NameMatcher.class)));
+        assertThat(new NameMatcher<TypeDescription>(ElementMatchers.<String>any()).or(nameStartsWith(FOO)), not(instanceOf(NameMatcher.class)));
+    }
+
+    @Test
+    public void testEqualsAndHashCode() throws Exception {
+        StringTrieMatcher matcher = new StringTrieMatcher(new StringMatcher(FOO, StringMatcher.Mode.STARTS_WITH));
+        assertThat(matcher, is(new StringTrieMatcher(new StringMatcher(FOO, StringMatcher.Mode.STARTS_WITH))));
+        assertThat(matcher.hashCode(), is(new StringTrieMatcher(new StringMatcher(FOO, StringMatcher.Mode.STARTS_WITH)).hashCode()));
+        assertThat(matcher, not(new StringTrieMatcher(new StringMatcher(BAR, StringMatcher.Mode.STARTS_WITH))));
+    }
+
+    @Test
+    public void testToString() throws Exception {
+        assertThat(new StringTrieMatcher(new StringMatcher(FOO, StringMatcher.Mode.STARTS_WITH), new StringMatcher(BAR, StringMatcher.Mode.ENDS_WITH)).toString(),
+                is("(startsWith(foo) or endsWith(bar))"));
+    }
+}
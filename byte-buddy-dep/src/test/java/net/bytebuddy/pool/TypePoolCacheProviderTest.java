@@ -1,5 +1,6 @@
 package net.bytebuddy.pool;
 
+import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.test.utility.MockitoRule;
 import net.bytebuddy.test.utility.ObjectPropertyAssertion;
 import org.junit.Rule;
@@ -7,6 +8,7 @@ import org.junit.Test;
 import org.junit.rules.TestRule;
 import org.mockito.Mock;
 
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -14,7 +16,7 @@ import static org.mockito.Mockito.mock;
 
 public class TypePoolCacheProviderTest {
 
-    private static final String FOO = "foo";
+    private static final String FOO = "foo", BAR = "bar", QUX = "qux";
 
     @Rule
     public TestRule mockitoRule = new MockitoRule(this);
@@ -45,6 +47,50 @@ public class TypePoolCacheProviderTest {
         assertThat(simple.find(FOO), sameInstance(resolution));
     }
 
+    @Test
+    public void testBounded() throws Exception {
+        TypePool.CacheProvider.Bounded bounded = new TypePool.CacheProvider.Bounded(2);
+        assertThat(bounded.getCapacity(), is(2));
+        assertThat(bounded.find(FOO), nullValue(TypePool.Resolution.class));
+        assertThat(bounded.register(FOO, resolution), sameInstance(resolution));
+        assertThat(bounded.find(FOO), sameInstance(resolution));
+        TypePool.Resolution resolution = mock(TypePool.Resolution.class);
+        assertThat(bounded.register(FOO, resolution), sameInstance(this.resolution));
+        assertThat(bounded.find(FOO), sameInstance(this.resolution));
+        assertThat(bounded.getHitCount(), is(2L));
+        assertThat(bounded.getMissCount(), is(1L));
+        assertThat(bounded.getEvictionCount(), is(0L));
+        bounded.clear();
+        assertThat(bounded.getSize(), is(0));
+        assertThat(bounded.find(FOO), nullValue(TypePool.Resolution.class));
+    }
+
+    @Test
+    public void testBoundedEvictsLeastRecentlyUsed() throws Exception {
+        TypePool.CacheProvider.Bounded bounded = new TypePool.CacheProvider.Bounded(2);
+        TypePool.Resolution bar = mock(TypePool.Resolution.class), qux = mock(TypePool.Resolution.class);
+        bounded.register(FOO, resolution);
+        bounded.register(BAR, bar);
+        assertThat(bounded.find(FOO), sameInstance(resolution));
+        assertThat(bounded.register(QUX, qux), sameInstance(qux));
+        assertThat(bounded.getSize(), is(2));
+        assertThat(bounded.getEvictionCount(), is(1L));
+        assertThat(bounded.find(FOO), sameInstance(resolution));
+        assertThat(bounded.find(QUX), sameInstance(qux));
+        assertThat(bounded.find(BAR), nullValue(TypePool.Resolution.class));
+    }
+
+    @Test
+    public void testBoundedWithObjectType() throws Exception {
+        TypePool.CacheProvider cacheProvider = TypePool.CacheProvider.Bounded.withObjectType(1);
+        assertThat(cacheProvider.find(Object.class.getName()).resolve(), is(TypeDescription.OBJECT));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBoundedIllegalCapacity() throws Exception {
+        new TypePool.CacheProvider.Bounded(0);
+    }
+
     @Test
     public void testSimpleObjectProperties() throws Exception {
         ObjectPropertyAssertion.of(TypePool.CacheProvider.NoOp.class).apply();
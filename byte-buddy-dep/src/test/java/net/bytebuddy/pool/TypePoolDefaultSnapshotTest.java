@@ -0,0 +1,288 @@
+package net.bytebuddy.pool;
+
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.test.utility.ClassFileExtraction;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static net.bytebuddy.matcher.ElementMatchers.isMethod;
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class TypePoolDefaultSnapshotTest {
+
+    private static final String FOO = "foo", BAR = "bar";
+
+    private File jarFile, file;
+
+    @Before
+    public void setUp() throws Exception {
+        jarFile = File.createTempFile(FOO, BAR);
+        JarOutputStream outputStream = new JarOutputStream(new FileOutputStream(jarFile));
+        try {
+            for (Class<?> type : new Class<?>[]{Sample.class, SampleAnnotation.class, NestedAnnotation.class, SampleEnum.class}) {
+                outputStream.putNextEntry(new JarEntry(type.getName().replace('.', '/') + ".class"));
+                outputStream.write(ClassFileExtraction.extract(type));
+                outputStream.closeEntry();
+            }
+        } finally {
+            outputStream.close();
+        }
+        file = File.createTempFile(BAR, FOO);
+        assertThat(file.delete(), is(true));
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        assertThat(jarFile.delete(), is(true));
+        assertThat(!file.exists() || file.delete(), is(true));
+    }
+
+    @Test
+    public void testSnapshotIsCreatedAndReused() throws Exception {
+        TypePool.Default.Snapshot snapshot = TypePool.Default.Snapshot.of(jarFile, file);
+        try {
+            assertDescription(new TypePool.Default.Snapshot.Cache(TypePool.ClassLoading.ofBootPath(), snapshot).getTypePool());
+        } finally {
+            snapshot.close();
+        }
+        assertThat(file.isFile(), is(true));
+        invalidateContent();
+        snapshot = TypePool.Default.Snapshot.of(jarFile, file);
+        try {
+            assertDescription(new TypePool.Default.Snapshot.Cache(TypePool.ClassLoading.ofBootPath(), snapshot).getTypePool());
+        } finally {
+            snapshot.close();
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testSnapshotIsDiscardedOnModification() throws Exception {
+        ClassFileLocator classFileLocator = TypePool.Default.Snapshot.of(jarFile, file);
+        try {
+            assertThat(classFileLocator.locate(Sample.class.getName()).isResolved(), is(true));
+        } finally {
+            classFileLocator.close();
+        }
+        assertThat(jarFile.setLastModified(jarFile.lastModified() - 10000L), is(true));
+        invalidateContent();
+        classFileLocator = TypePool.Default.Snapshot.of(jarFile, file);
+        try {
+            classFileLocator.locate(Sample.class.getName());
+        } finally {
+            classFileLocator.close();
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testSnapshotIsDiscardedForOtherReaderMode() throws Exception {
+        ClassFileLocator classFileLocator = TypePool.Default.Snapshot.of(jarFile, file);
+        try {
+            assertThat(classFileLocator.locate(Sample.class.getName()).isResolved(), is(true));
+        } finally {
+            classFileLocator.close();
+        }
+        invalidateContent();
+        classFileLocator = TypePool.Default.Snapshot.of(jarFile, file, TypePool.Default.ReaderMode.EXTENDED);
+        try {
+            classFileLocator.locate(Sample.class.getName());
+        } finally {
+            classFileLocator.close();
+        }
+    }
+
+    @Test
+    public void testLocatorReturnsClassFile() throws Exception {
+        ClassFileLocator classFileLocator = TypePool.Default.Snapshot.of(jarFile, file);
+        try {
+            assertThat(classFileLocator.locate(Sample.class.getName()).resolve(), is(ClassFileExtraction.extract(Sample.class)));
+        } finally {
+            classFileLocator.close();
+        }
+    }
+
+    @Test
+    public void testExtendedSnapshotRetainsParameterNames() throws Exception {
+        for (int run = 0; run < 2; run++) {
+            TypePool.Default.Snapshot snapshot = TypePool.Default.Snapshot.of(jarFile, file, TypePool.Default.ReaderMode.EXTENDED);
+            try {
+                TypeDescription typeDescription = new TypePool.Default.Snapshot.Cache(TypePool.ClassLoading.ofBootPath(), snapshot).getTypePool()
+                        .describe(Sample.class.getName())
+                        .resolve();
+                assertThat(typeDescription.getDeclaredMethods().filter(named(FOO)).getOnly().getParameters().getOnly().getName(), is("value"));
+            } finally {
+                snapshot.close();
+            }
+            invalidateContent();
+        }
+    }
+
+    @Test
+    public void testSnapshotRetainsAnnotations() throws Exception {
+        TypeDescription reference = TypePool.Default.ofClassPath().describe(Sample.class.getName()).resolve();
+        for (int run = 0; run < 2; run++) {
+            TypePool.Default.Snapshot snapshot = TypePool.Default.Snapshot.of(jarFile, file);
+            try {
+                TypeDescription typeDescription = new TypePool.Default.Snapshot.Cache(TypePool.ClassLoading.ofBootPath(), snapshot).getTypePool()
+                        .describe(Sample.class.getName())
+                        .resolve();
+                assertThat(typeDescription.getDeclaredAnnotations(), is(reference.getDeclaredAnnotations()));
+                assertThat(typeDescription.getDeclaredAnnotations().ofType(SampleAnnotation.class).getValue(new MethodDescription.ForLoadedMethod(SampleAnnotation.class.getDeclaredMethod("values")))
+                        .resolve(long[].class), is(new long[]{1L, 2L}));
+                assertThat(typeDescription.getDeclaredMethods().filter(named(FOO)).getOnly().getDeclaredAnnotations(),
+                        is(reference.getDeclaredMethods().filter(named(FOO)).getOnly().getDeclaredAnnotations()));
+            } finally {
+                snapshot.close();
+            }
+            invalidateContent();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCacheOfDifferentReaderModes() throws Exception {
+        TypePool.Default.Snapshot fast = TypePool.Default.Snapshot.of(jarFile, file), extended = TypePool.Default.Snapshot.of(jarFile, file, TypePool.Default.ReaderMode.EXTENDED);
+        try {
+            new TypePool.Default.Snapshot.Cache(TypePool.ClassLoading.ofBootPath(), fast, extended);
+        } finally {
+            fast.close();
+            extended.close();
+        }
+    }
+
+    @Test
+    public void testUnknownTypeDoesNotOpenJarFile() throws Exception {
+        ClassFileLocator classFileLocator = TypePool.Default.Snapshot.of(jarFile, file);
+        try {
+            assertThat(classFileLocator.locate(FOO + "." + BAR).isResolved(), is(false));
+        } finally {
+            classFileLocator.close();
+        }
+        assertThat(file.isFile(), is(true));
+        invalidateContent();
+        classFileLocator = TypePool.Default.Snapshot.of(jarFile, file);
+        try {
+            assertThat(classFileLocator.locate(FOO + "." + BAR).isResolved(), is(false));
+        } finally {
+            classFileLocator.close();
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testNotCapturedTypeOpensJarFile() throws Exception {
+        ClassFileLocator classFileLocator = TypePool.Default.Snapshot.of(jarFile, file);
+        try {
+            assertThat(classFileLocator.locate(FOO + "." + BAR).isResolved(), is(false));
+        } finally {
+            classFileLocator.close();
+        }
+        invalidateContent();
+        classFileLocator = TypePool.Default.Snapshot.of(jarFile, file);
+        try {
+            classFileLocator.locate(Sample.class.getName());
+        } finally {
+            classFileLocator.close();
+        }
+    }
+
+    @Test
+    public void testSnapshotIsReplacedWithoutTemporaryFiles() throws Exception {
+        File directory = File.createTempFile(FOO, BAR);
+        assertThat(directory.delete(), is(true));
+        assertThat(directory.mkdir(), is(true));
+        File snapshot = new File(directory, FOO);
+        try {
+            ClassFileLocator classFileLocator = TypePool.Default.Snapshot.of(jarFile, snapshot);
+            try {
+                assertThat(classFileLocator.locate(FOO + "." + BAR).isResolved(), is(false));
+            } finally {
+                classFileLocator.close();
+            }
+            classFileLocator = TypePool.Default.Snapshot.of(jarFile, snapshot);
+            try {
+                assertThat(classFileLocator.locate(Sample.class.getName()).isResolved(), is(true));
+            } finally {
+                classFileLocator.close();
+            }
+            assertThat(directory.list(), is(new String[]{FOO}));
+            invalidateContent();
+            TypePool.Default.Snapshot reused = TypePool.Default.Snapshot.of(jarFile, snapshot);
+            try {
+                assertDescription(new TypePool.Default.Snapshot.Cache(TypePool.ClassLoading.ofBootPath(), reused).getTypePool());
+            } finally {
+                reused.close();
+            }
+        } finally {
+            assertThat(!snapshot.exists() || snapshot.delete(), is(true));
+            assertThat(directory.delete(), is(true));
+        }
+    }
+
+    private static void assertDescription(TypePool typePool) {
+        TypeDescription typeDescription = typePool.describe(Sample.class.getName()).resolve();
+        assertThat(typeDescription.getName(), is(Sample.class.getName()));
+        assertThat(typeDescription.getSuperClass().asErasure().represents(Object.class), is(true));
+        MethodDescription methodDescription = typeDescription.getDeclaredMethods().filter(isMethod().and(named(FOO))).getOnly();
+        assertThat(methodDescription.getReturnType().asErasure().represents(String.class), is(true));
+        assertThat(methodDescription.getParameters().size(), is(1));
+    }
+
+    private void invalidateContent() throws Exception {
+        long lastModified = jarFile.lastModified();
+        RandomAccessFile randomAccessFile = new RandomAccessFile(jarFile, "rw");
+        try {
+            randomAccessFile.write(new byte[(int) randomAccessFile.length()]);
+        } finally {
+            randomAccessFile.close();
+        }
+        assertThat(jarFile.setLastModified(lastModified), is(true));
+    }
+
+    @SampleAnnotation(foo = 42, bar = {FOO, BAR}, qux = String.class, baz = SampleEnum.BAR, values = {1L, 2L}, nested = @NestedAnnotation(FOO))
+    public static class Sample {
+
+        @NestedAnnotation(BAR)
+        public String foo(int value) {
+            return String.valueOf(value);
+        }
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface SampleAnnotation {
+
+        int foo();
+
+        String[] bar();
+
+        Class<?> qux();
+
+        SampleEnum baz();
+
+        long[] values();
+
+        NestedAnnotation nested();
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface NestedAnnotation {
+
+        String value();
+    }
+
+    public enum SampleEnum {
+        FOO,
+        BAR
+    }
+}
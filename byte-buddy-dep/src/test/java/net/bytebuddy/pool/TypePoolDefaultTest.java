@@ -1,16 +1,29 @@
 package net.bytebuddy.pool;
 
+import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.test.utility.ObjectPropertyAssertion;
 import org.hamcrest.CoreMatchers;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
 
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+import static net.bytebuddy.matcher.ElementMatchers.hasSuperType;
 import static net.bytebuddy.matcher.ElementMatchers.named;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.*;
@@ -55,6 +68,61 @@ public class TypePoolDefaultTest {
         assertThat(typePool.describe(DeprecationSample.class.getName()).resolve().getDeclaredMethods().filter(named("foo")).getOnly().getModifiers(), is(0));
     }
 
+    @Test
+    public void testSuperTypeClosure() throws Exception {
+        TypeDescription typeDescription = typePool.describe(ArrayList.class.getName()).resolve();
+        assertThat(typeDescription, CoreMatchers.instanceOf(TypeDescription.WithSuperTypeClosure.class));
+        TypeDescription.WithSuperTypeClosure closure = (TypeDescription.WithSuperTypeClosure) typeDescription;
+        assertThat(closure.getSuperTypeNames().contains(ArrayList.class.getName()), is(true));
+        assertThat(closure.getSuperTypeNames().contains(AbstractList.class.getName()), is(true));
+        assertThat(closure.getSuperTypeNames().contains(Collection.class.getName()), is(true));
+        assertThat(closure.getSuperTypeNames().contains(RandomAccess.class.getName()), is(true));
+        assertThat(closure.getSuperTypeNames().contains(Object.class.getName()), is(true));
+        assertThat(closure.getSuperTypeNames().contains(String.class.getName()), is(false));
+        assertThat(closure.getSuperTypeNames(), CoreMatchers.sameInstance(closure.getSuperTypeNames()));
+        assertThat(closure.getSuperTypes(), CoreMatchers.sameInstance(closure.getSuperTypes()));
+        List<TypeDescription> superTypes = new ArrayList<TypeDescription>();
+        for (TypeDescription.Generic superType : closure.getSuperTypes()) {
+            superTypes.add(superType.asErasure());
+        }
+        assertThat(superTypes.contains(new TypeDescription.ForLoadedType(List.class)), is(true));
+        assertThat(superTypes.get(0), is(typeDescription));
+    }
+
+    @Test
+    public void testSuperTypeClosureIsResolvedLazily() throws Exception {
+        DynamicType.Unloaded<?> missing = new ByteBuddy().subclass(Object.class).name("foo.Missing").make();
+        DynamicType.Unloaded<?> base = new ByteBuddy().subclass(missing.getTypeDescription()).name("foo.Base").make();
+        DynamicType.Unloaded<?> sub = new ByteBuddy().subclass(base.getTypeDescription()).name("foo.Sub").make();
+        TypePool typePool = new TypePool.Default(new TypePool.CacheProvider.Simple(),
+                ClassFileLocator.Simple.of(base.getTypeDescription().getName(), base.getBytes(),
+                        ClassFileLocator.Simple.of(sub.getTypeDescription().getName(), sub.getBytes(), ClassFileLocator.ForClassLoader.ofClassPath())),
+                TypePool.Default.ReaderMode.FAST);
+        TypeDescription typeDescription = typePool.describe(sub.getTypeDescription().getName()).resolve();
+        assertThat(hasSuperType(named(base.getTypeDescription().getName())).matches(typeDescription), is(true));
+        assertThat(typeDescription.isAssignableTo(typePool.describe(base.getTypeDescription().getName()).resolve()), is(true));
+        try {
+            typeDescription.isAssignableTo(Serializable.class);
+            fail();
+        } catch (IllegalStateException ignored) {
+            /* expected */
+        }
+    }
+
+    @Test
+    public void testSuperTypeClosureAssignability() throws Exception {
+        TypeDescription typeDescription = typePool.describe(ArrayList.class.getName()).resolve();
+        assertThat(typeDescription.isAssignableTo(List.class), is(true));
+        assertThat(typeDescription.isAssignableTo(Serializable.class), is(true));
+        assertThat(typeDescription.isAssignableTo(Object.class), is(true));
+        assertThat(typeDescription.isAssignableTo(String.class), is(false));
+        assertThat(typeDescription.isAssignableTo(Object[].class), is(false));
+        assertThat(typeDescription.isAssignableTo(int.class), is(false));
+        assertThat(typePool.describe(List.class.getName()).resolve().isAssignableFrom(typeDescription), is(true));
+        assertThat(typePool.describe(String.class.getName()).resolve().isAssignableFrom(typeDescription), is(false));
+        assertThat(typePool.describe(Runnable.class.getName()).resolve().isAssignableTo(Object.class), is(true));
+    }
+
     @Test
     public void testGenericsObjectProperties() throws Exception {
         ObjectPropertyAssertion.of(TypePool.Default.GenericTypeExtractor.IncompleteToken.ForTopLevelType.class).apply();
@@ -93,6 +161,37 @@ public class TypePoolDefaultTest {
         verifyNoMoreInteractions(classFileLocator);
     }
 
+    @Test
+    public void testReaderIsRetainedUntilClaimed() throws Exception {
+        TypePool.Default.WithReaderRetention typePool = new TypePool.Default.WithReaderRetention(new TypePool.CacheProvider.Simple(),
+                ClassFileLocator.ForClassLoader.ofClassPath(),
+                TypePool.Default.ReaderMode.FAST);
+        assertThat(typePool.claim(Object.class.getName()), nullValue(ClassReader.class));
+        assertThat(typePool.describe(Object.class.getName()).resolve().getDeclaredMethods().isEmpty(), is(false));
+        ClassReader classReader = typePool.claim(Object.class.getName());
+        assertThat(classReader.getClassName(), is(Type.getInternalName(Object.class)));
+        assertThat(typePool.claim(Object.class.getName()), nullValue(ClassReader.class));
+    }
+
+    @Test
+    public void testRetainedReaderIsClearedWithPool() throws Exception {
+        TypePool.Default.WithReaderRetention typePool = new TypePool.Default.WithReaderRetention(new TypePool.CacheProvider.Simple(),
+                ClassFileLocator.ForClassLoader.ofClassPath(),
+                TypePool.Default.ReaderMode.FAST);
+        assertThat(typePool.describe(Object.class.getName()).resolve().getDeclaredMethods().isEmpty(), is(false));
+        typePool.clear();
+        assertThat(typePool.claim(Object.class.getName()), nullValue(ClassReader.class));
+    }
+
+    @Test
+    public void testRedefinitionReusesRetainedReader() throws Exception {
+        ClassFileLocator classFileLocator = spy(ClassFileLocator.ForClassLoader.ofClassPath());
+        TypePool typePool = TypePool.Default.WithReaderRetention.of(classFileLocator);
+        TypeDescription typeDescription = typePool.describe(DeprecationSample.class.getName()).resolve();
+        assertThat(new ByteBuddy().redefine(typeDescription, classFileLocator).make(typePool).getBytes().length > 0, is(true));
+        verify(classFileLocator).locate(DeprecationSample.class.getName());
+    }
+
     @Deprecated
     private static class DeprecationSample {
 
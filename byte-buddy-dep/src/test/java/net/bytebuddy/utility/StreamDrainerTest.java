@@ -16,6 +16,42 @@ public class StreamDrainerTest {
         assertThat(new StreamDrainer(1).drain(new ByteArrayInputStream(input)), is(input));
     }
 
+    @Test
+    public void testDrainageExactSize() throws Exception {
+        byte[] input = new byte[]{1, 2, 3, 4};
+        assertThat(new StreamDrainer(1).drain(new ByteArrayInputStream(input), input.length), is(input));
+    }
+
+    @Test
+    public void testDrainageSizeTooSmall() throws Exception {
+        byte[] input = new byte[]{1, 2, 3, 4};
+        assertThat(new StreamDrainer(1).drain(new ByteArrayInputStream(input), input.length - 2), is(input));
+    }
+
+    @Test
+    public void testDrainageSizeTooLarge() throws Exception {
+        byte[] input = new byte[]{1, 2, 3, 4};
+        assertThat(new StreamDrainer(1).drain(new ByteArrayInputStream(input), input.length + 2), is(input));
+    }
+
+    @Test
+    public void testDrainageUnknownSize() throws Exception {
+        byte[] input = new byte[]{1, 2, 3, 4};
+        assertThat(new StreamDrainer(1).drain(new ByteArrayInputStream(input), StreamDrainer.UNKNOWN_SIZE), is(input));
+        assertThat(new StreamDrainer(1).drain(new ByteArrayInputStream(new byte[0]), StreamDrainer.UNKNOWN_SIZE), is(new byte[0]));
+    }
+
+    @Test
+    public void testDrainageUnknownSizeLargeStream() throws Exception {
+        byte[] input = new byte[StreamDrainer.DEFAULT_BUFFER_SIZE * 100 + 1];
+        for (int index = 0; index < input.length; index++) {
+            input[index] = (byte) index;
+        }
+        for (int index = 0; index < 2; index++) {
+            assertThat(StreamDrainer.DEFAULT.drain(new ByteArrayInputStream(input), StreamDrainer.UNKNOWN_SIZE), is(input));
+        }
+    }
+
     @Test
     public void testObjectProperties() throws Exception {
         ObjectPropertyAssertion.of(StreamDrainer.class).apply();
@@ -40,6 +40,11 @@ public class ByteBuddyExtension {
      */
     private boolean failOnLiveInitializer;
 
+    /**
+     * {@code true} if unchanged class files should not be transformed again.
+     */
+    private boolean incremental;
+
     /**
      * A list of task names for which to apply a transformation or {@code null} if the task should apply to all tasks.
      */
@@ -118,6 +123,15 @@ public class ByteBuddyExtension {
         this.suffix = suffix;
     }
 
+    /**
+     * Returns the suffix to apply upon rebased methods.
+     *
+     * @return The suffix to apply upon rebased methods or {@code null} if a random suffix should be used.
+     */
+    public String getSuffix() {
+        return suffix;
+    }
+
     /**
      * Returns {@code true} if the build should fail upon discovering a live runtime initializer.
      *
@@ -136,6 +150,27 @@ public class ByteBuddyExtension {
         this.failOnLiveInitializer = failOnLiveInitializer;
     }
 
+    /**
+     * Returns {@code true} if unchanged class files should not be transformed again.
+     *
+     * @return {@code true} if unchanged class files should not be transformed again.
+     */
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    /**
+     * Determines if unchanged class files should not be transformed again. If this property is set to {@code true}, an index
+     * of all processed class files is written to the build directory. On subsequent builds, any class file is skipped if neither
+     * the class file nor the class file of any of its super types that is located in the same output directory changed and if
+     * the transformation's configuration and class path did not change.
+     *
+     * @param incremental {@code true} if unchanged class files should not be transformed again.
+     */
+    public void setIncremental(boolean incremental) {
+        this.incremental = incremental;
+    }
+
     /**
      * Sets the initialization that should be used.
      *
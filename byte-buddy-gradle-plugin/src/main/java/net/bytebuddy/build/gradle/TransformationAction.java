@@ -2,6 +2,7 @@ package net.bytebuddy.build.gradle;
 
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.build.EntryPoint;
+import net.bytebuddy.build.IncrementalIndex;
 import net.bytebuddy.build.Plugin;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.dynamic.ClassFileLocator;
@@ -18,6 +19,7 @@ import org.gradle.api.tasks.compile.AbstractCompile;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -137,53 +139,58 @@ public class TransformationAction implements Action<Task> {
             } catch (Throwable throwable) {
                 throw new GradleException("Cannot create Byte Buddy instance", throwable);
             }
-            processDirectory(root,
-                    root,
-                    byteBuddy,
-                    entryPoint,
-                    byteBuddyExtension.getMethodNameTransformer(),
-                    classFileLocator,
-                    typePool,
-                    plugins);
+            List<String> files = new ArrayList<String>();
+            processDirectory(root, root, files);
+            IncrementalIndex incrementalIndex;
+            List<String> processed;
+            if (byteBuddyExtension.isIncremental()) {
+                incrementalIndex = IncrementalIndex.read(getIndexFile(), IncrementalIndex.fingerprint(entryPoint, plugins, root, classPath, byteBuddyExtension.getSuffix(), byteBuddyExtension.isFailOnLiveInitializer()));
+                processed = incrementalIndex.filter(root, files);
+                project.getLogger().info("Skipping {} unchanged class files", files.size() - processed.size());
+            } else {
+                incrementalIndex = null;
+                processed = files;
+            }
+            MethodNameTransformer methodNameTransformer = byteBuddyExtension.getMethodNameTransformer();
+            for (String file : processed) {
+                processClassFile(root, file, byteBuddy, entryPoint, methodNameTransformer, classFileLocator, typePool, plugins);
+            }
+            if (incrementalIndex != null) {
+                for (String file : processed) {
+                    incrementalIndex.register(root, file, typePool.describe(toTypeName(file)).resolve());
+                }
+                incrementalIndex.write(root, files, getIndexFile());
+            }
         } finally {
             classFileLocator.close();
         }
     }
 
     /**
-     * Processes a directory.
+     * Returns the location of the index file that is used if the incremental mode is active.
      *
-     * @param root                  The root directory to process.
-     * @param folder                The currently processed folder.
-     * @param byteBuddy             The Byte Buddy instance to use.
-     * @param entryPoint            The transformation's entry point.
-     * @param methodNameTransformer The method name transformer to use.
-     * @param classFileLocator      The class file locator to use.
-     * @param typePool              The type pool to query for type descriptions.
-     * @param plugins               The plugins to apply.
+     * @return The location of the index file that is used if the incremental mode is active.
      */
-    private void processDirectory(File root,
-                                  File folder,
-                                  ByteBuddy byteBuddy,
-                                  EntryPoint entryPoint,
-                                  MethodNameTransformer methodNameTransformer,
-                                  ClassFileLocator classFileLocator,
-                                  TypePool typePool,
-                                  List<Plugin> plugins) {
+    private File getIndexFile() {
+        return new File(project.getBuildDir(), "byte-buddy/" + task.getName() + ".index");
+    }
+
+    /**
+     * Collects all class files of a directory.
+     *
+     * @param root   The root directory to process.
+     * @param folder The currently processed folder.
+     * @param files  The list to which the relative paths of all found class files are added.
+     */
+    private void processDirectory(File root, File folder, List<String> files) {
         File[] file = folder.listFiles();
         if (file != null) {
+            Arrays.sort(file);
             for (File aFile : file) {
                 if (aFile.isDirectory()) {
-                    processDirectory(root, aFile, byteBuddy, entryPoint, methodNameTransformer, classFileLocator, typePool, plugins);
+                    processDirectory(root, aFile, files);
                 } else if (aFile.isFile() && aFile.getName().endsWith(CLASS_FILE_EXTENSION)) {
-                    processClassFile(root,
-                            root.toURI().relativize(aFile.toURI()).toString(),
-                            byteBuddy,
-                            entryPoint,
-                            methodNameTransformer,
-                            classFileLocator,
-                            typePool,
-                            plugins);
+                    files.add(root.toURI().relativize(aFile.toURI()).toString());
                 } else {
                     project.getLogger().debug("Skipping ignored file: {}", aFile);
                 }
@@ -191,6 +198,16 @@ public class TransformationAction implements Action<Task> {
         }
     }
 
+    /**
+     * Resolves the name of the type that is represented by a class file.
+     *
+     * @param file The relative path of the class file.
+     * @return The name of the type that is represented by the class file.
+     */
+    private static String toTypeName(String file) {
+        return file.replace(File.separatorChar, '.').substring(0, file.length() - CLASS_FILE_EXTENSION.length());
+    }
+
     /**
      * Processes a class file.
      *
@@ -211,7 +228,7 @@ public class TransformationAction implements Action<Task> {
                                   ClassFileLocator classFileLocator,
                                   TypePool typePool,
                                   List<Plugin> plugins) {
-        String typeName = file.replace(File.separatorChar, '.').substring(0, file.length() - CLASS_FILE_EXTENSION.length());
+        String typeName = toTypeName(file);
         project.getLogger().debug("Processing class file: {}", typeName);
         TypeDescription typeDescription = typePool.describe(typeName).resolve();
         DynamicType.Builder<?> builder;
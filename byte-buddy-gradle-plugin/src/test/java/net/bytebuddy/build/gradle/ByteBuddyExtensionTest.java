@@ -56,6 +56,18 @@ public class ByteBuddyExtensionTest {
         assertThat(new ByteBuddyExtension(project).isFailOnLiveInitializer(), is(true));
     }
 
+    @Test
+    public void testIncremental() throws Exception {
+        ByteBuddyExtension byteBuddyExtension = new ByteBuddyExtension(project);
+        byteBuddyExtension.setIncremental(true);
+        assertThat(byteBuddyExtension.isIncremental(), is(true));
+    }
+
+    @Test
+    public void testIncrementalDefault() throws Exception {
+        assertThat(new ByteBuddyExtension(project).isIncremental(), is(false));
+    }
+
     @Test
     public void testSuffix() throws Exception {
         when(methodDescription.getName()).thenReturn(BAR);
@@ -7,6 +7,7 @@ import net.bytebuddy.dynamic.scaffold.inline.MethodNameTransformer;
 import net.bytebuddy.implementation.FixedValue;
 import net.bytebuddy.test.*;
 import net.bytebuddy.test.utility.MockitoRule;
+import net.bytebuddy.utility.StreamDrainer;
 import org.gradle.api.GradleException;
 import org.gradle.api.Project;
 import org.gradle.api.Task;
@@ -23,7 +24,9 @@ import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.net.URL;
 import java.net.URLClassLoader;
@@ -274,6 +277,42 @@ public class TransformationActionTest {
         }
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testIncrementalTransformation() throws Exception {
+        Set<File> files = new HashSet<File>();
+        files.addAll(addClass("foo.Bar"));
+        files.addAll(addClass("foo.Qux"));
+        File buildDirectory = File.createTempFile(BAR, TEMP);
+        assertThat(buildDirectory.delete(), is(true));
+        File index = new File(buildDirectory, "byte-buddy/" + QUX + ".index");
+        try {
+            when(transformation.getPlugin()).thenReturn(SimplePlugin.class.getName());
+            when(initialization.getEntryPoint(any(ClassLoaderResolver.class), any(File.class), any(Iterable.class))).thenReturn(EntryPoint.Default.REBASE);
+            when(byteBuddyExtension.isIncremental()).thenReturn(true);
+            when(project.getBuildDir()).thenReturn(buildDirectory);
+            when(parent.getName()).thenReturn(QUX);
+            transformationAction.execute(task);
+            assertThat(index.isFile(), is(true));
+            byte[] binaryRepresentation = read(new File(target, "foo/Bar.class"));
+            transformationAction.execute(task);
+            assertThat(read(new File(target, "foo/Bar.class")), is(binaryRepresentation));
+            ClassLoader classLoader = new URLClassLoader(new URL[]{target.toURI().toURL()});
+            assertMethod(classLoader.loadClass("foo.Bar"), FOO, QUX);
+            assertMethod(classLoader.loadClass("foo.Bar"), BAR, BAR);
+            assertMethod(classLoader.loadClass("foo.Qux"), FOO, FOO);
+            assertMethod(classLoader.loadClass("foo.Qux"), BAR, BAR);
+        } finally {
+            for (File file : files) {
+                assertThat(file.delete(), is(true));
+            }
+            assertThat(new File(target, FOO).delete(), is(true));
+            assertThat(index.delete(), is(true));
+            assertThat(index.getParentFile().delete(), is(true));
+            assertThat(buildDirectory.delete(), is(true));
+        }
+    }
+
     @Test(expected = GradleException.class)
     public void testNoDirectory() throws Exception {
         when(parent.getDestinationDir()).thenReturn(mock(File.class));
@@ -284,6 +323,15 @@ public class TransformationActionTest {
         assertThat(type.getDeclaredMethod(name).invoke(type.getDeclaredConstructor().newInstance()), is(expected));
     }
 
+    private static byte[] read(File file) throws IOException {
+        InputStream inputStream = new FileInputStream(file);
+        try {
+            return StreamDrainer.DEFAULT.drain(inputStream);
+        } finally {
+            inputStream.close();
+        }
+    }
+
     private Collection<File> addClass(String name) throws IOException {
         return new ByteBuddy()
                 .subclass(Object.class)
@@ -3,6 +3,7 @@ package net.bytebuddy.build.maven;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.build.EntryPoint;
+import net.bytebuddy.build.IncrementalIndex;
 import net.bytebuddy.build.Plugin;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.dynamic.ClassFileLocator;
@@ -21,8 +22,15 @@ import org.eclipse.aether.repository.RemoteRepository;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * A Maven plugin for applying Byte Buddy transformations during a build.
@@ -115,6 +123,23 @@ public abstract class ByteBuddyMojo extends AbstractMojo {
     @Parameter(defaultValue = "true", required = true)
     protected boolean failOnLiveInitializer;
 
+    /**
+     * The number of threads that are used for transforming class files. By default, class files are transformed on the
+     * executing thread. If this property is set to a value greater than {@code 1}, class files are transformed concurrently where all threads share a single type pool and class file locator.
+     * Any transformed class file is only written after all class files were processed such that no thread can observe a
+     * partially written class file. If a parallel transformation is used, all plugins and the entry point must be thread-safe.
+     */
+    @Parameter(defaultValue = "1", required = true)
+    protected int threads;
+
+    /**
+     * If this property is set to {@code true}, an index of all processed class files is written to the build directory. On
+     * subsequent builds, any class file is skipped if neither the class file nor the class file of any of its super types that
+     * is located in the same output directory changed and if the transformation's configuration and class path did not change.
+     */
+    @Parameter(defaultValue = "false", required = true)
+    protected boolean incremental;
+
     /**
      * The currently used repository system.
      */
@@ -163,6 +188,13 @@ public abstract class ByteBuddyMojo extends AbstractMojo {
      */
     protected abstract List<String> getClassPathElements();
 
+    /**
+     * Returns the location of the index file that is used if the incremental mode is active.
+     *
+     * @return The location of the index file that is used if the incremental mode is active.
+     */
+    protected abstract String getIndexFile();
+
     /**
      * Processes all class files within the given directory.
      *
@@ -218,8 +250,10 @@ public abstract class ByteBuddyMojo extends AbstractMojo {
                            List<Plugin> plugins) throws MojoExecutionException, MojoFailureException, IOException {
         List<ClassFileLocator> classFileLocators = new ArrayList<ClassFileLocator>(classPath.size() + 1);
         classFileLocators.add(new ClassFileLocator.ForFolder(root));
+        List<File> artifacts = new ArrayList<File>(classPath.size());
         for (String target : classPath) {
             File artifact = new File(target);
+            artifacts.add(artifact);
             classFileLocators.add(artifact.isFile()
                     ? ClassFileLocator.ForJarFile.of(artifact)
                     : new ClassFileLocator.ForFolder(artifact));
@@ -237,26 +271,73 @@ public abstract class ByteBuddyMojo extends AbstractMojo {
             } catch (Throwable throwable) {
                 throw new MojoExecutionException("Cannot create Byte Buddy instance", throwable);
             }
-            processDirectory(root,
-                    root,
-                    byteBuddy,
-                    entryPoint,
-                    suffix == null || suffix.isEmpty()
-                            ? MethodNameTransformer.Suffixing.withRandomSuffix()
-                            : new MethodNameTransformer.Suffixing(suffix),
-                    classFileLocator,
-                    typePool,
-                    plugins);
+            List<String> files = new ArrayList<String>();
+            processDirectory(root, root, files);
+            IncrementalIndex incrementalIndex;
+            List<String> processed;
+            if (incremental) {
+                incrementalIndex = IncrementalIndex.read(new File(getIndexFile()), IncrementalIndex.fingerprint(entryPoint, plugins, root, artifacts, suffix, failOnLiveInitializer));
+                processed = incrementalIndex.filter(root, files);
+                getLog().info("Skipping " + (files.size() - processed.size()) + " unchanged class files");
+            } else {
+                incrementalIndex = null;
+                processed = files;
+            }
+            MethodNameTransformer methodNameTransformer = suffix == null || suffix.isEmpty()
+                    ? MethodNameTransformer.Suffixing.withRandomSuffix()
+                    : new MethodNameTransformer.Suffixing(suffix);
+            if (threads < 2) {
+                for (String file : processed) {
+                    DynamicType dynamicType = processClassFile(file, byteBuddy, entryPoint, methodNameTransformer, classFileLocator, typePool, plugins);
+                    if (dynamicType != null) {
+                        saveIn(root, dynamicType);
+                    }
+                }
+            } else {
+                processParallel(root, processed, byteBuddy, entryPoint, methodNameTransformer, classFileLocator, typePool, plugins);
+            }
+            if (incrementalIndex != null) {
+                for (String file : processed) {
+                    incrementalIndex.register(root, file, typePool.describe(toTypeName(file)).resolve());
+                }
+                incrementalIndex.write(root, files, new File(getIndexFile()));
+            }
         } finally {
             classFileLocator.close();
         }
     }
 
     /**
-     * Processes a directory.
+     * Collects all class files of a directory.
+     *
+     * @param root   The root directory to process.
+     * @param folder The currently processed folder.
+     * @param files  The list to which the relative paths of all found class files are added.
+     */
+    private void processDirectory(File root, File folder, List<String> files) {
+        File[] file = folder.listFiles();
+        if (file != null) {
+            Arrays.sort(file);
+            for (File aFile : file) {
+                if (aFile.isDirectory()) {
+                    processDirectory(root, aFile, files);
+                } else if (aFile.isFile() && aFile.getName().endsWith(CLASS_FILE_EXTENSION)) {
+                    files.add(root.toURI().relativize(aFile.toURI()).toString());
+                } else {
+                    getLog().debug("Skipping ignored file: " + aFile);
+                }
+            }
+        }
+    }
+
+    /**
+     * Processes all class files concurrently and saves any transformed class file as soon as it was processed. A class file
+     * is only saved after the shared type pool resolved its original type description such that no other worker reads the
+     * saved class file. If any class file cannot be transformed, all errors are logged, no further class file is saved and
+     * the first error is rethrown.
      *
      * @param root                  The root directory to process.
-     * @param folder                The currently processed folder.
+     * @param files                 The class files to process.
      * @param byteBuddy             The Byte Buddy instance to use.
      * @param entryPoint            The transformation's entry point.
      * @param methodNameTransformer The method name transformer to use.
@@ -266,39 +347,67 @@ public abstract class ByteBuddyMojo extends AbstractMojo {
      * @throws MojoExecutionException If the user configuration results in an error.
      * @throws MojoFailureException   If the plugin application raises an error.
      */
-    private void processDirectory(File root,
-                                  File folder,
-                                  ByteBuddy byteBuddy,
-                                  EntryPoint entryPoint,
-                                  MethodNameTransformer methodNameTransformer,
-                                  ClassFileLocator classFileLocator,
-                                  TypePool typePool,
-                                  List<Plugin> plugins) throws MojoExecutionException, MojoFailureException {
-        File[] file = folder.listFiles();
-        if (file != null) {
-            for (File aFile : file) {
-                if (aFile.isDirectory()) {
-                    processDirectory(root, aFile, byteBuddy, entryPoint, methodNameTransformer, classFileLocator, typePool, plugins);
-                } else if (aFile.isFile() && aFile.getName().endsWith(CLASS_FILE_EXTENSION)) {
-                    processClassFile(root,
-                            root.toURI().relativize(aFile.toURI()).toString(),
-                            byteBuddy,
-                            entryPoint,
-                            methodNameTransformer,
-                            classFileLocator,
-                            typePool,
-                            plugins);
+    private void processParallel(File root,
+                                 List<String> files,
+                                 final ByteBuddy byteBuddy,
+                                 final EntryPoint entryPoint,
+                                 final MethodNameTransformer methodNameTransformer,
+                                 final ClassFileLocator classFileLocator,
+                                 final TypePool typePool,
+                                 final List<Plugin> plugins) throws MojoExecutionException, MojoFailureException {
+        getLog().info("Processing " + files.size() + " class files using " + threads + " threads");
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try {
+            CompletionService<DynamicType> completionService = new ExecutorCompletionService<DynamicType>(executorService);
+            for (final String file : files) {
+                completionService.submit(new Callable<DynamicType>() {
+                    @Override
+                    public DynamicType call() throws MojoExecutionException {
+                        return processClassFile(file, byteBuddy, entryPoint, methodNameTransformer, classFileLocator, typePool, plugins);
+                    }
+                });
+            }
+            List<Throwable> errors = new ArrayList<Throwable>();
+            for (int index = 0; index < files.size(); index++) {
+                try {
+                    DynamicType dynamicType = completionService.take().get();
+                    if (dynamicType != null && errors.isEmpty()) {
+                        saveIn(root, dynamicType);
+                    }
+                } catch (ExecutionException exception) {
+                    getLog().error(exception.getCause().getMessage(), exception.getCause());
+                    errors.add(exception.getCause());
+                } catch (MojoFailureException exception) {
+                    getLog().error(exception.getMessage(), exception);
+                    errors.add(exception);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    throw new MojoExecutionException("Interrupted while processing class files", exception);
+                }
+            }
+            if (!errors.isEmpty()) {
+                getLog().error("Failed to transform " + errors.size() + " of " + files.size() + " class files");
+                Throwable error = errors.get(0);
+                if (error instanceof MojoExecutionException) {
+                    throw (MojoExecutionException) error;
+                } else if (error instanceof MojoFailureException) {
+                    throw (MojoFailureException) error;
+                } else if (error instanceof RuntimeException) {
+                    throw (RuntimeException) error;
+                } else if (error instanceof Error) {
+                    throw (Error) error;
                 } else {
-                    getLog().debug("Skipping ignored file: " + aFile);
+                    throw new IllegalStateException("Unexpected checked exception", error);
                 }
             }
+        } finally {
+            executorService.shutdownNow();
         }
     }
 
     /**
      * Processes a class file.
      *
-     * @param root                  The root directory to process.
      * @param file                  The class file to process.
      * @param byteBuddy             The Byte Buddy instance to use.
      * @param entryPoint            The transformation's entry point.
@@ -306,18 +415,17 @@ public abstract class ByteBuddyMojo extends AbstractMojo {
      * @param classFileLocator      The class file locator to use.
      * @param typePool              The type pool to query for type descriptions.
      * @param plugins               The plugins to apply.
+     * @return The transformed type or {@code null} if the type was not transformed.
      * @throws MojoExecutionException If the user configuration results in an error.
-     * @throws MojoFailureException   If the plugin application raises an error.
      */
-    private void processClassFile(File root,
-                                  String file,
-                                  ByteBuddy byteBuddy,
-                                  EntryPoint entryPoint,
-                                  MethodNameTransformer methodNameTransformer,
-                                  ClassFileLocator classFileLocator,
-                                  TypePool typePool,
-                                  List<Plugin> plugins) throws MojoExecutionException, MojoFailureException {
-        String typeName = file.replace(File.separatorChar, '.').substring(0, file.length() - CLASS_FILE_EXTENSION.length());
+    private DynamicType processClassFile(String file,
+                                         ByteBuddy byteBuddy,
+                                         EntryPoint entryPoint,
+                                         MethodNameTransformer methodNameTransformer,
+                                         ClassFileLocator classFileLocator,
+                                         TypePool typePool,
+                                         List<Plugin> plugins) throws MojoExecutionException {
+        String typeName = toTypeName(file);
         getLog().debug("Processing class file: " + typeName);
         TypeDescription typeDescription = typePool.describe(typeName).resolve();
         DynamicType.Builder<?> builder;
@@ -345,13 +453,35 @@ public abstract class ByteBuddyMojo extends AbstractMojo {
                     throw new MojoExecutionException("Cannot apply live initializer for " + entry.getKey());
                 }
             }
-            try {
-                dynamicType.saveIn(root);
-            } catch (IOException exception) {
-                throw new MojoFailureException("Cannot save " + typeName + " in " + root, exception);
-            }
+            return dynamicType;
         } else {
             getLog().debug("Skipping non-transformed type: " + typeName);
+            return null;
+        }
+    }
+
+    /**
+     * Resolves the name of the type that is represented by a class file.
+     *
+     * @param file The relative path of the class file.
+     * @return The name of the type that is represented by the class file.
+     */
+    private static String toTypeName(String file) {
+        return file.replace(File.separatorChar, '.').substring(0, file.length() - CLASS_FILE_EXTENSION.length());
+    }
+
+    /**
+     * Saves a transformed type.
+     *
+     * @param root        The root directory to save the type in.
+     * @param dynamicType The transformed type.
+     * @throws MojoFailureException If the type cannot be saved.
+     */
+    private static void saveIn(File root, DynamicType dynamicType) throws MojoFailureException {
+        try {
+            dynamicType.saveIn(root);
+        } catch (IOException exception) {
+            throw new MojoFailureException("Cannot save " + dynamicType.getTypeDescription().getName() + " in " + root, exception);
         }
     }
 
@@ -376,6 +506,12 @@ public abstract class ByteBuddyMojo extends AbstractMojo {
         @Parameter(defaultValue = "${project.compileClasspathElements}", required = true, readonly = true)
         protected List<String> compileClasspathElements;
 
+        /**
+         * The index file that is used for incremental transformations of production class files.
+         */
+        @Parameter(defaultValue = "${project.build.directory}/byte-buddy/transform.index", required = true)
+        protected String indexFile;
+
         @Override
         protected String getOutputDirectory() {
             return outputDirectory;
@@ -385,6 +521,11 @@ public abstract class ByteBuddyMojo extends AbstractMojo {
         protected List<String> getClassPathElements() {
             return compileClasspathElements;
         }
+
+        @Override
+        protected String getIndexFile() {
+            return indexFile;
+        }
     }
 
     /**
@@ -408,6 +549,12 @@ public abstract class ByteBuddyMojo extends AbstractMojo {
         @Parameter(defaultValue = "${project.testClasspathElements}", required = true, readonly = true)
         protected List<String> testClasspathElements;
 
+        /**
+         * The index file that is used for incremental transformations of test class files.
+         */
+        @Parameter(defaultValue = "${project.build.directory}/byte-buddy/transform-test.index", required = true)
+        protected String testIndexFile;
+
         @Override
         protected String getOutputDirectory() {
             return testOutputDirectory;
@@ -417,5 +564,10 @@ public abstract class ByteBuddyMojo extends AbstractMojo {
         protected List<String> getClassPathElements() {
             return testClasspathElements;
         }
+
+        @Override
+        protected String getIndexFile() {
+            return testIndexFile;
+        }
     }
 }
@@ -4,6 +4,7 @@ import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.description.modifier.Visibility;
 import net.bytebuddy.implementation.FixedValue;
 import net.bytebuddy.test.utility.MockitoRule;
+import net.bytebuddy.utility.StreamDrainer;
 import org.apache.maven.plugin.Mojo;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.testing.MojoRule;
@@ -21,6 +22,7 @@ import org.junit.rules.TestRule;
 import org.mockito.Mock;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -114,6 +116,72 @@ public class ByteBuddyMojoTest {
         }
     }
 
+    @Test
+    public void testParallelTransformation() throws Exception {
+        Set<File> files = new HashSet<File>();
+        files.addAll(addClass("foo.Bar"));
+        files.addAll(addClass("foo.Qux"));
+        files.addAll(addClass("foo.bar.Baz"));
+        try {
+            execute("transform", "parallel");
+            ClassLoader classLoader = new URLClassLoader(new URL[]{project.toURI().toURL()});
+            assertMethod(classLoader.loadClass("foo.Bar"), FOO, QUX);
+            assertMethod(classLoader.loadClass("foo.Bar"), BAR, BAR);
+            assertMethod(classLoader.loadClass("foo.Qux"), FOO, FOO);
+            assertMethod(classLoader.loadClass("foo.Qux"), BAR, BAR);
+            assertMethod(classLoader.loadClass("foo.bar.Baz"), FOO, FOO);
+            assertMethod(classLoader.loadClass("foo.bar.Baz"), BAR, BAR);
+        } finally {
+            for (File file : files) {
+                assertThat(file.delete(), is(true));
+            }
+            assertThat(new File(project, FOO + "/" + BAR).delete(), is(true));
+            assertThat(new File(project, FOO).delete(), is(true));
+        }
+    }
+
+    @Test(expected = MojoExecutionException.class)
+    public void testParallelIllegalTransformation() throws Exception {
+        Set<File> files = new HashSet<File>();
+        files.addAll(addClass("foo.Bar"));
+        files.addAll(addClass("foo.Qux"));
+        try {
+            execute("transform", "parallel.illegal.apply");
+        } finally {
+            for (File file : files) {
+                assertThat(file.delete(), is(true));
+            }
+            assertThat(new File(project, FOO).delete(), is(true));
+        }
+    }
+
+    @Test
+    public void testIncrementalTransformation() throws Exception {
+        Set<File> files = new HashSet<File>();
+        files.addAll(addClass("foo.Bar"));
+        files.addAll(addClass("foo.Qux"));
+        File index = File.createTempFile(BAR, TEMP);
+        assertThat(index.delete(), is(true));
+        try {
+            execute("transform", "incremental", index);
+            assertThat(index.isFile(), is(true));
+            byte[] binaryRepresentation = StreamDrainer.DEFAULT.drain(new FileInputStream(new File(project, "foo/Bar.class")));
+            execute("transform", "incremental", index);
+            assertThat(StreamDrainer.DEFAULT.drain(new FileInputStream(new File(project, "foo/Bar.class"))), is(binaryRepresentation));
+            ClassLoader classLoader = new URLClassLoader(new URL[]{project.toURI().toURL()});
+            assertMethod(classLoader.loadClass("foo.Bar"), FOO, QUX);
+            assertMethod(classLoader.loadClass("foo.Bar"), BAR, BAR);
+            assertMethod(classLoader.loadClass("foo.Qux"), FOO, FOO);
+            assertMethod(classLoader.loadClass("foo.Qux"), BAR, BAR);
+        } finally {
+            for (File file : files) {
+                assertThat(file.delete(), is(true));
+            }
+            assertThat(new File(project, FOO).delete(), is(true));
+            assertThat(index.delete(), is(true));
+        }
+    }
+
     @Test(expected = MojoExecutionException.class)
     public void testLiveInitializer() throws Exception {
         Set<File> files = new HashSet<File>();
@@ -260,13 +328,19 @@ public class ByteBuddyMojoTest {
     }
 
     private void execute(String goal, String target) throws Exception {
+        execute(goal, target, null);
+    }
+
+    private void execute(String goal, String target, File index) throws Exception {
         Mojo mojo = mojoRule.lookupMojo(goal, new File("src/test/resources/net/bytebuddy/test/" + target + ".pom.xml"));
         if (goal.equals("transform")) {
             mojoRule.setVariableValueToObject(mojo, "outputDirectory", project.getAbsolutePath());
             mojoRule.setVariableValueToObject(mojo, "compileClasspathElements", Collections.emptyList());
+            mojoRule.setVariableValueToObject(mojo, "indexFile", index == null ? null : index.getAbsolutePath());
         } else if (goal.equals("transform-test")) {
             mojoRule.setVariableValueToObject(mojo, "testOutputDirectory", project.getAbsolutePath());
             mojoRule.setVariableValueToObject(mojo, "testClasspathElements", Collections.emptyList());
+            mojoRule.setVariableValueToObject(mojo, "testIndexFile", index == null ? null : index.getAbsolutePath());
         } else {
             throw new AssertionError("Unknown goal: " + goal);
         }